@@ -2,9 +2,16 @@ package com.tranzo.tranzo_user_ms.chat.client;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 public interface ConversationClient {
     UUID getConversationIdBetweenUsers(UUID userA, UUID userB);
+
+    /**
+     * One-on-one conversation id per other user; users without a conversation are absent.
+     */
+    Map<UUID, UUID> getConversationIdsWithUsers(UUID userId, Collection<UUID> otherUserIds);
 }
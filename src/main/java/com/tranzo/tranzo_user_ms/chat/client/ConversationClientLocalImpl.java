@@ -5,6 +5,9 @@ import com.tranzo.tranzo_user_ms.chat.repository.ConversationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
@@ -18,4 +21,17 @@ public class ConversationClientLocalImpl implements ConversationClient {
                 .map(ConversationEntity::getConversationId)
                 .orElse(null);
     }
+
+    @Override
+    public Map<UUID, UUID> getConversationIdsWithUsers(UUID userId, Collection<UUID> otherUserIds) {
+        Map<UUID, UUID> conversationIds = new HashMap<>();
+        if (otherUserIds == null || otherUserIds.isEmpty()) {
+            return conversationIds;
+        }
+        // Rows come newest first; keep the newest conversation per user, as the single lookup does
+        for (Object[] row : conversationRepository.findOneToOneConversationIdsWithUsers(userId, otherUserIds)) {
+            conversationIds.putIfAbsent((UUID) row[0], (UUID) row[1]);
+        }
+        return conversationIds;
+    }
 }
@@ -1,5 +1,6 @@
 package com.tranzo.tranzo_user_ms.chat.config;
 
+import com.tranzo.tranzo_user_ms.commons.dto.VerifiedToken;
 import com.tranzo.tranzo_user_ms.commons.service.JwtService;
 import com.tranzo.tranzo_user_ms.commons.utility.SecurityUtils;
 import jakarta.security.auth.message.AuthException;
@@ -14,7 +15,6 @@ import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 
 import java.util.Map;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -31,10 +31,9 @@ public class UserHandshakeInterceptor implements HandshakeInterceptor {
             if (httpRequest.getCookies() != null) {
                 for (Cookie cookie : httpRequest.getCookies()) {
                     if ("ACCESS_TOKEN".equals(cookie.getName())) {
-                        String token = cookie.getValue();
-                        if (jwtService.validateAccessToken(token)) {
-                            UUID userId = jwtService.extractUserUuid(token);
-                            attributes.put("userId", userId.toString()); // used later
+                        VerifiedToken verified = jwtService.verify(cookie.getValue()).orElse(null);
+                        if (verified != null && verified.isType(VerifiedToken.ACCESS) && verified.userUuid() != null) {
+                            attributes.put("userId", verified.userUuid().toString()); // used later
                             return true;
                         }
                     }
@@ -19,6 +19,8 @@ import java.util.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ConversationEntity {
 
+    public static final int PREVIEW_LENGTH = 255;
+
     @Id
     @Column(name = "conversation_id", nullable = false, updatable = false)
     private UUID conversationId;
@@ -36,6 +38,19 @@ public class ConversationEntity {
     @Column(name = "conversation_name")
     private String conversationName; // only used if type = GROUP
 
+    /**
+     * Summary of the latest message, maintained on every send so the chat list
+     * does not have to look into the message table.
+     */
+    @Column(name = "last_message_id")
+    private UUID lastMessageId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
     /**
      * IMPORTANT:
      * - Using Set to prevent duplicate participants
@@ -78,4 +93,21 @@ public class ConversationEntity {
         participant.setLastReadAt(null);
         participants.add(participant); // Set prevents duplicates
     }
+
+    /**
+     * Record a message created together with this conversation (e.g. the initial system message).
+     * Messages sent later go through ConversationRepository.recordLastMessage, which is safe under concurrent senders.
+     */
+    public void recordLastMessage(MessageEntity message) {
+        this.lastMessageId = message.getMessageId();
+        this.lastMessageAt = message.getCreatedAt();
+        this.lastMessagePreview = previewOf(message.getContent());
+    }
+
+    public static String previewOf(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
+    }
 }
@@ -58,6 +58,12 @@ public class ConversationParticipantEntity {
     @Column(name = "last_read_at")
     private LocalDateTime lastReadAt;
 
+    /**
+     * Messages from other participants since lastReadAt. Incremented in bulk on send, reset on read.
+     */
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
     private ConversationParticipantEntity(
             ConversationEntity conversation,
             UUID userId,
@@ -92,6 +98,7 @@ public class ConversationParticipantEntity {
 
     public void markAsRead() {
         this.lastReadAt = LocalDateTime.now();
+        this.unreadCount = 0;
     }
 
 }
@@ -46,9 +46,9 @@ public class MessageEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-//    @Enumerated(EnumType.STRING)
-//    @Column(name = "type", nullable = false)
-//    private MessageType type; // TEXT, IMAGE, FILE, SYSTEM
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false)
+    private MessageType type; // TEXT, IMAGE, FILE, SYSTEM
 
     /**
      * Private constructor to enforce valid creation
@@ -56,12 +56,14 @@ public class MessageEntity {
     private MessageEntity(
             ConversationEntity conversation,
             UUID senderId,
-            String content
+            String content,
+            MessageType type
     ) {
         this.messageId = UUID.randomUUID();
         this.conversation = conversation;
         this.senderId = senderId;
         this.content = content;
+        this.type = type;
         this.createdAt = LocalDateTime.now();
     }
 
@@ -76,7 +78,7 @@ public class MessageEntity {
         Objects.requireNonNull(senderId, "senderId cannot be null for user message");
         Objects.requireNonNull(content, "content cannot be null");
 
-        return new MessageEntity(conversation, senderId, content);
+        return new MessageEntity(conversation, senderId, content, MessageType.TEXT);
     }
 
     /**
@@ -88,7 +90,7 @@ public class MessageEntity {
     ) {
         Objects.requireNonNull(content, "content cannot be null");
 
-        return new MessageEntity(conversation, null, content);
+        return new MessageEntity(conversation, null, content, MessageType.SYSTEM);
     }
 }
 
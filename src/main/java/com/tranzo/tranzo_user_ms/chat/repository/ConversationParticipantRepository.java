@@ -2,8 +2,12 @@ package com.tranzo.tranzo_user_ms.chat.repository;
 
 import com.tranzo.tranzo_user_ms.chat.model.ConversationParticipantEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,4 +19,35 @@ public interface ConversationParticipantRepository extends JpaRepository<Convers
     Optional<ConversationParticipantEntity> findByConversation_ConversationIdAndUserIdAndLeftAtIsNull(UUID conversationId, UUID userId);
     List<ConversationParticipantEntity> findByConversation_ConversationIdAndLeftAtIsNull(UUID conversationId);
     boolean existsByConversation_ConversationIdAndUserIdAndLeftAtIsNull(UUID conversationId, UUID userId);
+
+    /**
+     * Active participants other than the current user, as (conversationId, userId) rows.
+     */
+    @Query("""
+    SELECT cp.conversation.conversationId, cp.userId
+    FROM ConversationParticipantEntity cp
+    WHERE cp.conversation.conversationId IN :conversationIds
+      AND cp.userId <> :currentUserId
+      AND cp.leftAt IS NULL
+""")
+    List<Object[]> findOtherActiveParticipants(
+            @Param("conversationIds") Collection<UUID> conversationIds,
+            @Param("currentUserId") UUID currentUserId
+    );
+
+    /**
+     * Count a new message as unread for every active participant except its sender.
+     */
+    @Modifying
+    @Query("""
+    UPDATE ConversationParticipantEntity cp
+    SET cp.unreadCount = cp.unreadCount + 1
+    WHERE cp.conversation.conversationId = :conversationId
+      AND cp.userId <> :senderId
+      AND cp.leftAt IS NULL
+""")
+    int incrementUnreadCount(
+            @Param("conversationId") UUID conversationId,
+            @Param("senderId") UUID senderId
+    );
 }
@@ -3,12 +3,15 @@ package com.tranzo.tranzo_user_ms.chat.repository;
 import com.tranzo.tranzo_user_ms.chat.dto.ChatListItemDto;
 import com.tranzo.tranzo_user_ms.chat.model.ConversationEntity;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,77 +37,72 @@ public interface ConversationRepository extends JpaRepository<ConversationEntity
             @Param("secondUserId") UUID secondUserId
     );
 
+    /**
+     * Chat list from the denormalized summary columns: one pass over the user's participant rows
+     * (idx_cp_user_left) joined to their conversations and optional mute row.
+     */
     @Query("""
     SELECT new com.tranzo.tranzo_user_ms.chat.dto.ChatListItemDto(
         c.conversationId,
         c.type,
-
-        /* Last message content */
-        COALESCE((
-            SELECT m.content
-            FROM MessageEntity m
-            WHERE m.conversation.conversationId = c.conversationId
-              AND m.createdAt = (
-                  SELECT MAX(m2.createdAt)
-                  FROM MessageEntity m2
-                  WHERE m2.conversation.conversationId = c.conversationId
-              )
-        ), ''),
+        COALESCE(c.lastMessagePreview, ''),
         c.conversationName,
-        /* Last activity time */
-        COALESCE((
-            SELECT MAX(m.createdAt)
-            FROM MessageEntity m
-            WHERE m.conversation.conversationId = c.conversationId
-        ), c.createdAt),
-
-        /* Muted or not */
-        CASE
-            WHEN EXISTS (
-                SELECT 1
-                FROM ConversationMuteEntity mute
-                WHERE mute.conversation.conversationId = c.conversationId
-                  AND mute.userId = :currentUserId
-            )
-            THEN true
-            ELSE false
-        END,
-
-        /* Unread count */
-        (
-            SELECT COUNT(m.messageId)
-            FROM MessageEntity m
-            WHERE m.conversation.conversationId = c.conversationId
-              AND m.senderId <> :currentUserId
-              AND m.createdAt > (
-                  SELECT COALESCE(cp.lastReadAt, c.createdAt)
-                  FROM ConversationParticipantEntity cp
-                  WHERE cp.conversation.conversationId = c.conversationId
-                    AND cp.userId = :currentUserId
-              )
-        ),
-        
+        COALESCE(c.lastMessageAt, c.createdAt),
+        CASE WHEN mute.id IS NOT NULL THEN true ELSE false END,
+        CAST(cp.unreadCount AS Long),
         /* Profile picture URL - null for group chats, will be set later for one-on-one */
         null
     )
-    FROM ConversationEntity c
-    WHERE EXISTS (
-        SELECT 1
-        FROM ConversationParticipantEntity cp
-        WHERE cp.conversation.conversationId = c.conversationId
-          AND cp.userId = :currentUserId
-          AND cp.leftAt IS NULL
-    )
-    ORDER BY COALESCE((
-        SELECT MAX(m.createdAt)
-        FROM MessageEntity m
-        WHERE m.conversation.conversationId = c.conversationId
-    ), c.createdAt) DESC
+    FROM ConversationParticipantEntity cp
+    JOIN cp.conversation c
+    LEFT JOIN ConversationMuteEntity mute
+        ON mute.conversation = c
+       AND mute.userId = :currentUserId
+    WHERE cp.userId = :currentUserId
+      AND cp.leftAt IS NULL
+    ORDER BY COALESCE(c.lastMessageAt, c.createdAt) DESC
 """)
     List<ChatListItemDto> findChatListForUser(
             @Param("currentUserId") UUID currentUserId
     );
 
+    /**
+     * Move the conversation summary to the given message unless a newer one was recorded first.
+     */
+    @Modifying
+    @Query("""
+    UPDATE ConversationEntity c
+    SET c.lastMessageId = :messageId,
+        c.lastMessageAt = :messageAt,
+        c.lastMessagePreview = :preview
+    WHERE c.conversationId = :conversationId
+      AND (c.lastMessageAt IS NULL OR c.lastMessageAt <= :messageAt)
+""")
+    int recordLastMessage(
+            @Param("conversationId") UUID conversationId,
+            @Param("messageId") UUID messageId,
+            @Param("messageAt") LocalDateTime messageAt,
+            @Param("preview") String preview
+    );
 
-
+    /**
+     * One-on-one conversations between a user and any of the given users, newest first.
+     * Returns: [otherUserId, conversationId]
+     */
+    @Query("""
+    SELECT other.userId, c.conversationId
+    FROM ConversationEntity c
+    JOIN c.participants me
+    JOIN c.participants other
+    WHERE c.type = 'ONE_ON_ONE'
+      AND me.userId = :userId
+      AND me.leftAt IS NULL
+      AND other.userId IN :otherUserIds
+      AND other.leftAt IS NULL
+    ORDER BY c.createdAt DESC
+""")
+    List<Object[]> findOneToOneConversationIdsWithUsers(
+            @Param("userId") UUID userId,
+            @Param("otherUserIds") Collection<UUID> otherUserIds
+    );
 }
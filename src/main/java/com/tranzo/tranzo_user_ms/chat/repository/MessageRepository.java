@@ -15,27 +15,35 @@ import java.util.UUID;
 @Repository
 public interface MessageRepository extends JpaRepository<MessageEntity, UUID> {
 
-    /** Fetch latest messages (first page). No cursor; avoids NULL parameter binding issues on PostgreSQL. */
+    /**
+     * Latest messages (first page), newest first, joined with sender names in one round trip.
+     * Row: messageId, senderId, content, createdAt, type, firstName, middleName, lastName.
+     * No cursor; avoids NULL parameter binding issues on PostgreSQL.
+     */
     @Query("""
-        SELECT m
+        SELECT m.messageId, m.senderId, m.content, m.createdAt, m.type,
+               p.firstName, p.middleName, p.lastName
         FROM MessageEntity m
+        LEFT JOIN UserProfileEntity p ON p.user.userUuid = m.senderId
         WHERE m.conversation.conversationId = :conversationId
-        ORDER BY m.createdAt ASC
+        ORDER BY m.createdAt DESC, m.messageId DESC
     """)
-    List<MessageEntity> findMessages(
+    List<Object[]> findMessagePageWithSenders(
             @Param("conversationId") UUID conversationId,
             Pageable pageable
     );
 
-    /** Fetch messages before a given timestamp (pagination). */
+    /** Messages before a given timestamp (pagination), same row shape and order as {@link #findMessagePageWithSenders}. */
     @Query("""
-        SELECT m
+        SELECT m.messageId, m.senderId, m.content, m.createdAt, m.type,
+               p.firstName, p.middleName, p.lastName
         FROM MessageEntity m
+        LEFT JOIN UserProfileEntity p ON p.user.userUuid = m.senderId
         WHERE m.conversation.conversationId = :conversationId
           AND m.createdAt < :before
-        ORDER BY m.createdAt ASC
+        ORDER BY m.createdAt DESC, m.messageId DESC
     """)
-    List<MessageEntity> findMessagesBefore(
+    List<Object[]> findMessagePageWithSendersBefore(
             @Param("conversationId") UUID conversationId,
             @Param("before") LocalDateTime before,
             Pageable pageable
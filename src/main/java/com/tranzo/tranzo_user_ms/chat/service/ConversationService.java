@@ -4,9 +4,8 @@ import com.tranzo.tranzo_user_ms.chat.dto.ChatListItemDto;
 import com.tranzo.tranzo_user_ms.chat.dto.MessageResponseDto;
 import com.tranzo.tranzo_user_ms.chat.enums.ChatErrorCode;
 import com.tranzo.tranzo_user_ms.chat.enums.ConversationType;
+import com.tranzo.tranzo_user_ms.chat.enums.MessageType;
 import com.tranzo.tranzo_user_ms.chat.exception.ConversationNotFoundException;
-import com.tranzo.tranzo_user_ms.chat.model.ConversationParticipantEntity;
-import com.tranzo.tranzo_user_ms.chat.model.MessageEntity;
 import com.tranzo.tranzo_user_ms.chat.repository.ConversationParticipantRepository;
 import com.tranzo.tranzo_user_ms.chat.repository.ConversationRepository;
 import com.tranzo.tranzo_user_ms.chat.repository.MessageRepository;
@@ -21,6 +20,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -54,42 +56,47 @@ public class ConversationService {
 
         try {
             List<ChatListItemDto> conversations = conversationRepository.findChatListForUser(currentUserId);
-            
-            // Populate conversation names for one-on-one chats
-            for (ChatListItemDto conversation : conversations) {
-                if (conversation.getType().equals(ConversationType.ONE_ON_ONE)) {
-                    // This is a one-on-one conversation, fetch the other user's name
-                    List<ConversationParticipantEntity> participants =
-                        conversationParticipantRepository.findByConversation_ConversationIdAndLeftAtIsNull(
-                            conversation.getConversationId());
-                    
-                    // Find the other participant (not the current user)
-                    UUID otherUserId = participants.stream()
-                        .map(ConversationParticipantEntity::getUserId)
-                        .filter(userId -> !userId.equals(currentUserId))
-                        .findFirst()
-                        .orElse(null);
-                    
-                    if (otherUserId != null) {
-                        log.info("Calling external service | service=UserProfileClient | operation=getNamesByUserIds | userIds={}", List.of(otherUserId));
-                        Map<UUID, UserNameDto> namesByUserId = userProfileClient.getNamesByUserIds(List.of(otherUserId));
-                        UserNameDto otherUser = namesByUserId.get(otherUserId);
-                        
-                        if (otherUser != null) {
-                            String fullName = buildFullName(otherUser.getFirstName(), otherUser.getMiddleName(), otherUser.getLastName());
-                            conversation.setConversationName(fullName);
-                            conversation.setProfilePictureUrl(otherUser.getProfilePictureUrl());
-                        } else {
-                            conversation.setConversationName("Unknown User");
-                            conversation.setProfilePictureUrl(null);
-                        }
-                    } else {
+
+            // Populate conversation names for one-on-one chats: one participant query and one profile lookup for the page
+            List<UUID> oneOnOneIds = conversations.stream()
+                    .filter(conversation -> conversation.getType() == ConversationType.ONE_ON_ONE)
+                    .map(ChatListItemDto::getConversationId)
+                    .toList();
+            if (!oneOnOneIds.isEmpty()) {
+                Map<UUID, UUID> otherUserByConversation = new HashMap<>();
+                for (Object[] row : conversationParticipantRepository.findOtherActiveParticipants(oneOnOneIds, currentUserId)) {
+                    otherUserByConversation.putIfAbsent((UUID) row[0], (UUID) row[1]);
+                }
+
+                Map<UUID, UserNameDto> namesByUserId = Collections.emptyMap();
+                if (!otherUserByConversation.isEmpty()) {
+                    List<UUID> otherUserIds = otherUserByConversation.values().stream().distinct().toList();
+                    log.info("Calling external service | service=UserProfileClient | operation=getNamesByUserIds | userCount={}", otherUserIds.size());
+                    namesByUserId = userProfileClient.getNamesByUserIds(otherUserIds);
+                }
+
+                for (ChatListItemDto conversation : conversations) {
+                    if (conversation.getType() != ConversationType.ONE_ON_ONE) {
+                        continue;
+                    }
+                    UUID otherUserId = otherUserByConversation.get(conversation.getConversationId());
+                    if (otherUserId == null) {
                         conversation.setConversationName("Unknown");
                         conversation.setProfilePictureUrl(null);
+                        continue;
+                    }
+                    UserNameDto otherUser = namesByUserId.get(otherUserId);
+                    if (otherUser != null) {
+                        String fullName = buildFullName(otherUser.getFirstName(), otherUser.getMiddleName(), otherUser.getLastName());
+                        conversation.setConversationName(fullName);
+                        conversation.setProfilePictureUrl(otherUser.getProfilePictureUrl());
+                    } else {
+                        conversation.setConversationName("Unknown User");
+                        conversation.setProfilePictureUrl(null);
                     }
                 }
             }
-            
+
             log.info("Processing completed | operation=getMyConversations | userId={} | conversationsCount={} | status=SUCCESS", currentUserId, conversations.size());
             return conversations;
         } catch (Exception e) {
@@ -116,8 +123,10 @@ public class ConversationService {
 
     /**
      * Fetches messages from a conversation with pagination support.
-     * Messages can be fetched before a specific timestamp for pagination.
-     * Automatically marks the conversation as read for the user.
+     * Returns the latest page (or the page before a timestamp) in chronological order,
+     * with sender names joined in the same query.
+     * The read marker only moves when the latest page shows messages newer than it,
+     * so re-fetching or scrolling back through history does not write.
      *
      * @param conversationId the conversation ID
      * @param currentUserId  the user fetching messages
@@ -131,15 +140,13 @@ public class ConversationService {
         log.info("Processing started | operation=fetchMessages | conversationId={} | userId={} | limit={}", conversationId, currentUserId, limit);
 
         try {
-            conversationRepository.findById(conversationId)
-                    .orElseThrow(() -> {
-                        log.error("Conversation not found | operation=fetchMessages | conversationId={} | reason=NOT_FOUND", conversationId);
-                        return new ConversationNotFoundException(ChatErrorCode.CONVERSATION_NOT_FOUND, "Conversation not found");
-                    });
-
             var participant = conversationParticipantRepository
                     .findByConversation_ConversationIdAndUserIdAndLeftAtIsNull(conversationId, currentUserId)
                     .orElseThrow(() -> {
+                        if (!conversationRepository.existsById(conversationId)) {
+                            log.error("Conversation not found | operation=fetchMessages | conversationId={} | reason=NOT_FOUND", conversationId);
+                            return new ConversationNotFoundException(ChatErrorCode.CONVERSATION_NOT_FOUND, "Conversation not found");
+                        }
                         log.error("Access denied | operation=fetchMessages | conversationId={} | userId={} | reason=NOT_PARTICIPANT", conversationId, currentUserId);
                         return new ConversationNotFoundException(ChatErrorCode.USER_NOT_IN_CONVERSATION, "User is not a participant in this conversation");
                     });
@@ -156,20 +163,26 @@ public class ConversationService {
 
             Pageable pageable = PageRequest.of(0, pageSize);
 
-            // Fetch messages with optional timestamp filtering
-            List<MessageEntity> messages = (before == null)
-                    ? messageRepository.findMessages(conversationId, pageable)
-                    : messageRepository.findMessagesBefore(conversationId, before, pageable);
+            // Newest first from the database, with sender names joined in
+            List<Object[]> rows = (before == null)
+                    ? messageRepository.findMessagePageWithSenders(conversationId, pageable)
+                    : messageRepository.findMessagePageWithSendersBefore(conversationId, before, pageable);
 
-            // Mark conversation as read
-            participant.markAsRead();
-            conversationParticipantRepository.save(participant);
-            log.info("Conversation marked as read | conversationId={} | userId={} | status=SUCCESS", conversationId, currentUserId);
+            List<MessageResponseDto> messageResponseDtos = new ArrayList<>(rows.size());
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                messageResponseDtos.add(convertToMessageResponseDto(rows.get(i), conversationId, currentUserId));
+            }
 
-            // Convert messages to DTOs with sender information
-            List<MessageResponseDto> messageResponseDtos = messages.stream()
-                    .map(message -> convertToMessageResponseDto(message, conversationId, currentUserId))
-                    .toList();
+            // Mark conversation as read only when the latest page has something newer than the marker
+            if (before == null && !messageResponseDtos.isEmpty()) {
+                LocalDateTime newestSeen = messageResponseDtos.get(messageResponseDtos.size() - 1).getCreatedAt();
+                if (participant.getUnreadCount() > 0 || participant.getLastReadAt() == null
+                        || newestSeen.isAfter(participant.getLastReadAt())) {
+                    participant.markAsRead();
+                    conversationParticipantRepository.save(participant);
+                    log.info("Conversation marked as read | conversationId={} | userId={} | status=SUCCESS", conversationId, currentUserId);
+                }
+            }
 
             log.info("Processing completed | operation=fetchMessages | conversationId={} | userId={} | messagesCount={} | status=SUCCESS", conversationId, currentUserId, messageResponseDtos.size());
             return messageResponseDtos;
@@ -182,46 +195,41 @@ public class ConversationService {
     }
 
     /**
-     * Converts a MessageEntity to MessageResponseDto with sender's profile information.
+     * Converts a message row from {@link MessageRepository#findMessagePageWithSenders} to MessageResponseDto.
      *
-     * @param message        the message entity
+     * @param row            messageId, senderId, content, createdAt, type, firstName, middleName, lastName
      * @param conversationId the conversation ID
      * @param currentUserId  the current user ID
-     * @return MessageResponseDto with enriched sender details
+     * @return MessageResponseDto with sender details
      */
-    private MessageResponseDto convertToMessageResponseDto(MessageEntity message, UUID conversationId, UUID currentUserId) {
-        UUID senderId = message.getSenderId();
+    private MessageResponseDto convertToMessageResponseDto(Object[] row, UUID conversationId, UUID currentUserId) {
+        UUID senderId = (UUID) row[1];
         String firstName, middleName, lastName;
 
-        if (senderId == null && (message.getContent().equals("You are now connected") || message.getContent().equals("Trip Hosted Successfully"))) {
-            // System message
+        if (row[4] == MessageType.SYSTEM) {
             firstName = "System";
             middleName = null;
             lastName = null;
         } else {
-            // User message - fetch sender details
-            log.debug("Calling external service | service=UserProfileClient | operation=getNamesByUserIds | senderId={}", senderId);
-            Map<UUID, UserNameDto> namesByUserId = userProfileClient.getNamesByUserIds(List.of(senderId));
-            UserNameDto senderName = namesByUserId.get(senderId);
-
-            firstName = senderName != null ? senderName.getFirstName() : "Unknown";
-            middleName = senderName != null ? senderName.getMiddleName() : null;
-            lastName = senderName != null ? senderName.getLastName() : null;
+            boolean hasProfile = row[5] != null;
+            firstName = hasProfile ? (String) row[5] : "Unknown";
+            middleName = hasProfile ? (String) row[6] : null;
+            lastName = hasProfile ? (String) row[7] : null;
         }
 
         // Determine if current user is the sender
         Boolean isSender = senderId != null && senderId.equals(currentUserId);
 
         return new MessageResponseDto(
-                message.getMessageId(),
+                (UUID) row[0],
                 conversationId,
                 senderId,
                 firstName,
                 middleName,
                 lastName,
-                message.getContent(),
+                (String) row[2],
                 isSender,
-                message.getCreatedAt()
+                (LocalDateTime) row[3]
         );
     }
 }
@@ -99,6 +99,7 @@ public class CreateAndManageConversationService {
                         newConversation,
                         "You are now connected"
                 );
+                newConversation.recordLastMessage(systemMessage);
 
                 // Use saveAndFlush to force immediate DB write and detect any constraint violations
                 conversationRepository.saveAndFlush(newConversation);
@@ -184,6 +185,7 @@ public class CreateAndManageConversationService {
                     newConversation,
                     "Trip Hosted Successfully"
             );
+            newConversation.recordLastMessage(systemMessage);
             
             ConversationEntity conversationEntity = conversationRepository.save(newConversation);
             messageRepository.save(systemMessage);
@@ -322,6 +324,11 @@ public class CreateAndManageConversationService {
                     )
             );
 
+            // Keep the chat list summary and the other participants' unread counters current
+            conversationRepository.recordLastMessage(conversationId, message.getMessageId(),
+                    message.getCreatedAt(), ConversationEntity.previewOf(content));
+            conversationParticipantRepository.incrementUnreadCount(conversationId, senderId);
+
             // Fetch sender's profile information
             log.info("Calling external service | service=UserProfileClient | operation=getNamesByUserIds | senderId={}", senderId);
             Map<UUID, UserNameDto> namesByUserId = userProfileClient.getNamesByUserIds(List.of(senderId));
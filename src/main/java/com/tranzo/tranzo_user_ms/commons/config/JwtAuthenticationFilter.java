@@ -1,5 +1,6 @@
 package com.tranzo.tranzo_user_ms.commons.config;
 
+import com.tranzo.tranzo_user_ms.commons.dto.VerifiedToken;
 import com.tranzo.tranzo_user_ms.commons.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,7 +16,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -29,11 +29,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
         String token = extractAccessToken(request);
-        if (token != null && jwtService.validateAccessToken(token)) {
-            UUID userUuid = jwtService.extractUserUuid(token);
+        VerifiedToken verified = token != null ? jwtService.verify(token).orElse(null) : null;
+        if (verified != null && verified.isType(VerifiedToken.ACCESS) && verified.userUuid() != null) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            userUuid,
+                            verified.userUuid(),
                             null,
                             Collections.emptyList() // roles optional here
                     );
@@ -1,5 +1,6 @@
 package com.tranzo.tranzo_user_ms.commons.config;
 
+import com.tranzo.tranzo_user_ms.commons.dto.VerifiedToken;
 import com.tranzo.tranzo_user_ms.commons.exception.UnauthorizedException;
 import com.tranzo.tranzo_user_ms.commons.service.JwtService;
 import jakarta.servlet.FilterChain;
@@ -37,12 +38,12 @@ public class RegistrationTokenFilter extends OncePerRequestFilter {
             throw new UnauthorizedException("Registration token missing");
         }
         String token = authHeader.substring(7);
-        jwtService.validateTokenOrThrow(token);
-        if (!"REGISTRATION".equals(jwtService.extractTokenType(token)))
+        VerifiedToken verified = jwtService.verifyOrThrow(token);
+        if (!verified.isType(VerifiedToken.REGISTRATION))
         {
             throw new UnauthorizedException("Invalid token type for registration");
         }
-        String identifier = jwtService.extractSubject(token);
+        String identifier = verified.subject();
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
                         identifier,
@@ -43,7 +43,9 @@ public class SecurityConfig {
                                 "/h2-console/**",
                                 "/ws-chat/**",
                                 "/trips/featured",
+                                "/trips/recent",
                                 "/trips/trending-destinations",
+                                "/trips/trending-destinations/ranked",
                                 "api/v1/ai/itinerary"
                         ).permitAll()
                         .requestMatchers(HttpMethod.GET, "/trips", "/trips/").permitAll()
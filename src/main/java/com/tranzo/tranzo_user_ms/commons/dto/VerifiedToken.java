@@ -0,0 +1,19 @@
+package com.tranzo.tranzo_user_ms.commons.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature, issuer and expiry have been checked.
+ * userUuid is null when the subject is not a user UUID (registration tokens carry an identifier).
+ */
+public record VerifiedToken(String subject, UUID userUuid, String type, Instant expiresAt) {
+
+    public static final String ACCESS = "ACCESS";
+    public static final String REFRESH = "REFRESH";
+    public static final String REGISTRATION = "REGISTRATION";
+
+    public boolean isType(String expectedType) {
+        return expectedType.equals(type);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tranzo.tranzo_user_ms.commons.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** Published when an expense or settlement write changes balances in a Splitwise group. */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SplitwiseBalancesChangedEvent {
+
+    private UUID groupId;
+}
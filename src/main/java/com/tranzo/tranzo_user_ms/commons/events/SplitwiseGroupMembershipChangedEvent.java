@@ -0,0 +1,16 @@
+package com.tranzo.tranzo_user_ms.commons.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** Published when members are added to or removed from a Splitwise group, or the group is deleted. */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SplitwiseGroupMembershipChangedEvent {
+
+    private UUID groupId;
+}
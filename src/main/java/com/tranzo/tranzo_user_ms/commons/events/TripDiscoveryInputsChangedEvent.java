@@ -0,0 +1,26 @@
+package com.tranzo.tranzo_user_ms.commons.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Published whenever an input to a trip's discovery data changes (publish, join, leave,
+ * full/unfull, details edit, cancel). The trip module listens to refresh trip_discovery_score
+ * and the per-destination trending rollup.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TripDiscoveryInputsChangedEvent {
+
+    private UUID tripId;
+    /** Destination before this change, set only when the destination itself was edited. */
+    private String previousDestination;
+
+    public TripDiscoveryInputsChangedEvent(UUID tripId) {
+        this.tripId = tripId;
+    }
+}
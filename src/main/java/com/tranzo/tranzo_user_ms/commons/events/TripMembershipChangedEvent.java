@@ -0,0 +1,16 @@
+package com.tranzo.tranzo_user_ms.commons.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** Published when a trip member joins, leaves, is removed or changes role. */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TripMembershipChangedEvent {
+
+    private UUID tripId;
+}
@@ -0,0 +1,16 @@
+package com.tranzo.tranzo_user_ms.commons.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** Published when a user's name fields or profile picture change. Cached profile data should be dropped. */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserProfileUpdatedEvent {
+
+    private UUID userId;
+}
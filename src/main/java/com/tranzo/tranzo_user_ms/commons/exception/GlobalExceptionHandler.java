@@ -272,6 +272,7 @@ public class GlobalExceptionHandler {
             case EXPENSE_SPLIT_INVALID -> "Expense split configuration is invalid";
             case SETTLEMENT_NOT_FOUND -> "Settlement not found";
             case USER_NOT_MEMBER -> "User is not a member of this group";
+            case USER_NOT_ADMIN -> "Only a group admin can perform this action";
             case INSUFFICIENT_BALANCE -> "Insufficient balance";
         };
     }
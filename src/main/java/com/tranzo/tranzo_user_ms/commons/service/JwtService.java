@@ -1,7 +1,9 @@
 package com.tranzo.tranzo_user_ms.commons.service;
 
+import com.tranzo.tranzo_user_ms.commons.dto.VerifiedToken;
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JwtService {
@@ -15,4 +17,14 @@ public interface JwtService {
     String extractTokenType(String token);
 
     String extractSubject(String token);
+
+    /**
+     * Verifies the token once and returns its claims, or empty when it is malformed, forged or expired.
+     */
+    Optional<VerifiedToken> verify(String token);
+
+    /**
+     * Same as {@link #verify(String)} but throws UnauthorizedException for an invalid token.
+     */
+    VerifiedToken verifyOrThrow(String token);
 }
@@ -1,9 +1,11 @@
 package com.tranzo.tranzo_user_ms.commons.service;
 
+import com.tranzo.tranzo_user_ms.commons.dto.VerifiedToken;
 import com.tranzo.tranzo_user_ms.commons.exception.UnauthorizedException;
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,28 +16,37 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Issues and verifies the service's JWTs. The signing key and parser are built once and shared by
+ * every request, so each verification is just the parse and HMAC check.
+ */
 @Service
 public class JwtServiceImpl implements JwtService {
 
-    @Value("${spring.jwt.secret}")
-    private String secret;
-
-    @Value("${spring.jwt.access-token-expiry-minutes}")
-    private long accessExpiryMinutes;
-
-    @Value("${spring.jwt.refresh-token-expiry-days}")
-    private long refreshExpiryDays;
-
-    @Value("${spring.jwt.registration-token-expiry-minutes}")
-    private long registrationExpiryMinutes;
-
-    @Value("${spring.jwt.issuer}")
-    private String issuer;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long accessExpiryMinutes;
+    private final long refreshExpiryDays;
+    private final long registrationExpiryMinutes;
+    private final String issuer;
+
+    public JwtServiceImpl(@Value("${spring.jwt.secret}") String secret,
+                          @Value("${spring.jwt.access-token-expiry-minutes}") long accessExpiryMinutes,
+                          @Value("${spring.jwt.refresh-token-expiry-days}") long refreshExpiryDays,
+                          @Value("${spring.jwt.registration-token-expiry-minutes}") long registrationExpiryMinutes,
+                          @Value("${spring.jwt.issuer}") String issuer) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .requireIssuer(issuer)
+                .build();
+        this.accessExpiryMinutes = accessExpiryMinutes;
+        this.refreshExpiryDays = refreshExpiryDays;
+        this.registrationExpiryMinutes = registrationExpiryMinutes;
+        this.issuer = issuer;
     }
 
     @Override
@@ -44,14 +55,14 @@ public class JwtServiceImpl implements JwtService {
                 .setSubject(user.getUserUuid().toString())
                 .setIssuer(issuer)
                 .claim("role", user.getUserRole().name())
-                .claim("type", "ACCESS")
+                .claim("type", VerifiedToken.ACCESS)
                 .setIssuedAt(new Date())
                 .setExpiration(
                         Date.from(
                                 Instant.now().plus(accessExpiryMinutes, ChronoUnit.MINUTES)
                         )
                 )
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -61,14 +72,14 @@ public class JwtServiceImpl implements JwtService {
                 .setId(UUID.randomUUID().toString())
                 .setSubject(user.getUserUuid().toString())
                 .setIssuer(issuer)
-                .claim("type", "REFRESH")
+                .claim("type", VerifiedToken.REFRESH)
                 .setIssuedAt(new Date())
                 .setExpiration(
                         Date.from(
                                 Instant.now().plus(refreshExpiryDays, ChronoUnit.DAYS)
                         )
                 )
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -78,45 +89,46 @@ public class JwtServiceImpl implements JwtService {
         return Jwts.builder()
                 .setSubject(identifier)
                 .setIssuer(issuer)
-                .claim("type", "REGISTRATION")
+                .claim("type", VerifiedToken.REGISTRATION)
                 .setIssuedAt(new Date())
                 .setExpiration(
                         Date.from(
                                 Instant.now().plus(registrationExpiryMinutes, ChronoUnit.MINUTES)
                         )
                 )
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     @Override
-    public boolean validateAccessToken(String token) {
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
         try {
-            Claims claims = parseClaims(token);
-            String tokenType = claims.get("type", String.class);
-            return "ACCESS".equals(tokenType);
+            return Optional.of(toVerifiedToken(parseClaims(token)));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    @Override
+    public VerifiedToken verifyOrThrow(String token) {
+        return verify(token).orElseThrow(() -> new UnauthorizedException("Invalid or expired token"));
+    }
+
+    @Override
+    public boolean validateAccessToken(String token) {
+        return verify(token).filter(verified -> verified.isType(VerifiedToken.ACCESS)).isPresent();
+    }
+
     @Override
     public boolean validateRefreshToken(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            String tokenType = claims.get("type", String.class);
-            return "REFRESH".equals(tokenType);
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token).filter(verified -> verified.isType(VerifiedToken.REFRESH)).isPresent();
     }
 
     public void validateTokenOrThrow(String token) {
-        try {
-            parseClaims(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            throw new UnauthorizedException("Invalid or expired token");
-        }
+        verifyOrThrow(token);
     }
 
     @Override
@@ -130,16 +142,24 @@ public class JwtServiceImpl implements JwtService {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .requireIssuer(issuer)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     @Override
     public String extractSubject(String token) {
         return parseClaims(token).getSubject();
     }
-}
\ No newline at end of file
+
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        String subject = claims.getSubject();
+        UUID userUuid;
+        try {
+            userUuid = subject != null ? UUID.fromString(subject) : null;
+        } catch (IllegalArgumentException e) {
+            userUuid = null;
+        }
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(subject, userUuid, claims.get("type", String.class),
+                expiration != null ? expiration.toInstant() : Instant.MAX);
+    }
+}
@@ -0,0 +1,45 @@
+package com.tranzo.tranzo_user_ms.commons.utility;
+
+import com.tranzo.tranzo_user_ms.commons.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque cursor for keyset pagination over (timestamp DESC, id DESC) orderings.
+ * Encoded as URL-safe base64 of "timestamp|id" so clients can pass it back unchanged.
+ */
+public record KeysetCursor(LocalDateTime sortKey, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token. Returns null for a null or blank token (first page).
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new BadRequestException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (BadRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.tranzo.tranzo_user_ms.commons.utility;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded write-behind queue for rows inserted with JDBC off the request thread.
+ * Items are drained by virtual-thread workers and handed to the owner's writer in groups. When the
+ * queue stays full for the enqueue timeout, or the queue is stopping, the item is written on the
+ * caller thread instead, so producers slow down rather than rows being dropped.
+ * <p>
+ * Caller-runs writes suspend any transaction bound to the caller. Owners are typically fed from
+ * after-commit listeners, where joining the finished transaction would leave the rows uncommitted;
+ * without a transaction each statement auto-commits, as it does on the worker threads.
+ *
+ * @param <T> queued item type
+ */
+@Slf4j
+public class WriteBehindQueue<T> {
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate outsideTransaction;
+    private final BlockingQueue<T> queue;
+    private final int workers;
+    private final int maxItemsPerWrite;
+    private final long enqueueTimeoutMillis;
+    private final Consumer<List<T>> writer;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder writtenRows = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+
+    private ExecutorService workerPool;
+    private volatile boolean running;
+
+    public WriteBehindQueue(String name,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            int capacity,
+                            int workers,
+                            int maxItemsPerWrite,
+                            long enqueueTimeoutMillis,
+                            Consumer<List<T>> writer) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.outsideTransaction = new TransactionTemplate(transactionManager);
+        this.outsideTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.workers = workers;
+        this.maxItemsPerWrite = maxItemsPerWrite;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.writer = writer;
+    }
+
+    public void start() {
+        running = true;
+        workerPool = Executors.newFixedThreadPool(workers, Thread.ofVirtual().name(name + "-", 0).factory());
+        for (int i = 0; i < workers; i++) {
+            workerPool.submit(this::drainLoop);
+        }
+        log.info("Write-behind queue started | name={} | workers={} | capacity={} | maxItemsPerWrite={}",
+                name, workers, queue.remainingCapacity(), maxItemsPerWrite);
+    }
+
+    /**
+     * Queue one item. Returns true once it is queued, or false once it has been written on this
+     * thread because the queue is full or stopping.
+     */
+    public boolean submit(T item) {
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(item, enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (queued) {
+            enqueued.increment();
+            return true;
+        }
+        callerRuns.increment();
+        outsideTransaction.executeWithoutResult(status -> writer.accept(List.of(item)));
+        return false;
+    }
+
+    /**
+     * Stops the workers and writes whatever is still queued on the calling thread.
+     */
+    public void stop() {
+        running = false;
+        if (workerPool != null) {
+            workerPool.shutdown();
+            try {
+                if (!workerPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                    workerPool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workerPool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<T> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            outsideTransaction.executeWithoutResult(status -> writer.accept(remaining));
+        }
+    }
+
+    /**
+     * Inserts all rows in one JDBC batch. Returns false instead of throwing when the batch fails,
+     * so the owner can retry in smaller units.
+     */
+    public <R> boolean tryBatch(String sql, List<R> rows, int batchSize, ParameterizedPreparedStatementSetter<R> setter) {
+        try {
+            jdbcTemplate.batchUpdate(sql, rows, batchSize, setter);
+            writtenRows.add(rows.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Write-behind batch failed, retrying in smaller units | name={} | rows={} | reason={}",
+                    name, rows.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Inserts the rows one statement at a time. Sub-batches of a failed batch may already have
+     * committed; row ids are fixed before the first attempt, so a duplicate key means the row is
+     * already stored and counts as written.
+     */
+    public <R> RowFailures<R> insertEach(String sql, List<R> rows, ParameterizedPreparedStatementSetter<R> setter) {
+        List<R> failed = new ArrayList<>();
+        RuntimeException lastFailure = null;
+        for (R row : rows) {
+            try {
+                jdbcTemplate.update(sql, ps -> setter.setValues(ps, row));
+            } catch (DuplicateKeyException e) {
+                // already stored by the failed batch
+            } catch (RuntimeException e) {
+                failed.add(row);
+                lastFailure = e;
+            }
+        }
+        writtenRows.add(rows.size() - failed.size());
+        failedRows.add(failed.size());
+        return new RowFailures<>(failed, lastFailure);
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public long enqueued() {
+        return enqueued.sum();
+    }
+
+    public long callerRuns() {
+        return callerRuns.sum();
+    }
+
+    public long writtenRows() {
+        return writtenRows.sum();
+    }
+
+    public long failedRows() {
+        return failedRows.sum();
+    }
+
+    private void drainLoop() {
+        List<T> items = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                items.add(first);
+                queue.drainTo(items, maxItemsPerWrite - 1);
+                writer.accept(items);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Operation failed | operation=writeBehind | name={} | items={} | reason={}",
+                        name, items.size(), e.getMessage(), e);
+            } finally {
+                items.clear();
+            }
+        }
+    }
+
+    /**
+     * Rows that still failed when inserted one by one, and the last error seen.
+     */
+    public record RowFailures<R>(List<R> rows, RuntimeException lastFailure) {
+
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 /**
  * S3 client configuration. Uses default credential chain (env vars AWS_ACCESS_KEY_ID,
@@ -22,4 +23,15 @@ public class S3Config {
                 .region(Region.of(region))
                 .build();
     }
+
+    /**
+     * Shared presigner: building one resolves the region and credential chain, so it is created
+     * once and reused for every presigned URL (closed with the context).
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .build();
+    }
 }
@@ -1,15 +1,15 @@
 package com.tranzo.tranzo_user_ms.media.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.tranzo.tranzo_user_ms.media.dto.PresignedUrlResponseDto;
 import com.tranzo.tranzo_user_ms.media.dto.UploadResponseDto;
 import com.tranzo.tranzo_user_ms.media.exception.S3MediaNotConfiguredException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -19,26 +19,41 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class S3MediaService {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final int presignedUrlExpiryMinutes;
+
+    /**
+     * Presigned GET URLs (default expiry) by object key. An entry is evicted after 80% of the
+     * signature lifetime, so a cached URL always has at least a fifth of its validity left.
+     */
+    private final Cache<String, String> presignedUrlCache;
 
     @Value("${app.s3.media-bucket:}")
     private String bucket;
 
-    @Value("${app.s3.region:ap-south-1}")
-    private String region;
-
-    @Value("${app.s3.presigned-url-expiry-minutes:15}")
-    private int presignedUrlExpiryMinutes;
-
     private static final String UPLOAD_PREFIX = "uploads/media/";
 
+    public S3MediaService(S3Client s3Client,
+                          S3Presigner s3Presigner,
+                          @Value("${app.s3.presigned-url-expiry-minutes:15}") int presignedUrlExpiryMinutes,
+                          @Value("${app.s3.presigned-url-cache-size:10000}") long presignedUrlCacheSize) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.presignedUrlExpiryMinutes = presignedUrlExpiryMinutes;
+        this.presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(presignedUrlCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(presignedUrlExpiryMinutes).multipliedBy(4).dividedBy(5))
+                .build();
+    }
+
     private void ensureConfigured() {
         log.debug("Processing started | operation=ensureConfigured");
         
@@ -130,18 +145,20 @@ public class S3MediaService {
 
     /**
      * Generate a presigned GET URL for an existing object key.
+     * URLs with the default expiry are served from the presigned URL cache.
      */
     public PresignedUrlResponseDto getPresignedUrl(String key, Integer expiryMinutes) {
-        log.info("Processing started | operation=getPresignedUrl | key={}", key);
+        log.debug("Processing started | operation=getPresignedUrl | key={}", key);
         
         try {
             ensureConfigured();
             int expiry = expiryMinutes != null && expiryMinutes > 0 ? expiryMinutes : presignedUrlExpiryMinutes;
             
-            log.info("Calling external service | service=S3 | operation=presignUrl | key={} | expiryMinutes={}", key, expiry);
-            String url = buildPresignedUrl(key, expiry);
+            String url = expiry == presignedUrlExpiryMinutes
+                    ? presignedUrlCache.get(key, k -> buildPresignedUrl(k, presignedUrlExpiryMinutes))
+                    : buildPresignedUrl(key, expiry);
             
-            log.info("Processing completed | operation=getPresignedUrl | key={} | status=SUCCESS", key);
+            log.debug("Processing completed | operation=getPresignedUrl | key={} | status=SUCCESS", key);
             return PresignedUrlResponseDto.builder()
                     .url(url)
                     .expiryMinutes(expiry)
@@ -152,15 +169,40 @@ public class S3MediaService {
         }
     }
 
+    /**
+     * Presign a batch of object keys with the default expiry, e.g. all images on a list page.
+     * Keys already in the cache are not re-signed.
+     *
+     * @return presigned URL by key, for every distinct non-blank key
+     */
+    public Map<String, String> presignAll(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        ensureConfigured();
+        Set<String> distinctKeys = keys.stream()
+                .filter(key -> key != null && !key.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, String> urls = presignedUrlCache.getAll(distinctKeys, missingKeys -> {
+            Map<String, String> signed = new HashMap<>();
+            for (String key : missingKeys) {
+                signed.put(key, buildPresignedUrl(key, presignedUrlExpiryMinutes));
+            }
+            return signed;
+        });
+        log.debug("Processing completed | operation=presignAll | keys={} | status=SUCCESS", distinctKeys.size());
+        return urls;
+    }
+
     private String buildPresignedUrl(String key, int expiryMinutes) {
         log.debug("Processing started | operation=buildPresignedUrl | key={} | expiryMinutes={}", key, expiryMinutes);
         
-        try (S3Presigner presigner = S3Presigner.builder().region(Region.of(region)).build()) {
+        try {
             GetObjectRequest getRequest = GetObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
                     .build();
-            PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(
+            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(
                     GetObjectPresignRequest.builder()
                             .signatureDuration(Duration.ofMinutes(expiryMinutes))
                             .getObjectRequest(getRequest)
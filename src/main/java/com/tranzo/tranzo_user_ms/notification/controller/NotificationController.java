@@ -11,9 +11,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -61,15 +63,24 @@ public class NotificationController {
         return ResponseEntity.ok(ResponseDto.success("Marked as read", null));
     }
 
+    /**
+     * Marks unread notifications as read. With {@code upTo} (the time the client last refreshed),
+     * notifications that arrived afterwards stay unread. Returns the number marked.
+     */
     @PatchMapping("/read-all")
-    public ResponseEntity<ResponseDto<Void>> markAllAsRead() throws AuthException {
+    public ResponseEntity<ResponseDto<Integer>> markAllAsRead(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime upTo) throws AuthException {
         UUID userId = SecurityUtils.getCurrentUserUuid();
-        log.info("Incoming request | API=/notifications/read-all | method=PATCH | userId={}", userId);
+        log.info("Incoming request | API=/notifications/read-all | method=PATCH | userId={} | upTo={}", userId, upTo);
         
-        notificationService.markAllAsRead(userId);
+        int markedCount = upTo != null
+                ? notificationService.markAllAsReadUpTo(userId, upTo)
+                : notificationService.markAllAsRead(userId);
         
-        log.info("All notifications marked as read | userId={} | status=SUCCESS", userId);
-        return ResponseEntity.ok(ResponseDto.success("All marked as read", null));
+        log.info("All notifications marked as read | userId={} | markedCount={} | status=SUCCESS", userId, markedCount);
+        return ResponseEntity.ok(ResponseDto.success("All marked as read", markedCount));
     }
 
     private NotificationResponseDto toDto(UserNotificationEntity entity) {
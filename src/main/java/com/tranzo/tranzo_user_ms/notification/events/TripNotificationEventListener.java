@@ -6,9 +6,8 @@ import com.tranzo.tranzo_user_ms.notification.service.NotificationService;
 import com.tranzo.tranzo_user_ms.user.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
@@ -18,8 +17,7 @@ public class TripNotificationEventListener {
     private final NotificationService notificationService;
     private final UserProfileRepository userProfileRepository;
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onDraftTripReminder(DraftTripReminderEvent event) {
         log.info("Creating DRAFT_TRIP_REMINDER notifications for tripId={}, hostUserId={}", event.getTripId(), event.getHostUserId());
         notificationService.createNotification(
@@ -31,8 +29,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onUpcomingTrip(UpcomingTripEvent event) {
         log.info("Creating UPCOMING_TRIP notifications for tripId={}, memberCount={}", event.getTripId(), event.getMemberUserIds().size());
         String title = "Trip starting soon";
@@ -46,8 +43,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripCompleted(TripCompletedEvent event) {
         log.info("Creating TRIP_COMPLETED notifications for tripId={}, memberCount={}", event.getTripId(), event.getMemberUserIds().size());
         String title = "Trip completed";
@@ -61,8 +57,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripCancelled(TripCancelledEvent event) {
         log.info("Creating TRIP_CANCELLED notifications for tripId={}, memberCount={}", event.getTripId(), event.getMemberUserIds().size());
         String title = "Trip cancelled";
@@ -76,8 +71,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onJoinRequestCreated(JoinRequestCreatedEvent event) {
         log.info("Creating JOIN_REQUEST_RECEIVED notification for tripId={}, hostUserId={}", event.getTripId(), event.getHostUserId());
         notificationService.createNotification(
@@ -89,8 +83,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onJoinRequestApproved(JoinRequestApprovedEvent event) {
         log.info("Creating JOIN_REQUEST_APPROVED notification for tripId={}, requestorUserId={}", event.getTripId(), event.getRequestorUserId());
         notificationService.createNotification(
@@ -102,8 +95,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onJoinRequestRejected(JoinRequestRejectedEvent event) {
         log.info("Creating JOIN_REQUEST_REJECTED notification for tripId={}, requestorUserId={}", event.getTripId(), event.getRequestorUserId());
         notificationService.createNotification(
@@ -115,8 +107,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onMemberJoinedTrip(MemberJoinedTripEvent event) {
         if (event.getOtherMemberUserIds() == null || event.getOtherMemberUserIds().isEmpty()) {
             return;
@@ -133,8 +124,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onMemberLeftOrRemovedTrip(MemberLeftOrRemovedTripEvent event) {
         if (event.getOtherMemberUserIds() == null || event.getOtherMemberUserIds().isEmpty()) {
             return;
@@ -151,8 +141,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onMemberPromotedToCoHost(MemberPromotedToCoHostEvent event) {
         if (event.getAllMemberUserIds() == null || event.getAllMemberUserIds().isEmpty()) {
             return;
@@ -169,8 +158,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripFullCapacityReached(TripFullCapacityReachedEvent event) {
         if (event.getMemberUserIds() == null || event.getMemberUserIds().isEmpty()) {
             return;
@@ -187,8 +175,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripMarkedFullByHost(TripMarkedFullByHostEvent event) {
         if (event.getMemberUserIdsExcludingHost() == null || event.getMemberUserIdsExcludingHost().isEmpty()) {
             return;
@@ -205,8 +192,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripDetailsChanged(TripDetailsChangedEvent event) {
         if (event.getMemberUserIds() == null || event.getMemberUserIds().isEmpty()) {
             return;
@@ -223,8 +209,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripQuestionAsked(TripQuestionAskedEvent event) {
         if (event.getMemberUserIds() == null || event.getMemberUserIds().isEmpty()) {
             return;
@@ -241,8 +226,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripQuestionAnswered(TripQuestionAnsweredEvent event) {
         log.info("Creating TRIP_QUESTION_ANSWERED notification for tripId={}, askedByUserId={}", event.getTripId(), event.getAskedByUserId());
         notificationService.createNotification(
@@ -254,8 +238,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripInviteCreated(TripInviteCreatedEvent event) {
         if (event.getInvitedUserId() == null) {
             log.warn("Skipping TRIP_INVITED notification: invitedUserId is null");
@@ -279,8 +262,7 @@ public class TripNotificationEventListener {
         );
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripBroadcast(TripBroadcastEvent event) {
         if (event.getBroadcastToUserIds() == null || event.getBroadcastToUserIds().isEmpty()) {
             return;
@@ -5,10 +5,9 @@ import com.tranzo.tranzo_user_ms.notification.enums.NotificationType;
 import com.tranzo.tranzo_user_ms.notification.service.NotificationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -31,8 +30,7 @@ public class TripRatingPromptEventListener {
         this.notificationService = notificationService;
     }
 
-    @EventListener
-    @Transactional
+    @TransactionalEventListener(fallbackExecution = true)
     public void onTripCompleted(TripCompletedEvent event) {
         log.info("Creating RATE_YOUR_JOURNEY notifications for tripId={}, memberCount={}",
                 event.getTripId(), event.getMemberUserIds().size());
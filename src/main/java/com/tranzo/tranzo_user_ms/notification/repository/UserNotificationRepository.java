@@ -4,7 +4,11 @@ import com.tranzo.tranzo_user_ms.notification.model.UserNotificationEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface UserNotificationRepository extends JpaRepository<UserNotificationEntity, UUID> {
@@ -12,4 +16,23 @@ public interface UserNotificationRepository extends JpaRepository<UserNotificati
     Page<UserNotificationEntity> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
 
     long countByUserIdAndReadAtIsNull(UUID userId);
+
+    /**
+     * Mark every unread notification created up to the given time as read, in one statement.
+     *
+     * @return number of notifications marked
+     */
+    @Modifying
+    @Query("""
+        UPDATE UserNotificationEntity n
+        SET n.readAt = :readAt
+        WHERE n.userId = :userId
+          AND n.readAt IS NULL
+          AND n.createdAt <= :upTo
+    """)
+    int markAllAsReadUpTo(
+            @Param("userId") UUID userId,
+            @Param("upTo") LocalDateTime upTo,
+            @Param("readAt") LocalDateTime readAt
+    );
 }
@@ -0,0 +1,142 @@
+package com.tranzo.tranzo_user_ms.notification.service;
+
+import com.tranzo.tranzo_user_ms.commons.utility.WriteBehindQueue;
+import com.tranzo.tranzo_user_ms.notification.enums.NotificationType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes fan-out notifications (one row per recipient) off the caller thread.
+ * Jobs go into a {@link WriteBehindQueue} drained by a fixed number of virtual-thread workers, which
+ * coalesce queued jobs and insert their rows with JDBC batch statements. When the queue stays full
+ * for the enqueue timeout the job is written on the caller thread instead, so producers slow down
+ * rather than notifications being dropped.
+ */
+@Service
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO user_notification (notification_id, user_id, trip_id, type, title, body, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int MAX_JOBS_PER_FLUSH = 50;
+
+    private final WriteBehindQueue<NotificationJob> writeBehind;
+    private final int batchSize;
+
+    public NotificationDispatcher(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.notification.dispatch.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${app.notification.dispatch.workers:4}") int workers,
+                                  @Value("${app.notification.dispatch.batch-size:500}") int batchSize,
+                                  @Value("${app.notification.dispatch.enqueue-timeout-ms:50}") long enqueueTimeoutMillis) {
+        this.writeBehind = new WriteBehindQueue<>("notification-writer", jdbcTemplate, transactionManager,
+                queueCapacity, workers, MAX_JOBS_PER_FLUSH, enqueueTimeoutMillis, this::write);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        writeBehind.start();
+    }
+
+    /**
+     * Queue one notification per user. Returns once the job is queued, or once it has been written
+     * on this thread when the queue is full or the dispatcher is stopping.
+     */
+    public void dispatch(List<UUID> userIds, UUID tripId, NotificationType type, String title, String body) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        NotificationJob job = new NotificationJob(List.copyOf(userIds), tripId, type, title, body, LocalDateTime.now());
+        if (!writeBehind.submit(job)) {
+            log.warn("Notification queue full | operation=dispatch | tripId={} | type={} | userCount={} | queueDepth={} | action=CALLER_RUNS",
+                    tripId, type, userIds.size(), writeBehind.queueDepth());
+        }
+    }
+
+    public DispatchStats stats() {
+        return new DispatchStats(writeBehind.queueDepth(), writeBehind.enqueued(), writeBehind.callerRuns(),
+                writeBehind.writtenRows(), writeBehind.failedRows());
+    }
+
+    @PreDestroy
+    public void stop() {
+        writeBehind.stop();
+        log.info("Notification dispatcher stopped | stats={}", stats());
+    }
+
+    /**
+     * Inserts all rows of the coalesced jobs in one batch. If that fails, each job is retried on its
+     * own and a job that fails again is retried row by row, so one bad row (e.g. an over-long title)
+     * only loses itself and the counters report what was really stored.
+     */
+    private void write(List<NotificationJob> jobs) {
+        List<NotificationRow> rows = new ArrayList<>();
+        for (NotificationJob job : jobs) {
+            for (UUID userId : job.userIds()) {
+                rows.add(new NotificationRow(UUID.randomUUID(), userId, job));
+            }
+        }
+        if (writeBehind.tryBatch(INSERT_SQL, rows, batchSize, NotificationDispatcher::bind)) {
+            log.debug("Notifications written | jobs={} | rows={} | queueDepth={}", jobs.size(), rows.size(), writeBehind.queueDepth());
+            return;
+        }
+        if (jobs.size() == 1) {
+            writeRowByRow(jobs.get(0), rows);
+            return;
+        }
+        int from = 0;
+        for (NotificationJob job : jobs) {
+            List<NotificationRow> jobRows = rows.subList(from, from + job.userIds().size());
+            from += jobRows.size();
+            if (!writeBehind.tryBatch(INSERT_SQL, jobRows, batchSize, NotificationDispatcher::bind)) {
+                writeRowByRow(job, jobRows);
+            }
+        }
+    }
+
+    private void writeRowByRow(NotificationJob job, List<NotificationRow> rows) {
+        WriteBehindQueue.RowFailures<NotificationRow> failures = writeBehind.insertEach(INSERT_SQL, rows, NotificationDispatcher::bind);
+        if (!failures.isEmpty()) {
+            log.error("Operation failed | operation=writeNotifications | tripId={} | type={} | rows={} | failedRows={} | reason={}",
+                    job.tripId(), job.type(), rows.size(), failures.rows().size(),
+                    failures.lastFailure().getMessage(), failures.lastFailure());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, NotificationRow row) throws SQLException {
+        NotificationJob job = row.job();
+        ps.setObject(1, row.notificationId());
+        ps.setObject(2, row.userId());
+        ps.setObject(3, job.tripId());
+        ps.setString(4, job.type().name());
+        ps.setString(5, job.title());
+        ps.setString(6, job.body());
+        ps.setTimestamp(7, Timestamp.valueOf(job.createdAt()));
+    }
+
+    public record DispatchStats(int queueDepth, long enqueuedJobs, long callerRunsJobs, long writtenRows, long failedRows) {
+    }
+
+    private record NotificationJob(List<UUID> userIds, UUID tripId, NotificationType type, String title, String body,
+                                   LocalDateTime createdAt) {
+    }
+
+    private record NotificationRow(UUID notificationId, UUID userId, NotificationJob job) {
+    }
+}
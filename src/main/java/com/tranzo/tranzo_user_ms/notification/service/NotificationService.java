@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -23,7 +24,13 @@ import java.util.UUID;
 public class NotificationService {
 
     private final UserNotificationRepository userNotificationRepository;
+    private final NotificationDispatcher notificationDispatcher;
 
+    /**
+     * Writes a single notification in its own transaction, so it also commits when called from an
+     * after-commit event listener.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void createNotification(UUID userId, UUID tripId, NotificationType type, String title, String body) {
         log.info("Processing started | operation=createNotification | userId={} | tripId={} | type={}", userId, tripId, type);
         
@@ -44,15 +51,19 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Fan-out to many users is handed to {@link NotificationDispatcher}, which batch-inserts the rows asynchronously.
+     * Runs outside any transaction: when called from an after-commit listener and the dispatcher writes on this
+     * thread, joining the finished transaction would leave the rows uncommitted.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createNotificationsForUsers(List<UUID> userIds, UUID tripId, NotificationType type, String title, String body) {
         log.info("Processing started | operation=createNotificationsForUsers | tripId={} | type={} | userCount={}", tripId, type, userIds.size());
-        
+
         try {
-            for (UUID userId : userIds) {
-                createNotification(userId, tripId, type, title, body);
-            }
-            
-            log.info("Processing completed | operation=createNotificationsForUsers | tripId={} | type={} | userCount={} | status=SUCCESS", tripId, type, userIds.size());
+            notificationDispatcher.dispatch(userIds, tripId, type, title, body);
+
+            log.info("Processing completed | operation=createNotificationsForUsers | tripId={} | type={} | userCount={} | status=DISPATCHED", tripId, type, userIds.size());
         } catch (Exception e) {
             log.error("Operation failed | operation=createNotificationsForUsers | tripId={} | type={} | userCount={} | reason={}", tripId, type, userIds.size(), e.getMessage(), e);
             throw e;
@@ -116,22 +127,27 @@ public class NotificationService {
         }
     }
 
-    public void markAllAsRead(UUID userId) {
-        log.info("Processing started | operation=markAllAsRead | userId={}", userId);
-        
+    /**
+     * @return number of notifications marked as read
+     */
+    public int markAllAsRead(UUID userId) {
+        return markAllAsReadUpTo(userId, LocalDateTime.now());
+    }
+
+    /**
+     * Marks the user's unread notifications created at or before {@code upTo} as read with a single UPDATE.
+     * Notifications arriving after the client's last refresh stay unread.
+     *
+     * @return number of notifications marked as read
+     */
+    public int markAllAsReadUpTo(UUID userId, LocalDateTime upTo) {
+        log.info("Processing started | operation=markAllAsRead | userId={} | upTo={}", userId, upTo);
+
         try {
-            List<UserNotificationEntity> unreadNotifications = userNotificationRepository.findByUserIdOrderByCreatedAtDesc(userId, Pageable.unpaged())
-                    .getContent()
-                    .stream()
-                    .filter(n -> n.getReadAt() == null)
-                    .toList();
-            
-            for (UserNotificationEntity notification : unreadNotifications) {
-                notification.setReadAt(LocalDateTime.now());
-                userNotificationRepository.save(notification);
-            }
-            
-            log.info("Processing completed | operation=markAllAsRead | userId={} | markedCount={} | status=SUCCESS", userId, unreadNotifications.size());
+            int markedCount = userNotificationRepository.markAllAsReadUpTo(userId, upTo, LocalDateTime.now());
+
+            log.info("Processing completed | operation=markAllAsRead | userId={} | markedCount={} | status=SUCCESS", userId, markedCount);
+            return markedCount;
         } catch (Exception e) {
             log.error("Operation failed | operation=markAllAsRead | userId={} | reason={}", userId, e.getMessage(), e);
             throw e;
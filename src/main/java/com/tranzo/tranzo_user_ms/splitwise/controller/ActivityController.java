@@ -1,15 +1,9 @@
 package com.tranzo.tranzo_user_ms.splitwise.controller;
 
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.ActivityResponse;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.GroupResponse;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserResponse;
-import com.tranzo.tranzo_user_ms.splitwise.entity.Activity;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.CursorPageResponse;
 import com.tranzo.tranzo_user_ms.splitwise.exception.UserNotMemberException;
 import com.tranzo.tranzo_user_ms.splitwise.service.ActivityService;
-import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
-import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
-import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
-import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import com.tranzo.tranzo_user_ms.commons.utility.SecurityUtils;
 import jakarta.security.auth.message.AuthException;
 import lombok.RequiredArgsConstructor;
@@ -18,9 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * REST controller for managing activities.
@@ -33,96 +25,43 @@ import java.util.stream.Collectors;
 public class ActivityController {
 
     private final ActivityService activityService;
-    private final UserRepository userRepository;
-    private final TripRepository tripRepository;
 
     /**
-     * Gets activities for a specific group. Caller must be a group member.
+     * Gets one page of a group's activities, newest first. Caller must be a group member.
+     * Pass nextCursor from the previous page; omit it for the first.
      */
     @GetMapping("/group/{groupId}")
-    public ResponseEntity<List<ActivityResponse>> getGroupActivities(@PathVariable UUID groupId, @RequestParam(defaultValue = "10") int limit, @RequestParam(defaultValue = "0") int offset) throws AuthException {
+    public ResponseEntity<CursorPageResponse<ActivityResponse>> getGroupActivities(@PathVariable UUID groupId,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "10") int size) throws AuthException {
         UUID currentUserId = SecurityUtils.getCurrentUserUuid();
-        log.info("Incoming request | API=/api/splitwise/activities/group/{} | method=GET | userId={} | limit={} | offset={}", groupId, currentUserId, limit, offset);
+        log.info("Incoming request | API=/api/splitwise/activities/group/{} | method=GET | userId={} | size={} | hasCursor={}", groupId, currentUserId, size, cursor != null);
 
-        List<Activity> activities;
+        CursorPageResponse<ActivityResponse> response;
         try {
-            activities = activityService.getGroupActivities(groupId, currentUserId, limit, offset);
+            response = activityService.getGroupActivities(groupId, currentUserId, cursor, size);
         } catch (UserNotMemberException e) {
             log.warn("Access denied | operation=getGroupActivities | userId={} | groupId={} | reason=NOT_MEMBER", currentUserId, groupId);
             return ResponseEntity.status(403).build();
         }
-        List<ActivityResponse> response = activities.stream()
-                .map(this::convertToActivityResponse)
-                .collect(Collectors.toList());
         
-        log.info("Group activities retrieved | userId={} | groupId={} | activitiesCount={} | status=SUCCESS", currentUserId, groupId, response.size());
+        log.info("Group activities retrieved | userId={} | groupId={} | activitiesCount={} | status=SUCCESS", currentUserId, groupId, response.getItems().size());
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Gets activities for the current user.
+     * Gets one page of the current user's activities, newest first.
      */
     @GetMapping("/my-activities")
-    public ResponseEntity<List<ActivityResponse>> getUserActivities(
-            @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(defaultValue = "0") int offset) throws AuthException {
+    public ResponseEntity<CursorPageResponse<ActivityResponse>> getUserActivities(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) throws AuthException {
         UUID currentUserId = SecurityUtils.getCurrentUserUuid();
-        log.info("Incoming request | API=/api/splitwise/activities/my-activities | method=GET | userId={} | limit={} | offset={}", currentUserId, limit, offset);
+        log.info("Incoming request | API=/api/splitwise/activities/my-activities | method=GET | userId={} | size={} | hasCursor={}", currentUserId, size, cursor != null);
 
-        List<Activity> activities = activityService.getUserActivities(currentUserId, limit, offset);
-        List<ActivityResponse> response = activities.stream()
-                .map(this::convertToActivityResponse)
-                .collect(Collectors.toList());
+        CursorPageResponse<ActivityResponse> response = activityService.getUserActivities(currentUserId, cursor, size);
         
-        log.info("User activities retrieved | userId={} | activitiesCount={} | status=SUCCESS", currentUserId, response.size());
+        log.info("User activities retrieved | userId={} | activitiesCount={} | status=SUCCESS", currentUserId, response.getItems().size());
         return ResponseEntity.ok(response);
     }
-
-    /**
-     * Converts Activity entity to ActivityResponse DTO.
-     */
-    private ActivityResponse convertToActivityResponse(Activity activity) {
-        String groupName = null;
-        if (activity.getGroup() != null && activity.getGroup().getTripId() != null) {
-            groupName = tripRepository.findById(activity.getGroup().getTripId())
-                    .map(TripEntity::getTripTitle)
-                    .orElse(activity.getGroup().getDescription());
-        } else if (activity.getGroup() != null) {
-            groupName = activity.getGroup().getDescription();
-        }
-        return ActivityResponse.builder()
-                .id(activity.getId())
-                .group(activity.getGroup() != null ? 
-                        GroupResponse.builder()
-                                .id(activity.getGroup().getId())
-                                .name(groupName)
-                                .build() : null)
-                .user(getUserResponse(activity.getUserId()))
-                .activityType(activity.getActivityType())
-                .description(activity.getDescription())
-                .relatedId(activity.getRelatedId())
-                .relatedType(activity.getRelatedType())
-                .oldValue(activity.getOldValue())
-                .newValue(activity.getNewValue())
-                .createdAt(activity.getCreatedAt())
-                .build();
-    }
-
-    /**
-     * Gets UserResponse from user UUID.
-     */
-    private UserResponse getUserResponse(UUID userId) {
-        if (userId == null) return null;
-        
-        UsersEntity user = userRepository.findById(userId).orElse(null);
-        if (user == null) return null;
-        
-        return UserResponse.builder()
-                .userUuid(user.getUserUuid())
-                .name(user.getUserProfileEntity() != null ?
-                        user.getUserProfileEntity().getFirstName() + " " + 
-                        user.getUserProfileEntity().getLastName() : "")
-                .email(user.getEmail())
-                .build();
-    }
 }
@@ -69,6 +69,20 @@ public class BalanceController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Rebuilds the group's balances from its expenses and settlements (group admin only).
+     */
+    @PostMapping("/group/{groupId}/reconcile")
+    public ResponseEntity<ResponseDto<Integer>> reconcileGroupBalances(@PathVariable UUID groupId) throws AuthException {
+        UUID userId = SecurityUtils.getCurrentUserUuid();
+        log.info("Incoming request | API=/api/splitwise/balances/group/{}/reconcile | method=POST | userId={}", groupId, userId);
+
+        int balances = balanceService.reconcileGroupBalances(groupId, userId);
+
+        log.info("Group balances reconciled | groupId={} | balances={} | status=SUCCESS", groupId, balances);
+        return ResponseEntity.ok(ResponseDto.success("Balances reconciled successfully", balances));
+    }
+
     /**
      * Gets user's splitwise dashboard with comprehensive balance summary.
      */
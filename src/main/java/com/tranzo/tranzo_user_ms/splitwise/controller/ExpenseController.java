@@ -3,6 +3,7 @@ package com.tranzo.tranzo_user_ms.splitwise.controller;
 import com.tranzo.tranzo_user_ms.commons.utility.SecurityUtils;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.CreateExpenseRequest;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.UpdateExpenseRequest;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.CursorPageResponse;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseResponse;
 import com.tranzo.tranzo_user_ms.splitwise.service.ExpenseService;
 import jakarta.security.auth.message.AuthException;
@@ -15,7 +16,6 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -83,28 +83,31 @@ public class ExpenseController {
     }
 
     /**
-     * Gets all expenses for a group.
+     * Gets one page of a group's expenses, newest first. Pass nextCursor from the previous page; omit it for the first.
      */
     @GetMapping("/group/{groupId}")
-    public ResponseEntity<List<ExpenseResponse>> getGroupExpenses(@PathVariable UUID groupId) throws AuthException {
+    public ResponseEntity<CursorPageResponse<ExpenseResponse>> getGroupExpenses(@PathVariable UUID groupId,
+                                                                                @RequestParam(required = false) String cursor,
+                                                                                @RequestParam(defaultValue = "20") int size) throws AuthException {
         UUID userId = SecurityUtils.getCurrentUserUuid();
-        log.info("Incoming request | API=/api/splitwise/expenses/group/{} | method=GET | userId={}", groupId, userId);
-        List<ExpenseResponse> response = expenseService.getGroupExpenses(groupId, userId);
+        log.info("Incoming request | API=/api/splitwise/expenses/group/{} | method=GET | userId={} | hasCursor={}", groupId, userId, cursor != null);
+        CursorPageResponse<ExpenseResponse> response = expenseService.getGroupExpenses(groupId, userId, cursor, size);
         
-        log.info("Group expenses retrieved | userId={} | groupId={} | expensesCount={} | status=SUCCESS", userId, groupId, response.size());
+        log.info("Group expenses retrieved | userId={} | groupId={} | expensesCount={} | status=SUCCESS", userId, groupId, response.getItems().size());
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Gets expenses for the current user.
+     * Gets one page of the current user's expenses, newest first.
      */
     @GetMapping("/my-expenses")
-    public ResponseEntity<List<ExpenseResponse>> getUserExpenses() throws AuthException {
+    public ResponseEntity<CursorPageResponse<ExpenseResponse>> getUserExpenses(@RequestParam(required = false) String cursor,
+                                                                               @RequestParam(defaultValue = "20") int size) throws AuthException {
         UUID userId = SecurityUtils.getCurrentUserUuid();
-        log.info("Incoming request | API=/api/splitwise/expenses/my-expenses | method=GET | userId={}", userId);
-        List<ExpenseResponse> response = expenseService.getUserExpenses(userId);
+        log.info("Incoming request | API=/api/splitwise/expenses/my-expenses | method=GET | userId={} | hasCursor={}", userId, cursor != null);
+        CursorPageResponse<ExpenseResponse> response = expenseService.getUserExpenses(userId, cursor, size);
         
-        log.info("User expenses retrieved | userId={} | expensesCount={} | status=SUCCESS", userId, response.size());
+        log.info("User expenses retrieved | userId={} | expensesCount={} | status=SUCCESS", userId, response.getItems().size());
         return ResponseEntity.ok(response);
     }
 }
@@ -3,6 +3,7 @@ package com.tranzo.tranzo_user_ms.splitwise.controller;
 import com.tranzo.tranzo_user_ms.commons.utility.SecurityUtils;
 import com.tranzo.tranzo_user_ms.splitwise.dto.SettlementProposal;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.CreateSettlementRequest;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.CursorPageResponse;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.SettlementResponse;
 import com.tranzo.tranzo_user_ms.splitwise.service.SettlementService;
 import jakarta.security.auth.message.AuthException;
@@ -69,16 +70,18 @@ public class SettlementController {
     }
 
     /**
-     * Gets all settlements for a group.
+     * Gets one page of a group's settlements, newest first. Pass nextCursor from the previous page; omit it for the first.
      */
     @GetMapping("/group/{groupId}")
-    public ResponseEntity<List<SettlementResponse>> getGroupSettlements(@PathVariable UUID groupId) {
-        log.info("Incoming request | API=/api/splitwise/settlements/group/{} | method=GET", groupId);
+    public ResponseEntity<CursorPageResponse<SettlementResponse>> getGroupSettlements(@PathVariable UUID groupId,
+                                                                                      @RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(defaultValue = "20") int size) {
+        log.info("Incoming request | API=/api/splitwise/settlements/group/{} | method=GET | hasCursor={}", groupId, cursor != null);
         
         try {
-            List<SettlementResponse> response = settlementService.getGroupSettlements(groupId);
+            CursorPageResponse<SettlementResponse> response = settlementService.getGroupSettlements(groupId, cursor, size);
             
-            log.info("Group settlements retrieved | groupId={} | settlementsCount={} | status=SUCCESS", groupId, response.size());
+            log.info("Group settlements retrieved | groupId={} | settlementsCount={} | status=SUCCESS", groupId, response.getItems().size());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("Request failed | API=/api/splitwise/settlements/group/{} | method=GET | reason={}", groupId, e.getMessage(), e);
@@ -87,17 +90,18 @@ public class SettlementController {
     }
 
     /**
-     * Gets settlements for the current user.
+     * Gets one page of the current user's settlements, newest first.
      */
     @GetMapping("/my-settlements")
-    public ResponseEntity<List<SettlementResponse>> getUserSettlements() throws AuthException {
+    public ResponseEntity<CursorPageResponse<SettlementResponse>> getUserSettlements(@RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(defaultValue = "20") int size) throws AuthException {
         UUID userId = SecurityUtils.getCurrentUserUuid();
-        log.info("Incoming request | API=/api/splitwise/settlements/my-settlements | method=GET | userId={}", userId);
+        log.info("Incoming request | API=/api/splitwise/settlements/my-settlements | method=GET | userId={} | hasCursor={}", userId, cursor != null);
         
         try {
-            List<SettlementResponse> response = settlementService.getUserSettlements(userId);
+            CursorPageResponse<SettlementResponse> response = settlementService.getUserSettlements(userId, cursor, size);
             
-            log.info("User settlements retrieved | userId={} | settlementsCount={} | status=SUCCESS", userId, response.size());
+            log.info("User settlements retrieved | userId={} | settlementsCount={} | status=SUCCESS", userId, response.getItems().size());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("Request failed | API=/api/splitwise/settlements/my-settlements | method=GET | userId={} | reason={}", userId, e.getMessage(), e);
@@ -107,13 +111,15 @@ public class SettlementController {
 
     /**
      * Gets optimized settlement proposals for a group.
+     * With exact=true, small groups get the true minimum number of transfers; larger ones fall back to greedy.
      */
     @GetMapping("/optimize/{groupId}")
-    public ResponseEntity<List<SettlementProposal>> getOptimizedSettlements(@PathVariable UUID groupId) {
-        log.info("Incoming request | API=/api/splitwise/settlements/optimize/{} | method=GET", groupId);
+    public ResponseEntity<List<SettlementProposal>> getOptimizedSettlements(@PathVariable UUID groupId,
+                                                                            @RequestParam(defaultValue = "false") boolean exact) {
+        log.info("Incoming request | API=/api/splitwise/settlements/optimize/{} | method=GET | exact={}", groupId, exact);
         
         try {
-            List<SettlementProposal> response = settlementService.getOptimizedSettlements(groupId);
+            List<SettlementProposal> response = settlementService.getOptimizedSettlements(groupId, exact);
             
             log.info("Optimized settlements generated | groupId={} | proposalsCount={} | status=SUCCESS", groupId, response.size());
             return ResponseEntity.ok(response);
@@ -0,0 +1,42 @@
+package com.tranzo.tranzo_user_ms.splitwise.dto;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Signed change to one user pair's balance, in the canonical (lowUser, highUser) orientation
+ * used by splitwise_balances: a positive amount means lowUser owes highUser more.
+ */
+public record BalanceDelta(
+        UUID lowUser,
+        UUID highUser,
+        BigDecimal amount
+) {
+    /**
+     * Canonical row order in PostgreSQL's uuid ordering. Writers that upsert several pairs in this
+     * order take the row locks in the same sequence and cannot deadlock on each other.
+     */
+    public static final Comparator<BalanceDelta> LOCK_ORDER = (a, b) -> {
+        int cmp = compare(a.lowUser(), b.lowUser());
+        return cmp != 0 ? cmp : compare(a.highUser(), b.highUser());
+    };
+
+    /**
+     * Delta for "debtor owes creditor amount more", swapped into canonical order.
+     */
+    public static BalanceDelta owes(UUID debtor, UUID creditor, BigDecimal amount) {
+        return compare(debtor, creditor) < 0
+                ? new BalanceDelta(debtor, creditor, amount)
+                : new BalanceDelta(creditor, debtor, amount.negate());
+    }
+
+    /**
+     * Unsigned byte-order comparison, matching how PostgreSQL orders uuid values.
+     * {@link UUID#compareTo} compares signed longs and disagrees for UUIDs with the top bit set.
+     */
+    static int compare(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,24 @@
+package com.tranzo.tranzo_user_ms.splitwise.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for one keyset-paginated page of expenses or settlements.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    @Builder.Default
+    private List<T> items = new ArrayList<>();
+    /** Opaque token for the next page; null when there are no more items. */
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -7,19 +7,20 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
- * Entity representing the balance between two users in a group.
- * Tracks how much one user owes another.
+ * Entity representing the net balance between two users in a group.
+ * Each pair has exactly one row, keyed by (lowUser, highUser) with lowUser &lt; highUser,
+ * and a signed amount: positive means lowUser owes highUser, negative means highUser owes lowUser.
+ * Rows are written only through {@code BalanceRepository#applyDeltas}, which adds to the amount atomically.
  */
 @Entity
 @Table(name = "splitwise_balances",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "owed_by", "owed_to"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "low_user", "high_user"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,14 +35,13 @@ public class Balance {
     @JoinColumn(name = "group_id", nullable = false)
     private SplitwiseGroup group;
 
-    @Column(name = "owed_by", nullable = false)
-    private UUID owedBy;
+    @Column(name = "low_user", nullable = false)
+    private UUID lowUser;
 
-    @Column(name = "owed_to", nullable = false)
-    private UUID owedTo;
+    @Column(name = "high_user", nullable = false)
+    private UUID highUser;
 
     @NotNull(message = "Balance amount is required")
-    @DecimalMin(value = "0.01", message = "Balance amount must be greater than 0")
     @Column(name = "amount", nullable = false, precision = 19, scale = 2)
     private BigDecimal amount;
 
@@ -50,115 +50,47 @@ public class Balance {
     private LocalDateTime lastUpdated;
 
     /**
-     * Updates the balance amount.
-     * If the new amount is zero or negative, this balance should be deleted.
+     * Gets the user who currently owes on this pair.
      */
-    public void updateAmount(BigDecimal newAmount) {
-        if (newAmount.compareTo(BigDecimal.ZERO) <= 0) {
-            this.amount = BigDecimal.ZERO;
-        } else {
-            this.amount = newAmount;
-        }
-        this.lastUpdated = LocalDateTime.now();
+    public UUID getOwedBy() {
+        return amount.signum() >= 0 ? lowUser : highUser;
     }
 
     /**
-     * Adds to the current balance amount.
+     * Gets the user who is currently owed on this pair.
      */
-    public void addAmount(BigDecimal amountToAdd) {
-        BigDecimal newAmount = this.amount.add(amountToAdd);
-        updateAmount(newAmount);
+    public UUID getOwedTo() {
+        return amount.signum() >= 0 ? highUser : lowUser;
     }
 
     /**
-     * Subtracts from the current balance amount.
+     * Gets the outstanding amount, always non-negative.
      */
-    public void subtractAmount(BigDecimal amountToSubtract) {
-        BigDecimal newAmount = this.amount.subtract(amountToSubtract);
-        updateAmount(newAmount);
+    public BigDecimal getOwedAmount() {
+        return amount.abs();
     }
 
     /**
-     * Checks if this balance should be deleted (amount is zero or negative).
+     * Gets the other user of the pair.
      */
-    public boolean shouldDelete() {
-        return amount.compareTo(BigDecimal.ZERO) <= 0;
+    public UUID getOtherUser(UUID userId) {
+        return lowUser.equals(userId) ? highUser : lowUser;
     }
 
     /**
-     * Gets a human-readable description of this balance.
+     * Gets how much fromUserId owes toUserId on this pair (zero when the debt runs the other way).
      */
-    public String getDescription() {
-        return String.format("User %s owes User %s: $%.2f in group %d", 
-                           owedBy, owedTo, amount, group.getId());
+    public BigDecimal getAmountOwed(UUID fromUserId, UUID toUserId) {
+        BigDecimal owed = fromUserId.equals(lowUser) && toUserId.equals(highUser) ? amount
+                : fromUserId.equals(highUser) && toUserId.equals(lowUser) ? amount.negate()
+                : BigDecimal.ZERO;
+        return owed.max(BigDecimal.ZERO);
     }
 
     /**
-     * Validates that this balance is valid.
+     * Checks if this pair is settled.
      */
-    public boolean isValid() {
-        return group != null && 
-               owedBy != null && 
-               owedTo != null && 
-               !owedBy.equals(owedTo) && // Users should be different
-               amount != null && 
-               amount.compareTo(BigDecimal.ZERO) > 0;
-    }
-
-    /**
-     * Creates a reverse balance (owedTo owes owedBy).
-     */
-    public Balance createReverse() {
-        return Balance.builder()
-                .group(this.group)
-                .owedBy(this.owedTo)
-                .owedTo(this.owedBy)
-                .amount(this.amount)
-                .build();
-    }
-
-    /**
-     * Merges this balance with another balance of the same direction.
-     */
-    public void mergeWith(Balance other) {
-        if (canMergeWith(other)) {
-            this.addAmount(other.getAmount());
-        }
-    }
-
-    /**
-     * Checks if this balance can be merged with another.
-     */
-    public boolean canMergeWith(Balance other) {
-        return other != null &&
-               this.group.getId().equals(other.getGroup().getId()) &&
-               this.owedBy.equals(other.getOwedBy()) &&
-               this.owedTo.equals(other.getOwedTo());
-    }
-
-    /**
-     * Calculates the net balance when considering a reverse balance.
-     * Positive means this direction owes more, negative means reverse owes more.
-     */
-    public BigDecimal calculateNetWith(Balance reverseBalance) {
-        if (reverseBalance == null) {
-            return this.amount;
-        }
-        
-        if (isReverseOf(reverseBalance)) {
-            return this.amount.subtract(reverseBalance.getAmount());
-        }
-        
-        return this.amount; // Not reverse, return original amount
-    }
-
-    /**
-     * Checks if another balance is the reverse of this one.
-     */
-    public boolean isReverseOf(Balance other) {
-        return other != null &&
-               this.group.getId().equals(other.getGroup().getId()) &&
-               this.owedBy.equals(other.getOwedTo()) &&
-               this.owedTo.equals(other.getOwedBy());
+    public boolean isSettled() {
+        return amount.signum() == 0;
     }
 }
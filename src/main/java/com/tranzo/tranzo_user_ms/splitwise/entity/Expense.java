@@ -15,7 +15,9 @@ import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -57,7 +59,7 @@ public class Expense {
     @Column(name = "split_type", nullable = false)
     private SplitType splitType;
 
-    @Column(name = "expense_date")
+    @Column(name = "expense_date", nullable = false)
     private LocalDateTime expenseDate;
 
     @Column(name = "category", length = 50)
@@ -157,6 +159,17 @@ public class Expense {
                 .orElse(BigDecimal.ZERO);
     }
 
+    /**
+     * Gets each split user's share, summing duplicate entries for the same user.
+     */
+    public Map<UUID, BigDecimal> getSharesByUser() {
+        Map<UUID, BigDecimal> shares = new LinkedHashMap<>();
+        for (ExpenseSplit split : splits) {
+            shares.merge(split.getUserId(), split.getAmount(), BigDecimal::add);
+        }
+        return shares;
+    }
+
     /**
      * Checks if a user is involved in this expense.
      */
@@ -16,6 +16,7 @@ public enum SplitwiseErrorCode {
     
     // Member errors
     USER_NOT_MEMBER("USER_NOT_MEMBER"),
+    USER_NOT_ADMIN("USER_NOT_ADMIN"),
     
     // Balance errors
     INSUFFICIENT_BALANCE("INSUFFICIENT_BALANCE");
@@ -0,0 +1,15 @@
+package com.tranzo.tranzo_user_ms.splitwise.exception;
+
+import com.tranzo.tranzo_user_ms.splitwise.enums.SplitwiseErrorCode;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a group member attempts an admin-only operation.
+ */
+public class UserNotAdminException extends SplitwiseException {
+
+    public UserNotAdminException(UUID userId, UUID groupId) {
+        super(SplitwiseErrorCode.USER_NOT_ADMIN, 403, String.format("User %s is not an admin of group %s", userId, groupId));
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,14 +24,36 @@ public interface ActivityRepository extends JpaRepository<Activity, UUID> {
     List<Activity> findByGroupIdOrderByCreatedAtDesc(@Param("groupId") UUID groupId);
 
     /**
-     * Finds activities for a specific group with pagination.
+     * First page of a group's activities, newest first.
      */
-    @Query("SELECT a FROM Activity a WHERE a.group.id = :groupId ORDER BY a.createdAt DESC")
-    List<Activity> findByGroupIdOrderByCreatedAtDesc(@Param("groupId") UUID groupId, Pageable pageable);
+    @Query("SELECT a FROM Activity a WHERE a.group.id = :groupId ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findPageByGroupId(@Param("groupId") UUID groupId, Pageable pageable);
+
+    /**
+     * Keyset variant of findPageByGroupId: activities strictly after the (createdAt, id) cursor.
+     */
+    @Query("SELECT a FROM Activity a WHERE a.group.id = :groupId " +
+           "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findPageByGroupIdAfter(@Param("groupId") UUID groupId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    /**
+     * First page of activities performed by a user, newest first.
+     */
+    @Query("SELECT a FROM Activity a WHERE a.userId = :userId ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findPageByUserId(@Param("userId") UUID userId, Pageable pageable);
 
     /**
-     * Finds activities for a specific user with pagination.
+     * Keyset variant of findPageByUserId: activities strictly after the (createdAt, id) cursor.
      */
-    @Query("SELECT a FROM Activity a WHERE a.userId = :userId ORDER BY a.createdAt DESC")
-    List<Activity> findByUserIdOrderByCreatedAtDesc(@Param("userId") UUID userId, Pageable pageable);
+    @Query("SELECT a FROM Activity a WHERE a.userId = :userId " +
+           "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package com.tranzo.tranzo_user_ms.splitwise.repository;
 
 import com.tranzo.tranzo_user_ms.splitwise.entity.Balance;
+import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,15 +9,17 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository interface for Balance entity operations.
+ * Pair rows are canonical (lowUser, highUser) with a signed amount; see {@link Balance}.
  */
 @Repository
-public interface BalanceRepository extends JpaRepository<Balance, UUID> {
+public interface BalanceRepository extends JpaRepository<Balance, UUID>, BalanceRepositoryCustom {
 
     /**
      * Finds balances for a specific group.
@@ -25,30 +28,32 @@ public interface BalanceRepository extends JpaRepository<Balance, UUID> {
     List<Balance> findByGroupId(@Param("groupId") UUID groupId);
 
     /**
-     * Finds balances between two specific users in a group.
+     * Finds the balance row of a user pair in a group; lowUser must be the smaller UUID.
      */
-    @Query("SELECT b FROM Balance b WHERE b.group.id = :groupId AND b.owedBy = :owedBy AND b.owedTo = :owedTo")
-    Optional<Balance> findByGroupIdAndOwedByAndOwedTo(@Param("groupId") UUID groupId, @Param("owedBy") UUID owedBy, @Param("owedTo") UUID owedTo);
+    @Query("SELECT b FROM Balance b WHERE b.group.id = :groupId AND b.lowUser = :lowUser AND b.highUser = :highUser")
+    Optional<Balance> findPair(@Param("groupId") UUID groupId, @Param("lowUser") UUID lowUser, @Param("highUser") UUID highUser);
 
     /**
-     * Finds all balances involving a specific user in a group.
+     * Finds all unsettled balances involving a specific user in a group.
      */
     @Query("SELECT b FROM Balance b WHERE b.group.id = :groupId AND " +
-           "(b.owedBy = :userId OR b.owedTo = :userId)")
+           "(b.lowUser = :userId OR b.highUser = :userId) AND b.amount <> 0")
     List<Balance> findBalancesForUserInGroup(@Param("groupId") UUID groupId, @Param("userId") UUID userId);
 
     /**
      * Gets total amount owed by a user in a group.
      */
-    @Query("SELECT COALESCE(SUM(b.amount), 0) FROM Balance b " +
-           "WHERE b.group.id = :groupId AND b.owedBy = :userId")
+    @Query("SELECT COALESCE(SUM(CASE WHEN b.lowUser = :userId AND b.amount > 0 THEN b.amount " +
+           "WHEN b.highUser = :userId AND b.amount < 0 THEN -b.amount ELSE 0 END), 0) FROM Balance b " +
+           "WHERE b.group.id = :groupId AND (b.lowUser = :userId OR b.highUser = :userId)")
     BigDecimal getTotalOwedByUserInGroup(@Param("groupId") UUID groupId, @Param("userId") UUID userId);
 
     /**
      * Gets total amount owed to a user in a group.
      */
-    @Query("SELECT COALESCE(SUM(b.amount), 0) FROM Balance b " +
-           "WHERE b.group.id = :groupId AND b.owedTo = :userId")
+    @Query("SELECT COALESCE(SUM(CASE WHEN b.highUser = :userId AND b.amount > 0 THEN b.amount " +
+           "WHEN b.lowUser = :userId AND b.amount < 0 THEN -b.amount ELSE 0 END), 0) FROM Balance b " +
+           "WHERE b.group.id = :groupId AND (b.lowUser = :userId OR b.highUser = :userId)")
     BigDecimal getTotalOwedToUserInGroup(@Param("groupId") UUID groupId, @Param("userId") UUID userId);
 
     /**
@@ -57,16 +62,46 @@ public interface BalanceRepository extends JpaRepository<Balance, UUID> {
      * Service layer resolves user details (name, email) via UserRepository.
      */
     @Query("SELECT gm.userId, " +
-           "COALESCE(SUM(CASE WHEN b.owedTo = gm.userId THEN b.amount ELSE 0 END), 0), " +
-           "COALESCE(SUM(CASE WHEN b.owedBy = gm.userId THEN b.amount ELSE 0 END), 0), " +
-           "COALESCE(SUM(CASE WHEN b.owedTo = gm.userId THEN b.amount ELSE 0 END), 0) - " +
-           "COALESCE(SUM(CASE WHEN b.owedBy = gm.userId THEN b.amount ELSE 0 END), 0) " +
+           "COALESCE(SUM(CASE WHEN b.highUser = gm.userId AND b.amount > 0 THEN b.amount " +
+           "WHEN b.lowUser = gm.userId AND b.amount < 0 THEN -b.amount ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN b.lowUser = gm.userId AND b.amount > 0 THEN b.amount " +
+           "WHEN b.highUser = gm.userId AND b.amount < 0 THEN -b.amount ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN b.highUser = gm.userId THEN b.amount " +
+           "WHEN b.lowUser = gm.userId THEN -b.amount ELSE 0 END), 0) " +
            "FROM GroupMember gm " +
-           "LEFT JOIN Balance b ON b.group = gm.group AND (b.owedBy = gm.userId OR b.owedTo = gm.userId) " +
+           "LEFT JOIN Balance b ON b.group = gm.group AND (b.lowUser = gm.userId OR b.highUser = gm.userId) " +
            "WHERE gm.group.id = :groupId " +
            "GROUP BY gm.userId")
     List<Object[]> getBalanceSummaryForGroup(@Param("groupId") UUID groupId);
 
+    /**
+     * Dashboard rows for a user in one pass: one row per (group, counterparty) with an unsettled balance,
+     * limited to the groups the dashboard shows (manual groups, and groups of published/ongoing/completed
+     * trips the user is an active member of). Trip columns are null for manual groups.
+     * Returns: groupId, counterpartyId, amount (positive = user owes counterparty),
+     * tripId, tripTitle, tripStartDate, tripDestination, tripStatus.
+     */
+    @Query("""
+        SELECT g.id,
+               CASE WHEN b.lowUser = :userId THEN b.highUser ELSE b.lowUser END,
+               CASE WHEN b.lowUser = :userId THEN b.amount ELSE -b.amount END,
+               t.tripId, t.tripTitle, t.tripStartDate, t.tripDestination, t.tripStatus
+        FROM Balance b
+        JOIN b.group g
+        LEFT JOIN TripEntity t ON t.tripId = g.tripId
+        WHERE (b.lowUser = :userId OR b.highUser = :userId)
+          AND b.amount <> 0
+          AND EXISTS (SELECT 1 FROM GroupMember gm WHERE gm.group = g AND gm.userId = :userId)
+          AND (t.tripId IS NULL
+               OR (t.tripStatus IN :tripStatuses
+                   AND t.splitwiseGroupId = g.id
+                   AND EXISTS (SELECT 1 FROM TripMemberEntity tm
+                               WHERE tm.trip = t AND tm.userId = :userId AND tm.status = 'ACTIVE')))
+        ORDER BY g.id
+    """)
+    List<Object[]> findDashboardRowsForUser(@Param("userId") UUID userId,
+                                            @Param("tripStatuses") Collection<TripStatus> tripStatuses);
+
     /**
      * Deletes all balances for a group.
      */
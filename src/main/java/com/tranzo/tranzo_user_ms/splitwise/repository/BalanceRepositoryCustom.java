@@ -0,0 +1,20 @@
+package com.tranzo.tranzo_user_ms.splitwise.repository;
+
+import com.tranzo.tranzo_user_ms.splitwise.dto.BalanceDelta;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Balance writes that need a native upsert rather than entity load-and-save.
+ */
+public interface BalanceRepositoryCustom {
+
+    /**
+     * Adds each delta to its pair's signed amount, creating missing pair rows, in one statement.
+     * Pairs must be distinct within a call.
+     *
+     * @return number of rows inserted or updated
+     */
+    int applyDeltas(UUID groupId, Collection<BalanceDelta> deltas);
+}
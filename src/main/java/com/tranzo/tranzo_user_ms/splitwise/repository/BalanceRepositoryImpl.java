@@ -0,0 +1,63 @@
+package com.tranzo.tranzo_user_ms.splitwise.repository;
+
+import com.tranzo.tranzo_user_ms.splitwise.dto.BalanceDelta;
+import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Upserts pair balances with a single multi-row INSERT ... ON CONFLICT DO UPDATE, so concurrent
+ * writers add to the stored amount instead of overwriting each other's read-modify-write.
+ * Rows are bound in {@link BalanceDelta#LOCK_ORDER} so two statements touching overlapping pairs
+ * lock them in the same order.
+ * <p>
+ * Every write first takes a shared lock on the group row. Incremental writers do not block each
+ * other, but they wait for (and are waited on by) a full rebuild, which locks the group exclusively
+ * before reading expenses and settlements.
+ */
+public class BalanceRepositoryImpl implements BalanceRepositoryCustom {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO splitwise_balances (id, group_id, low_user, high_user, amount, last_updated) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final String ON_CONFLICT =
+            " ON CONFLICT (group_id, low_user, high_user) DO UPDATE" +
+            " SET amount = splitwise_balances.amount + EXCLUDED.amount, last_updated = EXCLUDED.last_updated";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int applyDeltas(UUID groupId, Collection<BalanceDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < deltas.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+        }
+        sql.append(ON_CONFLICT);
+
+        entityManager.find(SplitwiseGroup.class, groupId, LockModeType.PESSIMISTIC_READ);
+        List<BalanceDelta> ordered = deltas.stream().sorted(BalanceDelta.LOCK_ORDER).toList();
+        Query query = entityManager.createNativeQuery(sql.toString());
+        LocalDateTime now = LocalDateTime.now();
+        int position = 1;
+        for (BalanceDelta delta : ordered) {
+            query.setParameter(position++, UUID.randomUUID());
+            query.setParameter(position++, groupId);
+            query.setParameter(position++, delta.lowUser());
+            query.setParameter(position++, delta.highUser());
+            query.setParameter(position++, delta.amount());
+            query.setParameter(position++, now);
+        }
+        return query.executeUpdate();
+    }
+}
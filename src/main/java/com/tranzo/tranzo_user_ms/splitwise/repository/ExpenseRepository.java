@@ -1,17 +1,22 @@
 package com.tranzo.tranzo_user_ms.splitwise.repository;
 
 import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository interface for Expense entity operations.
+ * Listings page over IDs in (expenseDate DESC, id DESC) order, then load that page with
+ * {@link #findAllWithSplitsByIdIn}, so the splits fetch join never runs over an unbounded result.
  */
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
@@ -22,12 +27,47 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
     List<Expense> findByGroupId(UUID groupId);
 
     /**
-     * Finds expenses involving a specific user (either as payer or in splits).
+     * First page of expense IDs for a group, newest first.
      */
-    @Query("SELECT DISTINCT e FROM Expense e " +
-           "LEFT JOIN e.splits s " +
-           "WHERE e.paidBy = :userId OR s.userId = :userId")
-    List<Expense> findExpensesInvolvingUser(@Param("userId") UUID userId);
+    @Query("SELECT e.id FROM Expense e WHERE e.groupId = :groupId ORDER BY e.expenseDate DESC, e.id DESC")
+    List<UUID> findPageIdsByGroupId(@Param("groupId") UUID groupId, Pageable pageable);
+
+    /**
+     * Keyset variant of findPageIdsByGroupId: expense IDs strictly after the (expenseDate, id) cursor.
+     */
+    @Query("SELECT e.id FROM Expense e WHERE e.groupId = :groupId " +
+           "AND (e.expenseDate < :expenseDate OR (e.expenseDate = :expenseDate AND e.id < :id)) " +
+           "ORDER BY e.expenseDate DESC, e.id DESC")
+    List<UUID> findPageIdsByGroupIdAfter(@Param("groupId") UUID groupId,
+                                         @Param("expenseDate") LocalDateTime expenseDate,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    /**
+     * First page of IDs of expenses involving a user (either as payer or in splits), newest first.
+     */
+    @Query("SELECT e.id FROM Expense e " +
+           "WHERE (e.paidBy = :userId OR EXISTS (SELECT 1 FROM ExpenseSplit s WHERE s.expense = e AND s.userId = :userId)) " +
+           "ORDER BY e.expenseDate DESC, e.id DESC")
+    List<UUID> findPageIdsInvolvingUser(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Keyset variant of findPageIdsInvolvingUser.
+     */
+    @Query("SELECT e.id FROM Expense e " +
+           "WHERE (e.paidBy = :userId OR EXISTS (SELECT 1 FROM ExpenseSplit s WHERE s.expense = e AND s.userId = :userId)) " +
+           "AND (e.expenseDate < :expenseDate OR (e.expenseDate = :expenseDate AND e.id < :id)) " +
+           "ORDER BY e.expenseDate DESC, e.id DESC")
+    List<UUID> findPageIdsInvolvingUserAfter(@Param("userId") UUID userId,
+                                             @Param("expenseDate") LocalDateTime expenseDate,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    /**
+     * Loads one page of expenses with their splits in a single query. Order is not preserved.
+     */
+    @Query("SELECT DISTINCT e FROM Expense e LEFT JOIN FETCH e.splits WHERE e.id IN :ids")
+    List<Expense> findAllWithSplitsByIdIn(@Param("ids") Collection<UUID> ids);
 
     /**
      * Finds an expense by ID with its splits eagerly loaded.
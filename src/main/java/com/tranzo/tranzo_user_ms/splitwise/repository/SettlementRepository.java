@@ -1,16 +1,21 @@
 package com.tranzo.tranzo_user_ms.splitwise.repository;
 
 import com.tranzo.tranzo_user_ms.splitwise.entity.Settlement;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Repository interface for Settlement entity operations.
+ * Listings page over IDs in (settledAt DESC, id DESC) order, then load that page with
+ * {@link #findAllWithSettledExpensesByIdIn}.
  */
 @Repository
 public interface SettlementRepository extends JpaRepository<Settlement, UUID> {
@@ -22,8 +27,45 @@ public interface SettlementRepository extends JpaRepository<Settlement, UUID> {
     List<Settlement> findByGroupId(@Param("groupId") UUID groupId);
 
     /**
-     * Finds settlements involving a specific user (either as payer or receiver).
+     * First page of settlement IDs for a group, newest first.
      */
-    @Query("SELECT s FROM Settlement s WHERE s.paidBy = :userId OR s.paidTo = :userId")
-    List<Settlement> findSettlementsInvolvingUser(@Param("userId") UUID userId);
+    @Query("SELECT s.id FROM Settlement s WHERE s.group.id = :groupId ORDER BY s.settledAt DESC, s.id DESC")
+    List<UUID> findPageIdsByGroupId(@Param("groupId") UUID groupId, Pageable pageable);
+
+    /**
+     * Keyset variant of findPageIdsByGroupId: settlement IDs strictly after the (settledAt, id) cursor.
+     */
+    @Query("SELECT s.id FROM Settlement s WHERE s.group.id = :groupId " +
+           "AND (s.settledAt < :settledAt OR (s.settledAt = :settledAt AND s.id < :id)) " +
+           "ORDER BY s.settledAt DESC, s.id DESC")
+    List<UUID> findPageIdsByGroupIdAfter(@Param("groupId") UUID groupId,
+                                         @Param("settledAt") LocalDateTime settledAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    /**
+     * First page of IDs of settlements involving a user (either as payer or receiver), newest first.
+     */
+    @Query("SELECT s.id FROM Settlement s WHERE s.paidBy = :userId OR s.paidTo = :userId " +
+           "ORDER BY s.settledAt DESC, s.id DESC")
+    List<UUID> findPageIdsInvolvingUser(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Keyset variant of findPageIdsInvolvingUser.
+     */
+    @Query("SELECT s.id FROM Settlement s WHERE (s.paidBy = :userId OR s.paidTo = :userId) " +
+           "AND (s.settledAt < :settledAt OR (s.settledAt = :settledAt AND s.id < :id)) " +
+           "ORDER BY s.settledAt DESC, s.id DESC")
+    List<UUID> findPageIdsInvolvingUserAfter(@Param("userId") UUID userId,
+                                             @Param("settledAt") LocalDateTime settledAt,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    /**
+     * Loads one page of settlements with their settled expenses in a single query. Order is not preserved.
+     */
+    @Query("SELECT DISTINCT s FROM Settlement s " +
+           "LEFT JOIN FETCH s.settledExpenses se LEFT JOIN FETCH se.expense " +
+           "WHERE s.id IN :ids")
+    List<Settlement> findAllWithSettledExpensesByIdIn(@Param("ids") Collection<UUID> ids);
 }
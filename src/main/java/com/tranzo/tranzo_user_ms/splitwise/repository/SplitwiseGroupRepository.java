@@ -1,11 +1,14 @@
 package com.tranzo.tranzo_user_ms.splitwise.repository;
 
 import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,12 +24,33 @@ public interface SplitwiseGroupRepository extends JpaRepository<SplitwiseGroup,
      */
     Optional<SplitwiseGroup> findByTripId(UUID tripId);
 
+    /**
+     * Locks the group row for writing. Held by a full balance rebuild so no incremental balance write
+     * of the group can interleave with it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM SplitwiseGroup g WHERE g.id = :groupId")
+    Optional<SplitwiseGroup> findByIdForUpdate(@Param("groupId") UUID groupId);
+
     /**
      * Finds groups where a user is a member.
      */
     @Query("SELECT g FROM SplitwiseGroup g JOIN g.members m WHERE m.userId = :userId")
     List<SplitwiseGroup> findByUserId(@Param("userId") UUID userId);
 
+    /**
+     * Finds groups by ID together with the title of their trip (null for manual groups).
+     * Returns: group, tripTitle.
+     */
+    @Query("SELECT g, t.tripTitle FROM SplitwiseGroup g LEFT JOIN TripEntity t ON t.tripId = g.tripId WHERE g.id IN :groupIds")
+    List<Object[]> findWithTripTitleByIdIn(@Param("groupIds") Collection<UUID> groupIds);
+
+    /**
+     * Gets the user IDs of all members of a group.
+     */
+    @Query("SELECT m.userId FROM GroupMember m WHERE m.group.id = :groupId")
+    List<UUID> findMemberUserIds(@Param("groupId") UUID groupId);
+
     /**
      * Checks if a user is a member of a specific group.
      */
@@ -0,0 +1,172 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.commons.utility.WriteBehindQueue;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Activity;
+import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
+import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
+import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Writes splitwise activity rows behind the request. {@link ActivityService} publishes one
+ * {@link ActivityEntry} per action; entries are queued once the surrounding transaction commits
+ * (and dropped with it on rollback), then a virtual-thread worker inserts them in JDBC batches.
+ * Member names in descriptions are resolved per batch with one user query. When the queue stays
+ * full for the enqueue timeout the entry is written on the caller thread by the shared
+ * {@link WriteBehindQueue}, outside the transaction that has already committed.
+ */
+@Component
+@Slf4j
+public class ActivityLogWriter {
+
+    /**
+     * group_id goes through a sub-select so an entry whose group was deleted in the same transaction
+     * is stored with a null group, as ON DELETE SET NULL would have left it.
+     */
+    private static final String INSERT_SQL = """
+            INSERT INTO splitwise_activities (id, group_id, user_id, activity_type, description, related_id, related_type, created_at)
+            VALUES (?, (SELECT g.id FROM splitwise_groups g WHERE g.id = ?), ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final WriteBehindQueue<ActivityEntry> writeBehind;
+    private final UserRepository userRepository;
+    private final int batchSize;
+
+    public ActivityLogWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             UserRepository userRepository,
+                             @Value("${app.splitwise.activity-log.queue-capacity:10000}") int queueCapacity,
+                             @Value("${app.splitwise.activity-log.batch-size:200}") int batchSize,
+                             @Value("${app.splitwise.activity-log.enqueue-timeout-ms:50}") long enqueueTimeoutMillis) {
+        this.writeBehind = new WriteBehindQueue<>("activity-log-writer", jdbcTemplate, transactionManager,
+                queueCapacity, 1, batchSize, enqueueTimeoutMillis, this::write);
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        writeBehind.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityLogged(ActivityEntry entry) {
+        enqueue(entry);
+    }
+
+    /**
+     * Queue one entry. Returns once it is queued, or once it has been written on this thread when
+     * the queue is full or the writer is stopping.
+     */
+    public void enqueue(ActivityEntry entry) {
+        if (!writeBehind.submit(entry)) {
+            log.warn("Activity queue full | operation=enqueueActivity | groupId={} | type={} | queueDepth={} | action=CALLER_RUNS",
+                    entry.groupId(), entry.activityType(), writeBehind.queueDepth());
+        }
+    }
+
+    public WriterStats stats() {
+        return new WriterStats(writeBehind.queueDepth(), writeBehind.enqueued(), writeBehind.callerRuns(),
+                writeBehind.writtenRows(), writeBehind.failedRows());
+    }
+
+    @PreDestroy
+    public void stop() {
+        writeBehind.stop();
+        log.info("Activity log writer stopped | stats={}", stats());
+    }
+
+    /**
+     * Inserts the entries in one batch and falls back to one insert per entry when the batch fails,
+     * so a single bad entry does not discard other groups' activities.
+     */
+    private void write(List<ActivityEntry> entries) {
+        Map<UUID, String> names;
+        try {
+            names = resolveNames(entries);
+        } catch (RuntimeException e) {
+            log.warn("Could not resolve member names, writing user ids instead | rows={} | reason={}", entries.size(), e.getMessage());
+            names = Collections.emptyMap();
+        }
+        List<ActivityRow> rows = new ArrayList<>(entries.size());
+        for (ActivityEntry entry : entries) {
+            rows.add(new ActivityRow(UUID.randomUUID(), entry, describe(entry, names)));
+        }
+        if (writeBehind.tryBatch(INSERT_SQL, rows, batchSize, ActivityLogWriter::bind)) {
+            log.debug("Activities written | rows={} | queueDepth={}", rows.size(), writeBehind.queueDepth());
+            return;
+        }
+        WriteBehindQueue.RowFailures<ActivityRow> failures = writeBehind.insertEach(INSERT_SQL, rows, ActivityLogWriter::bind);
+        for (ActivityRow row : failures.rows()) {
+            log.error("Operation failed | operation=writeActivity | groupId={} | activityType={} | reason={}",
+                    row.entry().groupId(), row.entry().activityType(), failures.lastFailure().getMessage());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, ActivityRow row) throws SQLException {
+        ActivityEntry entry = row.entry();
+        ps.setObject(1, row.id());
+        ps.setObject(2, entry.groupId());
+        ps.setObject(3, entry.userId());
+        ps.setString(4, entry.activityType().name());
+        ps.setString(5, row.description());
+        ps.setObject(6, entry.relatedId());
+        ps.setString(7, entry.relatedType());
+        ps.setTimestamp(8, Timestamp.valueOf(entry.createdAt()));
+    }
+
+    private Map<UUID, String> resolveNames(List<ActivityEntry> entries) {
+        Set<UUID> userIds = new HashSet<>();
+        for (ActivityEntry entry : entries) {
+            if (entry.describedUserId() != null) {
+                userIds.add(entry.describedUserId());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, String> names = new HashMap<>();
+        for (UsersEntity user : userRepository.findAllWithProfileByUserUuidIn(userIds)) {
+            UserProfileEntity profile = user.getUserProfileEntity();
+            if (profile != null) {
+                names.put(user.getUserUuid(), (profile.getFirstName() + " " + (profile.getLastName() != null ? profile.getLastName() : "")).trim());
+            }
+        }
+        return names;
+    }
+
+    private static String describe(ActivityEntry entry, Map<UUID, String> names) {
+        if (entry.describedUserId() == null) {
+            return entry.description();
+        }
+        String name = names.get(entry.describedUserId());
+        return String.format(entry.description(), name != null ? name : entry.describedUserId());
+    }
+
+    public record WriterStats(int queueDepth, long enqueuedEntries, long callerRunsEntries, long writtenRows, long failedRows) {
+    }
+
+    /**
+     * One activity to write. When describedUserId is set, description is a format with a single
+     * {@code %s} that is filled with that user's name (or their UUID when they have no profile).
+     */
+    public record ActivityEntry(UUID groupId, UUID userId, Activity.ActivityType activityType, String description,
+                                UUID relatedId, String relatedType, UUID describedUserId, LocalDateTime createdAt) {
+    }
+
+    private record ActivityRow(UUID id, ActivityEntry entry, String description) {
+    }
+}
@@ -1,161 +1,116 @@
 package com.tranzo.tranzo_user_ms.splitwise.service;
 
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.ActivityResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.CursorPageResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.GroupResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserResponse;
 import com.tranzo.tranzo_user_ms.splitwise.entity.Activity;
 import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
 import com.tranzo.tranzo_user_ms.splitwise.exception.UserNotMemberException;
 import com.tranzo.tranzo_user_ms.splitwise.repository.ActivityRepository;
 import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
-import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Service for logging and retrieving activities in the Splitwise system.
+ * Log calls only publish an entry; rows are written after commit by {@link ActivityLogWriter}.
  */
 @Slf4j
 @Service
 @Transactional
 public class ActivityService {
 
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ActivityRepository activityRepository;
-    private final UserRepository userRepository;
     private final SplitwiseGroupRepository splitwiseGroupRepository;
+    private final SplitwiseResponseAssembler responseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ActivityService(ActivityRepository activityRepository,
-                           UserRepository userRepository,
-                           SplitwiseGroupRepository splitwiseGroupRepository) {
+                           SplitwiseGroupRepository splitwiseGroupRepository,
+                           SplitwiseResponseAssembler responseAssembler,
+                           ApplicationEventPublisher eventPublisher) {
         this.activityRepository = activityRepository;
-        this.userRepository = userRepository;
         this.splitwiseGroupRepository = splitwiseGroupRepository;
+        this.responseAssembler = responseAssembler;
+        this.eventPublisher = eventPublisher;
     }
 
     public void logGroupCreated(UsersEntity user, SplitwiseGroup group) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(user != null ? user.getUserUuid() : null)
-                .activityType(Activity.ActivityType.GROUP_CREATED)
-                .description(group != null ? String.format("Created group for trip") : "Created group")
-                .relatedId(group != null ? group.getId() : null)
-                .relatedType("GROUP")
-                .build();
-        saveActivity(activity);
+        publish(group, user != null ? user.getUserUuid() : null, Activity.ActivityType.GROUP_CREATED,
+                group != null ? String.format("Created group for trip") : "Created group",
+                group != null ? group.getId() : null, "GROUP", null);
     }
 
     public void logGroupUpdated(SplitwiseGroup group, UUID updatedByUserId) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(updatedByUserId)
-                .activityType(Activity.ActivityType.GROUP_UPDATED)
-                .description("Updated group")
-                .relatedId(group != null ? group.getId() : null)
-                .relatedType("GROUP")
-                .build();
-        saveActivity(activity);
+        publish(group, updatedByUserId, Activity.ActivityType.GROUP_UPDATED,
+                "Updated group",
+                group != null ? group.getId() : null, "GROUP", null);
     }
 
     public void logGroupDeleted(SplitwiseGroup group, UUID deletedByUserId) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(deletedByUserId)
-                .activityType(Activity.ActivityType.GROUP_DELETED)
-                .description("Deleted group")
-                .relatedId(group != null ? group.getId() : null)
-                .relatedType("GROUP")
-                .build();
-        saveActivity(activity);
+        publish(group, deletedByUserId, Activity.ActivityType.GROUP_DELETED,
+                "Deleted group",
+                group != null ? group.getId() : null, "GROUP", null);
     }
 
     public void logMemberAdded(UUID member, SplitwiseGroup group, UUID addedByUserId) {
-        String memberName = getUserName(member);
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(addedByUserId)
-                .activityType(Activity.ActivityType.MEMBER_ADDED)
-                .description(String.format("Added %s to group", memberName != null ? memberName : member))
-                .relatedId(member)
-                .relatedType("USER")
-                .build();
-        saveActivity(activity);
+        publish(group, addedByUserId, Activity.ActivityType.MEMBER_ADDED,
+                "Added %s to group",
+                member, "USER", member);
     }
 
     public void logMemberRemoved(UUID member, SplitwiseGroup group, UUID removedByUserId) {
-        String memberName = getUserName(member);
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(removedByUserId)
-                .activityType(Activity.ActivityType.MEMBER_REMOVED)
-                .description(String.format("Removed %s from group", memberName != null ? memberName : member))
-                .relatedId(member)
-                .relatedType("USER")
-                .build();
-        saveActivity(activity);
+        publish(group, removedByUserId, Activity.ActivityType.MEMBER_REMOVED,
+                "Removed %s from group",
+                member, "USER", member);
     }
 
     public void logExpenseCreated(UUID user, SplitwiseGroup group, UUID expenseId, String expenseName, BigDecimal amount) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(user)
-                .activityType(Activity.ActivityType.EXPENSE_ADDED)
-                .description(String.format("Added expense '%s' for ₹%.2f", expenseName, amount != null ? amount : BigDecimal.ZERO))
-                .relatedId(expenseId)
-                .relatedType("EXPENSE")
-                .build();
-        saveActivity(activity);
+        publish(group, user, Activity.ActivityType.EXPENSE_ADDED,
+                String.format("Added expense '%s' for ₹%.2f", expenseName, amount != null ? amount : BigDecimal.ZERO),
+                expenseId, "EXPENSE", null);
     }
 
     public void logExpenseUpdated(UUID user, SplitwiseGroup group, UUID expenseId, String expenseName) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(user)
-                .activityType(Activity.ActivityType.EXPENSE_UPDATED)
-                .description(String.format("Updated expense '%s'", expenseName))
-                .relatedId(expenseId)
-                .relatedType("EXPENSE")
-                .build();
-        saveActivity(activity);
+        publish(group, user, Activity.ActivityType.EXPENSE_UPDATED,
+                String.format("Updated expense '%s'", expenseName),
+                expenseId, "EXPENSE", null);
     }
 
     public void logExpenseDeleted(UUID user, SplitwiseGroup group, UUID expenseId, String expenseName) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(user)
-                .activityType(Activity.ActivityType.EXPENSE_DELETED)
-                .description(String.format("Deleted expense '%s'", expenseName))
-                .relatedId(expenseId)
-                .relatedType("EXPENSE")
-                .build();
-        saveActivity(activity);
+        publish(group, user, Activity.ActivityType.EXPENSE_DELETED,
+                String.format("Deleted expense '%s'", expenseName),
+                expenseId, "EXPENSE", null);
     }
 
     public void logSettlementCreated(UUID user, SplitwiseGroup group, UUID settlementId, BigDecimal amount) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(user)
-                .activityType(Activity.ActivityType.SETTLEMENT_CREATED)
-                .description(String.format("Created settlement for ₹%.2f", amount != null ? amount : BigDecimal.ZERO))
-                .relatedId(settlementId)
-                .relatedType("SETTLEMENT")
-                .build();
-        saveActivity(activity);
+        publish(group, user, Activity.ActivityType.SETTLEMENT_CREATED,
+                String.format("Created settlement for ₹%.2f", amount != null ? amount : BigDecimal.ZERO),
+                settlementId, "SETTLEMENT", null);
     }
 
     public void logSettlementDeleted(UUID user, SplitwiseGroup group, UUID settlementId, BigDecimal amount) {
-        Activity activity = Activity.builder()
-                .group(group)
-                .userId(user)
-                .activityType(Activity.ActivityType.SETTLEMENT_DELETED)
-                .description(String.format("Deleted settlement for ₹%.2f", amount != null ? amount : BigDecimal.ZERO))
-                .relatedId(settlementId)
-                .relatedType("SETTLEMENT")
-                .build();
-        saveActivity(activity);
+        publish(group, user, Activity.ActivityType.SETTLEMENT_DELETED,
+                String.format("Deleted settlement for ₹%.2f", amount != null ? amount : BigDecimal.ZERO),
+                settlementId, "SETTLEMENT", null);
     }
 
     @Transactional(readOnly = true)
@@ -166,33 +121,90 @@ public class ActivityService {
         return activityRepository.findByGroupIdOrderByCreatedAtDesc(groupId);
     }
 
+    /**
+     * Keyset-paginated activities of a group, ordered by (createdAt DESC, id DESC).
+     */
     @Transactional(readOnly = true)
-    public List<Activity> getGroupActivities(UUID groupId, UUID currentUserId, int limit, int offset) {
+    public CursorPageResponse<ActivityResponse> getGroupActivities(UUID groupId, UUID currentUserId, String cursor, int size) {
         if (currentUserId != null && !splitwiseGroupRepository.isUserMemberOfGroup(groupId, currentUserId)) {
             throw new UserNotMemberException(currentUserId, groupId);
         }
-        if (limit <= 0) limit = 10;
-        int page = offset / limit;
-        return activityRepository.findByGroupIdOrderByCreatedAtDesc(groupId, PageRequest.of(page, limit));
-    }
-
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = validatePageSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Activity> activities = after == null
+                ? activityRepository.findPageByGroupId(groupId, pageable)
+                : activityRepository.findPageByGroupIdAfter(groupId, after.sortKey(), after.id(), pageable);
+        return toActivityPage(activities, pageSize);
+    }
+
+    /**
+     * Keyset-paginated activities performed by a user, ordered by (createdAt DESC, id DESC).
+     */
     @Transactional(readOnly = true)
-    public List<Activity> getUserActivities(UUID userId, int limit, int offset) {
-        if (limit <= 0) limit = 10;
-        int page = offset / limit;
-        return activityRepository.findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, limit));
+    public CursorPageResponse<ActivityResponse> getUserActivities(UUID userId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = validatePageSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Activity> activities = after == null
+                ? activityRepository.findPageByUserId(userId, pageable)
+                : activityRepository.findPageByUserIdAfter(userId, after.sortKey(), after.id(), pageable);
+        return toActivityPage(activities, pageSize);
+    }
+
+    /**
+     * Trims the extra row that decides hasMore and maps the page with one user and one group lookup.
+     */
+    private CursorPageResponse<ActivityResponse> toActivityPage(List<Activity> activities, int pageSize) {
+        boolean hasMore = activities.size() > pageSize;
+        List<Activity> page = hasMore ? activities.subList(0, pageSize) : activities;
+        Set<UUID> userIds = new HashSet<>();
+        Set<UUID> groupIds = new HashSet<>();
+        for (Activity activity : page) {
+            userIds.add(activity.getUserId());
+            if (activity.getGroup() != null) {
+                groupIds.add(activity.getGroup().getId());
+            }
+        }
+        Map<UUID, UserResponse> users = responseAssembler.resolveUsers(userIds);
+        Map<UUID, GroupResponse> groups = responseAssembler.resolveGroups(groupIds);
+        List<ActivityResponse> items = page.stream()
+                .map(activity -> ActivityResponse.builder()
+                        .id(activity.getId())
+                        .group(activity.getGroup() != null ? groups.get(activity.getGroup().getId()) : null)
+                        .user(activity.getUserId() != null ? users.get(activity.getUserId()) : null)
+                        .activityType(activity.getActivityType())
+                        .description(activity.getDescription())
+                        .relatedId(activity.getRelatedId())
+                        .relatedType(activity.getRelatedType())
+                        .oldValue(activity.getOldValue())
+                        .newValue(activity.getNewValue())
+                        .createdAt(activity.getCreatedAt())
+                        .build())
+                .toList();
+        String nextCursor = null;
+        if (hasMore && !page.isEmpty()) {
+            Activity last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponse.<ActivityResponse>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
-    private void saveActivity(Activity activity) {
-        activityRepository.save(activity);
+    private static int validatePageSize(int size) {
+        return size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
     }
 
-    private String getUserName(UUID userId) {
-        if (userId == null) return null;
-        return userRepository.findUserByUserUuid(userId)
-                .map(u -> u.getUserProfileEntity() != null
-                        ? (u.getUserProfileEntity().getFirstName() + " " + (u.getUserProfileEntity().getLastName() != null ? u.getUserProfileEntity().getLastName() : "")).trim()
-                        : null)
-                .orElse(null);
+    /**
+     * Hands the entry to {@link ActivityLogWriter}, which queues it once the caller's transaction commits.
+     */
+    private void publish(SplitwiseGroup group, UUID userId, Activity.ActivityType type, String description,
+                         UUID relatedId, String relatedType, UUID describedUserId) {
+        eventPublisher.publishEvent(new ActivityLogWriter.ActivityEntry(
+                group != null ? group.getId() : null, userId, type, description,
+                relatedId, relatedType, describedUserId, LocalDateTime.now()));
     }
 }
@@ -1,5 +1,7 @@
 package com.tranzo.tranzo_user_ms.splitwise.service;
 
+import com.tranzo.tranzo_user_ms.commons.events.SplitwiseBalancesChangedEvent;
+import com.tranzo.tranzo_user_ms.splitwise.dto.BalanceDelta;
 import com.tranzo.tranzo_user_ms.splitwise.dto.SettlementProposal;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.BalanceResponse;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.IndividualBalanceResponse;
@@ -7,19 +9,20 @@ import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserDashboardResponse;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserResponse;
 import com.tranzo.tranzo_user_ms.splitwise.entity.Balance;
 import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
-import com.tranzo.tranzo_user_ms.splitwise.entity.ExpenseSplit;
 import com.tranzo.tranzo_user_ms.splitwise.entity.Settlement;
-import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
+import com.tranzo.tranzo_user_ms.splitwise.exception.GroupNotFoundException;
 import com.tranzo.tranzo_user_ms.splitwise.exception.InsufficientBalanceException;
+import com.tranzo.tranzo_user_ms.splitwise.exception.UserNotAdminException;
 import com.tranzo.tranzo_user_ms.splitwise.repository.BalanceRepository;
 import com.tranzo.tranzo_user_ms.splitwise.repository.ExpenseRepository;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SettlementRepository;
 import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
-import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
 import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
-import com.tranzo.tranzo_user_ms.user.service.TravelPalService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,37 +39,47 @@ import java.util.stream.Collectors;
 @Transactional
 public class BalanceService {
 
+    private static final List<TripStatus> DASHBOARD_TRIP_STATUSES =
+            List.of(TripStatus.PUBLISHED, TripStatus.ONGOING, TripStatus.COMPLETED);
+
     private final BalanceRepository balanceRepository;
     private final ExpenseRepository expenseRepository;
+    private final SettlementRepository settlementRepository;
     private final SettlementOptimizationService settlementOptimizationService;
     private final UserRepository userRepository;
     private final SplitwiseGroupRepository splitwiseGroupRepository;
-    private final SplitwiseGroupService splitwiseGroupService;
-    private final TripRepository tripRepository;
-    private final TravelPalService travelPalService;
+    private final SplitwiseResponseAssembler responseAssembler;
+    private final UserDashboardCache userDashboardCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BalanceService(BalanceRepository balanceRepository,
                           ExpenseRepository expenseRepository,
+                          SettlementRepository settlementRepository,
                           SettlementOptimizationService settlementOptimizationService,
                           UserRepository userRepository,
                           SplitwiseGroupRepository splitwiseGroupRepository,
-                          SplitwiseGroupService splitwiseGroupService,
-                          TripRepository tripRepository,
-                          TravelPalService travelPalService) {
+                          SplitwiseResponseAssembler responseAssembler,
+                          UserDashboardCache userDashboardCache,
+                          ApplicationEventPublisher eventPublisher) {
         this.balanceRepository = balanceRepository;
         this.expenseRepository = expenseRepository;
+        this.settlementRepository = settlementRepository;
         this.settlementOptimizationService = settlementOptimizationService;
         this.userRepository = userRepository;
         this.splitwiseGroupRepository = splitwiseGroupRepository;
-        this.splitwiseGroupService = splitwiseGroupService;
-        this.tripRepository = tripRepository;
-        this.travelPalService = travelPalService;
+        this.responseAssembler = responseAssembler;
+        this.userDashboardCache = userDashboardCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     public List<BalanceResponse> getGroupBalances(UUID groupId) {
         log.debug("Calculating balances for group: {}", groupId);
         List<Object[]> rows = balanceRepository.getBalanceSummaryForGroup(groupId);
+        Map<UUID, UserResponse> users = responseAssembler.resolveUsers(rows.stream()
+                .filter(row -> row.length >= 4 && row[0] != null)
+                .map(row -> (UUID) row[0])
+                .toList());
         List<BalanceResponse> result = new ArrayList<>();
         for (Object[] row : rows) {
             if (row.length >= 4 && row[0] != null) {
@@ -74,9 +87,8 @@ public class BalanceService {
                 BigDecimal totalOwedTo = row[1] != null ? (BigDecimal) row[1] : BigDecimal.ZERO;
                 BigDecimal totalOwedBy = row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO;
                 BigDecimal netBalance = row[3] != null ? (BigDecimal) row[3] : totalOwedTo.subtract(totalOwedBy);
-                UserResponse userResponse = toUserResponse(userId);
                 result.add(BalanceResponse.builder()
-                        .user(userResponse)
+                        .user(users.get(userId))
                         .totalOwed(totalOwedBy)
                         .totalOwing(totalOwedTo)
                         .netBalance(netBalance)
@@ -97,20 +109,23 @@ public class BalanceService {
         BigDecimal totalOwing = balanceRepository.getTotalOwedToUserInGroup(groupId, userId);
         BigDecimal netBalance = totalOwing.subtract(totalOwed);
         List<Balance> balances = balanceRepository.findBalancesForUserInGroup(groupId, userId);
+        Set<UUID> userIds = new HashSet<>();
+        userIds.add(userId);
+        balances.forEach(b -> userIds.add(b.getOtherUser(userId)));
+        Map<UUID, UserResponse> users = responseAssembler.resolveUsers(userIds);
         List<IndividualBalanceResponse> details = new ArrayList<>();
         for (Balance b : balances) {
-            UUID otherId = b.getOwedBy().equals(userId) ? b.getOwedTo() : b.getOwedBy();
-            BigDecimal amount = b.getAmount();
+            UUID otherId = b.getOtherUser(userId);
+            BigDecimal amount = b.getOwedAmount();
             String type = b.getOwedBy().equals(userId) ? "OWING" : "OWED";
-            UserResponse other = toUserResponse(otherId);
             details.add(IndividualBalanceResponse.builder()
-                    .otherUser(other)
+                    .otherUser(users.get(otherId))
                     .amount(amount)
                     .type(type)
                     .build());
         }
         return BalanceResponse.builder()
-                .user(toUserResponse(userId))
+                .user(users.get(userId))
                 .totalOwed(totalOwed)
                 .totalOwing(totalOwing)
                 .netBalance(netBalance)
@@ -119,128 +134,119 @@ public class BalanceService {
                 .build();
     }
 
+    /**
+     * Applies a newly created expense to the group ledger.
+     */
     public void updateBalancesForExpense(Expense expense) {
-        UUID groupId = expense.getGroupId();
-        UUID payer = expense.getPaidBy();
-        for (ExpenseSplit split : expense.getSplits()) {
-            UUID debtor = split.getUserId();
-            if (payer.equals(debtor)) continue;
-            BigDecimal amount = split.getAmount();
-            updateOrCreateBalance(debtor, payer, groupId, amount);
-        }
+        applyExpenseDelta(expense.getGroupId(), null, Map.of(), expense.getPaidBy(), expense.getSharesByUser());
     }
 
-    public void recalculateBalancesForGroup(UUID groupId) {
-        log.debug("Recalculating balances for group: {}", groupId);
-        balanceRepository.deleteByGroupId(groupId);
-        List<Expense> expenses = expenseRepository.findByGroupId(groupId);
-        for (Expense expense : expenses) {
-            updateBalancesForExpense(expense);
+    /**
+     * Removes a deleted expense's contribution from the group ledger.
+     */
+    public void reverseBalancesForExpense(UUID groupId, UUID payer, Map<UUID, BigDecimal> shares) {
+        applyExpenseDelta(groupId, payer, shares, null, Map.of());
+    }
+
+    /**
+     * Applies the difference between an expense's previous and current (payer, shares) to the ledger.
+     * Contributions are netted per user pair first and the changed pairs are upserted in one statement;
+     * the rest of the group's balances are left untouched.
+     */
+    public void applyExpenseDelta(UUID groupId,
+                                  UUID previousPayer, Map<UUID, BigDecimal> previousShares,
+                                  UUID payer, Map<UUID, BigDecimal> shares) {
+        Map<UserPair, BigDecimal> deltas = new LinkedHashMap<>();
+        accumulateShares(deltas, previousPayer, previousShares, true);
+        accumulateShares(deltas, payer, shares, false);
+        int touched = balanceRepository.applyDeltas(groupId, toBalanceDeltas(deltas));
+        publishBalancesChanged(groupId);
+        log.debug("Applied expense delta | groupId={} | pairsTouched={}", groupId, touched);
+    }
+
+    /**
+     * Group-admin reconciliation: rebuilds every balance row of the group from its expenses and settlements.
+     * The regular write paths keep the ledger current incrementally; this is only for repairing drift.
+     * Holds the group row lock throughout, so in-flight incremental writes finish first and new ones wait.
+     *
+     * @return number of balance rows written
+     */
+    public int reconcileGroupBalances(UUID groupId, UUID requestedBy) {
+        log.info("Processing started | operation=reconcileGroupBalances | groupId={} | requestedBy={}", groupId, requestedBy);
+        if (!splitwiseGroupRepository.isUserAdminOfGroup(groupId, requestedBy)) {
+            log.warn("Access denied | operation=reconcileGroupBalances | groupId={} | userId={} | reason=NOT_ADMIN", groupId, requestedBy);
+            throw new UserNotAdminException(requestedBy, groupId);
+        }
+        // Exclusive group lock before reading: an expense or settlement committing between the reads
+        // and the delete below would otherwise have its delta wiped
+        splitwiseGroupRepository.findByIdForUpdate(groupId)
+                .orElseThrow(() -> new GroupNotFoundException(groupId));
+        Map<UserPair, BigDecimal> net = new LinkedHashMap<>();
+        for (Expense expense : expenseRepository.findByGroupId(groupId)) {
+            accumulateShares(net, expense.getPaidBy(), expense.getSharesByUser(), false);
+        }
+        for (Settlement settlement : settlementRepository.findByGroupId(groupId)) {
+            // A settlement is the payee now owing the payer, netted against the payer's debt
+            accumulate(net, settlement.getPaidTo(), settlement.getPaidBy(), settlement.getAmount());
         }
+        balanceRepository.deleteByGroupId(groupId);
+        int rebuilt = balanceRepository.applyDeltas(groupId, toBalanceDeltas(net));
+        publishBalancesChanged(groupId);
+        log.info("Processing completed | operation=reconcileGroupBalances | groupId={} | balances={} | status=SUCCESS", groupId, rebuilt);
+        return rebuilt;
     }
 
-    private void updateOrCreateBalance(UUID fromUserId, UUID toUserId, UUID groupId, BigDecimal amount) {
-        if (fromUserId.equals(toUserId) || amount.compareTo(BigDecimal.ZERO) <= 0) return;
-        Optional<Balance> opt = balanceRepository.findByGroupIdAndOwedByAndOwedTo(groupId, fromUserId, toUserId);
-        if (opt.isPresent()) {
-            Balance b = opt.get();
-            b.addAmount(amount);
-            if (b.shouldDelete()) {
-                balanceRepository.delete(b);
-            } else {
-                balanceRepository.save(b);
-            }
-        } else {
-            Optional<Balance> reverseOpt = balanceRepository.findByGroupIdAndOwedByAndOwedTo(groupId, toUserId, fromUserId);
-            if (reverseOpt.isPresent()) {
-                Balance reverse = reverseOpt.get();
-                reverse.subtractAmount(amount);
-                if (reverse.shouldDelete()) {
-                    balanceRepository.delete(reverse);
-                } else {
-                    balanceRepository.save(reverse);
-                }
-            } else {
-                var group = splitwiseGroupRepository.findById(groupId).orElseThrow();
-                Balance newBalance = Balance.builder()
-                        .group(group)
-                        .owedBy(fromUserId)
-                        .owedTo(toUserId)
-                        .amount(amount)
-                        .build();
-                balanceRepository.save(newBalance);
+    private static void accumulateShares(Map<UserPair, BigDecimal> deltas, UUID payer,
+                                         Map<UUID, BigDecimal> shares, boolean reverse) {
+        if (payer == null) return;
+        shares.forEach((debtor, amount) -> accumulate(deltas, debtor, payer, reverse ? amount.negate() : amount));
+    }
+
+    /**
+     * Adds "debtor owes creditor amount" to the pair's signed total (positive means low owes high).
+     */
+    private static void accumulate(Map<UserPair, BigDecimal> deltas, UUID debtor, UUID creditor, BigDecimal amount) {
+        if (debtor.equals(creditor) || amount.signum() == 0) return;
+        BalanceDelta delta = BalanceDelta.owes(debtor, creditor, amount);
+        deltas.merge(new UserPair(delta.lowUser(), delta.highUser()), delta.amount(), BigDecimal::add);
+    }
+
+    private static List<BalanceDelta> toBalanceDeltas(Map<UserPair, BigDecimal> deltas) {
+        List<BalanceDelta> nonZero = new ArrayList<>();
+        deltas.forEach((pair, amount) -> {
+            if (amount.signum() != 0) {
+                nonZero.add(new BalanceDelta(pair.low(), pair.high(), amount));
             }
-        }
+        });
+        return nonZero;
     }
 
     public void validateSettlementAmount(UUID groupId, UUID fromUserId, UUID toUserId, BigDecimal amount) {
-        Optional<Balance> opt = balanceRepository.findByGroupIdAndOwedByAndOwedTo(groupId, fromUserId, toUserId);
-        BigDecimal available = opt.map(Balance::getAmount).orElse(BigDecimal.ZERO);
+        BalanceDelta pair = BalanceDelta.owes(fromUserId, toUserId, BigDecimal.ZERO);
+        BigDecimal available = balanceRepository.findPair(groupId, pair.lowUser(), pair.highUser())
+                .map(b -> b.getAmountOwed(fromUserId, toUserId))
+                .orElse(BigDecimal.ZERO);
         if (available.compareTo(amount) < 0) {
             throw new InsufficientBalanceException(available, amount);
         }
     }
 
     public void updateBalancesForSettlement(Settlement settlement) {
-        UUID groupId = settlement.getGroup().getId();
-        UUID paidBy = settlement.getPaidBy();
-        UUID paidTo = settlement.getPaidTo();
-        BigDecimal amount = settlement.getAmount();
-        Optional<Balance> opt = balanceRepository.findByGroupIdAndOwedByAndOwedTo(groupId, paidBy, paidTo);
-        if (opt.isPresent()) {
-            Balance b = opt.get();
-            b.subtractAmount(amount);
-            if (b.shouldDelete()) {
-                balanceRepository.delete(b);
-            } else {
-                balanceRepository.save(b);
-            }
-        } else {
-            Optional<Balance> reverseOpt = balanceRepository.findByGroupIdAndOwedByAndOwedTo(groupId, paidTo, paidBy);
-            if (reverseOpt.isPresent()) {
-                Balance reverse = reverseOpt.get();
-                reverse.addAmount(amount);
-                balanceRepository.save(reverse);
-            } else {
-                Balance newBalance = Balance.builder()
-                        .group(settlement.getGroup())
-                        .owedBy(paidTo)
-                        .owedTo(paidBy)
-                        .amount(amount)
-                        .build();
-                balanceRepository.save(newBalance);
-            }
-        }
+        balanceRepository.applyDeltas(settlement.getGroup().getId(),
+                List.of(BalanceDelta.owes(settlement.getPaidTo(), settlement.getPaidBy(), settlement.getAmount())));
+        publishBalancesChanged(settlement.getGroup().getId());
     }
 
     public void reverseBalancesForSettlement(Settlement settlement) {
-        UUID groupId = settlement.getGroup().getId();
-        UUID paidBy = settlement.getPaidBy();
-        UUID paidTo = settlement.getPaidTo();
-        BigDecimal amount = settlement.getAmount();
-        Optional<Balance> opt = balanceRepository.findByGroupIdAndOwedByAndOwedTo(groupId, paidBy, paidTo);
-        if (opt.isPresent()) {
-            Balance b = opt.get();
-            b.addAmount(amount);
-            balanceRepository.save(b);
-        } else {
-            Optional<Balance> reverseOpt = balanceRepository.findByGroupIdAndOwedByAndOwedTo(groupId, paidTo, paidBy);
-            if (reverseOpt.isPresent()) {
-                Balance reverse = reverseOpt.get();
-                reverse.subtractAmount(amount);
-                if (reverse.shouldDelete()) {
-                    balanceRepository.delete(reverse);
-                } else {
-                    balanceRepository.save(reverse);
-                }
-            }
-        }
+        balanceRepository.applyDeltas(settlement.getGroup().getId(),
+                List.of(BalanceDelta.owes(settlement.getPaidBy(), settlement.getPaidTo(), settlement.getAmount())));
+        publishBalancesChanged(settlement.getGroup().getId());
     }
 
     @Transactional(readOnly = true)
-    public List<SettlementProposal> getOptimizedSettlements(UUID groupId) {
+    public List<SettlementProposal> getOptimizedSettlements(UUID groupId, boolean exact) {
         Map<UUID, BigDecimal> netBalances = calculateNetBalancesForGroup(groupId);
-        return settlementOptimizationService.optimizeSettlements(netBalances);
+        return settlementOptimizationService.optimizeSettlements(netBalances, exact);
     }
 
     private Map<UUID, BigDecimal> calculateNetBalancesForGroup(UUID groupId) {
@@ -254,178 +260,124 @@ public class BalanceService {
         return net;
     }
 
-    private UserResponse toUserResponse(UUID userId) {
-        if (userId == null) return null;
-        UsersEntity user = userRepository.findUserByUserUuid(userId).orElse(null);
-        if (user == null) return UserResponse.builder().userUuid(userId).build();
-        String name = "";
-        if (user.getUserProfileEntity() != null) {
-            UserProfileEntity p = user.getUserProfileEntity();
-            name = (p.getFirstName() != null ? p.getFirstName() : "") + " " + (p.getLastName() != null ? p.getLastName() : "");
-        }
-        return UserResponse.builder()
-                .userUuid(user.getUserUuid())
-                .name(name.trim().isEmpty() ? null : name.trim())
-                .email(user.getEmail())
-                .mobileNumber(user.getMobileNumber())
-                .build();
-    }
-
+    /**
+     * Builds the user's Splitwise dashboard from one grouped balance query and one batched user lookup.
+     * Served from {@link UserDashboardCache} until a balance write in one of the user's groups commits.
+     */
     @Transactional(readOnly = true)
     public UserDashboardResponse getUserDashboard(UUID userId) {
+        return userDashboardCache.get(userId, this::buildUserDashboard);
+    }
+
+    private UserDashboardResponse buildUserDashboard(UUID userId) {
         log.debug("Generating dashboard for user: {}", userId);
-        
-        // Get all valid groups user is part of (using the fixed logic from SplitwiseGroupService)
-        List<com.tranzo.tranzo_user_ms.splitwise.dto.response.GroupResponse> userGroupResponses = splitwiseGroupService.getUserGroups(userId);
-        List<SplitwiseGroup> userGroups = userGroupResponses.stream()
-                .map(groupResponse -> splitwiseGroupRepository.findById(groupResponse.getId()).orElse(null))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        
-        log.debug("Found {} valid groups for user dashboard", userGroups.size());
-        
-        // Calculate totals across all groups
+        List<Object[]> rows = balanceRepository.findDashboardRowsForUser(userId, DASHBOARD_TRIP_STATUSES);
+        Set<UUID> counterpartyIds = rows.stream().map(row -> (UUID) row[1]).collect(Collectors.toSet());
+        Map<UUID, UsersEntity> users = counterpartyIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllWithProfileByUserUuidIn(counterpartyIds).stream()
+                        .collect(Collectors.toMap(UsersEntity::getUserUuid, user -> user, (a, b) -> a));
+
         BigDecimal totalOwed = BigDecimal.ZERO;
         BigDecimal totalOwing = BigDecimal.ZERO;
         List<UserDashboardResponse.IndividualOwe> userOwesList = new ArrayList<>();
         List<UserDashboardResponse.IndividualOwed> owedToUserList = new ArrayList<>();
-        List<UserDashboardResponse.ExpenseSummary> expenseSummaries = new ArrayList<>();
-        
-        for (SplitwiseGroup group : userGroups) {
-            // Get user balance in this group
-            BalanceResponse groupBalance = getUserBalanceInGroup(group.getId(), userId);
-            totalOwed = totalOwed.add(groupBalance.getTotalOwed());
-            totalOwing = totalOwing.add(groupBalance.getTotalOwing());
-            
-            // Process individual balances for this group (all users, not just travel pals)
-            processIndividualBalancesForGroup(group, userId, userOwesList, owedToUserList);
-            
-            // Add expense summary for this group (only if user has non-zero balance)
-            addExpenseSummaryForGroup(group, expenseSummaries, userId);
+        Map<UUID, UserDashboardResponse.ExpenseSummary> summariesByGroup = new LinkedHashMap<>();
+
+        for (Object[] row : rows) {
+            UUID groupId = (UUID) row[0];
+            UUID otherUserId = (UUID) row[1];
+            BigDecimal signedAmount = (BigDecimal) row[2];
+            BigDecimal amount = signedAmount.abs();
+            boolean userOwes = signedAmount.signum() > 0;
+            UsersEntity other = users.get(otherUserId);
+            if (userOwes) {
+                totalOwed = totalOwed.add(amount);
+                userOwesList.add(UserDashboardResponse.IndividualOwe.builder()
+                        .userId(otherUserId)
+                        .userName(displayName(other))
+                        .userEmail(other != null ? other.getEmail() : "")
+                        .amount(amount)
+                        .profilePictureUrl(profilePictureUrl(other))
+                        .build());
+            } else {
+                totalOwing = totalOwing.add(amount);
+                owedToUserList.add(UserDashboardResponse.IndividualOwed.builder()
+                        .userId(otherUserId)
+                        .userName(displayName(other))
+                        .userEmail(other != null ? other.getEmail() : "")
+                        .amount(amount)
+                        .profilePictureUrl(profilePictureUrl(other))
+                        .build());
+            }
+            // Expense summaries cover trip groups only
+            if (row[3] != null) {
+                UserDashboardResponse.ExpenseSummary summary = summariesByGroup.computeIfAbsent(groupId, id -> toExpenseSummary(row));
+                if (userOwes) {
+                    summary.setOweAmount(summary.getOweAmount().add(amount));
+                } else {
+                    summary.setOwedAmount(summary.getOwedAmount().add(amount));
+                }
+            }
         }
-        
-        // Build individual balance summary (now includes all users, not just travel pals)
+
         UserDashboardResponse.IndividualBalanceSummary individualBalanceSummary = UserDashboardResponse.IndividualBalanceSummary.builder()
                 .userOwesList(userOwesList)
                 .owedToUserList(owedToUserList)
-                .currency("INR") // Changed to INR as requested
+                .currency("INR")
                 .totalIndividuals(userOwesList.size() + owedToUserList.size())
-                .totalOwedAmount(userOwesList.stream()
-                        .map(UserDashboardResponse.IndividualOwe::getAmount)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add))
-                .totalOweAmount(owedToUserList.stream()
-                        .map(UserDashboardResponse.IndividualOwed::getAmount)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .totalOwedAmount(totalOwed)
+                .totalOweAmount(totalOwing)
                 .build();
-        
-        BigDecimal totalOutstandingBalance = totalOwing.subtract(totalOwed);
-        
-        log.debug("Dashboard generated for user: {} | groups: {} | totalOwed: {} | totalOwing: {} | expenseSummaries: {}", 
-                userId, userGroups.size(), totalOwed, totalOwing, expenseSummaries.size());
-        
+        List<UserDashboardResponse.ExpenseSummary> expenseSummaries = new ArrayList<>(summariesByGroup.values());
+
+        log.debug("Dashboard generated for user: {} | balances: {} | totalOwed: {} | totalOwing: {} | expenseSummaries: {}",
+                userId, rows.size(), totalOwed, totalOwing, expenseSummaries.size());
+
         return UserDashboardResponse.builder()
                 .totalAmountUserOwes(totalOwed)
                 .totalAmountOwedToUser(totalOwing)
-                .totalOutstandingBalance(totalOutstandingBalance)
+                .totalOutstandingBalance(totalOwing.subtract(totalOwed))
                 .individualBalanceSummary(individualBalanceSummary)
                 .expenseSummary(expenseSummaries)
                 .build();
     }
-    
-    private void processIndividualBalancesForGroup(SplitwiseGroup group, UUID userId, 
-                                       List<UserDashboardResponse.IndividualOwe> userOwesList,
-                                       List<UserDashboardResponse.IndividualOwed> owedToUserList) {
-        List<Balance> balances = balanceRepository.findBalancesForUserInGroup(group.getId(), userId);
-        
-        for (Balance balance : balances) {
-            UUID otherUserId = balance.getOwedBy().equals(userId) ? balance.getOwedTo() : balance.getOwedBy();
-            
-            // Include all individual summaries regardless of travel pal status
-            BigDecimal amount = balance.getAmount();
-            
-            // Skip if amount is exactly zero
-            if (amount.compareTo(BigDecimal.ZERO) == 0) {
-                continue;
-            }
-            
-            if (balance.getOwedBy().equals(userId)) {
-                // User owes to other person
-                userOwesList.add(createIndividualOwe(otherUserId, amount));
-            } else {
-                // Other person owes to user
-                owedToUserList.add(createIndividualOwed(otherUserId, amount));
-            }
-        }
-    }
-    
-    private UserDashboardResponse.IndividualOwe createIndividualOwe(UUID userId, BigDecimal amount) {
-        UsersEntity user = userRepository.findUserByUserUuid(userId).orElse(null);
-        String userName = "";
-        String userEmail = user != null ? user.getEmail() : "";
-        String profilePictureUrl = "";
-        
-        if (user != null && user.getUserProfileEntity() != null) {
-            UserProfileEntity profile = user.getUserProfileEntity();
-            userName = (profile.getFirstName() != null ? profile.getFirstName() : "") + 
-                      " " + (profile.getLastName() != null ? profile.getLastName() : "");
-            profilePictureUrl = profile.getProfilePictureUrl() != null ? profile.getProfilePictureUrl() : "";
-        }
-        
-        return UserDashboardResponse.IndividualOwe.builder()
-                .userId(userId)
-                .userName(userName.trim())
-                .userEmail(userEmail)
-                .amount(amount)
-                .profilePictureUrl(profilePictureUrl)
+
+    private static UserDashboardResponse.ExpenseSummary toExpenseSummary(Object[] row) {
+        TripStatus tripStatus = (TripStatus) row[7];
+        return UserDashboardResponse.ExpenseSummary.builder()
+                .tripId((UUID) row[3])
+                .tripTitle((String) row[4])
+                .tripDate(row[5] != null ? (LocalDate) row[5] : LocalDate.now())
+                .oweAmount(BigDecimal.ZERO)
+                .owedAmount(BigDecimal.ZERO)
+                .tripDestination(row[6] != null ? (String) row[6] : "Unknown Destination")
+                .tripStatus(tripStatus != null ? tripStatus.toString() : "UNKNOWN")
+                .currency("INR")
                 .build();
     }
-    
-    private UserDashboardResponse.IndividualOwed createIndividualOwed(UUID userId, BigDecimal amount) {
-        UsersEntity user = userRepository.findUserByUserUuid(userId).orElse(null);
-        String userName = "";
-        String userEmail = user != null ? user.getEmail() : "";
-        String profilePictureUrl = "";
-        
-        if (user != null && user.getUserProfileEntity() != null) {
-            UserProfileEntity profile = user.getUserProfileEntity();
-            userName = (profile.getFirstName() != null ? profile.getFirstName() : "") + 
-                      " " + (profile.getLastName() != null ? profile.getLastName() : "");
-            profilePictureUrl = profile.getProfilePictureUrl() != null ? profile.getProfilePictureUrl() : "";
-        }
-        
-        return UserDashboardResponse.IndividualOwed.builder()
-                .userId(userId)
-                .userName(userName.trim())
-                .userEmail(userEmail)
-                .amount(amount)
-                .profilePictureUrl(profilePictureUrl)
-                .build();
+
+    private static String displayName(UsersEntity user) {
+        if (user == null || user.getUserProfileEntity() == null) return "";
+        UserProfileEntity profile = user.getUserProfileEntity();
+        String name = (profile.getFirstName() != null ? profile.getFirstName() : "") +
+                " " + (profile.getLastName() != null ? profile.getLastName() : "");
+        return name.trim();
     }
-    
-    private void addExpenseSummaryForGroup(SplitwiseGroup group, List<UserDashboardResponse.ExpenseSummary> expenseSummaries, UUID userId) {
-        com.tranzo.tranzo_user_ms.trip.model.TripEntity trip = tripRepository.findById(group.getTripId()).orElse(null);
-        if (trip == null) return;
-        
-        // Get user's total owe amount for this trip
-        BigDecimal oweAmount = balanceRepository.getTotalOwedByUserInGroup(group.getId(), userId);
-        
-        // Get user's total owed amount for this trip
-        BigDecimal owedAmount = balanceRepository.getTotalOwedToUserInGroup(group.getId(), userId);
-        
-        // Skip adding expense summary if both amounts are exactly zero
-        if (oweAmount.compareTo(BigDecimal.ZERO) == 0 && owedAmount.compareTo(BigDecimal.ZERO) == 0) {
-            return;
-        }
-        
-        expenseSummaries.add(UserDashboardResponse.ExpenseSummary.builder()
-                .tripId(trip.getTripId())
-                .tripTitle(trip.getTripTitle())
-                .tripDate(trip.getTripStartDate() != null ? trip.getTripStartDate() : LocalDate.now())
-                .oweAmount(oweAmount)
-                .owedAmount(owedAmount)
-                .tripDestination(trip.getTripDestination() != null ? trip.getTripDestination() : "Unknown Destination")
-                .tripStatus(trip.getTripStatus() != null ? trip.getTripStatus().toString() : "UNKNOWN")
-                .currency("INR") // Changed to INR as requested
-                .build());
+
+    private static String profilePictureUrl(UsersEntity user) {
+        if (user == null || user.getUserProfileEntity() == null) return "";
+        String url = user.getUserProfileEntity().getProfilePictureUrl();
+        return url != null ? url : "";
+    }
+
+    private void publishBalancesChanged(UUID groupId) {
+        eventPublisher.publishEvent(new SplitwiseBalancesChangedEvent(groupId));
+    }
+
+    /**
+     * Unordered user pair, stored with the smaller UUID first.
+     */
+    private record UserPair(UUID low, UUID high) {
     }
 }
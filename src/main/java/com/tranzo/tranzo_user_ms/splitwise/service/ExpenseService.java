@@ -1,12 +1,11 @@
 package com.tranzo.tranzo_user_ms.splitwise.service;
 
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.CreateExpenseRequest;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.ExpenseSplitRequest;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.UpdateExpenseRequest;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.CursorPageResponse;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseResponse;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseSplitResponse;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.GroupResponse;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserResponse;
 import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
 import com.tranzo.tranzo_user_ms.splitwise.entity.ExpenseSplit;
 import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
@@ -16,12 +15,9 @@ import com.tranzo.tranzo_user_ms.splitwise.exception.InvalidSplitException;
 import com.tranzo.tranzo_user_ms.splitwise.exception.UserNotMemberException;
 import com.tranzo.tranzo_user_ms.splitwise.repository.ExpenseRepository;
 import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
-import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
-import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
-import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
-import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
-import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,8 +28,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -44,25 +43,28 @@ import java.util.stream.Collectors;
 @Transactional
 public class ExpenseService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final ExpenseRepository expenseRepository;
     private final SplitwiseGroupRepository splitwiseGroupRepository;
     private final BalanceService balanceService;
     private final ActivityService activityService;
-    private final UserRepository userRepository;
-    private final TripRepository tripRepository;
+    private final SplitwiseResponseAssembler responseAssembler;
+    private final GroupMembershipCache groupMembershipCache;
 
     public ExpenseService(ExpenseRepository expenseRepository,
                           SplitwiseGroupRepository splitwiseGroupRepository,
                           BalanceService balanceService,
                           ActivityService activityService,
-                          UserRepository userRepository,
-                          TripRepository tripRepository) {
+                          SplitwiseResponseAssembler responseAssembler,
+                          GroupMembershipCache groupMembershipCache) {
         this.expenseRepository = expenseRepository;
         this.splitwiseGroupRepository = splitwiseGroupRepository;
         this.balanceService = balanceService;
         this.activityService = activityService;
-        this.userRepository = userRepository;
-        this.tripRepository = tripRepository;
+        this.responseAssembler = responseAssembler;
+        this.groupMembershipCache = groupMembershipCache;
     }
 
     /**
@@ -71,13 +73,14 @@ public class ExpenseService {
     public ExpenseResponse createExpense(CreateExpenseRequest request, UUID currentUserId) {
         SplitwiseGroup group = splitwiseGroupRepository.findById(request.getGroupId())
                 .orElseThrow(() -> new GroupNotFoundException(request.getGroupId()));
-        if (!splitwiseGroupRepository.isUserMemberOfGroup(request.getGroupId(), currentUserId)) {
+        Set<UUID> memberIds = groupMembershipCache.getMemberIds(request.getGroupId());
+        if (!memberIds.contains(currentUserId)) {
             throw new UserNotMemberException(currentUserId, request.getGroupId());
         }
 //        if (!request.getPaidById().equals(currentUserId) && !splitwiseGroupRepository.isUserAdminOfGroup(request.getGroupId(), currentUserId)) {
 //            throw new UserNotMemberException("Only payer or group admin can add expense");
 //        }
-        validateAllSplitUsersAreMembers(request.getGroupId(), request.getSplits());
+        validateAllSplitUsersAreMembers(memberIds, request.getSplits());
         validateSplits(request);
 
         LocalDateTime expenseDateTime = request.getExpenseDate() != null
@@ -105,7 +108,7 @@ public class ExpenseService {
         balanceService.updateBalancesForExpense(expense);
         activityService.logExpenseCreated(request.getPaidById(), group, expense.getId(), expense.getName(), expense.getAmount());
         log.info("Created expense {} in group {}", expense.getId(), request.getGroupId());
-        return toExpenseResponse(expense);
+        return responseAssembler.toExpenseResponse(expense);
     }
 
     @Transactional(readOnly = true)
@@ -116,7 +119,7 @@ public class ExpenseService {
                 && !expense.isUserInvolved(currentUserId)) {
             throw new UserNotMemberException(currentUserId, expense.getGroupId());
         }
-        return toExpenseResponse(expense);
+        return responseAssembler.toExpenseResponse(expense);
     }
 
     /**
@@ -128,6 +131,8 @@ public class ExpenseService {
         if (!expense.getPaidBy().equals(currentUserId) && !splitwiseGroupRepository.isUserAdminOfGroup(expense.getGroupId(), currentUserId)) {
             throw new UserNotMemberException(currentUserId, expense.getGroupId());
         }
+        UUID previousPayer = expense.getPaidBy();
+        Map<UUID, BigDecimal> previousShares = expense.getSharesByUser();
 
         if (request.getName() != null) expense.setName(request.getName());
         if (request.getDescription() != null) expense.setDescription(request.getDescription());
@@ -142,7 +147,7 @@ public class ExpenseService {
         }
 
         if (request.getSplits() != null && !request.getSplits().isEmpty()) {
-            validateAllSplitUsersAreMembers(expense.getGroupId(), request.getSplits());
+            validateAllSplitUsersAreMembers(groupMembershipCache.getMemberIds(expense.getGroupId()), request.getSplits());
             validateUpdateSplits(expense.getAmount(), request.getSplitType(), request.getSplits());
             expense.getSplits().clear();
             List<ExpenseSplit> newSplits = buildSplitsFromUpdate(expense, request.getSplits(), expense.getAmount(), request.getSplitType());
@@ -152,17 +157,18 @@ public class ExpenseService {
         }
 
         expenseRepository.save(expense);
-        balanceService.recalculateBalancesForGroup(expense.getGroupId());
+        balanceService.applyExpenseDelta(expense.getGroupId(), previousPayer, previousShares,
+                expense.getPaidBy(), expense.getSharesByUser());
         SplitwiseGroup group = splitwiseGroupRepository.findById(expense.getGroupId()).orElse(null);
         if (group != null) {
             activityService.logExpenseUpdated(currentUserId, group, expense.getId(), expense.getName());
         }
         log.info("Updated expense {}", expenseId);
-        return toExpenseResponse(expenseRepository.findByIdWithSplits(expenseId).orElse(expense));
+        return responseAssembler.toExpenseResponse(expenseRepository.findByIdWithSplits(expenseId).orElse(expense));
     }
 
     /**
-     * Deletes an expense. Only payer or group admin; recalculates balances and logs.
+     * Deletes an expense. Only payer or group admin; reverses its balance contribution and logs.
      */
     public void deleteExpense(UUID expenseId, UUID currentUserId) {
         Expense expense = expenseRepository.findByIdWithSplits(expenseId)
@@ -173,36 +179,76 @@ public class ExpenseService {
         UUID groupId = expense.getGroupId();
         String name = expense.getName();
         SplitwiseGroup group = splitwiseGroupRepository.findById(groupId).orElse(null);
+        balanceService.reverseBalancesForExpense(groupId, expense.getPaidBy(), expense.getSharesByUser());
         expenseRepository.delete(expense);
-        balanceService.recalculateBalancesForGroup(groupId);
         if (group != null) {
             activityService.logExpenseDeleted(currentUserId, group, expenseId, name);
         }
         log.info("Deleted expense {}", expenseId);
     }
 
+    /**
+     * Keyset-paginated group expenses ordered by (expenseDate DESC, id DESC).
+     */
     @Transactional(readOnly = true)
-    public List<ExpenseResponse> getGroupExpenses(UUID groupId, UUID currentUserId) {
+    public CursorPageResponse<ExpenseResponse> getGroupExpenses(UUID groupId, UUID currentUserId, String cursor, int size) {
         if (!splitwiseGroupRepository.isUserMemberOfGroup(groupId, currentUserId)) {
             throw new UserNotMemberException(currentUserId, groupId);
         }
-        List<Expense> expenses = expenseRepository.findByGroupId(groupId);
-        return expenses.stream()
-                .map(this::toExpenseResponse)
-                .collect(Collectors.toList());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = validatePageSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<UUID> ids = after == null
+                ? expenseRepository.findPageIdsByGroupId(groupId, pageable)
+                : expenseRepository.findPageIdsByGroupIdAfter(groupId, after.sortKey(), after.id(), pageable);
+        return toExpensePage(ids, pageSize);
     }
 
+    /**
+     * Keyset-paginated expenses the user paid for or has a split in, ordered by (expenseDate DESC, id DESC).
+     */
     @Transactional(readOnly = true)
-    public List<ExpenseResponse> getUserExpenses(UUID currentUserId) {
-        List<Expense> expenses = expenseRepository.findExpensesInvolvingUser(currentUserId);
-        return expenses.stream()
-                .map(this::toExpenseResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<ExpenseResponse> getUserExpenses(UUID currentUserId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = validatePageSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<UUID> ids = after == null
+                ? expenseRepository.findPageIdsInvolvingUser(currentUserId, pageable)
+                : expenseRepository.findPageIdsInvolvingUserAfter(currentUserId, after.sortKey(), after.id(), pageable);
+        return toExpensePage(ids, pageSize);
+    }
+
+    /**
+     * Loads the page (one ID beyond it decides hasMore) with splits fetch-joined, in cursor order.
+     */
+    private CursorPageResponse<ExpenseResponse> toExpensePage(List<UUID> ids, int pageSize) {
+        boolean hasMore = ids.size() > pageSize;
+        List<UUID> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        Map<UUID, Expense> byId = pageIds.isEmpty() ? Map.of() : expenseRepository.findAllWithSplitsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Expense::getId, Function.identity()));
+        List<Expense> expenses = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        String nextCursor = null;
+        if (hasMore && !expenses.isEmpty()) {
+            Expense last = expenses.get(expenses.size() - 1);
+            nextCursor = new KeysetCursor(last.getExpenseDate(), last.getId()).encode();
+        }
+        return CursorPageResponse.<ExpenseResponse>builder()
+                .items(responseAssembler.toExpenseResponses(expenses))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
-    private void validateAllSplitUsersAreMembers(UUID groupId, List<ExpenseSplitRequest> splits) {
+    private static int validatePageSize(int size) {
+        return size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private void validateAllSplitUsersAreMembers(Set<UUID> memberIds, List<ExpenseSplitRequest> splits) {
         for (ExpenseSplitRequest s : splits) {
-            if (!splitwiseGroupRepository.isUserMemberOfGroup(groupId, s.getUserId())) {
+            if (!memberIds.contains(s.getUserId())) {
                 throw new InvalidSplitException("User " + s.getUserId() + " is not a member of the group");
             }
         }
@@ -350,65 +396,4 @@ public class ExpenseService {
         }
         return splits;
     }
-
-    private ExpenseResponse toExpenseResponse(Expense expense) {
-        GroupResponse groupResponse = null;
-        Optional<SplitwiseGroup> groupOpt = splitwiseGroupRepository.findById(expense.getGroupId());
-        if (groupOpt.isPresent()) {
-            SplitwiseGroup g = groupOpt.get();
-            String name = tripRepository.findById(g.getTripId())
-                    .map(TripEntity::getTripTitle)
-                    .orElse(g.getDescription());
-            groupResponse = GroupResponse.builder()
-                    .id(g.getId())
-                    .tripId(g.getTripId())
-                    .name(name)
-                    .description(g.getDescription())
-                    .build();
-        }
-        List<ExpenseSplitResponse> splitResponses = expense.getSplits() == null ? List.of() : expense.getSplits().stream()
-                .map(s -> ExpenseSplitResponse.builder()
-                        .id(s.getId())
-                        .user(toUserResponse(s.getUserId()))
-                        .amount(s.getAmount())
-                        .percentage(s.getPercentage())
-                        .createdAt(s.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
-        BigDecimal remaining = expense.getRemainingAmount();
-        return ExpenseResponse.builder()
-                .id(expense.getId())
-                .name(expense.getName())
-                .description(expense.getDescription())
-                .amount(expense.getAmount())
-                .paidBy(toUserResponse(expense.getPaidBy()))
-                .group(groupResponse)
-                .splitType(expense.getSplitType())
-                .category(expense.getCategory())
-                .expenseDate(expense.getExpenseDate())
-                .receiptUrl(expense.getReceiptUrl())
-                .createdAt(expense.getCreatedAt())
-                .updatedAt(expense.getUpdatedAt())
-                .splits(splitResponses)
-                .isSettled(expense.isFullySettled())
-                .remainingAmount(remaining != null && remaining.compareTo(BigDecimal.ZERO) <= 0 ? BigDecimal.ZERO : remaining)
-                .build();
-    }
-
-    private UserResponse toUserResponse(UUID userId) {
-        if (userId == null) return null;
-        UsersEntity user = userRepository.findUserByUserUuid(userId).orElse(null);
-        if (user == null) return UserResponse.builder().userUuid(userId).build();
-        String name = "";
-        if (user.getUserProfileEntity() != null) {
-            UserProfileEntity p = user.getUserProfileEntity();
-            name = (p.getFirstName() != null ? p.getFirstName() : "") + " " + (p.getLastName() != null ? p.getLastName() : "");
-        }
-        return UserResponse.builder()
-                .userUuid(user.getUserUuid())
-                .name(name.trim().isEmpty() ? null : name.trim())
-                .email(user.getEmail())
-                .mobileNumber(user.getMobileNumber())
-                .build();
-    }
 }
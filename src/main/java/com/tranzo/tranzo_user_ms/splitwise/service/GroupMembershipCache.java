@@ -0,0 +1,54 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tranzo.tranzo_user_ms.commons.events.SplitwiseGroupMembershipChangedEvent;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-group cache of member user IDs, loaded with one query, so validating an expense's splits is a
+ * set lookup per split instead of a COUNT query. A group's entry is dropped once a membership change
+ * in it commits; the TTL is only a safety net.
+ */
+@Component
+@Slf4j
+public class GroupMembershipCache {
+
+    private final SplitwiseGroupRepository splitwiseGroupRepository;
+    private final Cache<UUID, Set<UUID>> memberships;
+
+    public GroupMembershipCache(SplitwiseGroupRepository splitwiseGroupRepository,
+                                @Value("${app.splitwise.membership-cache.max-size:10000}") long maxSize,
+                                @Value("${app.splitwise.membership-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.splitwiseGroupRepository = splitwiseGroupRepository;
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * Immutable set of the group's member user IDs (empty for an unknown group).
+     */
+    public Set<UUID> getMemberIds(UUID groupId) {
+        return memberships.get(groupId, id -> Set.copyOf(splitwiseGroupRepository.findMemberUserIds(id)));
+    }
+
+    public boolean isMember(UUID groupId, UUID userId) {
+        return getMemberIds(groupId).contains(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(SplitwiseGroupMembershipChangedEvent event) {
+        memberships.invalidate(event.getGroupId());
+        log.debug("Membership cache evicted | groupId={}", event.getGroupId());
+    }
+}
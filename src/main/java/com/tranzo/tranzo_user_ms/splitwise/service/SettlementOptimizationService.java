@@ -1,10 +1,9 @@
 package com.tranzo.tranzo_user_ms.splitwise.service;
 
 import com.tranzo.tranzo_user_ms.splitwise.dto.SettlementProposal;
-import com.tranzo.tranzo_user_ms.trip.model.TripJoinRequestEntity;
 import com.tranzo.tranzo_user_ms.user.client.UserProfileClient;
 import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -14,65 +13,271 @@ import java.util.*;
 /**
  * Service that computes an optimized list of settlements (who pays whom how much)
  * from per-user net balances in a group, minimizing the number of transactions.
+ * Amounts are worked in paise on primitive arrays; user names are resolved once for the final list.
  */
 @Service
 public class SettlementOptimizationService {
+
+    /**
+     * Hard ceiling for exact mode: its memo holds 2^n entries, so 20 members is already ~10 MB.
+     */
+    static final int MAX_EXACT_MEMBERS = 20;
+
     private final UserProfileClient userProfileClient;
+    private final int exactMaxMembers;
 
-    public SettlementOptimizationService(UserProfileClient userProfileClient) {
+    public SettlementOptimizationService(UserProfileClient userProfileClient,
+                                         @Value("${app.splitwise.settlement-optimizer.exact-max-members:16}") int exactMaxMembers) {
         this.userProfileClient = userProfileClient;
+        this.exactMaxMembers = Math.min(exactMaxMembers, MAX_EXACT_MEMBERS);
     }
 
     /**
      * Given net balance per user (negative = owes money, positive = is owed),
-     * returns a minimal list of settlement proposals (from, to, amount).
-     * Uses a greedy approach: largest debtor pays largest creditor first.
+     * returns a list of settlement proposals (from, to, amount) using the greedy approach.
      */
     public List<SettlementProposal> optimizeSettlements(Map<UUID, BigDecimal> netBalances) {
+        return optimizeSettlements(netBalances, false);
+    }
+
+    /**
+     * Same as {@link #optimizeSettlements(Map)}, optionally in exact mode.
+     * <p>
+     * Greedy: largest debtor pays largest creditor first; at most n - 1 transfers for n non-zero members.
+     * Exact: partitions members into the largest number of zero-sum subsets (each subset of size k settles
+     * in k - 1 transfers), which is the true minimum. It costs O(n * 2^n), so groups with more non-zero
+     * members than the configured cap fall back to greedy.
+     */
+    public List<SettlementProposal> optimizeSettlements(Map<UUID, BigDecimal> netBalances, boolean exact) {
         if (netBalances == null || netBalances.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<SettlementProposal> result = new ArrayList<>();
-        // Debtors: users with negative net (they owe)
-        PriorityQueue<Map.Entry<UUID, BigDecimal>> debtors = new PriorityQueue<>(
-                (a, b) -> b.getValue().compareTo(a.getValue())
-        );
-        // Creditors: users with positive net (they are owed)
-        PriorityQueue<Map.Entry<UUID, BigDecimal>> creditors = new PriorityQueue<>(
-                (a, b) -> b.getValue().compareTo(a.getValue())
-        );
-
+        UUID[] users = new UUID[netBalances.size()];
+        long[] paise = new long[netBalances.size()];
+        int n = 0;
         for (Map.Entry<UUID, BigDecimal> e : netBalances.entrySet()) {
-            BigDecimal net = e.getValue() == null ? BigDecimal.ZERO : e.getValue().setScale(2, RoundingMode.HALF_UP);
-            if (net.compareTo(BigDecimal.ZERO) < 0) {
-                debtors.add(new AbstractMap.SimpleEntry<>(e.getKey(), net.negate()));
-            } else if (net.compareTo(BigDecimal.ZERO) > 0) {
-                creditors.add(new AbstractMap.SimpleEntry<>(e.getKey(), net));
+            long amount = toPaise(e.getValue());
+            if (amount != 0) {
+                users[n] = e.getKey();
+                paise[n] = amount;
+                n++;
             }
         }
+        if (n == 0) {
+            return Collections.emptyList();
+        }
 
-        while (!debtors.isEmpty() && !creditors.isEmpty()) {
-            Map.Entry<UUID, BigDecimal> debtor = debtors.poll();
-            Map.Entry<UUID, BigDecimal> creditor = creditors.poll();
-            BigDecimal pay = debtor.getValue().min(creditor.getValue()).setScale(2, RoundingMode.HALF_UP);
-            if (pay.compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
+        Workspace workspace = new Workspace(paise, n);
+        if (exact && n <= exactMaxMembers) {
+            settleExact(workspace);
+        } else {
+            settleGreedy(workspace, identity(n), n);
+        }
+        return toProposals(users, workspace);
+    }
+
+    /**
+     * best[mask] is the largest number of zero-sum prefixes over any ordering of the members in mask,
+     * i.e. the largest number of zero-sum groups they can be split into. Walking the memo back from the
+     * full mask yields an ordering in which every zero-sum prefix boundary closes one group.
+     */
+    private void settleExact(Workspace workspace) {
+        int n = workspace.size;
+        int full = (1 << n) - 1;
+        long[] sum = new long[full + 1];
+        byte[] best = new byte[full + 1];
+        for (int mask = 1; mask <= full; mask++) {
+            sum[mask] = sum[mask & (mask - 1)] + workspace.balance[Integer.numberOfTrailingZeros(mask)];
+            int b = 0;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                b = Math.max(b, best[mask ^ Integer.lowestOneBit(rest)]);
             }
-            List<UUID> requestorUserIds = List.of(debtor.getKey(), creditor.getKey());
-            Map<UUID, UserNameDto> namesByUserId = userProfileClient.getNamesByUserIds(requestorUserIds);
-            result.add(new SettlementProposal(namesByUserId.get(debtor.getKey()).getFirstName(), namesByUserId.get(creditor.getKey()).getFirstName(), pay));
+            best[mask] = (byte) (sum[mask] == 0 ? b + 1 : b);
+        }
+
+        int[] group = new int[n];
+        int groupSize = 0;
+        int mask = full;
+        while (mask != 0) {
+            int target = sum[mask] == 0 ? best[mask] - 1 : best[mask];
+            int bit = Integer.lowestOneBit(mask);
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                if (best[mask ^ Integer.lowestOneBit(rest)] == target) {
+                    bit = Integer.lowestOneBit(rest);
+                    break;
+                }
+            }
+            group[groupSize++] = Integer.numberOfTrailingZeros(bit);
+            mask ^= bit;
+            if (sum[mask] == 0) {
+                settleGreedy(workspace, group, groupSize);
+                groupSize = 0;
+            }
+        }
+    }
+
+    private void settleGreedy(Workspace workspace, int[] members, int count) {
+        long[] remaining = workspace.remaining;
+        IndexHeap debtors = workspace.debtors.reset();
+        IndexHeap creditors = workspace.creditors.reset();
+        for (int k = 0; k < count; k++) {
+            int i = members[k];
+            long amount = workspace.balance[i];
+            if (amount < 0) {
+                remaining[i] = -amount;
+                debtors.push(i);
+            } else if (amount > 0) {
+                remaining[i] = amount;
+                creditors.push(i);
+            }
+        }
 
-            BigDecimal remainingDebt = debtor.getValue().subtract(pay).setScale(2, RoundingMode.HALF_UP);
-            if (remainingDebt.compareTo(BigDecimal.ZERO) > 0) {
-                debtors.add(new AbstractMap.SimpleEntry<>(debtor.getKey(), remainingDebt));
+        while (!debtors.isEmpty() && !creditors.isEmpty()) {
+            int debtor = debtors.pop();
+            int creditor = creditors.pop();
+            long pay = Math.min(remaining[debtor], remaining[creditor]);
+            workspace.addTransfer(debtor, creditor, pay);
+            remaining[debtor] -= pay;
+            remaining[creditor] -= pay;
+            if (remaining[debtor] > 0) {
+                debtors.push(debtor);
             }
-            BigDecimal remainingCredit = creditor.getValue().subtract(pay).setScale(2, RoundingMode.HALF_UP);
-            if (remainingCredit.compareTo(BigDecimal.ZERO) > 0) {
-                creditors.add(new AbstractMap.SimpleEntry<>(creditor.getKey(), remainingCredit));
+            if (remaining[creditor] > 0) {
+                creditors.push(creditor);
             }
         }
+    }
+
+    private List<SettlementProposal> toProposals(UUID[] users, Workspace workspace) {
+        if (workspace.transferCount == 0) {
+            return Collections.emptyList();
+        }
+        Set<UUID> involved = new LinkedHashSet<>();
+        for (int t = 0; t < workspace.transferCount; t++) {
+            involved.add(users[workspace.from[t]]);
+            involved.add(users[workspace.to[t]]);
+        }
+        Map<UUID, UserNameDto> namesByUserId = userProfileClient.getNamesByUserIds(new ArrayList<>(involved));
 
+        List<SettlementProposal> result = new ArrayList<>(workspace.transferCount);
+        for (int t = 0; t < workspace.transferCount; t++) {
+            result.add(new SettlementProposal(
+                    displayName(namesByUserId, users[workspace.from[t]]),
+                    displayName(namesByUserId, users[workspace.to[t]]),
+                    BigDecimal.valueOf(workspace.amount[t], 2)));
+        }
         return result;
     }
+
+    private static String displayName(Map<UUID, UserNameDto> namesByUserId, UUID userId) {
+        UserNameDto name = namesByUserId != null ? namesByUserId.get(userId) : null;
+        return name != null && name.getFirstName() != null ? name.getFirstName() : userId.toString();
+    }
+
+    private static long toPaise(BigDecimal amount) {
+        return amount == null ? 0L : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static int[] identity(int n) {
+        int[] members = new int[n];
+        for (int i = 0; i < n; i++) {
+            members[i] = i;
+        }
+        return members;
+    }
+
+    /**
+     * Per-call scratch space: balances, remaining amounts, both heaps and the transfer list, all sized once.
+     * Every transfer zeroes at least one member, so n slots always suffice.
+     */
+    private static final class Workspace {
+        final long[] balance;
+        final int size;
+        final long[] remaining;
+        final IndexHeap debtors;
+        final IndexHeap creditors;
+        final int[] from;
+        final int[] to;
+        final long[] amount;
+        int transferCount;
+
+        Workspace(long[] balance, int size) {
+            this.balance = balance;
+            this.size = size;
+            this.remaining = new long[size];
+            this.debtors = new IndexHeap(remaining, size);
+            this.creditors = new IndexHeap(remaining, size);
+            this.from = new int[size];
+            this.to = new int[size];
+            this.amount = new long[size];
+        }
+
+        void addTransfer(int debtor, int creditor, long paise) {
+            from[transferCount] = debtor;
+            to[transferCount] = creditor;
+            amount[transferCount] = paise;
+            transferCount++;
+        }
+    }
+
+    /**
+     * Binary max-heap of member indices ordered by their remaining amount.
+     */
+    private static final class IndexHeap {
+        private final long[] keys;
+        private final int[] heap;
+        private int size;
+
+        IndexHeap(long[] keys, int capacity) {
+            this.keys = keys;
+            this.heap = new int[capacity];
+        }
+
+        IndexHeap reset() {
+            size = 0;
+            return this;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int index) {
+            int pos = size++;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (keys[heap[parent]] >= keys[index]) {
+                    break;
+                }
+                heap[pos] = heap[parent];
+                pos = parent;
+            }
+            heap[pos] = index;
+        }
+
+        int pop() {
+            int top = heap[0];
+            int last = heap[--size];
+            int pos = 0;
+            while (true) {
+                int child = 2 * pos + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[heap[child + 1]] > keys[heap[child]]) {
+                    child++;
+                }
+                if (keys[heap[child]] <= keys[last]) {
+                    break;
+                }
+                heap[pos] = heap[child];
+                pos = child;
+            }
+            if (size > 0) {
+                heap[pos] = last;
+            }
+            return top;
+        }
+    }
 }
@@ -1,26 +1,20 @@
 package com.tranzo.tranzo_user_ms.splitwise.service;
 
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
 import com.tranzo.tranzo_user_ms.splitwise.dto.SettlementProposal;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.CreateSettlementRequest;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseResponse;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.GroupResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.CursorPageResponse;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.SettlementResponse;
-import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserResponse;
-import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
 import com.tranzo.tranzo_user_ms.splitwise.entity.Settlement;
-import com.tranzo.tranzo_user_ms.splitwise.entity.SettlementExpense;
 import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
 import com.tranzo.tranzo_user_ms.splitwise.exception.GroupNotFoundException;
 import com.tranzo.tranzo_user_ms.splitwise.exception.SettlementNotFoundException;
 import com.tranzo.tranzo_user_ms.splitwise.exception.UserNotMemberException;
 import com.tranzo.tranzo_user_ms.splitwise.repository.SettlementRepository;
 import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
-import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
-import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
-import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
-import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
-import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,8 +22,11 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -40,25 +37,25 @@ import java.util.stream.Collectors;
 @Transactional
 public class SettlementService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final SettlementRepository settlementRepository;
     private final SplitwiseGroupRepository splitwiseGroupRepository;
     private final BalanceService balanceService;
     private final ActivityService activityService;
-    private final UserRepository userRepository;
-    private final TripRepository tripRepository;
+    private final SplitwiseResponseAssembler responseAssembler;
 
     public SettlementService(SettlementRepository settlementRepository,
                             SplitwiseGroupRepository splitwiseGroupRepository,
                             BalanceService balanceService,
                             ActivityService activityService,
-                            UserRepository userRepository,
-                            TripRepository tripRepository) {
+                            SplitwiseResponseAssembler responseAssembler) {
         this.settlementRepository = settlementRepository;
         this.splitwiseGroupRepository = splitwiseGroupRepository;
         this.balanceService = balanceService;
         this.activityService = activityService;
-        this.userRepository = userRepository;
-        this.tripRepository = tripRepository;
+        this.responseAssembler = responseAssembler;
     }
 
     /**
@@ -102,7 +99,7 @@ public class SettlementService {
             activityService.logSettlementCreated(currentUserId, group, settlement.getId(), settlement.getAmount());
             
             log.info("Processing completed | operation=createSettlement | userId={} | settlementId={} | status=SUCCESS", currentUserId, settlement.getId());
-            return toSettlementResponse(settlement);
+            return responseAssembler.toSettlementResponse(settlement);
         } catch (UserNotMemberException | GroupNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -120,7 +117,7 @@ public class SettlementService {
                     .orElseThrow(() -> new SettlementNotFoundException("Settlement not found with ID: " + settlementId));
             
             log.info("Processing completed | operation=getSettlement | settlementId={} | status=SUCCESS", settlementId);
-            return toSettlementResponse(settlement);
+            return responseAssembler.toSettlementResponse(settlement);
         } catch (SettlementNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -129,15 +126,23 @@ public class SettlementService {
         }
     }
 
+    /**
+     * Keyset-paginated group settlements ordered by (settledAt DESC, id DESC).
+     */
     @Transactional(readOnly = true)
-    public List<SettlementResponse> getGroupSettlements(UUID groupId) {
-        log.info("Processing started | operation=getGroupSettlements | groupId={}", groupId);
+    public CursorPageResponse<SettlementResponse> getGroupSettlements(UUID groupId, String cursor, int size) {
+        log.info("Processing started | operation=getGroupSettlements | groupId={} | hasCursor={}", groupId, cursor != null);
 
         try {
-            List<Settlement> settlements = settlementRepository.findByGroupId(groupId);
-            List<SettlementResponse> response = settlements.stream().map(this::toSettlementResponse).collect(Collectors.toList());
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            int pageSize = validatePageSize(size);
+            Pageable pageable = PageRequest.of(0, pageSize + 1);
+            List<UUID> ids = after == null
+                    ? settlementRepository.findPageIdsByGroupId(groupId, pageable)
+                    : settlementRepository.findPageIdsByGroupIdAfter(groupId, after.sortKey(), after.id(), pageable);
+            CursorPageResponse<SettlementResponse> response = toSettlementPage(ids, pageSize);
             
-            log.info("Processing completed | operation=getGroupSettlements | groupId={} | settlementsCount={} | status=SUCCESS", groupId, response.size());
+            log.info("Processing completed | operation=getGroupSettlements | groupId={} | settlementsCount={} | status=SUCCESS", groupId, response.getItems().size());
             return response;
         } catch (Exception e) {
             log.error("Operation failed | operation=getGroupSettlements | groupId={} | reason={}", groupId, e.getMessage(), e);
@@ -145,15 +150,23 @@ public class SettlementService {
         }
     }
 
+    /**
+     * Keyset-paginated settlements the user paid or received, ordered by (settledAt DESC, id DESC).
+     */
     @Transactional(readOnly = true)
-    public List<SettlementResponse> getUserSettlements(UUID userId) {
-        log.info("Processing started | operation=getUserSettlements | userId={}", userId);
+    public CursorPageResponse<SettlementResponse> getUserSettlements(UUID userId, String cursor, int size) {
+        log.info("Processing started | operation=getUserSettlements | userId={} | hasCursor={}", userId, cursor != null);
 
         try {
-            List<Settlement> settlements = settlementRepository.findSettlementsInvolvingUser(userId);
-            List<SettlementResponse> response = settlements.stream().map(this::toSettlementResponse).collect(Collectors.toList());
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            int pageSize = validatePageSize(size);
+            Pageable pageable = PageRequest.of(0, pageSize + 1);
+            List<UUID> ids = after == null
+                    ? settlementRepository.findPageIdsInvolvingUser(userId, pageable)
+                    : settlementRepository.findPageIdsInvolvingUserAfter(userId, after.sortKey(), after.id(), pageable);
+            CursorPageResponse<SettlementResponse> response = toSettlementPage(ids, pageSize);
             
-            log.info("Processing completed | operation=getUserSettlements | userId={} | settlementsCount={} | status=SUCCESS", userId, response.size());
+            log.info("Processing completed | operation=getUserSettlements | userId={} | settlementsCount={} | status=SUCCESS", userId, response.getItems().size());
             return response;
         } catch (Exception e) {
             log.error("Operation failed | operation=getUserSettlements | userId={} | reason={}", userId, e.getMessage(), e);
@@ -162,12 +175,12 @@ public class SettlementService {
     }
 
     @Transactional(readOnly = true)
-    public List<SettlementProposal> getOptimizedSettlements(UUID groupId) {
-        log.info("Processing started | operation=getOptimizedSettlements | groupId={}", groupId);
+    public List<SettlementProposal> getOptimizedSettlements(UUID groupId, boolean exact) {
+        log.info("Processing started | operation=getOptimizedSettlements | groupId={} | exact={}", groupId, exact);
 
         try {
             log.info("Calling external service | service=BalanceService | operation=getOptimizedSettlements | groupId={}", groupId);
-            List<SettlementProposal> proposals = balanceService.getOptimizedSettlements(groupId);
+            List<SettlementProposal> proposals = balanceService.getOptimizedSettlements(groupId, exact);
             
             log.info("Processing completed | operation=getOptimizedSettlements | groupId={} | proposalsCount={} | status=SUCCESS", groupId, proposals.size());
             return proposals;
@@ -194,7 +207,7 @@ public class SettlementService {
             settlement = settlementRepository.save(settlement);
             
             log.info("Processing completed | operation=updateSettlementStatus | settlementId={} | updatedBy={} | status=SUCCESS", settlementId, updatedBy);
-            return toSettlementResponse(settlement);
+            return responseAssembler.toSettlementResponse(settlement);
         } catch (SettlementNotFoundException | UserNotMemberException e) {
             throw e;
         } catch (Exception e) {
@@ -235,62 +248,31 @@ public class SettlementService {
         }
     }
 
-    private SettlementResponse toSettlementResponse(Settlement settlement) {
-        SplitwiseGroup g = settlement.getGroup();
-        String groupName = g != null && g.getTripId() != null
-                ? tripRepository.findById(g.getTripId()).map(TripEntity::getTripTitle).orElse(g.getDescription())
-                : (g != null ? g.getDescription() : null);
-        GroupResponse groupResponse = g != null ? GroupResponse.builder()
-                .id(g.getId())
-                .tripId(g.getTripId())
-                .name(groupName)
-                .description(g.getDescription())
-                .build() : null;
-
-        List<ExpenseResponse> settledExpenseResponses = new ArrayList<>();
-        if (settlement.getSettledExpenses() != null) {
-            for (SettlementExpense se : settlement.getSettledExpenses()) {
-                Expense exp = se.getExpense();
-                if (exp != null) {
-                    settledExpenseResponses.add(ExpenseResponse.builder()
-                            .id(exp.getId())
-                            .name(exp.getName())
-                            .amount(se.getAmount())
-                            .build());
-                }
-            }
+    /**
+     * Loads the page (one ID beyond it decides hasMore) with settled expenses fetch-joined, in cursor order.
+     */
+    private CursorPageResponse<SettlementResponse> toSettlementPage(List<UUID> ids, int pageSize) {
+        boolean hasMore = ids.size() > pageSize;
+        List<UUID> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        Map<UUID, Settlement> byId = pageIds.isEmpty() ? Map.of() : settlementRepository.findAllWithSettledExpensesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Settlement::getId, Function.identity()));
+        List<Settlement> settlements = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        String nextCursor = null;
+        if (hasMore && !settlements.isEmpty()) {
+            Settlement last = settlements.get(settlements.size() - 1);
+            nextCursor = new KeysetCursor(last.getSettledAt(), last.getId()).encode();
         }
-
-        return SettlementResponse.builder()
-                .id(settlement.getId())
-                .group(groupResponse)
-                .paidBy(toUserResponse(settlement.getPaidBy()))
-                .paidTo(toUserResponse(settlement.getPaidTo()))
-                .amount(settlement.getAmount())
-                .paymentMethod(settlement.getPaymentMethod())
-                .notes(settlement.getNotes())
-                .settledAt(settlement.getSettledAt())
-                .settledExpenses(settledExpenseResponses)
-                .isFullyAllocated(settlement.isFullyAllocated())
-                .remainingAmount(settlement.getRemainingAmount())
-                .status(settlement.getStatus())
+        return CursorPageResponse.<SettlementResponse>builder()
+                .items(responseAssembler.toSettlementResponses(settlements))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
                 .build();
     }
 
-    private UserResponse toUserResponse(UUID userId) {
-        if (userId == null) return null;
-        UsersEntity user = userRepository.findUserByUserUuid(userId).orElse(null);
-        if (user == null) return UserResponse.builder().userUuid(userId).build();
-        String name = "";
-        if (user.getUserProfileEntity() != null) {
-            UserProfileEntity p = user.getUserProfileEntity();
-            name = (p.getFirstName() != null ? p.getFirstName() : "") + " " + (p.getLastName() != null ? p.getLastName() : "");
-        }
-        return UserResponse.builder()
-                .userUuid(user.getUserUuid())
-                .name(name.trim().isEmpty() ? null : name.trim())
-                .email(user.getEmail())
-                .mobileNumber(user.getMobileNumber())
-                .build();
+    private static int validatePageSize(int size) {
+        return size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
     }
 }
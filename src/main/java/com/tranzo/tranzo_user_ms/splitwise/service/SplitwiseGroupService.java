@@ -1,5 +1,6 @@
 package com.tranzo.tranzo_user_ms.splitwise.service;
 
+import com.tranzo.tranzo_user_ms.commons.events.SplitwiseGroupMembershipChangedEvent;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.AddGroupMemberRequest;
 import com.tranzo.tranzo_user_ms.splitwise.dto.request.CreateGroupRequest;
 import com.tranzo.tranzo_user_ms.splitwise.dto.response.GroupResponse;
@@ -18,6 +19,7 @@ import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,17 +42,20 @@ public class SplitwiseGroupService {
     private final TripMemberRepository tripMemberRepository;
     private final UserRepository userRepository;
     private final ActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SplitwiseGroupService(SplitwiseGroupRepository splitwiseGroupRepository,
                                 TripRepository tripRepository,
                                 TripMemberRepository tripMemberRepository,
                                 UserRepository userRepository,
-                                ActivityService activityService) {
+                                ActivityService activityService,
+                                ApplicationEventPublisher eventPublisher) {
         this.splitwiseGroupRepository = splitwiseGroupRepository;
         this.tripRepository = tripRepository;
         this.tripMemberRepository = tripMemberRepository;
         this.userRepository = userRepository;
         this.activityService = activityService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -155,6 +160,7 @@ public class SplitwiseGroupService {
                     .build();
             group.addMember(member);
             splitwiseGroupRepository.save(group);
+            eventPublisher.publishEvent(new SplitwiseGroupMembershipChangedEvent(group.getId()));
             
             log.info("Calling external service | service=ActivityService | operation=logMemberAdded | groupId={}", group.getId());
             activityService.logMemberAdded(userId, group, group.getCreatedBy());
@@ -241,6 +247,7 @@ public class SplitwiseGroupService {
             log.info("Calling external service | service=ActivityService | operation=logGroupDeleted | groupId={}", groupId);
             activityService.logGroupDeleted(group, currentUserId);
             splitwiseGroupRepository.delete(group);
+            eventPublisher.publishEvent(new SplitwiseGroupMembershipChangedEvent(groupId));
             
             log.info("Processing completed | operation=deleteGroup | groupId={} | userId={} | status=SUCCESS", groupId, currentUserId);
         } catch (GroupNotFoundException | UserNotMemberException e) {
@@ -280,6 +287,9 @@ public class SplitwiseGroupService {
                 addedCount++;
             }
             splitwiseGroupRepository.save(group);
+            if (addedCount > 0) {
+                eventPublisher.publishEvent(new SplitwiseGroupMembershipChangedEvent(groupId));
+            }
             
             log.info("Processing completed | operation=addMembers | groupId={} | userId={} | addedCount={} | status=SUCCESS", groupId, currentUserId, addedCount);
             return toGroupResponse(group);
@@ -310,6 +320,7 @@ public class SplitwiseGroupService {
             if (toRemove.isPresent()) {
                 group.removeMember(toRemove.get());
                 splitwiseGroupRepository.save(group);
+                eventPublisher.publishEvent(new SplitwiseGroupMembershipChangedEvent(groupId));
                 
                 log.info("Calling external service | service=ActivityService | operation=logMemberRemoved | groupId={} | memberId={}", groupId, memberId);
                 activityService.logMemberRemoved(memberId, group, currentUserId);
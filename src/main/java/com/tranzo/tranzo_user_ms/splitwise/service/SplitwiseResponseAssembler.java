@@ -0,0 +1,198 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseSplitResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.GroupResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.SettlementResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserResponse;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
+import com.tranzo.tranzo_user_ms.splitwise.entity.ExpenseSplit;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Settlement;
+import com.tranzo.tranzo_user_ms.splitwise.entity.SettlementExpense;
+import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
+import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
+import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
+import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maps splitwise entities to responses shared by the expense, settlement and balance services.
+ * Every user and group referenced by a result list is collected first and resolved with one IN
+ * query each (groups together with their trip titles), instead of a lookup per payer, split,
+ * settlement party or expense.
+ */
+@Component
+@RequiredArgsConstructor
+public class SplitwiseResponseAssembler {
+
+    private final UserRepository userRepository;
+    private final SplitwiseGroupRepository splitwiseGroupRepository;
+
+    public ExpenseResponse toExpenseResponse(Expense expense) {
+        return toExpenseResponses(List.of(expense)).get(0);
+    }
+
+    public List<ExpenseResponse> toExpenseResponses(List<Expense> expenses) {
+        Set<UUID> userIds = new HashSet<>();
+        Set<UUID> groupIds = new HashSet<>();
+        for (Expense expense : expenses) {
+            userIds.add(expense.getPaidBy());
+            groupIds.add(expense.getGroupId());
+            if (expense.getSplits() != null) {
+                expense.getSplits().forEach(split -> userIds.add(split.getUserId()));
+            }
+        }
+        Map<UUID, UserResponse> users = resolveUsers(userIds);
+        Map<UUID, GroupResponse> groups = resolveGroups(groupIds);
+        return expenses.stream()
+                .map(expense -> toExpenseResponse(expense, users, groups))
+                .collect(Collectors.toList());
+    }
+
+    public SettlementResponse toSettlementResponse(Settlement settlement) {
+        return toSettlementResponses(List.of(settlement)).get(0);
+    }
+
+    public List<SettlementResponse> toSettlementResponses(List<Settlement> settlements) {
+        Set<UUID> userIds = new HashSet<>();
+        Set<UUID> groupIds = new HashSet<>();
+        for (Settlement settlement : settlements) {
+            userIds.add(settlement.getPaidBy());
+            userIds.add(settlement.getPaidTo());
+            if (settlement.getGroup() != null) {
+                groupIds.add(settlement.getGroup().getId());
+            }
+        }
+        Map<UUID, UserResponse> users = resolveUsers(userIds);
+        Map<UUID, GroupResponse> groups = resolveGroups(groupIds);
+        return settlements.stream()
+                .map(settlement -> toSettlementResponse(settlement, users, groups))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Resolves users in one query. Unknown users map to a response carrying only their UUID.
+     */
+    public Map<UUID, UserResponse> resolveUsers(Collection<UUID> userIds) {
+        Set<UUID> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, UserResponse> users = new HashMap<>();
+        for (UsersEntity user : userRepository.findAllWithProfileByUserUuidIn(ids)) {
+            users.put(user.getUserUuid(), toUserResponse(user));
+        }
+        for (UUID id : ids) {
+            users.computeIfAbsent(id, missing -> UserResponse.builder().userUuid(missing).build());
+        }
+        return users;
+    }
+
+    /**
+     * Resolves group summaries (id, trip, name, description) in one query. A group is named after
+     * its trip when the trip exists, otherwise after its description.
+     */
+    public Map<UUID, GroupResponse> resolveGroups(Collection<UUID> groupIds) {
+        Set<UUID> ids = groupIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, GroupResponse> groups = new HashMap<>();
+        for (Object[] row : splitwiseGroupRepository.findWithTripTitleByIdIn(ids)) {
+            SplitwiseGroup group = (SplitwiseGroup) row[0];
+            String tripTitle = (String) row[1];
+            groups.put(group.getId(), GroupResponse.builder()
+                    .id(group.getId())
+                    .tripId(group.getTripId())
+                    .name(tripTitle != null ? tripTitle : group.getDescription())
+                    .description(group.getDescription())
+                    .build());
+        }
+        return groups;
+    }
+
+    private ExpenseResponse toExpenseResponse(Expense expense, Map<UUID, UserResponse> users, Map<UUID, GroupResponse> groups) {
+        List<ExpenseSplitResponse> splitResponses = expense.getSplits() == null ? List.of() : expense.getSplits().stream()
+                .map(s -> toExpenseSplitResponse(s, users))
+                .collect(Collectors.toList());
+        BigDecimal remaining = expense.getRemainingAmount();
+        return ExpenseResponse.builder()
+                .id(expense.getId())
+                .name(expense.getName())
+                .description(expense.getDescription())
+                .amount(expense.getAmount())
+                .paidBy(users.get(expense.getPaidBy()))
+                .group(groups.get(expense.getGroupId()))
+                .splitType(expense.getSplitType())
+                .category(expense.getCategory())
+                .expenseDate(expense.getExpenseDate())
+                .receiptUrl(expense.getReceiptUrl())
+                .createdAt(expense.getCreatedAt())
+                .updatedAt(expense.getUpdatedAt())
+                .splits(splitResponses)
+                .isSettled(expense.isFullySettled())
+                .remainingAmount(remaining != null && remaining.compareTo(BigDecimal.ZERO) <= 0 ? BigDecimal.ZERO : remaining)
+                .build();
+    }
+
+    private ExpenseSplitResponse toExpenseSplitResponse(ExpenseSplit split, Map<UUID, UserResponse> users) {
+        return ExpenseSplitResponse.builder()
+                .id(split.getId())
+                .user(users.get(split.getUserId()))
+                .amount(split.getAmount())
+                .percentage(split.getPercentage())
+                .createdAt(split.getCreatedAt())
+                .build();
+    }
+
+    private SettlementResponse toSettlementResponse(Settlement settlement, Map<UUID, UserResponse> users, Map<UUID, GroupResponse> groups) {
+        List<ExpenseResponse> settledExpenseResponses = new ArrayList<>();
+        if (settlement.getSettledExpenses() != null) {
+            for (SettlementExpense se : settlement.getSettledExpenses()) {
+                Expense exp = se.getExpense();
+                if (exp != null) {
+                    settledExpenseResponses.add(ExpenseResponse.builder()
+                            .id(exp.getId())
+                            .name(exp.getName())
+                            .amount(se.getAmount())
+                            .build());
+                }
+            }
+        }
+
+        return SettlementResponse.builder()
+                .id(settlement.getId())
+                .group(settlement.getGroup() != null ? groups.get(settlement.getGroup().getId()) : null)
+                .paidBy(users.get(settlement.getPaidBy()))
+                .paidTo(users.get(settlement.getPaidTo()))
+                .amount(settlement.getAmount())
+                .paymentMethod(settlement.getPaymentMethod())
+                .notes(settlement.getNotes())
+                .settledAt(settlement.getSettledAt())
+                .settledExpenses(settledExpenseResponses)
+                .isFullyAllocated(settlement.isFullyAllocated())
+                .remainingAmount(settlement.getRemainingAmount())
+                .status(settlement.getStatus())
+                .build();
+    }
+
+    private static UserResponse toUserResponse(UsersEntity user) {
+        String name = "";
+        if (user.getUserProfileEntity() != null) {
+            UserProfileEntity p = user.getUserProfileEntity();
+            name = (p.getFirstName() != null ? p.getFirstName() : "") + " " + (p.getLastName() != null ? p.getLastName() : "");
+        }
+        return UserResponse.builder()
+                .userUuid(user.getUserUuid())
+                .name(name.trim().isEmpty() ? null : name.trim())
+                .email(user.getEmail())
+                .mobileNumber(user.getMobileNumber())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tranzo.tranzo_user_ms.commons.events.SplitwiseBalancesChangedEvent;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserDashboardResponse;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Per-user cache of the Splitwise dashboard. Entries of every member of a group are dropped once a
+ * balance write in that group commits; the TTL bounds staleness from changes that publish no event
+ * (trip status, membership, counterparty names).
+ */
+@Component
+@Slf4j
+public class UserDashboardCache {
+
+    private final SplitwiseGroupRepository splitwiseGroupRepository;
+    private final Cache<UUID, UserDashboardResponse> dashboards;
+
+    public UserDashboardCache(SplitwiseGroupRepository splitwiseGroupRepository,
+                              @Value("${app.splitwise.dashboard-cache.max-size:10000}") long maxSize,
+                              @Value("${app.splitwise.dashboard-cache.ttl-minutes:5}") long ttlMinutes) {
+        this.splitwiseGroupRepository = splitwiseGroupRepository;
+        this.dashboards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public UserDashboardResponse get(UUID userId, Function<UUID, UserDashboardResponse> loader) {
+        return dashboards.get(userId, loader);
+    }
+
+    public void evict(UUID userId) {
+        dashboards.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalancesChanged(SplitwiseBalancesChangedEvent event) {
+        List<UUID> memberIds = splitwiseGroupRepository.findMemberUserIds(event.getGroupId());
+        dashboards.invalidateAll(memberIds);
+        log.debug("Dashboard cache evicted | groupId={} | members={}", event.getGroupId(), memberIds.size());
+    }
+}
@@ -1,25 +1,88 @@
 package com.tranzo.tranzo_user_ms.trip.client;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tranzo.tranzo_user_ms.commons.events.TripCompletedEvent;
 import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
 import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Completed-trip counts per user, answered by COUNT queries and kept in a bounded Caffeine cache.
+ * A trip only becomes COMPLETED through {@code TripManagementService.autoMarkTripsAsCompleted},
+ * which publishes a {@link TripCompletedEvent}; its members' counts are evicted once that commits.
+ * The TTL covers members leaving a trip after it completed.
+ */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class TripStatisticsClient {
 
+    private static final List<TripStatus> COMPLETED_STATUS = List.of(TripStatus.COMPLETED);
+
     private final TripMemberRepository tripMemberRepository;
+    private final Cache<UUID, Integer> completedTripsCounts;
+
+    public TripStatisticsClient(TripMemberRepository tripMemberRepository,
+                                @Value("${app.trip.completed-trips-cache.max-size:50000}") long maxSize,
+                                @Value("${app.trip.completed-trips-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.tripMemberRepository = tripMemberRepository;
+        this.completedTripsCounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
 
     /**
      * Gets the number of completed trips for a user
      */
     public Integer getCompletedTripsCount(UUID userId) {
-        List<TripStatus> completedStatus = List.of(TripStatus.COMPLETED);
-        List<?> completedTrips = tripMemberRepository.findTripsByUserIdAndStatusIn(userId, completedStatus);
-        return completedTrips.size();
+        return completedTripsCounts.get(userId,
+                id -> Math.toIntExact(tripMemberRepository.countTripsByUserIdAndStatusIn(id, COMPLETED_STATUS)));
+    }
+
+    /**
+     * Gets the number of completed trips for each user; cache misses are loaded in one grouped query.
+     * Users without completed trips map to 0.
+     */
+    public Map<UUID, Integer> getCompletedTripsCounts(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return new HashMap<>(completedTripsCounts.getAll(userIds, this::loadCompletedTripsCounts));
+    }
+
+    /**
+     * Drop the members' cached counts; runs once the trip's completion is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTripCompleted(TripCompletedEvent event) {
+        if (event.getMemberUserIds() == null || event.getMemberUserIds().isEmpty()) {
+            return;
+        }
+        completedTripsCounts.invalidateAll(event.getMemberUserIds());
+        log.debug("Evicted completed trip counts | tripId={} | members={}",
+                event.getTripId(), event.getMemberUserIds().size());
+    }
+
+    private Map<UUID, Integer> loadCompletedTripsCounts(Set<? extends UUID> userIds) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        for (UUID userId : userIds) {
+            counts.put(userId, 0);
+        }
+        for (Object[] row : tripMemberRepository.countTripsByUserIdsAndStatusIn(List.copyOf(userIds), COMPLETED_STATUS)) {
+            counts.put((UUID) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
     }
 }
@@ -56,6 +56,33 @@ public class DiscoveryController {
         );
     }
 
+    /**
+     * GET /trips/recent
+     * Fetch published trips with a stable keyset cursor, ordered by recency (newest first).
+     * Not ranked by featured score; trips the caller already belongs to are left out.
+     */
+    @GetMapping("/recent")
+    @Operation(
+        summary = "Get recent trips feed",
+        description = "Cursor-paginated published trips, newest first (not ranked by featured score). Pass nextCursor from the previous response to fetch the next page."
+    )
+    public ResponseEntity<ResponseDto<FeaturedTripsPageDto>> getRecentTripsFeed(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size (max 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("GET /trips/recent - size: {}, hasCursor: {}", size, cursor != null);
+        UUID userId = SecurityUtils.getCurrentUserUuidOptional().orElse(null);
+
+        FeaturedTripsPageDto trips = discoveryService.getFeaturedTripsPage(cursor, size, userId);
+
+        return ResponseEntity.ok(
+            ResponseDto.success("Recent trips fetched successfully", trips)
+        );
+    }
+
     /**
      * POST /trips/recommended
      * Fetch recommended trips with advanced filtering
@@ -105,5 +132,29 @@ public class DiscoveryController {
             throw e;
         }
     }
-}
 
+    /**
+     * GET /trips/trending-destinations/ranked
+     * Fetch ranked trending destinations with trend metrics for a time window
+     */
+    @GetMapping("/trending-destinations/ranked")
+    @Operation(
+        summary = "Get ranked trending destinations",
+        description = "Rank destinations by trip creation velocity, participant momentum, and availability over a 7d, 14d or 30d window."
+    )
+    public ResponseEntity<ResponseDto<TrendingDestinationsResponse>> getRankedTrendingDestinations(
+            @Parameter(description = "Time window: 7d, 14d or 30d", example = "7d")
+            @RequestParam(defaultValue = "7d") String window,
+
+            @Parameter(description = "Number of destinations (max 50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.info("Incoming request | API=/trips/trending-destinations/ranked | method=GET | window={} | limit={}", window, limit);
+
+        TrendingDestinationsResponse response = discoveryService.getRankedTrendingDestinations(window, limit);
+
+        return ResponseEntity.ok(
+            ResponseDto.success("Trending destinations fetched successfully", response)
+        );
+    }
+}
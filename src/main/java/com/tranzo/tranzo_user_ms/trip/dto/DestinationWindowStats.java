@@ -0,0 +1,17 @@
+package com.tranzo.tranzo_user_ms.trip.dto;
+
+/**
+ * Aggregated trending inputs for one destination over a time window,
+ * summed from the per-day trip_destination_daily_stats rollup.
+ */
+public record DestinationWindowStats(
+        String destination,
+        int tripCount,
+        int totalParticipants,
+        double fillRatioSum,
+        int fullTrips
+) {
+    public int availableTrips() {
+        return tripCount - fullTrips;
+    }
+}
@@ -0,0 +1,20 @@
+package com.tranzo.tranzo_user_ms.trip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeaturedTripsPageDto {
+    private List<TripViewDto> trips = new ArrayList<>();
+    /** Opaque token for the next page; null when there are no more trips. */
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,48 @@
+package com.tranzo.tranzo_user_ms.trip.dto;
+
+import java.util.*;
+
+/**
+ * Immutable view of a trip's ACTIVE members: the host, the co-hosts and every active member
+ * (host and co-hosts included), stamped with the cache version it was loaded under.
+ */
+public record TripMembershipSnapshot(
+        UUID tripId,
+        long version,
+        UUID hostUserId,
+        Set<UUID> coHostUserIds,
+        Set<UUID> memberUserIds
+) {
+    public TripMembershipSnapshot {
+        coHostUserIds = Set.copyOf(coHostUserIds);
+        memberUserIds = Collections.unmodifiableSet(new LinkedHashSet<>(memberUserIds));
+    }
+
+    public boolean isHost(UUID userId) {
+        return userId != null && userId.equals(hostUserId);
+    }
+
+    public boolean isCoHost(UUID userId) {
+        return userId != null && coHostUserIds.contains(userId);
+    }
+
+    public boolean isHostOrCoHost(UUID userId) {
+        return isHost(userId) || isCoHost(userId);
+    }
+
+    public boolean isActiveMember(UUID userId) {
+        return memberUserIds.contains(userId);
+    }
+
+    public int memberCount() {
+        return memberUserIds.size();
+    }
+
+    public List<UUID> memberUserIdList() {
+        return List.copyOf(memberUserIds);
+    }
+
+    public List<UUID> memberUserIdsExcluding(UUID userId) {
+        return memberUserIds.stream().filter(id -> !id.equals(userId)).toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.tranzo.tranzo_user_ms.trip.events;
+
+import com.tranzo.tranzo_user_ms.commons.events.TripDiscoveryInputsChangedEvent;
+import com.tranzo.tranzo_user_ms.trip.service.DiscoveryScoreRefreshService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listens to TripDiscoveryInputsChangedEvent and refreshes the trip's row in trip_discovery_score.
+ * Runs after commit (the service opens its own transaction), so the score is computed from the
+ * committed trip state and a failed refresh can never roll back the trip write; it is logged and
+ * left for the daily re-score.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DiscoveryScoreEventListener {
+
+    private final DiscoveryScoreRefreshService discoveryScoreRefreshService;
+
+    @TransactionalEventListener
+    public void onDiscoveryInputsChanged(TripDiscoveryInputsChangedEvent event) {
+        try {
+            discoveryScoreRefreshService.refreshTrip(event.getTripId());
+        } catch (Exception e) {
+            log.error("Failed to refresh discovery score for tripId={}", event.getTripId(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.tranzo.tranzo_user_ms.trip.events;
+
+import com.tranzo.tranzo_user_ms.commons.events.TripDiscoveryInputsChangedEvent;
+import com.tranzo.tranzo_user_ms.trip.service.TrendingRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Listens to TripDiscoveryInputsChangedEvent and refreshes the trip's trending rollup bucket.
+ * Runs after commit (the service opens its own transaction): buckets are shared by many trips, so recomputing
+ * from committed rows keeps concurrent writers from overwriting each other with stale counts,
+ * and a conflict here can never roll back the trip write itself.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TrendingRollupEventListener {
+
+    private final TrendingRollupService trendingRollupService;
+
+    @TransactionalEventListener
+    public void onDiscoveryInputsChanged(TripDiscoveryInputsChangedEvent event) {
+        try {
+            trendingRollupService.refreshForTrip(event.getTripId(), event.getPreviousDestination());
+        } catch (Exception e) {
+            log.error("Failed to refresh trending rollup for tripId={}", event.getTripId(), e);
+        }
+    }
+}
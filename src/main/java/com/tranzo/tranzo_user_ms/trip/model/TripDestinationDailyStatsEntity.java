@@ -0,0 +1,57 @@
+package com.tranzo.tranzo_user_ms.trip.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-destination, per-day rollup of discoverable (PUBLISHED + PUBLIC) trips, bucketed by the
+ * trip's creation date. Trending windows sum a handful of these rows instead of loading trips.
+ */
+@Entity
+@Table(
+    name = "trip_destination_daily_stats",
+    indexes = {
+        @Index(name = "idx_destination_daily_stats_date", columnList = "stat_date")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_destination_daily_stats", columnNames = {"destination", "stat_date"})
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TripDestinationDailyStatsEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "stats_id", updatable = false, nullable = false)
+    private UUID statsId;
+
+    @Column(name = "destination", nullable = false)
+    private String destination;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "trips_published", nullable = false)
+    private Integer tripsPublished;
+
+    @Column(name = "total_participants", nullable = false)
+    private Integer totalParticipants;
+
+    /** Sum of currentParticipants / maxParticipants over the bucket's trips. */
+    @Column(name = "fill_ratio_sum", nullable = false)
+    private Double fillRatioSum;
+
+    @Column(name = "full_trips", nullable = false)
+    private Integer fullTrips;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
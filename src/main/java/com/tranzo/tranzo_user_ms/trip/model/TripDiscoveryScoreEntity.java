@@ -0,0 +1,41 @@
+package com.tranzo.tranzo_user_ms.trip.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Precomputed discovery scores for a discoverable (PUBLISHED + PUBLIC) trip.
+ * Rows are refreshed when the scoring inputs change and once a day for recency/timing decay,
+ * so featured and recommended pages can be served straight from the score indexes.
+ */
+@Entity
+@Table(
+    name = "trip_discovery_score",
+    indexes = {
+        @Index(name = "idx_discovery_featured_score", columnList = "featured_score DESC, trip_id DESC"),
+        @Index(name = "idx_discovery_recommended_score", columnList = "recommended_score DESC, trip_id DESC")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TripDiscoveryScoreEntity {
+
+    @Id
+    @Column(name = "trip_id", updatable = false, nullable = false)
+    private UUID tripId;
+
+    @Column(name = "featured_score", nullable = false)
+    private Double featuredScore;
+
+    @Column(name = "recommended_score", nullable = false)
+    private Double recommendedScore;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
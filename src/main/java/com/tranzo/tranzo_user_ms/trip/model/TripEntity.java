@@ -18,7 +18,8 @@ import java.util.*;
 @Table(name = "core_trip_details", indexes = {
         @Index(name = "idx_trip_status", columnList = "trip_status"),
         @Index(name = "idx_trip_status_start_date", columnList = "trip_status, trip_start_date"),
-        @Index(name = "idx_trip_status_end_date", columnList = "trip_status, trip_end_date")
+        @Index(name = "idx_trip_status_end_date", columnList = "trip_status, trip_end_date"),
+        @Index(name = "idx_trip_status_created_at_id", columnList = "trip_status, created_at DESC, trip_id DESC")
 })
 @Getter
 @Setter
@@ -0,0 +1,80 @@
+package com.tranzo.tranzo_user_ms.trip.repository;
+
+import com.tranzo.tranzo_user_ms.trip.model.TripDestinationDailyStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TripDestinationDailyStatsRepository extends JpaRepository<TripDestinationDailyStatsEntity, UUID> {
+
+    /**
+     * Recompute one (destination, day) bucket from discoverable trips and write it in a single
+     * INSERT ... SELECT ... ON CONFLICT DO UPDATE, so concurrent refreshes of a shared bucket never
+     * trip over the unique key and each write carries totals aggregated at that statement.
+     * Writes nothing (returns 0) when the bucket has no trips.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO trip_destination_daily_stats
+            (stats_id, destination, stat_date, trips_published, total_participants, fill_ratio_sum, full_trips, updated_at)
+        SELECT :statsId, :destination, :statDate,
+               COUNT(*),
+               COALESCE(SUM(t.current_participants), 0),
+               COALESCE(SUM(CASE WHEN t.max_participants > 0
+                                 THEN (t.current_participants * 1.0) / t.max_participants ELSE 0.0 END), 0.0),
+               COALESCE(SUM(CASE WHEN t.is_full = true THEN 1 ELSE 0 END), 0),
+               :updatedAt
+        FROM core_trip_details t
+        WHERE t.trip_status = 'PUBLISHED'
+          AND t.visibility_status = 'PUBLIC'
+          AND t.trip_destination = :destination
+          AND t.created_at >= :dayStart
+          AND t.created_at < :dayEnd
+        HAVING COUNT(*) > 0
+        ON CONFLICT (destination, stat_date) DO UPDATE SET
+            trips_published = EXCLUDED.trips_published,
+            total_participants = EXCLUDED.total_participants,
+            fill_ratio_sum = EXCLUDED.fill_ratio_sum,
+            full_trips = EXCLUDED.full_trips,
+            updated_at = EXCLUDED.updated_at
+    """, nativeQuery = true)
+    int upsertBucketFromTrips(
+        @Param("statsId") UUID statsId,
+        @Param("destination") String destination,
+        @Param("statDate") LocalDate statDate,
+        @Param("dayStart") LocalDateTime dayStart,
+        @Param("dayEnd") LocalDateTime dayEnd,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM TripDestinationDailyStatsEntity s WHERE s.destination = :destination AND s.statDate = :statDate")
+    int deleteBucket(@Param("destination") String destination, @Param("statDate") LocalDate statDate);
+
+    /**
+     * Sum the daily buckets of a window per destination.
+     * Returns: [destination, tripsPublished, totalParticipants, fillRatioSum, fullTrips]
+     */
+    @Query("""
+        SELECT s.destination, SUM(s.tripsPublished), SUM(s.totalParticipants), SUM(s.fillRatioSum), SUM(s.fullTrips)
+        FROM TripDestinationDailyStatsEntity s
+        WHERE s.statDate BETWEEN :windowStart AND :windowEnd
+        GROUP BY s.destination
+    """)
+    List<Object[]> sumByDestinationInWindow(
+        @Param("windowStart") LocalDate windowStart,
+        @Param("windowEnd") LocalDate windowEnd
+    );
+
+    @Modifying
+    @Query("DELETE FROM TripDestinationDailyStatsEntity s WHERE s.statDate >= :since")
+    int deleteByStatDateFrom(@Param("since") LocalDate since);
+}
@@ -2,6 +2,7 @@ package com.tranzo.tranzo_user_ms.trip.repository;
 
 import com.tranzo.tranzo_user_ms.trip.enums.JoinPolicy;
 import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,21 +23,31 @@ import java.util.UUID;
 public interface TripDiscoveryRepository extends JpaRepository<TripEntity, UUID> {
 
     /**
-     * Fetch featured trip candidates
-     * Filters: PUBLISHED + PUBLIC + Future start date
-     * Returns: Ordered by creation date (newest first)
+     * Featured page served from the precomputed score table.
+     * Filters: PUBLISHED + PUBLIC + Future start date + Budget
+     * Returns: [TripEntity, featuredScore] ordered by score (ties broken by trip id)
      */
-    @Query("""
-        SELECT t
-        FROM TripEntity t
+    @Query(value = """
+        SELECT t, s.featuredScore
+        FROM TripDiscoveryScoreEntity s
+        JOIN TripEntity t ON t.tripId = s.tripId
         WHERE t.tripStatus = com.tranzo.tranzo_user_ms.trip.enums.TripStatus.PUBLISHED
           AND t.visibilityStatus = com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus.PUBLIC
-          AND t.tripStartDate >= CAST(:today AS LocalDate)
+          AND t.tripStartDate >= :today
+          AND (:budgetMin IS NULL OR t.estimatedBudget >= :budgetMin)
+          AND (:budgetMax IS NULL OR t.estimatedBudget <= :budgetMax)
+        ORDER BY s.featuredScore DESC, s.tripId DESC
+    """, countQuery = """
+        SELECT COUNT(s)
+        FROM TripDiscoveryScoreEntity s
+        JOIN TripEntity t ON t.tripId = s.tripId
+        WHERE t.tripStatus = com.tranzo.tranzo_user_ms.trip.enums.TripStatus.PUBLISHED
+          AND t.visibilityStatus = com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus.PUBLIC
+          AND t.tripStartDate >= :today
           AND (:budgetMin IS NULL OR t.estimatedBudget >= :budgetMin)
           AND (:budgetMax IS NULL OR t.estimatedBudget <= :budgetMax)
-        ORDER BY t.createdAt DESC
     """)
-    List<TripEntity> findFeaturedTripCandidates(
+    Page<Object[]> findFeaturedTripsByScore(
         @Param("today") LocalDate today,
         @Param("budgetMin") Double budgetMin,
         @Param("budgetMax") Double budgetMax,
@@ -43,47 +55,103 @@ public interface TripDiscoveryRepository extends JpaRepository<TripEntity, UUID>
     );
 
     /**
-     * Fetch recommended trip candidates with destination filter
+     * Recommended page served from the precomputed score table.
      * Filters: PUBLISHED + PUBLIC + Date range + Budget + Destination + Join Policy
+     * Returns: [TripEntity, recommendedScore] ordered by score (ties broken by trip id)
      */
     @Query(value = """
-        SELECT *
-        FROM core_trip_details t
-        WHERE t.trip_status = 'PUBLISHED'
-          AND t.visibility_status = 'PUBLIC'
-          AND t.trip_start_date BETWEEN CAST(:startMin AS DATE) AND CAST(:startMax AS DATE)
-          AND (:destination IS NULL OR t.trip_destination LIKE CONCAT('%', CAST(:destination AS TEXT), '%'))
-          AND (:budgetMin IS NULL OR t.estimated_budget >= CAST(:budgetMin AS DOUBLE PRECISION))
-          AND (:budgetMax IS NULL OR t.estimated_budget <= CAST(:budgetMax AS DOUBLE PRECISION))
-          AND (:joinPolicy IS NULL OR t.join_policy = CAST(:joinPolicy AS TEXT))
-        ORDER BY t.created_at DESC
-        LIMIT CAST(:limit AS INTEGER)
-        """, nativeQuery = true)
-    List<TripEntity> findRecommendedTripCandidates(
+        SELECT t, s.recommendedScore
+        FROM TripDiscoveryScoreEntity s
+        JOIN TripEntity t ON t.tripId = s.tripId
+        WHERE t.tripStatus = com.tranzo.tranzo_user_ms.trip.enums.TripStatus.PUBLISHED
+          AND t.visibilityStatus = com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus.PUBLIC
+          AND t.tripStartDate BETWEEN :startMin AND :startMax
+          AND (:destination IS NULL OR t.tripDestination LIKE CONCAT('%', :destination, '%'))
+          AND (:budgetMin IS NULL OR t.estimatedBudget >= :budgetMin)
+          AND (:budgetMax IS NULL OR t.estimatedBudget <= :budgetMax)
+          AND (:joinPolicy IS NULL OR t.joinPolicy = :joinPolicy)
+        ORDER BY s.recommendedScore DESC, s.tripId DESC
+    """, countQuery = """
+        SELECT COUNT(s)
+        FROM TripDiscoveryScoreEntity s
+        JOIN TripEntity t ON t.tripId = s.tripId
+        WHERE t.tripStatus = com.tranzo.tranzo_user_ms.trip.enums.TripStatus.PUBLISHED
+          AND t.visibilityStatus = com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus.PUBLIC
+          AND t.tripStartDate BETWEEN :startMin AND :startMax
+          AND (:destination IS NULL OR t.tripDestination LIKE CONCAT('%', :destination, '%'))
+          AND (:budgetMin IS NULL OR t.estimatedBudget >= :budgetMin)
+          AND (:budgetMax IS NULL OR t.estimatedBudget <= :budgetMax)
+          AND (:joinPolicy IS NULL OR t.joinPolicy = :joinPolicy)
+    """)
+    Page<Object[]> findRecommendedTripsByScore(
         @Param("startMin") LocalDate startMin,
         @Param("startMax") LocalDate startMax,
         @Param("destination") String destination,
         @Param("budgetMin") Double budgetMin,
         @Param("budgetMax") Double budgetMax,
-        @Param("joinPolicy") String joinPolicy,
-        @Param("limit") Integer limit
+        @Param("joinPolicy") JoinPolicy joinPolicy,
+        Pageable pageable
     );
 
     /**
-     * Fetch trips created within a specific date window (for trending)
-     * Used to compute trending destination metrics
+     * Discoverable trips (PUBLISHED + PUBLIC) in a stable order, for the periodic score refresh
      */
     @Query("""
         SELECT t
         FROM TripEntity t
         WHERE t.tripStatus = com.tranzo.tranzo_user_ms.trip.enums.TripStatus.PUBLISHED
           AND t.visibilityStatus = com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus.PUBLIC
-          AND t.createdAt BETWEEN :windowStart AND :windowEnd
-        ORDER BY t.createdAt DESC
+        ORDER BY t.tripId
+    """)
+    List<TripEntity> findDiscoverableTrips(Pageable pageable);
+
+    /**
+     * Trending rollup inputs for every destination and creation day since a point in time
+     * Returns: [destination, createdDate, tripCount, totalParticipants, fillRatioSum, fullTrips]
+     */
+    @Query("""
+        SELECT t.tripDestination,
+               CAST(t.createdAt AS LocalDate),
+               COUNT(t.tripId),
+               COALESCE(SUM(t.currentParticipants), 0),
+               COALESCE(SUM(CASE WHEN t.maxParticipants > 0 THEN (t.currentParticipants * 1.0) / t.maxParticipants ELSE 0.0 END), 0.0),
+               COALESCE(SUM(CASE WHEN t.isFull = true THEN 1 ELSE 0 END), 0)
+        FROM TripEntity t
+        WHERE t.tripStatus = com.tranzo.tranzo_user_ms.trip.enums.TripStatus.PUBLISHED
+          AND t.visibilityStatus = com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus.PUBLIC
+          AND t.tripDestination IS NOT NULL
+          AND t.createdAt >= :since
+        GROUP BY t.tripDestination, CAST(t.createdAt AS LocalDate)
     """)
-    List<TripEntity> findTripsInWindow(
+    List<Object[]> aggregateTrendingInputsByDaySince(@Param("since") LocalDateTime since);
+
+    /**
+     * Newest few trips per destination in a window, as plain columns (no entity hydration)
+     * Returns: [tripId, title, description, destination, startDate, endDate, budget, maxParticipants, currentParticipants, isFull]
+     */
+    @Query(value = """
+        SELECT ranked.trip_id, ranked.trip_title, ranked.trip_description, ranked.trip_destination,
+               ranked.trip_start_date, ranked.trip_end_date, ranked.estimated_budget,
+               ranked.max_participants, ranked.current_participants, ranked.is_full
+        FROM (
+            SELECT t.trip_id, t.trip_title, t.trip_description, t.trip_destination,
+                   t.trip_start_date, t.trip_end_date, t.estimated_budget,
+                   t.max_participants, t.current_participants, t.is_full, t.created_at,
+                   ROW_NUMBER() OVER (PARTITION BY t.trip_destination ORDER BY t.created_at DESC) AS rn
+            FROM core_trip_details t
+            WHERE t.trip_status = 'PUBLISHED'
+              AND t.visibility_status = 'PUBLIC'
+              AND t.created_at BETWEEN :windowStart AND :windowEnd
+              AND t.trip_destination IN (:destinations)
+        ) ranked
+        WHERE ranked.rn <= :perDestination
+        ORDER BY ranked.trip_destination, ranked.created_at DESC
+        """, nativeQuery = true)
+    List<Object[]> findSampleTripsByDestinations(
+        @Param("destinations") Collection<String> destinations,
         @Param("windowStart") LocalDateTime windowStart,
-        @Param("windowEnd") LocalDateTime windowEnd
+        @Param("windowEnd") LocalDateTime windowEnd,
+        @Param("perDestination") int perDestination
     );
 
     /**
@@ -0,0 +1,49 @@
+package com.tranzo.tranzo_user_ms.trip.repository;
+
+import com.tranzo.tranzo_user_ms.trip.model.TripDiscoveryScoreEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface TripDiscoveryScoreRepository extends JpaRepository<TripDiscoveryScoreEntity, UUID> {
+
+    /**
+     * Drop score rows for trips that left the discoverable set without an explicit refresh
+     * (e.g. auto-transitioned to ONGOING/COMPLETED by the scheduler).
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM TripDiscoveryScoreEntity s
+        WHERE s.tripId NOT IN (
+            SELECT t.tripId
+            FROM TripEntity t
+            WHERE t.tripStatus = com.tranzo.tranzo_user_ms.trip.enums.TripStatus.PUBLISHED
+              AND t.visibilityStatus = com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus.PUBLIC
+        )
+    """)
+    int deleteNonDiscoverable();
+
+    /**
+     * Insert or overwrite one trip's scores in a single statement, so concurrent first refreshes
+     * of the same trip cannot collide on the primary key.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO trip_discovery_score (trip_id, featured_score, recommended_score, computed_at)
+        VALUES (:tripId, :featuredScore, :recommendedScore, :computedAt)
+        ON CONFLICT (trip_id) DO UPDATE SET
+            featured_score = EXCLUDED.featured_score,
+            recommended_score = EXCLUDED.recommended_score,
+            computed_at = EXCLUDED.computed_at
+    """, nativeQuery = true)
+    int upsertScore(@Param("tripId") UUID tripId,
+                    @Param("featuredScore") double featuredScore,
+                    @Param("recommendedScore") double recommendedScore,
+                    @Param("computedAt") LocalDateTime computedAt);
+}
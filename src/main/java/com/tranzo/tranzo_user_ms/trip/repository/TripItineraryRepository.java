@@ -2,10 +2,17 @@ package com.tranzo.tranzo_user_ms.trip.repository;
 
 import com.tranzo.tranzo_user_ms.trip.model.TripItineraryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TripItineraryRepository extends JpaRepository<TripItineraryEntity, UUID> {
     Optional<TripItineraryEntity> findByTrip_TripIdAndDayNumber(UUID tripId, Integer dayNumber);
+
+    @Query("SELECT i.trip.tripId, i FROM TripItineraryEntity i WHERE i.trip.tripId IN :tripIds")
+    List<Object[]> findByTripIds(@Param("tripIds") Collection<UUID> tripIds);
 }
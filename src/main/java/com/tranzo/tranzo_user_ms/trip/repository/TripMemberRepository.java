@@ -5,10 +5,13 @@ import com.tranzo.tranzo_user_ms.trip.enums.TripMemberStatus;
 import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
 import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
 import com.tranzo.tranzo_user_ms.trip.model.TripMemberEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +32,18 @@ public interface TripMemberRepository extends JpaRepository<TripMemberEntity, UU
 
     int countByTrip_TripIdAndStatus(UUID tripId, TripMemberStatus status);
 
+    /**
+     * (userId, role) of every ACTIVE member of a trip, in join order.
+     */
+    @Query("""
+        SELECT tm.userId, tm.role
+        FROM TripMemberEntity tm
+        WHERE tm.trip.tripId = :tripId
+          AND tm.status = 'ACTIVE'
+        ORDER BY tm.joinedAt
+    """)
+    List<Object[]> findActiveUserIdsAndRolesByTripId(@Param("tripId") UUID tripId);
+
     @Query("""
         SELECT tm.trip
         FROM TripMemberEntity tm
@@ -41,6 +56,18 @@ public interface TripMemberRepository extends JpaRepository<TripMemberEntity, UU
             @Param("statuses") List<TripStatus> statuses
     );
 
+    @Query("""
+        SELECT COUNT(tm)
+        FROM TripMemberEntity tm
+        WHERE tm.userId = :userId
+        AND tm.trip.tripStatus IN :statuses
+        AND tm.status = 'ACTIVE'
+    """)
+    long countTripsByUserIdAndStatusIn(
+            @Param("userId") UUID userId,
+            @Param("statuses") List<TripStatus> statuses
+    );
+
     @Query("""
     SELECT t
     FROM TripEntity t
@@ -52,9 +79,75 @@ public interface TripMemberRepository extends JpaRepository<TripMemberEntity, UU
             AND tm.userId = :userId
             AND tm.status = 'ACTIVE'
       )
+    ORDER BY t.createdAt DESC, t.tripId DESC
 """)
     List<TripEntity> findTripsUserIsNotPartOf(
             @Param("userId") UUID userId,
+            @Param("statuses") List<TripStatus> statuses,
+            Pageable pageable
+    );
+
+    /**
+     * Keyset variant of findTripsUserIsNotPartOf: returns the trips strictly after the
+     * (createdAt, tripId) cursor in (createdAt DESC, tripId DESC) order.
+     */
+    @Query("""
+    SELECT t
+    FROM TripEntity t
+    WHERE t.tripStatus IN :statuses
+      AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.tripId < :tripId))
+      AND NOT EXISTS (
+          SELECT 1
+          FROM TripMemberEntity tm
+          WHERE tm.trip = t
+            AND tm.userId = :userId
+            AND tm.status = 'ACTIVE'
+      )
+    ORDER BY t.createdAt DESC, t.tripId DESC
+""")
+    List<TripEntity> findTripsUserIsNotPartOfAfter(
+            @Param("userId") UUID userId,
+            @Param("statuses") List<TripStatus> statuses,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("tripId") UUID tripId,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT tm.trip.tripId, COUNT(tm)
+        FROM TripMemberEntity tm
+        WHERE tm.trip.tripId IN :tripIds
+          AND tm.status = 'ACTIVE'
+        GROUP BY tm.trip.tripId
+    """)
+    List<Object[]> countActiveMembersByTripIds(@Param("tripIds") Collection<UUID> tripIds);
+
+    @Query("""
+        SELECT tm.trip.tripId, tm.userId
+        FROM TripMemberEntity tm
+        WHERE tm.trip.tripId IN :tripIds
+          AND tm.role = :role
+          AND tm.status = 'ACTIVE'
+    """)
+    List<Object[]> findActiveUserIdsByTripIdsAndRole(
+            @Param("tripIds") Collection<UUID> tripIds,
+            @Param("role") TripMemberRole role
+    );
+
+    /**
+     * Active memberships per user on trips in the given statuses
+     * Returns: [userId, count]
+     */
+    @Query("""
+        SELECT tm.userId, COUNT(tm)
+        FROM TripMemberEntity tm
+        WHERE tm.userId IN :userIds
+          AND tm.trip.tripStatus IN :statuses
+          AND tm.status = 'ACTIVE'
+        GROUP BY tm.userId
+    """)
+    List<Object[]> countTripsByUserIdsAndStatusIn(
+            @Param("userIds") Collection<UUID> userIds,
             @Param("statuses") List<TripStatus> statuses
     );
 }
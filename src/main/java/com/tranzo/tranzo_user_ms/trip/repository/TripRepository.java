@@ -14,6 +14,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +32,20 @@ public interface TripRepository extends JpaRepository<TripEntity, UUID>, JpaSpec
 
     List<TripEntity> findByTripStatus(TripStatus status);
 
+    @Query("SELECT t FROM TripEntity t WHERE t.tripStatus IN :statuses ORDER BY t.createdAt DESC, t.tripId DESC")
+    List<TripEntity> findByTripStatusInNewestFirst(
+            @Param("statuses") List<TripStatus> statuses,
+            Pageable pageable);
+
+    @Query("SELECT t FROM TripEntity t WHERE t.tripStatus IN :statuses " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.tripId < :tripId)) " +
+            "ORDER BY t.createdAt DESC, t.tripId DESC")
+    List<TripEntity> findByTripStatusInNewestFirstAfter(
+            @Param("statuses") List<TripStatus> statuses,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("tripId") UUID tripId,
+            Pageable pageable);
+
     Optional<TripEntity> findByTripIdAndTripStatus(
             UUID tripId, TripStatus status
     );
@@ -79,4 +95,10 @@ public interface TripRepository extends JpaRepository<TripEntity, UUID>, JpaSpec
     List<TrendingDestinationProjection> findTrendingDestinations(
             @Param("status") TripStatus status
     );
+
+    @Query("SELECT t.tripId, tag FROM TripEntity t JOIN t.tripTags tag WHERE t.tripId IN :tripIds")
+    List<Object[]> findTagsByTripIds(@Param("tripIds") Collection<UUID> tripIds);
+
+    @Query("SELECT t.tripId, i FROM TripEntity t JOIN t.tripImages i WHERE t.tripId IN :tripIds")
+    List<Object[]> findImagesByTripIds(@Param("tripIds") Collection<UUID> tripIds);
 }
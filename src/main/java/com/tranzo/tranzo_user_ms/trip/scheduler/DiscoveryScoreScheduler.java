@@ -0,0 +1,63 @@
+package com.tranzo.tranzo_user_ms.trip.scheduler;
+
+import com.tranzo.tranzo_user_ms.trip.repository.TripDestinationDailyStatsRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryScoreRepository;
+import com.tranzo.tranzo_user_ms.trip.service.DiscoveryScoreRefreshService;
+import com.tranzo.tranzo_user_ms.trip.service.TrendingRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Re-scores discoverable trips once a day so recency and booking-window components age,
+ * reconciles the trending rollup for the longest trending window, and backfills both
+ * tables on startup when they are still empty.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiscoveryScoreScheduler {
+
+    // Longest trending window is 30d; include today
+    private static final int TRENDING_ROLLUP_DAYS = 31;
+
+    private final DiscoveryScoreRefreshService discoveryScoreRefreshService;
+    private final TripDiscoveryScoreRepository tripDiscoveryScoreRepository;
+    private final TrendingRollupService trendingRollupService;
+    private final TripDestinationDailyStatsRepository tripDestinationDailyStatsRepository;
+
+    @Scheduled(cron = "${trip.discovery.score-refresh-cron:0 15 0 * * ?}")
+    public void refreshDiscoveryScores() {
+        try {
+            discoveryScoreRefreshService.refreshAll();
+        } catch (Exception e) {
+            log.error("Discovery score scheduler: Failed to refresh discovery scores", e);
+        }
+    }
+
+    @Scheduled(cron = "${trip.discovery.trending-rollup-cron:0 30 0 * * ?}")
+    public void rebuildTrendingRollup() {
+        try {
+            trendingRollupService.rebuildSince(LocalDate.now().minusDays(TRENDING_ROLLUP_DAYS - 1));
+        } catch (Exception e) {
+            log.error("Discovery score scheduler: Failed to rebuild trending rollup", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (tripDiscoveryScoreRepository.count() == 0) {
+            log.info("Discovery score scheduler: Backfilling empty trip_discovery_score table");
+            refreshDiscoveryScores();
+        }
+        if (tripDestinationDailyStatsRepository.count() == 0) {
+            log.info("Discovery score scheduler: Backfilling empty trip_destination_daily_stats table");
+            rebuildTrendingRollup();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.tranzo.tranzo_user_ms.trip.service;
+
+import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
+import com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus;
+import com.tranzo.tranzo_user_ms.trip.model.TripDiscoveryScoreEntity;
+import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryScoreRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains trip_discovery_score so featured/recommended pages never score on the request path.
+ * Single trips are refreshed when their scoring inputs change; {@link #refreshAll()} re-scores
+ * every discoverable trip for the time-based parts of the scores (recency, booking window).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DiscoveryScoreRefreshService {
+
+    private static final int REFRESH_BATCH_SIZE = 200;
+
+    private final TripRepository tripRepository;
+    private final TripDiscoveryRepository tripDiscoveryRepository;
+    private final TripDiscoveryScoreRepository tripDiscoveryScoreRepository;
+    private final DiscoveryScoringService scoringService;
+    private final EntityManager entityManager;
+
+    /**
+     * Recompute one trip's scores, or drop its row once it is no longer discoverable.
+     * Always runs in a new transaction since it is invoked after the trip write has committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshTrip(UUID tripId) {
+        TripEntity trip = tripRepository.findById(tripId).orElse(null);
+        if (trip == null || !isDiscoverable(trip)) {
+            tripDiscoveryScoreRepository.deleteById(tripId);
+            log.debug("Removed discovery score for tripId={}", tripId);
+            return;
+        }
+        double featuredScore = scoringService.computeFeaturedScore(trip);
+        double recommendedScore = scoringService.computeRecommendedScore(trip);
+        tripDiscoveryScoreRepository.upsertScore(tripId, featuredScore, recommendedScore, LocalDateTime.now());
+        log.debug("Refreshed discovery score for tripId={} | featured={} | recommended={}",
+                tripId, featuredScore, recommendedScore);
+    }
+
+    /**
+     * Re-score all discoverable trips in batches and prune rows for trips that left the set.
+     * Each batch is flushed and detached before the next is read, so the persistence context only
+     * ever holds one batch of trips and score rows.
+     *
+     * @return number of trips scored
+     */
+    @Transactional
+    public int refreshAll() {
+        int pruned = tripDiscoveryScoreRepository.deleteNonDiscoverable();
+        LocalDateTime computedAt = LocalDateTime.now();
+        int refreshed = 0;
+        int page = 0;
+        List<TripEntity> batch;
+        do {
+            batch = tripDiscoveryRepository.findDiscoverableTrips(PageRequest.of(page++, REFRESH_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            Map<UUID, TripDiscoveryScoreEntity> existing = tripDiscoveryScoreRepository
+                    .findAllById(batch.stream().map(TripEntity::getTripId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(TripDiscoveryScoreEntity::getTripId, Function.identity()));
+            List<TripDiscoveryScoreEntity> scores = batch.stream()
+                    .map(trip -> {
+                        TripDiscoveryScoreEntity score = existing.getOrDefault(trip.getTripId(),
+                                TripDiscoveryScoreEntity.builder().tripId(trip.getTripId()).build());
+                        applyScores(score, trip, computedAt);
+                        return score;
+                    })
+                    .toList();
+            tripDiscoveryScoreRepository.saveAll(scores);
+            entityManager.flush();
+            entityManager.clear();
+            refreshed += batch.size();
+        } while (batch.size() == REFRESH_BATCH_SIZE);
+        log.info("Discovery scores refreshed | refreshed={} | pruned={}", refreshed, pruned);
+        return refreshed;
+    }
+
+    private void applyScores(TripDiscoveryScoreEntity score, TripEntity trip, LocalDateTime computedAt) {
+        score.setFeaturedScore(scoringService.computeFeaturedScore(trip));
+        score.setRecommendedScore(scoringService.computeRecommendedScore(trip));
+        score.setComputedAt(computedAt);
+    }
+
+    private static boolean isDiscoverable(TripEntity trip) {
+        return trip.getTripStatus() == TripStatus.PUBLISHED
+                && trip.getVisibilityStatus() == VisibilityStatus.PUBLIC;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tranzo.tranzo_user_ms.trip.service;
 
+import com.tranzo.tranzo_user_ms.trip.dto.DestinationWindowStats;
 import com.tranzo.tranzo_user_ms.trip.dto.MomentumDto;
 import com.tranzo.tranzo_user_ms.trip.dto.ParticipationDto;
 import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
@@ -95,20 +96,15 @@ public class DiscoveryScoringService {
      * score = (velocity × 0.40) + (momentum × 0.35) + (availability × 0.25)
      * Range: [0.0, 1.0]
      */
-    public double computeTrendScore(String destination, List<TripEntity> trips, String timeWindow) {
-        if (trips.isEmpty()) {
+    public double computeTrendScore(DestinationWindowStats stats, String timeWindow) {
+        if (stats.tripCount() == 0) {
             return 0.0;
         }
         
-        double velocity = computeVelocity(trips, timeWindow);
-        double momentum = trips.stream()
-            .mapToDouble(t -> t.getMaxParticipants() > 0 
-                ? (double) t.getCurrentParticipants() / t.getMaxParticipants()
-                : 0.0)
-            .average()
-            .orElse(0.0);
-        
-        double availability = (double) trips.stream().filter(t -> !t.getIsFull()).count() / trips.size();
+        double velocity = computeVelocity(stats.tripCount(), timeWindow);
+        // Average fill ratio across the destination's trips
+        double momentum = stats.fillRatioSum() / stats.tripCount();
+        double availability = (double) stats.availableTrips() / stats.tripCount();
         
         double score = (velocity * TRENDING_VELOCITY_WEIGHT)
                      + (momentum * TRENDING_MOMENTUM_WEIGHT)
@@ -134,8 +130,8 @@ public class DiscoveryScoringService {
      * MVP: Uses baseline constant (BASELINE_TRIPS_PER_WEEK)
      * Production: Should query historical destination data
      */
-    private double computeVelocity(List<TripEntity> trips, String timeWindow) {
-        double tripsInWindow = trips.size();
+    private double computeVelocity(int tripCount, String timeWindow) {
+        double tripsInWindow = tripCount;
         
         // Convert baseline to match time window
         double expectedTripsInWindow = switch (timeWindow) {
@@ -155,8 +151,8 @@ public class DiscoveryScoringService {
     /**
      * Compute momentum metrics for a destination
      */
-    public MomentumDto computeMomentum(String destination, List<TripEntity> trips, String timeWindow) {
-        int tripsInWindow = trips.size();
+    public MomentumDto computeMomentum(DestinationWindowStats stats, String timeWindow) {
+        int tripsInWindow = stats.tripCount();
         
         int avgHistoricalTripsPerWindow = switch (timeWindow) {
             case "7d" -> (int) BASELINE_TRIPS_PER_WEEK;
@@ -179,18 +175,15 @@ public class DiscoveryScoringService {
     /**
      * Compute participation metrics for trips
      */
-    public ParticipationDto computeParticipation(List<TripEntity> trips) {
-        double avgParticipants = trips.stream()
-            .mapToInt(TripEntity::getCurrentParticipants)
-            .average()
-            .orElse(0.0);
-        
-        long availableTrips = trips.stream().filter(t -> !t.getIsFull()).count();
+    public ParticipationDto computeParticipation(DestinationWindowStats stats) {
+        double avgParticipants = stats.tripCount() > 0
+            ? (double) stats.totalParticipants() / stats.tripCount()
+            : 0.0;
         
         return ParticipationDto.builder()
             .avgParticipants(avgParticipants)
-            .availableTrips((int) availableTrips)
-            .totalTripsPublished(trips.size())
+            .availableTrips(stats.availableTrips())
+            .totalTripsPublished(stats.tripCount())
             .build();
     }
 
@@ -70,6 +70,27 @@ public class DiscoveryService {
         }
     }
 
+    /**
+     * Fetch published trips newest first using a keyset cursor instead of page offsets
+     */
+    public FeaturedTripsPageDto getFeaturedTripsPage(
+            String cursor,
+            int size,
+            UUID userId
+    ) {
+        int validatedSize = Math.min(Math.max(size, 1), 50);
+        log.info("Processing started | operation=getFeaturedTripsPage | size={} | hasCursor={}", validatedSize, cursor != null);
+        try {
+            FeaturedTripsPageDto result = tripManagementService.fetchFeaturedTripsPage(cursor, validatedSize, userId);
+            log.info("Processing completed | operation=getFeaturedTripsPage | size={} | tripsCount={} | hasMore={} | status=SUCCESS",
+                    validatedSize, result.getTrips().size(), result.isHasMore());
+            return result;
+        } catch (Exception e) {
+            log.error("Operation failed | operation=getFeaturedTripsPage | size={} | reason={}", validatedSize, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     /**
      * Fetch recommended trips
      */
@@ -112,5 +133,22 @@ public class DiscoveryService {
             throw e;
         }
     }
-}
 
+    /**
+     * Fetch ranked trending destinations for a time window (7d, 14d or 30d)
+     */
+    public TrendingDestinationsResponse getRankedTrendingDestinations(String window, int limit) {
+        int validatedLimit = Math.min(Math.max(limit, 1), 50);
+        log.info("Processing started | operation=getRankedTrendingDestinations | window={} | limit={}", window, validatedLimit);
+
+        try {
+            TrendingDestinationsResponse result = trendingDestinationService.computeTrendingDestinations(validatedLimit, window);
+            log.info("Processing completed | operation=getRankedTrendingDestinations | window={} | destinationsCount={} | status=SUCCESS",
+                    window, result.getTrendingDestinations().size());
+            return result;
+        } catch (Exception e) {
+            log.error("Operation failed | operation=getRankedTrendingDestinations | window={} | reason={}", window, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
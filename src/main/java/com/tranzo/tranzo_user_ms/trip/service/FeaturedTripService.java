@@ -6,15 +6,11 @@ import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for Featured Trips Discovery
@@ -26,16 +22,12 @@ import java.util.stream.Collectors;
 public class FeaturedTripService {
 
     private final TripDiscoveryRepository tripDiscoveryRepository;
-    private final DiscoveryScoringService scoringService;
 
     /**
      * Compute featured trips with pagination
      * 
-     * Algorithm:
-     * - Fetch 3x candidate set (to allow for scoring/filtering)
-     * - Score each trip (Recency + Availability + Engagement)
-     * - Sort by score DESC
-     * - Limit to page size
+     * Scores (Recency + Availability + Engagement) are precomputed in trip_discovery_score,
+     * so the page is read in score order straight from the database.
      */
     public Page<FeaturedTripDto> computeFeaturedTrips(
             int page,
@@ -45,30 +37,14 @@ public class FeaturedTripService {
     ) {
         log.debug("Computing featured trips - page: {}, size: {}", page, size);
         
-        // Fetch candidate trips (3x size to allow scoring/filtering)
-        Pageable candidatePageable = PageRequest.of(0, size * 3);
-        List<TripEntity> candidateTrips = tripDiscoveryRepository.findFeaturedTripCandidates(
+        Page<Object[]> rows = tripDiscoveryRepository.findFeaturedTripsByScore(
             LocalDate.now(),
             budgetMin,
             budgetMax,
-            candidatePageable
+            PageRequest.of(page, size)
         );
         
-        log.debug("Found {} candidate trips for featured list", candidateTrips.size());
-        
-        // Score and map to DTO
-        List<FeaturedTripDto> scoredTrips = candidateTrips.stream()
-            .map(trip -> {
-                double score = scoringService.computeFeaturedScore(trip);
-                return mapToFeaturedDto(trip, score);
-            })
-            .sorted((t1, t2) -> Double.compare(t2.getFeaturedScore(), t1.getFeaturedScore()))
-            .limit(size)
-            .collect(Collectors.toList());
-        
-        // Create pageable response
-        Pageable responsePageable = PageRequest.of(page, size);
-        return new PageImpl<>(scoredTrips, responsePageable, candidateTrips.size());
+        return rows.map(row -> mapToFeaturedDto((TripEntity) row[0], ((Number) row[1]).doubleValue()));
     }
 
     /**
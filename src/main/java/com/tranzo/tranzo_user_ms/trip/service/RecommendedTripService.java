@@ -8,15 +8,12 @@ import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for Recommended Trips Discovery
@@ -35,11 +32,8 @@ public class RecommendedTripService {
      * 
      * Algorithm:
      * - Apply user filters (destination, budget, date range, join policy)
-     * - Fetch 2x candidate set
-     * - Score each trip (Popularity + Trend + Availability + Timing)
-     * - Sort by score DESC
-     * - Generate recommendation reasons
-     * - Limit to page size
+     * - Order by the precomputed score (Popularity + Trend + Availability + Timing) DESC
+     * - Generate recommendation reasons for the page
      */
     public Page<RecommendedTripDto> computeRecommendedTrips(DiscoveryFilterRequest request, Pageable pageable) {
         log.debug("Computing recommended trips with filters: {}", request.getDestination());
@@ -62,32 +56,22 @@ public class RecommendedTripService {
             }
         }
         
-        // Fetch candidate trips with filters
-        Pageable candidatePageable = PageRequest.of(0, pageable.getPageSize() * 2);
-        List<TripEntity> candidateTrips = tripDiscoveryRepository.findRecommendedTripCandidates(
+        // Scores are precomputed in trip_discovery_score; read the page in score order
+        Page<Object[]> rows = tripDiscoveryRepository.findRecommendedTripsByScore(
             startMin,
             startMax,
             request.getDestination(),
             request.getBudgetMin(),
             request.getBudgetMax(),
-            joinPolicy != null ? joinPolicy.name() : null,
-            candidatePageable.getPageSize()
+            joinPolicy,
+            pageable
         );
         
-        log.debug("Found {} candidate trips for recommendations", candidateTrips.size());
-        
-        // Score, map, and sort
-        List<RecommendedTripDto> scoredTrips = candidateTrips.stream()
-            .map(trip -> {
-                double score = scoringService.computeRecommendedScore(trip);
-                List<String> reasons = scoringService.generateRecommendationReasons(trip, score);
-                return mapToRecommendedDto(trip, score, reasons);
-            })
-            .sorted((t1, t2) -> Double.compare(t2.getRecommendationScore(), t1.getRecommendationScore()))
-            .limit(pageable.getPageSize())
-            .collect(Collectors.toList());
-        
-        return new PageImpl<>(scoredTrips, pageable, candidateTrips.size());
+        return rows.map(row -> {
+            TripEntity trip = (TripEntity) row[0];
+            double score = ((Number) row[1]).doubleValue();
+            return mapToRecommendedDto(trip, score, scoringService.generateRecommendationReasons(trip, score));
+        });
     }
 
     /**
@@ -1,19 +1,20 @@
 package com.tranzo.tranzo_user_ms.trip.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.tranzo.tranzo_user_ms.trip.dto.DestinationWindowStats;
 import com.tranzo.tranzo_user_ms.trip.dto.SampleTripDto;
 import com.tranzo.tranzo_user_ms.trip.dto.TrendingDestinationDto;
 import com.tranzo.tranzo_user_ms.trip.dto.TrendingDestinationsResponse;
-import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
 import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -21,99 +22,121 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class TrendingDestinationService {
 
+    private static final int SAMPLE_TRIPS_PER_DESTINATION = 3;
+    private static final Duration CACHE_TTL = Duration.ofHours(6);
+    private static final Duration CACHE_REFRESH_INTERVAL = Duration.ofMinutes(30);
+
     private final TripDiscoveryRepository tripDiscoveryRepository;
+    private final TrendingRollupService trendingRollupService;
     private final DiscoveryScoringService scoringService;
 
+    /**
+     * Responses per (window, limit). Entries are reloaded in the background once older than the
+     * refresh interval (callers keep getting the previous value meanwhile) and never served past
+     * the TTL advertised in cacheExpiresAt.
+     */
+    private final LoadingCache<TrendingCacheKey, TrendingDestinationsResponse> trendingCache = Caffeine.newBuilder()
+            .maximumSize(64)
+            .refreshAfterWrite(CACHE_REFRESH_INTERVAL)
+            .expireAfterWrite(CACHE_TTL)
+            .build(key -> loadTrendingDestinations(key.limit(), key.timeWindow()));
+
     /**
      * Compute trending destinations
-     * 
+     *
      * Algorithm:
-     * - Fetch trips created in time window
-     * - Group by destination
-     * - Compute trend score (Velocity + Momentum + Availability)
+     * - Sum the per-destination daily rollup over the time window
+     * - Compute trend score (Velocity + Momentum + Availability) per destination
      * - Sort by score DESC
-     * - Return top N destinations with metrics
+     * - Return top N destinations with metrics and a few sample trips
      */
     public TrendingDestinationsResponse computeTrendingDestinations(
             int limit,
             String timeWindow
     ) {
+        return trendingCache.get(new TrendingCacheKey(normalizeWindow(timeWindow), limit));
+    }
+
+    private TrendingDestinationsResponse loadTrendingDestinations(int limit, String timeWindow) {
         log.info("Computing trending destinations - limit: {}, window: {}", limit, timeWindow);
-        
+
         // Determine date range based on timeWindow
         LocalDate windowStart = getWindowStartDate(timeWindow);
         LocalDate windowEnd = LocalDate.now();
-        
-        // Convert to LocalDateTime for repository calls
-        LocalDateTime windowStartDateTime = windowStart.atStartOfDay();
-        LocalDateTime windowEndDateTime = windowEnd.atTime(23, 59, 59);
-        
-        // Fetch trips in window
-        List<TripEntity> tripsInWindow = tripDiscoveryRepository.findTripsInWindow(windowStartDateTime, windowEndDateTime);
-        
-        log.debug("Found {} trips in window {}", tripsInWindow.size(), timeWindow);
-        
-        if (tripsInWindow.isEmpty()) {
+        LocalDateTime computedAt = LocalDateTime.now();
+
+        List<DestinationWindowStats> statsByDestination = trendingRollupService.findWindowStats(windowStart, windowEnd);
+
+        log.debug("Found {} destinations in window {}", statsByDestination.size(), timeWindow);
+
+        if (statsByDestination.isEmpty()) {
             log.warn("No trips found in window {}", timeWindow);
             return TrendingDestinationsResponse.builder()
                 .trendingDestinations(List.of())
                 .metadata(TrendingDestinationsResponse.Metadata.builder()
                     .trendingWindow(timeWindow)
-                    .computedAt(LocalDateTime.now())
-                    .cacheExpiresAt(LocalDateTime.now().plusHours(6))
+                    .computedAt(computedAt)
+                    .cacheExpiresAt(computedAt.plus(CACHE_TTL))
                     .build())
                 .build();
         }
-        
-        // Group by destination
-        Map<String, List<TripEntity>> tripsByDestination = tripsInWindow.stream()
-            .collect(Collectors.groupingBy(TripEntity::getTripDestination));
-        
+
         // Compute trend scores and create DTOs
-        List<TrendingDestinationDto> trendingList = tripsByDestination.entrySet().stream()
-            .map(entry -> {
-                String destination = entry.getKey();
-                List<TripEntity> trips = entry.getValue();
-                
-                double trendScore = scoringService.computeTrendScore(destination, trips, timeWindow);
-                
-                return TrendingDestinationDto.builder()
-                    .destination(destination)
-                    .trendScore(trendScore)
-                    .momentum(scoringService.computeMomentum(destination, trips, timeWindow))
-                    .participation(scoringService.computeParticipation(trips))
-                    .sampleTrips(trips.stream()
-                        .limit(3)
-                        .map(this::mapToSampleTripDto)
-                        .collect(Collectors.toList()))
-                    .computedAt(LocalDateTime.now())
-                    .build();
-            })
+        List<TrendingDestinationDto> trendingList = statsByDestination.stream()
+            .map(stats -> TrendingDestinationDto.builder()
+                .destination(stats.destination())
+                .trendScore(scoringService.computeTrendScore(stats, timeWindow))
+                .momentum(scoringService.computeMomentum(stats, timeWindow))
+                .participation(scoringService.computeParticipation(stats))
+                .computedAt(computedAt)
+                .build())
             .sorted((d1, d2) -> Double.compare(d2.getTrendScore(), d1.getTrendScore()))
             .limit(limit)
             .collect(Collectors.toList());
-        
+
+        // Sample trips for the returned destinations only, as lightweight rows
+        Map<String, List<SampleTripDto>> samplesByDestination = findSampleTrips(
+            trendingList.stream().map(TrendingDestinationDto::getDestination).toList(),
+            windowStart.atStartOfDay(),
+            windowEnd.atTime(23, 59, 59));
+
         // Add ranking
         for (int i = 0; i < trendingList.size(); i++) {
-            trendingList.get(i).setRank(i + 1);
+            TrendingDestinationDto destination = trendingList.get(i);
+            destination.setRank(i + 1);
+            destination.setSampleTrips(samplesByDestination.getOrDefault(destination.getDestination(), List.of()));
         }
-        
+
         log.info("Computed {} trending destinations", trendingList.size());
-        
+
         return TrendingDestinationsResponse.builder()
             .trendingDestinations(trendingList)
             .metadata(TrendingDestinationsResponse.Metadata.builder()
                 .trendingWindow(timeWindow)
-                .computedAt(LocalDateTime.now())
-                .cacheExpiresAt(LocalDateTime.now().plusHours(6))
+                .computedAt(computedAt)
+                .cacheExpiresAt(computedAt.plus(CACHE_TTL))
                 .build())
             .build();
     }
 
+    private Map<String, List<SampleTripDto>> findSampleTrips(List<String> destinations,
+                                                             LocalDateTime windowStart,
+                                                             LocalDateTime windowEnd) {
+        if (destinations.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<SampleTripDto>> samplesByDestination = new HashMap<>();
+        for (Object[] row : tripDiscoveryRepository.findSampleTripsByDestinations(
+                destinations, windowStart, windowEnd, SAMPLE_TRIPS_PER_DESTINATION)) {
+            SampleTripDto sample = mapToSampleTripDto(row);
+            samplesByDestination.computeIfAbsent(sample.getTripDestination(), d -> new ArrayList<>()).add(sample);
+        }
+        return samplesByDestination;
+    }
+
     /**
      * Determine window start date based on time window string
      */
@@ -125,23 +148,42 @@ public class TrendingDestinationService {
             default -> LocalDate.now().minusDays(7);
         };
     }
-    
+
+    /**
+     * Unknown windows fall back to 7d, so they share its cache entry
+     */
+    private static String normalizeWindow(String timeWindow) {
+        return switch (timeWindow == null ? "" : timeWindow) {
+            case "7d", "14d", "30d" -> timeWindow;
+            default -> "7d";
+        };
+    }
+
     /**
-     * Convert TripEntity to SampleTripDto for trending destinations
+     * Convert a sample trip row to SampleTripDto for trending destinations
      */
-    private SampleTripDto mapToSampleTripDto(TripEntity trip) {
+    private SampleTripDto mapToSampleTripDto(Object[] row) {
         return SampleTripDto.builder()
-            .tripId(trip.getTripId())
-            .tripTitle(trip.getTripTitle())
-            .tripDescription(trip.getTripDescription())
-            .tripDestination(trip.getTripDestination())
-            .tripStartDate(trip.getTripStartDate())
-            .tripEndDate(trip.getTripEndDate())
-            .estimatedBudget(trip.getEstimatedBudget())
-            .maxParticipants(trip.getMaxParticipants())
-            .currentParticipants(trip.getCurrentParticipants())
-            .isFull(trip.getIsFull())
+            .tripId((UUID) row[0])
+            .tripTitle((String) row[1])
+            .tripDescription((String) row[2])
+            .tripDestination((String) row[3])
+            .tripStartDate(toLocalDate(row[4]))
+            .tripEndDate(toLocalDate(row[5]))
+            .estimatedBudget(row[6] != null ? ((Number) row[6]).doubleValue() : null)
+            .maxParticipants(row[7] != null ? ((Number) row[7]).intValue() : null)
+            .currentParticipants(row[8] != null ? ((Number) row[8]).intValue() : null)
+            .isFull((Boolean) row[9])
             .build();
     }
-}
 
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private record TrendingCacheKey(String timeWindow, int limit) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.tranzo.tranzo_user_ms.trip.service;
+
+import com.tranzo.tranzo_user_ms.trip.dto.DestinationWindowStats;
+import com.tranzo.tranzo_user_ms.trip.model.TripDestinationDailyStatsEntity;
+import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDestinationDailyStatsRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains trip_destination_daily_stats, the per-destination, per-day counters behind trending.
+ * A trip change recomputes only its own (destination, creation day) bucket from the trip table,
+ * so buckets never drift; {@link #rebuildSince(LocalDate)} reconciles recent days in one grouped pass
+ * for transitions that do not publish events (e.g. scheduler moving trips to ONGOING).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingRollupService {
+
+    private final TripRepository tripRepository;
+    private final TripDiscoveryRepository tripDiscoveryRepository;
+    private final TripDestinationDailyStatsRepository dailyStatsRepository;
+
+    /**
+     * Refresh the bucket a trip belongs to, plus the bucket it left when its destination was edited.
+     * Always runs in a new transaction since it is invoked after the trip write has committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshForTrip(UUID tripId, String previousDestination) {
+        TripEntity trip = tripRepository.findById(tripId).orElse(null);
+        if (trip == null || trip.getCreatedAt() == null) {
+            return;
+        }
+        LocalDate day = trip.getCreatedAt().toLocalDate();
+        if (trip.getTripDestination() != null) {
+            refreshBucket(trip.getTripDestination(), day);
+        }
+        if (previousDestination != null && !previousDestination.equals(trip.getTripDestination())) {
+            refreshBucket(previousDestination, day);
+        }
+    }
+
+    /**
+     * Recompute one bucket from the trip table in a single upsert, or drop it once it has no trips.
+     */
+    @Transactional
+    public void refreshBucket(String destination, LocalDate day) {
+        int written = dailyStatsRepository.upsertBucketFromTrips(UUID.randomUUID(), destination, day,
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay(), LocalDateTime.now());
+        if (written == 0) {
+            dailyStatsRepository.deleteBucket(destination, day);
+        }
+    }
+
+    /**
+     * Rebuild every bucket from the given day onwards with a single grouped query.
+     *
+     * @return number of buckets written
+     */
+    @Transactional
+    public int rebuildSince(LocalDate since) {
+        dailyStatsRepository.deleteByStatDateFrom(since);
+        LocalDateTime now = LocalDateTime.now();
+        List<TripDestinationDailyStatsEntity> buckets = tripDiscoveryRepository
+                .aggregateTrendingInputsByDaySince(since.atStartOfDay())
+                .stream()
+                .map(row -> TripDestinationDailyStatsEntity.builder()
+                        .destination((String) row[0])
+                        .statDate((LocalDate) row[1])
+                        .tripsPublished(toInt(row[2]))
+                        .totalParticipants(toInt(row[3]))
+                        .fillRatioSum(toDouble(row[4]))
+                        .fullTrips(toInt(row[5]))
+                        .updatedAt(now)
+                        .build())
+                .toList();
+        dailyStatsRepository.saveAll(buckets);
+        log.info("Trending rollup rebuilt | since={} | buckets={}", since, buckets.size());
+        return buckets.size();
+    }
+
+    /**
+     * Per-destination totals for the inclusive day range [windowStart, windowEnd].
+     */
+    @Transactional(readOnly = true)
+    public List<DestinationWindowStats> findWindowStats(LocalDate windowStart, LocalDate windowEnd) {
+        return dailyStatsRepository.sumByDestinationInWindow(windowStart, windowEnd)
+                .stream()
+                .map(row -> new DestinationWindowStats(
+                        (String) row[0],
+                        toInt(row[1]),
+                        toInt(row[2]),
+                        toDouble(row[3]),
+                        toInt(row[4])))
+                .toList();
+    }
+
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    private static double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+}
@@ -5,16 +5,14 @@ import com.tranzo.tranzo_user_ms.commons.exception.BadRequestException;
 import com.tranzo.tranzo_user_ms.commons.exception.ConflictException;
 import com.tranzo.tranzo_user_ms.commons.exception.EntityNotFoundException;
 import com.tranzo.tranzo_user_ms.commons.exception.ForbiddenException;
+import com.tranzo.tranzo_user_ms.trip.dto.TripMembershipSnapshot;
 import com.tranzo.tranzo_user_ms.trip.enums.InviteSource;
 import com.tranzo.tranzo_user_ms.trip.enums.InviteStatus;
 import com.tranzo.tranzo_user_ms.trip.enums.InviteType;
-import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
-import com.tranzo.tranzo_user_ms.trip.enums.TripMemberStatus;
 import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
 import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
 import com.tranzo.tranzo_user_ms.trip.model.TripInviteEntity;
 import com.tranzo.tranzo_user_ms.trip.repository.TripInviteRepository;
-import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
 import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
 import com.tranzo.tranzo_user_ms.user.service.TravelPalService;
 import lombok.RequiredArgsConstructor;
@@ -34,7 +32,7 @@ public class TripInviteService {
 
     private final TripInviteRepository tripInviteRepository;
     private final TripRepository tripRepository;
-    private final TripMemberRepository tripMemberRepository;
+    private final TripMembershipCache tripMembershipCache;
     private final TravelPalService travelPalService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -48,14 +46,14 @@ public class TripInviteService {
                 .orElseThrow(() -> new EntityNotFoundException("Trip not found"));
         validateTripPublished(trip);
 
-        ensureUserIsHostOrCoHost(tripId, hostOrCoHostUserId);
+        TripMembershipSnapshot membership = ensureUserIsHostOrCoHost(tripId, hostOrCoHostUserId);
 
         List<UUID> travelPals = travelPalService.getMyTravelPals(hostOrCoHostUserId);
         if (!travelPals.contains(travelPalUserId)) {
             throw new BadRequestException("User is not your travel pal");
         }
 
-        if (tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId, travelPalUserId, TripMemberStatus.ACTIVE)) {
+        if (membership.isActiveMember(travelPalUserId)) {
             throw new ConflictException("User is already a member of the trip");
         }
 
@@ -76,7 +74,7 @@ public class TripInviteService {
                 .orElseThrow(() -> new EntityNotFoundException("Trip not found"));
         validateTripPublished(trip);
 
-        ensureUserIsHostOrCoHost(tripId, hostOrCoHostUserId);
+        TripMembershipSnapshot membership = ensureUserIsHostOrCoHost(tripId, hostOrCoHostUserId);
 
         List<UUID> travelPals = travelPalService.getMyTravelPals(hostOrCoHostUserId);
         List<UUID> validTravelPalIds = new ArrayList<>();
@@ -90,7 +88,7 @@ public class TripInviteService {
                 continue; // Skip non-travel pals
             }
 
-            if (tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId, travelPalUserId, TripMemberStatus.ACTIVE)) {
+            if (membership.isActiveMember(travelPalUserId)) {
                 continue; // Skip existing members
             }
 
@@ -115,14 +113,14 @@ public class TripInviteService {
                 .orElseThrow(() -> new EntityNotFoundException("Trip not found"));
         validateTripPublished(trip);
 
-        ensureUserIsHostOrCoHost(tripId, hostOrCoHostUserId);
+        TripMembershipSnapshot membership = ensureUserIsHostOrCoHost(tripId, hostOrCoHostUserId);
 
         List<UUID> travelPals = travelPalService.getMyTravelPals(hostOrCoHostUserId).stream()
                 .filter(palId -> !palId.equals(hostOrCoHostUserId))
                 .toList();
         int invited = 0;
         for (UUID palId : travelPals) {
-            if (tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId, palId, TripMemberStatus.ACTIVE)) {
+            if (membership.isActiveMember(palId)) {
                 continue;
             }
             if (tripInviteRepository.existsByTrip_TripIdAndInvitedUserId(tripId, palId)) {
@@ -140,14 +138,12 @@ public class TripInviteService {
         }
     }
 
-    private void ensureUserIsHostOrCoHost(UUID tripId, UUID userId) {
-        boolean isHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(
-                tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
-        boolean isCoHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(
-                tripId, userId, TripMemberRole.CO_HOST, TripMemberStatus.ACTIVE);
-        if (!isHost && !isCoHost) {
+    private TripMembershipSnapshot ensureUserIsHostOrCoHost(UUID tripId, UUID userId) {
+        TripMembershipSnapshot membership = tripMembershipCache.get(tripId);
+        if (!membership.isHostOrCoHost(userId)) {
             throw new ForbiddenException("Only host or co-host can invite travel pals");
         }
+        return membership;
     }
 
     private void createAndPublishInvite(TripEntity trip, UUID invitedBy, UUID invitedUserId) {
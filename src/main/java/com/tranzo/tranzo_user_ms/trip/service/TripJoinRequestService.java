@@ -3,6 +3,7 @@ package com.tranzo.tranzo_user_ms.trip.service;
 import com.tranzo.tranzo_user_ms.trip.dto.RemoveParticipantRequestDto;
 import com.tranzo.tranzo_user_ms.trip.dto.TripJoinRequestDto;
 import com.tranzo.tranzo_user_ms.trip.dto.TripJoinRequestResponseDto;
+import com.tranzo.tranzo_user_ms.trip.dto.TripMembershipSnapshot;
 import com.tranzo.tranzo_user_ms.trip.enums.*;
 import com.tranzo.tranzo_user_ms.trip.exception.*;
 import com.tranzo.tranzo_user_ms.trip.events.TripEventPublisher;
@@ -23,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +41,7 @@ public class TripJoinRequestService {
     private final TripEventPublisher tripEventPublisher;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final UserProfileClient userProfileClient;
+    private final TripMembershipCache tripMembershipCache;
 
     @Transactional
     public TripJoinRequestResponseDto createJoinRequest(TripJoinRequestDto tripJoinRequestDto, UUID tripId, UUID userId)
@@ -54,10 +57,10 @@ public class TripJoinRequestService {
             throw new TripValidationException(TripErrorCode.TRIP_NOT_JOINABLE);
         }
 
-        // Trip member validation
-        Optional<TripMemberEntity> existingTripMember = tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE);
-        if (existingTripMember.isPresent()) {
-            if (existingTripMember.get().getRole() == TripMemberRole.HOST) {
+        // Trip member validation, read from the database while holding the trip lock
+        TripMembershipSnapshot membership = tripMembershipCache.load(tripId);
+        if (membership.isActiveMember(userId)) {
+            if (membership.isHost(userId)) {
                 throw new TripJoinRequestException(TripErrorCode.HOST_CANNOT_CREATE_JOIN_REQUEST);
             }
             throw new TripJoinRequestException(TripErrorCode.USER_ALREADY_TRIP_MEMBER);
@@ -101,12 +104,7 @@ public class TripJoinRequestService {
                 tripJoinRequestRepository.save(tripJoinRequestEntity);
 
         if (status == JoinRequestStatus.PENDING) {
-            UUID hostUserId = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                    .stream()
-                    .filter(m -> m.getRole() == TripMemberRole.HOST)
-                    .map(TripMemberEntity::getUserId)
-                    .findFirst()
-                    .orElse(null);
+            UUID hostUserId = membership.hostUserId();
             if (hostUserId != null) {
                 applicationEventPublisher.publishEvent(
                         new JoinRequestCreatedEvent(tripId, trip.getTripTitle(), userId, hostUserId));
@@ -121,10 +119,12 @@ public class TripJoinRequestService {
             member.setRole(TripMemberRole.MEMBER);
             member.setStatus(TripMemberStatus.ACTIVE);
             tripMemberRepository.save(member);
+            applicationEventPublisher.publishEvent(new TripMembershipChangedEvent(tripId));
             int updatedCount = trip.getCurrentParticipants() + 1;
             trip.setCurrentParticipants(updatedCount);
             trip.setIsFull(updatedCount >= trip.getMaxParticipants());
             tripRepository.save(trip);
+            applicationEventPublisher.publishEvent(new TripDiscoveryInputsChangedEvent(tripId));
             // Spring event: add participant to trip's group chat
             TripPublishedEventPayloadDto eventPayloadDto = TripPublishedEventPayloadDto.builder()
                     .eventType("PARTICIPANT_JOINED")
@@ -134,20 +134,14 @@ public class TripJoinRequestService {
                     .build();
 
             tripEventPublisher.participantJoined(eventPayloadDto);
-            List<UUID> otherMemberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                    .stream()
-                    .map(TripMemberEntity::getUserId)
-                    .filter(id -> !id.equals(userId))
-                    .toList();
+            // The snapshot predates the new member; the trip row lock keeps it current otherwise
+            List<UUID> otherMemberUserIds = membership.memberUserIdList();
             if (!otherMemberUserIds.isEmpty()) {
                 applicationEventPublisher.publishEvent(
                         new MemberJoinedTripEvent(tripId, trip.getTripTitle(), userId, otherMemberUserIds));
             }
             if (Boolean.TRUE.equals(trip.getIsFull())) {
-                List<UUID> allMemberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                        .stream()
-                        .map(TripMemberEntity::getUserId)
-                        .toList();
+                List<UUID> allMemberUserIds = withMember(otherMemberUserIds, userId);
                 if (!allMemberUserIds.isEmpty()) {
                     applicationEventPublisher.publishEvent(
                             new TripFullCapacityReachedEvent(tripId, trip.getTripTitle(), allMemberUserIds));
@@ -182,8 +176,8 @@ public class TripJoinRequestService {
         }
         TripEntity trip = tripRepository.findByIdForUpdate(joinRequest.getTrip().getTripId())
                 .orElseThrow(() -> new TripNotFoundException());
-        boolean isHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(trip.getTripId(), userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
-        if (!isHost)
+        TripMembershipSnapshot membership = tripMembershipCache.load(trip.getTripId());
+        if (!membership.isHost(userId))
         {
             throw new TripAccessDeniedException("Only host can approve join requests");
         }
@@ -191,8 +185,7 @@ public class TripJoinRequestService {
         {
             throw new TripValidationException(TripErrorCode.TRIP_FULL);
         }
-        boolean alreadyMember = tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(trip.getTripId(), joinRequest.getUserId(), TripMemberStatus.ACTIVE);
-        if (alreadyMember)
+        if (membership.isActiveMember(joinRequest.getUserId()))
         {
             throw new TripJoinRequestException(TripErrorCode.USER_ALREADY_TRIP_MEMBER);
         }
@@ -206,10 +199,12 @@ public class TripJoinRequestService {
         tripMember.setRole(TripMemberRole.MEMBER);
         tripMember.setStatus(TripMemberStatus.ACTIVE);
         tripMemberRepository.save(tripMember);
+        applicationEventPublisher.publishEvent(new TripMembershipChangedEvent(trip.getTripId()));
 
         int updatedCount = trip.getCurrentParticipants() + 1;
         trip.setCurrentParticipants(updatedCount);
         trip.setIsFull(updatedCount >= trip.getMaxParticipants());
+        applicationEventPublisher.publishEvent(new TripDiscoveryInputsChangedEvent(trip.getTripId()));
 
         // Spring event: add participant to trip's group chat
         TripPublishedEventPayloadDto eventPayloadDto = TripPublishedEventPayloadDto.builder()
@@ -223,20 +218,13 @@ public class TripJoinRequestService {
 
         applicationEventPublisher.publishEvent(
                 new JoinRequestApprovedEvent(trip.getTripId(), trip.getTripTitle(), joinRequest.getUserId()));
-        List<UUID> otherMemberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(trip.getTripId(), TripMemberStatus.ACTIVE)
-                .stream()
-                .map(TripMemberEntity::getUserId)
-                .filter(id -> !id.equals(joinRequest.getUserId()))
-                .toList();
+        List<UUID> otherMemberUserIds = membership.memberUserIdList();
         if (!otherMemberUserIds.isEmpty()) {
             applicationEventPublisher.publishEvent(
                     new MemberJoinedTripEvent(trip.getTripId(), trip.getTripTitle(), joinRequest.getUserId(), otherMemberUserIds));
         }
         if (Boolean.TRUE.equals(trip.getIsFull())) {
-            List<UUID> allMemberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(trip.getTripId(), TripMemberStatus.ACTIVE)
-                    .stream()
-                    .map(TripMemberEntity::getUserId)
-                    .toList();
+            List<UUID> allMemberUserIds = withMember(otherMemberUserIds, joinRequest.getUserId());
             if (!allMemberUserIds.isEmpty()) {
                 applicationEventPublisher.publishEvent(
                         new TripFullCapacityReachedEvent(trip.getTripId(), trip.getTripTitle(), allMemberUserIds));
@@ -269,7 +257,7 @@ public class TripJoinRequestService {
         }
         TripEntity trip = tripRepository.findById(joinRequest.getTrip().getTripId())
                 .orElseThrow(() -> new TripNotFoundException());
-        boolean isHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(trip.getTripId(), userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
+        boolean isHost = tripMembershipCache.get(trip.getTripId()).isHost(userId);
         log.info("Host user id : {}", userId);
         if (!isHost)
         {
@@ -304,7 +292,7 @@ public class TripJoinRequestService {
         if (trip.getTripStatus() != TripStatus.PUBLISHED) {
             throw new TripValidationException(TripErrorCode.TRIP_NOT_PUBLISHED);
         }
-        boolean isHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
+        boolean isHost = tripMembershipCache.get(tripId).isHost(userId);
         if (!isHost)
         {
             throw new TripAccessDeniedException("Only host can fetch join requests for the trip");
@@ -359,12 +347,9 @@ public class TripJoinRequestService {
         }
         TripMemberEntity tripMember = tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, removalParticipantUserId, TripMemberStatus.ACTIVE)
                 .orElseThrow(() -> new TripMemberException(TripErrorCode.USER_NOT_TRIP_MEMBER));
-        List<UUID> otherMemberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                .stream()
-                .map(TripMemberEntity::getUserId)
-                .filter(id -> !id.equals(removalParticipantUserId))
-                .toList();
-        boolean isTripHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
+        TripMembershipSnapshot membership = tripMembershipCache.load(tripId);
+        List<UUID> otherMemberUserIds = membership.memberUserIdsExcluding(removalParticipantUserId);
+        boolean isTripHost = membership.isHost(userId);
         boolean removedByHost = isTripHost && !userId.equals(removalParticipantUserId);
         if (isTripHost)
         {
@@ -390,16 +375,24 @@ public class TripJoinRequestService {
         tripMember.setExitedAt(LocalDateTime.now());
         tripMember.setRemovalReason(removeParticipantRequestDto.getRemovalReason());
         tripMemberRepository.save(tripMember);
+        applicationEventPublisher.publishEvent(new TripMembershipChangedEvent(tripId));
         int updatedCount = Math.max(0, trip.getCurrentParticipants() - 1);
         trip.setCurrentParticipants(updatedCount);
         trip.setIsFull(updatedCount >= trip.getMaxParticipants());
         tripRepository.save(trip);
+        applicationEventPublisher.publishEvent(new TripDiscoveryInputsChangedEvent(tripId));
         if (!otherMemberUserIds.isEmpty()) {
             applicationEventPublisher.publishEvent(
                     new MemberLeftOrRemovedTripEvent(tripId, trip.getTripTitle(), removalParticipantUserId, otherMemberUserIds, removedByHost));
         }
     }
     
+    private static List<UUID> withMember(List<UUID> memberUserIds, UUID newMemberUserId) {
+        List<UUID> all = new ArrayList<>(memberUserIds);
+        all.add(newMemberUserId);
+        return all;
+    }
+
     public JoinRequestStatus getJoinRequestStatus(UUID tripId, UUID userId) {
         // Validate trip exists
         tripRepository.findById(tripId)
@@ -15,9 +15,11 @@ import com.tranzo.tranzo_user_ms.user.service.TravelPalService;
 import com.tranzo.tranzo_user_ms.trip.validation.TripPublishEligibilityValidator;
 import com.tranzo.tranzo_user_ms.media.service.S3MediaService;
 import com.tranzo.tranzo_user_ms.commons.events.*;
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -30,7 +32,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import jakarta.persistence.criteria.Predicate;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -50,6 +51,8 @@ public class TripManagementService {
     private final ImageFetchService imageFetchService;
     private final S3MediaService s3MediaService;
     private final TripImageRepository tripImageRepository;
+    private final TripViewAssembler tripViewAssembler;
+    private final TripMembershipCache tripMembershipCache;
 
     public TripManagementService(TripMemberRepository tripMemberRepository,
                                  TripRepository tripRepository,
@@ -65,7 +68,9 @@ public class TripManagementService {
                                  UserProfileClient userProfileClient,
                                  ImageFetchService imageFetchService,
                                  S3MediaService s3MediaService,
-                                 TripImageRepository tripImageRepository) {
+                                 TripImageRepository tripImageRepository,
+                                 TripViewAssembler tripViewAssembler,
+                                 TripMembershipCache tripMembershipCache) {
         this.tripMemberRepository = tripMemberRepository;
         this.tripRepository = tripRepository;
         this.tagRepository = tagRepository;
@@ -81,6 +86,8 @@ public class TripManagementService {
         this.imageFetchService = imageFetchService;
         this.s3MediaService = s3MediaService;
         this.tripImageRepository = tripImageRepository;
+        this.tripViewAssembler = tripViewAssembler;
+        this.tripMembershipCache = tripMembershipCache;
     }
 
     private void resolveTripImages(TripEntity trip, List<String> userProvidedImageUrls, String userId) {
@@ -236,7 +243,7 @@ public class TripManagementService {
     {
         TripEntity trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new TripNotFoundException());
-        boolean isTripHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
+        boolean isTripHost = tripMembershipCache.get(tripId).isHost(userId);
         if (trip.getTripStatus() == TripStatus.CANCELLED && !isTripHost) {
             throw new TripAccessDeniedException("Cancelled trip is not accessible for anyone except the host of the trip");
         }
@@ -245,19 +252,18 @@ public class TripManagementService {
 //            tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE)
 //                    .orElseThrow(() -> new TripAccessDeniedException("User is not allowed to view this private trip as the user is not the member of the trip"));
 //        }
-        return mapTripEntityToDto(trip, isTripHost);
+        return tripViewAssembler.assembleWithHostFlag(List.of(trip), isTripHost).get(0);
     }
 
     public TripMembersListResponseDto getTripMembers(UUID tripId, UUID userId) {
         TripEntity trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new TripNotFoundException());
-        boolean isTripHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
-        if (trip.getTripStatus() == TripStatus.CANCELLED && !isTripHost) {
+        TripMembershipSnapshot membership = tripMembershipCache.get(tripId);
+        if (trip.getTripStatus() == TripStatus.CANCELLED && !membership.isHost(userId)) {
             throw new TripAccessDeniedException("Cancelled trip is not accessible for anyone except the host of the trip");
         }
-        if (trip.getVisibilityStatus() == VisibilityStatus.PRIVATE) {
-            tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE)
-                    .orElseThrow(() -> new TripAccessDeniedException("User is not allowed to view this private trip as the user is not the member of the trip"));
+        if (trip.getVisibilityStatus() == VisibilityStatus.PRIVATE && !membership.isActiveMember(userId)) {
+            throw new TripAccessDeniedException("User is not allowed to view this private trip as the user is not the member of the trip");
         }
         List<TripMemberEntity> activeMembers = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE);
         UUID hostUserId = activeMembers.stream()
@@ -301,39 +307,20 @@ public class TripManagementService {
         }
         List<TripStatus> statuses = List.of(TripStatus.PUBLISHED, TripStatus.ONGOING, TripStatus.COMPLETED);
         List<TripEntity> trips = tripRepository.findMutualTrips(currentUserId, otherUserId, statuses);
-        return trips.stream()
-                .map(trip -> {
-                    boolean isTripHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(trip.getTripId(), currentUserId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
-                    return mapTripEntityToDto(trip, isTripHost);
-                })
-                .toList();
+        return tripViewAssembler.assemble(trips, currentUserId);
     }
 
     public List<TripViewDto> fetchTripForUser(final UUID userId)
     {
         List<TripStatus> statuses = List.of(TripStatus.DRAFT, TripStatus.PUBLISHED, TripStatus.ONGOING, TripStatus.COMPLETED);
         List<TripEntity> trips = tripMemberRepository.findTripsByUserIdAndStatusIn(userId, statuses);
-        return trips.stream()
-                .map(trip -> {
-                    boolean isTripHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(trip.getTripId(), userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
-                    return mapTripEntityToDto(trip, isTripHost);
-                })
-                .toList();
+        return tripViewAssembler.assemble(trips, userId);
     }
 
     public List<TripViewDto> fetchAllTrips(UUID userId)
     {
         List<TripEntity> trips = tripRepository.findAll();
-        return trips.stream()
-                .map(trip -> {
-                    Boolean isTripHost = null;
-                    if (userId != null)
-                    {
-                        isTripHost = tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(trip.getTripId(), userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE);
-                    }
-                    return mapTripEntityToDto(trip, isTripHost);
-                })
-                .toList();
+        return tripViewAssembler.assemble(trips, userId);
     }
 
     @Transactional
@@ -348,11 +335,9 @@ public class TripManagementService {
         userUtil.validateUserIsHost(tripId, userId);
         trip.setTripStatus(TripStatus.CANCELLED);
         tripRepository.save(trip);
+        applicationEventPublisher.publishEvent(new TripDiscoveryInputsChangedEvent(tripId));
 
-        List<UUID> memberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                .stream()
-                .map(TripMemberEntity::getUserId)
-                .toList();
+        List<UUID> memberUserIds = tripMembershipCache.get(tripId).memberUserIdList();
         applicationEventPublisher.publishEvent(new TripCancelledEvent(tripId, trip.getTripTitle(), memberUserIds));
     }
 
@@ -388,6 +373,7 @@ public class TripManagementService {
                 .build();
 
         tripEventPublisher.publishTripPublished(eventPayloadDto);
+        applicationEventPublisher.publishEvent(new TripDiscoveryInputsChangedEvent(tripId));
 
         return TripResponseDto.builder()
                 .tripId(updateTrip.getTripId())
@@ -404,6 +390,7 @@ public class TripManagementService {
             throw new TripValidationException(TripErrorCode.INVALID_TRIP_STATUS_TRANSITION, "Only published or ongoing trips can be updated");
         }
         userUtil.validateUserIsHost(tripId, userId);
+        String previousDestination = trip.getTripDestination();
         updatePublishedTripBasicInfo(trip, tripDto);
         updatePublishedTripItinerary(trip, tripDto);
 
@@ -415,11 +402,10 @@ public class TripManagementService {
         }
 
         TripEntity updateTrip = tripRepository.save(trip);
+        applicationEventPublisher.publishEvent(new TripDiscoveryInputsChangedEvent(tripId,
+                Objects.equals(previousDestination, trip.getTripDestination()) ? null : previousDestination));
 
-        List<UUID> memberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                .stream()
-                .map(TripMemberEntity::getUserId)
-                .toList();
+        List<UUID> memberUserIds = tripMembershipCache.get(tripId).memberUserIdList();
         if (!memberUserIds.isEmpty()) {
             applicationEventPublisher.publishEvent(
                     new TripDetailsChangedEvent(tripId, trip.getTripTitle(), memberUserIds));
@@ -436,21 +422,47 @@ public class TripManagementService {
                                                 UUID userId) {
         List<TripStatus> tripStatuses = new ArrayList<>();
         tripStatuses.add(TripStatus.PUBLISHED);
-        if (userId != null)
-        {
-            return tripMemberRepository.findTripsUserIsNotPartOf(userId, tripStatuses)
-                    .stream()
-                    .skip((long) page * size)
-                    .limit(size)
-                    .map(trip -> mapTripEntityToDto(trip, false))
-                    .toList();
-        }
-        return tripRepository.findByTripStatus(TripStatus.PUBLISHED)
-                .stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(trip -> mapTripEntityToDto(trip, false))
-                .toList();
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1));
+        List<TripEntity> trips = userId != null
+                ? tripMemberRepository.findTripsUserIsNotPartOf(userId, tripStatuses, pageable)
+                : tripRepository.findByTripStatusInNewestFirst(tripStatuses, pageable);
+        return tripViewAssembler.assembleWithHostFlag(trips, false);
+    }
+
+    /**
+     * Keyset-paginated feed of published trips ordered by recency (createdAt DESC, tripId DESC),
+     * not by featured score.
+     * Fetches one row beyond the page to decide whether a next cursor is returned.
+     */
+    public FeaturedTripsPageDto fetchFeaturedTripsPage(String cursor,
+                                                       int size,
+                                                       UUID userId) {
+        List<TripStatus> tripStatuses = List.of(TripStatus.PUBLISHED);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<TripEntity> trips;
+        if (userId != null) {
+            trips = after == null
+                    ? tripMemberRepository.findTripsUserIsNotPartOf(userId, tripStatuses, pageable)
+                    : tripMemberRepository.findTripsUserIsNotPartOfAfter(userId, tripStatuses, after.sortKey(), after.id(), pageable);
+        } else {
+            trips = after == null
+                    ? tripRepository.findByTripStatusInNewestFirst(tripStatuses, pageable)
+                    : tripRepository.findByTripStatusInNewestFirstAfter(tripStatuses, after.sortKey(), after.id(), pageable);
+        }
+
+        boolean hasMore = trips.size() > size;
+        List<TripEntity> pageTrips = hasMore ? trips.subList(0, size) : trips;
+        String nextCursor = null;
+        if (hasMore) {
+            TripEntity last = pageTrips.get(pageTrips.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getTripId()).encode();
+        }
+        return FeaturedTripsPageDto.builder()
+                .trips(tripViewAssembler.assembleWithHostFlag(pageTrips, false))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
     public List<TrendingDestinationResponseDto>fetchTrendingDestinations()
@@ -656,126 +668,6 @@ public class TripManagementService {
         }
     }
 
-    private TripViewDto mapTripEntityToDto(TripEntity trip, Boolean isTripHost)
-    {
-        int activeMemberCount = tripMemberRepository.countByTrip_TripIdAndStatus(
-                trip.getTripId(), TripMemberStatus.ACTIVE);
-
-        // Get host name - use stored value if available, otherwise fetch dynamically
-        String hostName = trip.getTripHostName();
-        if (hostName == null) {
-            // Fallback for existing trips without stored host name
-            UUID hostUserId = tripMemberRepository.findByTrip_TripIdAndStatus(trip.getTripId(), TripMemberStatus.ACTIVE)
-                    .stream()
-                    .filter(m -> m.getRole() == TripMemberRole.HOST)
-                    .map(TripMemberEntity::getUserId)
-                    .findFirst()
-                    .orElse(null);
-
-            if (hostUserId != null) {
-                Map<UUID, UserNameDto> namesByUserId = userProfileClient.getNamesByUserIds(List.of(hostUserId));
-                UserNameDto hostNameDto = namesByUserId.get(hostUserId);
-                if (hostNameDto != null) {
-                    hostName = String.join(" ",
-                        hostNameDto.getFirstName() != null ? hostNameDto.getFirstName() : "",
-                        hostNameDto.getMiddleName() != null ? hostNameDto.getMiddleName() : "",
-                        hostNameDto.getLastName() != null ? hostNameDto.getLastName() : "").trim();
-                }
-            }
-        }
-
-        return TripViewDto.builder()
-                .tripId(trip.getTripId())
-                .tripDescription(trip.getTripDescription())
-                .tripTitle(trip.getTripTitle())
-                .tripDestination(trip.getTripDestination())
-                .latitude(trip.getLatitude())
-                .longitude(trip.getLongitude())
-                .tripStartDate(trip.getTripStartDate())
-                .tripEndDate(trip.getTripEndDate())
-                .estimatedBudget(trip.getEstimatedBudget())
-                .maxParticipants(trip.getMaxParticipants())
-                .currentParticipants(activeMemberCount)
-                .isFull(trip.getIsFull())
-                .splitWiseGroupId(trip.getSplitwiseGroupId())
-                .conversationId(trip.getConversationID())
-                .isTripHost(isTripHost)
-                .hostName(hostName)
-                .tripStatus(trip.getTripStatus())
-                .tripFullReason(trip.getTripFullReason())
-                .joinPolicy(trip.getJoinPolicy())
-                .visibilityStatus(trip.getVisibilityStatus())
-                .tripPolicy(trip.getTripPolicyEntity() != null ? mapTripPolicyToDto(trip.getTripPolicyEntity()) : null)
-                .tripMetaData(trip.getTripMetaData() != null ? mapTripMetaDataToDto(trip.getTripMetaData()) : null)
-                .tripTags(trip.getTripTags() != null ? mapTripTagsToDto(trip.getTripTags()) : new ArrayList<>())
-                .tripItineraries(trip.getTripItineraries() != null ? mapTripItinerariesToDto(trip.getTripItineraries()) : new ArrayList<>())
-                .imageUrls(trip.getTripImages() != null ? trip.getTripImages().stream()
-                        .map(image -> {
-                            String imageUrl = image.getImageUrl();
-                            // Resolve S3 keys to presigned URLs (similar to profile picture handling)
-                            if (imageUrl != null && imageUrl.startsWith("uploads/")) {
-                                try {
-                                    return s3MediaService.getPresignedUrl(imageUrl, null).getUrl();
-                                } catch (Exception e) {
-                                    log.warn("Failed to generate presigned URL for image key: {}", imageUrl, e);
-                                    return imageUrl;
-                                }
-                            }
-                            return imageUrl;
-                        })
-                        .collect(java.util.stream.Collectors.toList()) : null)
-                .build();
-    }
-
-    private TripPolicyViewDto mapTripPolicyToDto(TripPolicyEntity tripPolicy)
-    {
-        return TripPolicyViewDto.builder()
-                .policyId(tripPolicy.getTripPolicyId())
-                .refundPolicy(tripPolicy.getRefundPolicy())
-                .cancellationPolicy(tripPolicy.getCancellationPolicy())
-                .build();
-    }
-
-    private TripMetaDataViewDto mapTripMetaDataToDto(TripMetaDataEntity tripMetaData)
-    {
-        return TripMetaDataViewDto.builder()
-                .metadataId(tripMetaData.getTripMetaDataId())
-                .tripSummary(tripMetaData.getTripSummary())
-                .whatsIncluded(tripMetaData.getWhatsIncluded())
-                .whatsExcluded(tripMetaData.getWhatsExcluded())
-                .build();
-    }
-
-    private List<TripTagViewDto> mapTripTagsToDto(Set<TagEntity> tripTags)
-    {
-        return tripTags.stream().map((tag) -> {
-            TripTagViewDto tagDto = new TripTagViewDto();
-            tagDto.setTagId(tag.getTagId());
-            tagDto.setTagName(tag.getTagName());
-            return tagDto;
-        })
-        .collect(Collectors.toList());
-    }
-
-    private List<TripItineraryViewDto> mapTripItinerariesToDto(List<TripItineraryEntity> tripItineraries)
-    {
-        return tripItineraries.stream()
-                .sorted(Comparator.comparingInt(TripItineraryEntity::getDayNumber))
-                .map((tripItinerary) -> {
-            TripItineraryViewDto tripItineraryDto = new TripItineraryViewDto();
-            tripItineraryDto.setItineraryId(tripItinerary.getItineraryId());
-            tripItineraryDto.setDayNumber(tripItinerary.getDayNumber());
-            tripItineraryDto.setDescription(tripItinerary.getDescription());
-            tripItineraryDto.setTitle(tripItinerary.getTitle());
-            tripItineraryDto.setStay(tripItinerary.getStay());
-            tripItineraryDto.setMeals(tripItinerary.getMeals());
-            tripItineraryDto.setActivities(tripItinerary.getActivities());
-            return tripItineraryDto;
-        })
-        .collect(Collectors.toList());
-    }
-
-
     public void addTripQnA(UUID userID, CreateQnaRequestDto createQnaRequestDto, UUID tripId){
             TripEntity trip = tripRepository.findById(tripId)
                     .orElseThrow(() -> new TripNotFoundException());
@@ -797,10 +689,7 @@ public class TripManagementService {
 
                 tripQueryRepository.save(tripQueryEntity);
 
-                List<UUID> memberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                        .stream()
-                        .map(TripMemberEntity::getUserId)
-                        .toList();
+                List<UUID> memberUserIds = tripMembershipCache.get(tripId).memberUserIdList();
                 if (!memberUserIds.isEmpty()) {
                     applicationEventPublisher.publishEvent(
                             new TripQuestionAskedEvent(tripId, trip.getTripTitle(), userID, memberUserIds));
@@ -845,7 +734,7 @@ public class TripManagementService {
                 .orElseThrow(()-> new TripNotFoundException());
 
         if(trip.getVisibilityStatus()== VisibilityStatus.PRIVATE &&
-                !tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId,userId,TripMemberStatus.ACTIVE)){
+                !tripMembershipCache.get(tripId).isActiveMember(userId)){
             throw new TripAccessDeniedException("User is not allowed to fetch QnA of this trip");
         }
 
@@ -892,7 +781,7 @@ public class TripManagementService {
                     .orElseThrow(() -> new TripNotFoundException());
 
              if(trip.getVisibilityStatus()== VisibilityStatus.PRIVATE &&
-                !tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId,reportingUserId,TripMemberStatus.ACTIVE)){
+                !tripMembershipCache.get(tripId).isActiveMember(reportingUserId)){
                 throw new TripAccessDeniedException("User is not allowed to report this private trip");
              }
 
@@ -935,13 +824,14 @@ public class TripManagementService {
             throw new TripMemberException(TripErrorCode.ONLY_MEMBER_CAN_BE_PROMOTED);
         }
 
+        // Read before the role change: loading the cache after it would flush and snapshot uncommitted state.
+        // Promotion changes roles only, so this active member set still holds afterwards
+        List<UUID> allMemberUserIds = tripMembershipCache.get(tripId).memberUserIdList();
+
         participant.setRole(TripMemberRole.CO_HOST);
         tripMemberRepository.save(participant);
+        applicationEventPublisher.publishEvent(new TripMembershipChangedEvent(tripId));
 
-        List<UUID> allMemberUserIds = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                .stream()
-                .map(TripMemberEntity::getUserId)
-                .toList();
         if (!allMemberUserIds.isEmpty()) {
             applicationEventPublisher.publishEvent(
                     new MemberPromotedToCoHostEvent(trip.getTripId(), trip.getTripTitle(), participantUserId, allMemberUserIds));
@@ -959,18 +849,10 @@ public class TripManagementService {
         boolean wasFull = Boolean.TRUE.equals(trip.getIsFull());
         trip.setIsFull(!wasFull);
         tripRepository.save(trip);
+        applicationEventPublisher.publishEvent(new TripDiscoveryInputsChangedEvent(tripId));
 
-        UUID hostUserId = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                .stream()
-                .filter(m -> m.getRole() == TripMemberRole.HOST)
-                .map(TripMemberEntity::getUserId)
-                .findFirst()
-                .orElse(null);
-        List<UUID> membersExcludingHost = tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)
-                .stream()
-                .map(TripMemberEntity::getUserId)
-                .filter(id -> !id.equals(hostUserId))
-                .toList();
+        TripMembershipSnapshot membership = tripMembershipCache.get(tripId);
+        List<UUID> membersExcludingHost = membership.memberUserIdsExcluding(membership.hostUserId());
         if (!membersExcludingHost.isEmpty()) {
             if (!wasFull) {
                 // Trip is being marked as full
@@ -994,8 +876,9 @@ public class TripManagementService {
         }
 
         List<UUID> travelPals = travelPalService.getMyTravelPals(userId);
+        TripMembershipSnapshot membership = tripMembershipCache.get(tripId);
         List<UUID> broadcastToUserIds = travelPals.stream()
-                .filter(palId -> !tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId, palId, TripMemberStatus.ACTIVE))
+                .filter(palId -> !membership.isActiveMember(palId))
                 .toList();
 
         if (!broadcastToUserIds.isEmpty()) {
@@ -1019,9 +902,8 @@ public class TripManagementService {
         }
         Pageable pageable = PageRequest.of(page, size);
         Page<TripEntity> trips = tripRepository.findAll(spec, pageable);
-        return trips.map(trip -> {
-            return mapTripEntityToDto(trip, null);
-        });
+        List<TripViewDto> tripViews = tripViewAssembler.assembleWithHostFlag(trips.getContent(), null);
+        return new PageImpl<>(tripViews, pageable, trips.getTotalElements());
     }
 
     private Specification<TripEntity> buildGlobalSearch(
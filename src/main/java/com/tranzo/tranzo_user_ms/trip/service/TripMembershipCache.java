@@ -0,0 +1,114 @@
+package com.tranzo.tranzo_user_ms.trip.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tranzo.tranzo_user_ms.commons.events.TripMembershipChangedEvent;
+import com.tranzo.tranzo_user_ms.trip.dto.TripMembershipSnapshot;
+import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
+import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-trip cache of {@link TripMembershipSnapshot}s, loaded with one query, so host, co-host and
+ * membership checks are set lookups instead of an EXISTS query each.
+ * <p>
+ * Every member mutation publishes a {@link TripMembershipChangedEvent}; the trip's version is bumped
+ * just before the mutating transaction commits and again once it has committed. A snapshot whose
+ * version no longer matches is reloaded on its next read, so a load that raced the commit cannot
+ * keep serving the old member set. The TTL is only a safety net. Paths that mutate membership under
+ * the trip row lock read through {@link #load} instead.
+ */
+@Component
+@Slf4j
+public class TripMembershipCache {
+
+    private final TripMemberRepository tripMemberRepository;
+    private final Cache<UUID, TripMembershipSnapshot> snapshots;
+    private final Cache<UUID, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public TripMembershipCache(TripMemberRepository tripMemberRepository,
+                               @Value("${app.trip.membership-cache.max-size:20000}") long maxSize,
+                               @Value("${app.trip.membership-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.tripMemberRepository = tripMemberRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * Current snapshot of the trip's ACTIVE members (empty for an unknown trip).
+     */
+    public TripMembershipSnapshot get(UUID tripId) {
+        long version = currentVersion(tripId);
+        TripMembershipSnapshot snapshot = snapshots.get(tripId, id -> load(id, version));
+        if (snapshot.version() != version) {
+            snapshot = load(tripId, version);
+            snapshots.put(tripId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Snapshot read straight from the database, bypassing the cache. For checks made while holding the
+     * trip row lock: a cached snapshot loaded between a concurrent writer's BEFORE_COMMIT bump and its
+     * commit carries the new version but the old member set, and is served until the after-commit bump.
+     * Use {@link #get} only for read-only authorization.
+     */
+    public TripMembershipSnapshot load(UUID tripId) {
+        return load(tripId, currentVersion(tripId));
+    }
+
+    public void invalidate(UUID tripId) {
+        versions.put(tripId, versionSequence.incrementAndGet());
+        snapshots.invalidate(tripId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onMembershipChanging(TripMembershipChangedEvent event) {
+        invalidate(event.getTripId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(TripMembershipChangedEvent event) {
+        invalidate(event.getTripId());
+        log.debug("Trip membership cache evicted | tripId={}", event.getTripId());
+    }
+
+    private long currentVersion(UUID tripId) {
+        Long version = versions.getIfPresent(tripId);
+        return version != null ? version : 0L;
+    }
+
+    private TripMembershipSnapshot load(UUID tripId, long version) {
+        UUID hostUserId = null;
+        Set<UUID> coHostUserIds = new LinkedHashSet<>();
+        Set<UUID> memberUserIds = new LinkedHashSet<>();
+        for (Object[] row : tripMemberRepository.findActiveUserIdsAndRolesByTripId(tripId)) {
+            UUID userId = (UUID) row[0];
+            TripMemberRole role = (TripMemberRole) row[1];
+            if (role == TripMemberRole.HOST && hostUserId == null) {
+                hostUserId = userId;
+            } else if (role == TripMemberRole.CO_HOST) {
+                coHostUserIds.add(userId);
+            }
+            memberUserIds.add(userId);
+        }
+        return new TripMembershipSnapshot(tripId, version, hostUserId, coHostUserIds, memberUserIds);
+    }
+}
@@ -0,0 +1,247 @@
+package com.tranzo.tranzo_user_ms.trip.service;
+
+import com.tranzo.tranzo_user_ms.media.service.S3MediaService;
+import com.tranzo.tranzo_user_ms.trip.dto.*;
+import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
+import com.tranzo.tranzo_user_ms.trip.model.*;
+import com.tranzo.tranzo_user_ms.trip.repository.TripItineraryRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import com.tranzo.tranzo_user_ms.user.client.UserProfileClient;
+import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builds {@link TripViewDto}s for a page of trips with a fixed number of grouped queries
+ * (member counts, hosts, host names, tags, itineraries, images) and a single presign batch for
+ * S3 image keys, instead of one round of lookups per trip.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TripViewAssembler {
+
+    private final TripMemberRepository tripMemberRepository;
+    private final TripRepository tripRepository;
+    private final TripItineraryRepository tripItineraryRepository;
+    private final UserProfileClient userProfileClient;
+    private final S3MediaService s3MediaService;
+
+    /**
+     * Map trips to views, resolving isTripHost for the given viewer in the same batch.
+     * A null viewer leaves isTripHost unset.
+     */
+    @Transactional(readOnly = true)
+    public List<TripViewDto> assemble(List<TripEntity> trips, UUID viewerUserId) {
+        if (trips == null || trips.isEmpty()) {
+            return new ArrayList<>();
+        }
+        TripViewBatch batch = loadBatch(trips);
+        return trips.stream()
+                .map(trip -> {
+                    Boolean isTripHost = viewerUserId != null
+                            ? batch.hostIds(trip.getTripId()).contains(viewerUserId)
+                            : null;
+                    return toView(trip, isTripHost, batch);
+                })
+                .toList();
+    }
+
+    /**
+     * Map trips to views with the same isTripHost value for every trip (e.g. featured feeds,
+     * where the viewer is known not to be a member, or a single trip whose host flag is already known).
+     */
+    @Transactional(readOnly = true)
+    public List<TripViewDto> assembleWithHostFlag(List<TripEntity> trips, Boolean isTripHost) {
+        if (trips == null || trips.isEmpty()) {
+            return new ArrayList<>();
+        }
+        TripViewBatch batch = loadBatch(trips);
+        return trips.stream()
+                .map(trip -> toView(trip, isTripHost, batch))
+                .toList();
+    }
+
+    private TripViewBatch loadBatch(List<TripEntity> trips) {
+        Set<UUID> tripIds = trips.stream()
+                .map(TripEntity::getTripId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<UUID, Integer> memberCounts = new HashMap<>();
+        for (Object[] row : tripMemberRepository.countActiveMembersByTripIds(tripIds)) {
+            memberCounts.put((UUID) row[0], ((Number) row[1]).intValue());
+        }
+
+        Map<UUID, Set<UUID>> hostIdsByTrip = new HashMap<>();
+        for (Object[] row : tripMemberRepository.findActiveUserIdsByTripIdsAndRole(tripIds, TripMemberRole.HOST)) {
+            hostIdsByTrip.computeIfAbsent((UUID) row[0], id -> new LinkedHashSet<>()).add((UUID) row[1]);
+        }
+
+        // Host names are only looked up for trips created before trip_host_name was stored
+        List<UUID> hostIdsMissingName = trips.stream()
+                .filter(trip -> trip.getTripHostName() == null)
+                .flatMap(trip -> hostIdsByTrip.getOrDefault(trip.getTripId(), Set.of()).stream().limit(1))
+                .distinct()
+                .toList();
+        Map<UUID, UserNameDto> hostNames = hostIdsMissingName.isEmpty()
+                ? Collections.emptyMap()
+                : userProfileClient.getNamesByUserIds(hostIdsMissingName);
+
+        Map<UUID, List<TagEntity>> tagsByTrip = new HashMap<>();
+        for (Object[] row : tripRepository.findTagsByTripIds(tripIds)) {
+            tagsByTrip.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((TagEntity) row[1]);
+        }
+
+        Map<UUID, List<TripItineraryEntity>> itinerariesByTrip = new HashMap<>();
+        for (Object[] row : tripItineraryRepository.findByTripIds(tripIds)) {
+            itinerariesByTrip.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((TripItineraryEntity) row[1]);
+        }
+
+        Map<UUID, List<TripImageEntity>> imagesByTrip = new HashMap<>();
+        for (Object[] row : tripRepository.findImagesByTripIds(tripIds)) {
+            imagesByTrip.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((TripImageEntity) row[1]);
+        }
+
+        // Resolve S3 keys to presigned URLs (similar to profile picture handling), one batch per page
+        Map<String, String> presignedImageUrls = presignImageKeys(imagesByTrip);
+
+        return new TripViewBatch(memberCounts, hostIdsByTrip, hostNames, tagsByTrip, itinerariesByTrip, imagesByTrip,
+                presignedImageUrls);
+    }
+
+    private Map<String, String> presignImageKeys(Map<UUID, List<TripImageEntity>> imagesByTrip) {
+        List<String> keys = imagesByTrip.values().stream()
+                .flatMap(List::stream)
+                .map(TripImageEntity::getImageUrl)
+                .filter(imageUrl -> imageUrl != null && imageUrl.startsWith("uploads/"))
+                .toList();
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return s3MediaService.presignAll(keys);
+        } catch (Exception e) {
+            log.warn("Failed to generate presigned URLs for {} image keys", keys.size(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private TripViewDto toView(TripEntity trip, Boolean isTripHost, TripViewBatch batch) {
+        UUID tripId = trip.getTripId();
+
+        // Use stored host name if available, otherwise fall back to the batched profile lookup
+        String hostName = trip.getTripHostName();
+        if (hostName == null) {
+            hostName = batch.hostIds(tripId).stream()
+                    .findFirst()
+                    .map(batch.hostNames()::get)
+                    .map(TripViewAssembler::fullName)
+                    .orElse(null);
+        }
+
+        return TripViewDto.builder()
+                .tripId(tripId)
+                .tripDescription(trip.getTripDescription())
+                .tripTitle(trip.getTripTitle())
+                .tripDestination(trip.getTripDestination())
+                .latitude(trip.getLatitude())
+                .longitude(trip.getLongitude())
+                .tripStartDate(trip.getTripStartDate())
+                .tripEndDate(trip.getTripEndDate())
+                .estimatedBudget(trip.getEstimatedBudget())
+                .maxParticipants(trip.getMaxParticipants())
+                .currentParticipants(batch.memberCounts().getOrDefault(tripId, 0))
+                .isFull(trip.getIsFull())
+                .splitWiseGroupId(trip.getSplitwiseGroupId())
+                .conversationId(trip.getConversationID())
+                .isTripHost(isTripHost)
+                .hostName(hostName)
+                .tripStatus(trip.getTripStatus())
+                .tripFullReason(trip.getTripFullReason())
+                .joinPolicy(trip.getJoinPolicy())
+                .visibilityStatus(trip.getVisibilityStatus())
+                .tripPolicy(trip.getTripPolicyEntity() != null ? mapTripPolicyToDto(trip.getTripPolicyEntity()) : null)
+                .tripMetaData(trip.getTripMetaData() != null ? mapTripMetaDataToDto(trip.getTripMetaData()) : null)
+                .tripTags(mapTripTagsToDto(batch.tagsByTrip().getOrDefault(tripId, List.of())))
+                .tripItineraries(mapTripItinerariesToDto(batch.itinerariesByTrip().getOrDefault(tripId, List.of())))
+                .imageUrls(mapTripImagesToUrls(batch.imagesByTrip().getOrDefault(tripId, List.of()), batch.presignedImageUrls()))
+                .build();
+    }
+
+    private List<String> mapTripImagesToUrls(List<TripImageEntity> images, Map<String, String> presignedImageUrls) {
+        return images.stream()
+                .map(TripImageEntity::getImageUrl)
+                .map(imageUrl -> imageUrl != null ? presignedImageUrls.getOrDefault(imageUrl, imageUrl) : null)
+                .collect(Collectors.toList());
+    }
+
+    private TripPolicyViewDto mapTripPolicyToDto(TripPolicyEntity tripPolicy) {
+        return TripPolicyViewDto.builder()
+                .policyId(tripPolicy.getTripPolicyId())
+                .refundPolicy(tripPolicy.getRefundPolicy())
+                .cancellationPolicy(tripPolicy.getCancellationPolicy())
+                .build();
+    }
+
+    private TripMetaDataViewDto mapTripMetaDataToDto(TripMetaDataEntity tripMetaData) {
+        return TripMetaDataViewDto.builder()
+                .metadataId(tripMetaData.getTripMetaDataId())
+                .tripSummary(tripMetaData.getTripSummary())
+                .whatsIncluded(tripMetaData.getWhatsIncluded())
+                .whatsExcluded(tripMetaData.getWhatsExcluded())
+                .build();
+    }
+
+    private List<TripTagViewDto> mapTripTagsToDto(List<TagEntity> tripTags) {
+        return tripTags.stream().map((tag) -> {
+            TripTagViewDto tagDto = new TripTagViewDto();
+            tagDto.setTagId(tag.getTagId());
+            tagDto.setTagName(tag.getTagName());
+            return tagDto;
+        })
+        .collect(Collectors.toList());
+    }
+
+    private List<TripItineraryViewDto> mapTripItinerariesToDto(List<TripItineraryEntity> tripItineraries) {
+        return tripItineraries.stream()
+                .sorted(Comparator.comparingInt(TripItineraryEntity::getDayNumber))
+                .map((tripItinerary) -> {
+            TripItineraryViewDto tripItineraryDto = new TripItineraryViewDto();
+            tripItineraryDto.setItineraryId(tripItinerary.getItineraryId());
+            tripItineraryDto.setDayNumber(tripItinerary.getDayNumber());
+            tripItineraryDto.setDescription(tripItinerary.getDescription());
+            tripItineraryDto.setTitle(tripItinerary.getTitle());
+            tripItineraryDto.setStay(tripItinerary.getStay());
+            tripItineraryDto.setMeals(tripItinerary.getMeals());
+            tripItineraryDto.setActivities(tripItinerary.getActivities());
+            return tripItineraryDto;
+        })
+        .collect(Collectors.toList());
+    }
+
+    private static String fullName(UserNameDto names) {
+        return String.join(" ",
+                names.getFirstName() != null ? names.getFirstName() : "",
+                names.getMiddleName() != null ? names.getMiddleName() : "",
+                names.getLastName() != null ? names.getLastName() : "").trim();
+    }
+
+    private record TripViewBatch(Map<UUID, Integer> memberCounts,
+                                 Map<UUID, Set<UUID>> hostIdsByTrip,
+                                 Map<UUID, UserNameDto> hostNames,
+                                 Map<UUID, List<TagEntity>> tagsByTrip,
+                                 Map<UUID, List<TripItineraryEntity>> itinerariesByTrip,
+                                 Map<UUID, List<TripImageEntity>> imagesByTrip,
+                                 Map<String, String> presignedImageUrls) {
+
+        Set<UUID> hostIds(UUID tripId) {
+            return hostIdsByTrip.getOrDefault(tripId, Set.of());
+        }
+    }
+}
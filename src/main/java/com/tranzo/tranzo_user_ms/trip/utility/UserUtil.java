@@ -1,8 +1,7 @@
 package com.tranzo.tranzo_user_ms.trip.utility;
 
 import com.tranzo.tranzo_user_ms.commons.exception.ForbiddenException;
-import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
-import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
+import com.tranzo.tranzo_user_ms.trip.service.TripMembershipCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -11,11 +10,12 @@ import java.util.UUID;
 @Component
 @RequiredArgsConstructor
 public class UserUtil {
-    private final TripMemberRepository tripMemberRepository;
+    private final TripMembershipCache tripMembershipCache;
 
     public void validateUserIsHost(UUID tripId, UUID userId)
     {
-        tripMemberRepository.findByTrip_TripIdAndUserIdAndRole(tripId, userId, TripMemberRole.HOST)
-                .orElseThrow(() -> new ForbiddenException("User is forbidden to perform trip update as user is not HOST"));
+        if (!tripMembershipCache.get(tripId).isHost(userId)) {
+            throw new ForbiddenException("User is forbidden to perform trip update as user is not HOST");
+        }
     }
 }
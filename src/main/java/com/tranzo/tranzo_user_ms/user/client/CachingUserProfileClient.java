@@ -0,0 +1,144 @@
+package com.tranzo.tranzo_user_ms.user.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tranzo.tranzo_user_ms.commons.events.UserProfileUpdatedEvent;
+import com.tranzo.tranzo_user_ms.media.service.S3MediaService;
+import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Caching decorator over {@link UserProfileClientLocalImpl}.
+ * <ul>
+ *   <li>Per-request memo: repeated lookups within one HTTP request (e.g. one per chat message)
+ *       resolve from request attributes, including users that have no profile.</li>
+ *   <li>Shared Caffeine cache of name data, bounded and short-lived, evicted after a
+ *       {@link UserProfileUpdatedEvent} commits.</li>
+ * </ul>
+ * Only stored picture keys are cached; they are presigned on every read through
+ * {@link S3MediaService#presignAll}, whose own cache keeps URLs within their expiry.
+ */
+@Service
+@Primary
+@Slf4j
+public class CachingUserProfileClient implements UserProfileClient {
+
+    private static final String REQUEST_MEMO_ATTRIBUTE = CachingUserProfileClient.class.getName() + ".memo";
+
+    private final UserProfileClientLocalImpl delegate;
+    private final S3MediaService s3MediaService;
+    private final Cache<UUID, UserNameDto> profileCache;
+
+    public CachingUserProfileClient(UserProfileClientLocalImpl delegate,
+                                    S3MediaService s3MediaService,
+                                    @Value("${app.user-profile-cache.max-size:50000}") long maxSize,
+                                    @Value("${app.user-profile-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.delegate = delegate;
+        this.s3MediaService = s3MediaService;
+        this.profileCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    @Override
+    public Map<UUID, UserNameDto> getNamesByUserIds(List<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, UserNameDto> memo = requestMemo();
+        Map<UUID, UserNameDto> stored = new HashMap<>();
+        Set<UUID> missing = new LinkedHashSet<>();
+        for (UUID userId : userIds) {
+            if (userId == null) {
+                continue;
+            }
+            if (memo != null && memo.containsKey(userId)) {
+                UserNameDto memoized = memo.get(userId);
+                if (memoized != null) {
+                    stored.put(userId, memoized);
+                }
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<UUID, UserNameDto> loaded = profileCache.getAll(missing,
+                    keys -> delegate.getNamesByUserIds(new ArrayList<>(keys)));
+            stored.putAll(loaded);
+            if (memo != null) {
+                missing.forEach(userId -> memo.put(userId, loaded.get(userId)));
+            }
+        }
+        return withPresignedPictures(stored);
+    }
+
+    /**
+     * Drop a user's cached name data; runs once the profile change is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileUpdated(UserProfileUpdatedEvent event) {
+        evict(event.getUserId());
+    }
+
+    public void evict(UUID userId) {
+        profileCache.invalidate(userId);
+        Map<UUID, UserNameDto> memo = requestMemo();
+        if (memo != null) {
+            memo.remove(userId);
+        }
+        log.debug("Evicted cached profile for userId={}", userId);
+    }
+
+    /**
+     * Copies of the cached entries with S3 picture keys (starting with "uploads/") presigned in one batch.
+     * Other values (e.g. external URLs) are returned as-is.
+     */
+    private Map<UUID, UserNameDto> withPresignedPictures(Map<UUID, UserNameDto> stored) {
+        List<String> keys = stored.values().stream()
+                .map(UserNameDto::getProfilePictureUrl)
+                .filter(urlOrKey -> urlOrKey != null && urlOrKey.startsWith("uploads/"))
+                .distinct()
+                .toList();
+        Map<String, String> presignedUrls = Collections.emptyMap();
+        if (!keys.isEmpty()) {
+            try {
+                presignedUrls = s3MediaService.presignAll(keys);
+            } catch (Exception e) {
+                log.debug("Could not resolve S3 keys to presigned URLs (S3 may not be configured): {}", e.getMessage());
+            }
+        }
+        Map<UUID, UserNameDto> result = new HashMap<>(stored.size());
+        for (Map.Entry<UUID, UserNameDto> entry : stored.entrySet()) {
+            String urlOrKey = entry.getValue().getProfilePictureUrl();
+            result.put(entry.getKey(), entry.getValue().toBuilder()
+                    .profilePictureUrl(urlOrKey != null ? presignedUrls.getOrDefault(urlOrKey, urlOrKey) : null)
+                    .build());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<UUID, UserNameDto> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<UUID, UserNameDto> memo = (Map<UUID, UserNameDto>) attributes
+                .getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -22,14 +22,6 @@ public class CacheConfig {
                 .build();
     }
 
-    @Bean
-    public Cache<String, Integer> rateLimitCache() {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .maximumSize(100000)
-                .build();
-    }
-
     @Bean
     public Cache<String, String> aadhaarTokenCache() {
         return Caffeine.newBuilder()
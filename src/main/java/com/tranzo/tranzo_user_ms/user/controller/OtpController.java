@@ -5,6 +5,7 @@ import com.tranzo.tranzo_user_ms.commons.dto.ResponseDto;
 import com.tranzo.tranzo_user_ms.user.dto.VerifyOtpDto;
 import com.tranzo.tranzo_user_ms.user.dto.VerifyOtpResponseDto;
 import com.tranzo.tranzo_user_ms.user.service.OtpService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +22,9 @@ public class OtpController {
     private final OtpService otpService;
 
     @PostMapping("/request")
-    public ResponseEntity<ResponseDto<Void>> requestOtp(@Valid @RequestBody RequestOtpDto requestOtpDto) throws Exception
+    public ResponseEntity<ResponseDto<Void>> requestOtp(@Valid @RequestBody RequestOtpDto requestOtpDto, HttpServletRequest httpServletRequest) throws Exception
     {
-        otpService.sendOtp(requestOtpDto);
+        otpService.sendOtp(requestOtpDto, httpServletRequest.getRemoteAddr());
         return ResponseEntity.ok(ResponseDto.success(200, "OTP sent successfully", null));
     }
 
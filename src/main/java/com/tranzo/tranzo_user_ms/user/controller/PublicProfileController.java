@@ -21,9 +21,9 @@ public class PublicProfileController {
     @GetMapping("/{userId}")
     public ResponseEntity<ResponseDto<PublicProfileResponseDto>> getPublicProfile(
             @PathVariable UUID userId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
-        PublicProfileResponseDto profile = publicProfileService.getPublicProfile(userId, page, size);
+        PublicProfileResponseDto profile = publicProfileService.getPublicProfile(userId, cursor, size);
         return ResponseEntity.ok(ResponseDto.success(200, "Public profile fetched", profile));
     }
 }
@@ -59,9 +59,11 @@ public class TravelPalController {
     }
 
     @GetMapping("/suggested")
-    public ResponseEntity<ResponseDto<List<SuggestedTravelPalDto>>> suggested() throws AuthException {
+    public ResponseEntity<ResponseDto<List<SuggestedTravelPalDto>>> suggested(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) throws AuthException {
         UUID userId = SecurityUtils.getCurrentUserUuid();
-        List<SuggestedTravelPalDto> suggestedPals = service.getSuggestedTravelPals(userId);
+        List<SuggestedTravelPalDto> suggestedPals = service.getSuggestedTravelPals(userId, page, size);
         return ResponseEntity.ok(ResponseDto.success("Suggested travel pals retrieved", suggestedPals));
     }
 }
@@ -24,5 +24,7 @@ public class PublicProfileResponseDto {
     private BigDecimal trustScore;
     private List<ReviewItemDto> reviews;
     private long totalReviewCount;
+    private String nextCursor;
+    private boolean hasMore;
 
 }
\ No newline at end of file
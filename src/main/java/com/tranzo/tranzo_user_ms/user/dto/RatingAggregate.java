@@ -0,0 +1,43 @@
+package com.tranzo.tranzo_user_ms.user.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Read-only view of a user's running rating totals. Averages are on the 0-5 scale, scale 2;
+ * a host rating contributes the sum of its three sub-ratings, so its average divides by 3 * count.
+ */
+public record RatingAggregate(
+        UUID userId,
+        long hostRatingSum,
+        long hostRatingCount,
+        long memberRatingSum,
+        long memberRatingCount
+) {
+    private static final int SCALE = 2;
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+
+    public static RatingAggregate empty(UUID userId) {
+        return new RatingAggregate(userId, 0, 0, 0, 0);
+    }
+
+    public BigDecimal hostAverage() {
+        return average(hostRatingSum, hostRatingCount * 3);
+    }
+
+    public BigDecimal memberAverage() {
+        return average(memberRatingSum, memberRatingCount);
+    }
+
+    public long reviewCount() {
+        return hostRatingCount + memberRatingCount;
+    }
+
+    private static BigDecimal average(long sum, long count) {
+        if (count <= 0) {
+            return BigDecimal.ZERO.setScale(SCALE, ROUNDING);
+        }
+        return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), SCALE, ROUNDING);
+    }
+}
@@ -14,7 +14,7 @@ import java.util.UUID;
  * In microservices, this will be the response shape from the User service.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserNameDto {
@@ -0,0 +1,41 @@
+package com.tranzo.tranzo_user_ms.user.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Running rating totals for one user, kept in step with HostRating and visible MemberRating rows.
+ * Host sums add up all three host sub-ratings; written only through
+ * {@link com.tranzo.tranzo_user_ms.user.repository.UserRatingAggregateRepository#applyDelta}.
+ */
+@Entity
+@Table(name = "user_rating_aggregate")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserRatingAggregateEntity {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private UUID userId;
+
+    @Column(name = "host_rating_sum", nullable = false)
+    private long hostRatingSum;
+
+    @Column(name = "host_rating_count", nullable = false)
+    private long hostRatingCount;
+
+    @Column(name = "member_rating_sum", nullable = false)
+    private long memberRatingSum;
+
+    @Column(name = "member_rating_count", nullable = false)
+    private long memberRatingCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
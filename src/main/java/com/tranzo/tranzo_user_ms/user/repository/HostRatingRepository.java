@@ -1,8 +1,13 @@
 package com.tranzo.tranzo_user_ms.user.repository;
 
 import com.tranzo.tranzo_user_ms.user.model.HostRatingEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,7 +16,78 @@ public interface HostRatingRepository extends JpaRepository<HostRatingEntity, UU
 
     Optional<HostRatingEntity> findByTrip_TripIdAndRaterUserId(UUID tripId, UUID raterUserId);
 
+    /**
+     * Same as {@link #findByTrip_TripIdAndRaterUserId} but locks the row, so concurrent edits of one
+     * rating compute their aggregate deltas one after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT hr FROM HostRatingEntity hr WHERE hr.trip.tripId = :tripId AND hr.raterUserId = :raterUserId")
+    Optional<HostRatingEntity> findByTripIdAndRaterUserIdForUpdate(
+            @Param("tripId") UUID tripId,
+            @Param("raterUserId") UUID raterUserId);
+
     boolean existsByTrip_TripIdAndRaterUserId(UUID tripId, UUID raterUserId);
 
     List<HostRatingEntity> findByHostUserIdOrderByCreatedAtDesc(UUID hostUserId);
+
+    /**
+     * First page of a user's reviews: ratings received as host plus visible member ratings,
+     * newest first by (created_at, id). Each branch is limited on its own index before merging.
+     * Returns: [source, id, reviewText, vibeTag, averageRating, createdAt]
+     */
+    @Query(value = """
+        SELECT source, id, review_text, vibe_tag, average_rating, created_at FROM (
+            (SELECT CAST('HOST' AS VARCHAR(10)) AS source, hr.id, hr.review_text,
+                    CAST(NULL AS VARCHAR(30)) AS vibe_tag,
+                    CAST(hr.coordination_rating + hr.communication_rating + hr.leadership_rating AS DOUBLE PRECISION) / 3
+                        AS average_rating,
+                    hr.created_at
+             FROM host_rating hr
+             WHERE hr.host_user_id = :userId
+             ORDER BY hr.created_at DESC, hr.id DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT CAST('MEMBER' AS VARCHAR(10)), mr.id, mr.review_text, mr.vibe_tag,
+                    CAST(mr.rating_score AS DOUBLE PRECISION), mr.created_at
+             FROM member_rating mr
+             WHERE mr.rated_user_id = :userId AND mr.visible_at IS NOT NULL
+             ORDER BY mr.created_at DESC, mr.id DESC
+             LIMIT :limit)
+        ) reviews
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findReviewPageByUserId(@Param("userId") UUID userId, @Param("limit") int limit);
+
+    /**
+     * Same as {@link #findReviewPageByUserId} for the rows after the given (createdAt, id) cursor.
+     */
+    @Query(value = """
+        SELECT source, id, review_text, vibe_tag, average_rating, created_at FROM (
+            (SELECT CAST('HOST' AS VARCHAR(10)) AS source, hr.id, hr.review_text,
+                    CAST(NULL AS VARCHAR(30)) AS vibe_tag,
+                    CAST(hr.coordination_rating + hr.communication_rating + hr.leadership_rating AS DOUBLE PRECISION) / 3
+                        AS average_rating,
+                    hr.created_at
+             FROM host_rating hr
+             WHERE hr.host_user_id = :userId
+               AND (hr.created_at < :afterCreatedAt OR (hr.created_at = :afterCreatedAt AND hr.id < :afterId))
+             ORDER BY hr.created_at DESC, hr.id DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT CAST('MEMBER' AS VARCHAR(10)), mr.id, mr.review_text, mr.vibe_tag,
+                    CAST(mr.rating_score AS DOUBLE PRECISION), mr.created_at
+             FROM member_rating mr
+             WHERE mr.rated_user_id = :userId AND mr.visible_at IS NOT NULL
+               AND (mr.created_at < :afterCreatedAt OR (mr.created_at = :afterCreatedAt AND mr.id < :afterId))
+             ORDER BY mr.created_at DESC, mr.id DESC
+             LIMIT :limit)
+        ) reviews
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findReviewPageByUserIdAfter(@Param("userId") UUID userId,
+                                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                               @Param("afterId") UUID afterId,
+                                               @Param("limit") int limit);
 }
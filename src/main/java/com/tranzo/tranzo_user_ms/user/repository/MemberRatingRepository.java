@@ -1,10 +1,14 @@
 package com.tranzo.tranzo_user_ms.user.repository;
 
 import com.tranzo.tranzo_user_ms.user.model.MemberRatingEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +18,46 @@ public interface MemberRatingRepository extends JpaRepository<MemberRatingEntity
     Optional<MemberRatingEntity> findByTrip_TripIdAndRaterUserIdAndRatedUserId(
             UUID tripId, UUID raterUserId, UUID ratedUserId);
 
+    /**
+     * Same as {@link #findByTrip_TripIdAndRaterUserIdAndRatedUserId} but locks the row, so concurrent
+     * edits and reveals of one rating apply their aggregate deltas one after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT mr FROM MemberRatingEntity mr
+        WHERE mr.trip.tripId = :tripId AND mr.raterUserId = :raterUserId AND mr.ratedUserId = :ratedUserId
+    """)
+    Optional<MemberRatingEntity> findByTripIdAndRaterUserIdAndRatedUserIdForUpdate(
+            @Param("tripId") UUID tripId,
+            @Param("raterUserId") UUID raterUserId,
+            @Param("ratedUserId") UUID ratedUserId);
+
+    /**
+     * Makes a blind rating visible. Returns 1 only for the transaction that actually revealed it,
+     * so the rating is added to the aggregates exactly once.
+     */
+    @Modifying
+    @Query("""
+        UPDATE MemberRatingEntity mr SET mr.visibleAt = :visibleAt
+        WHERE mr.trip.tripId = :tripId AND mr.raterUserId = :raterUserId AND mr.ratedUserId = :ratedUserId
+          AND mr.visibleAt IS NULL
+    """)
+    int revealIfHidden(@Param("tripId") UUID tripId,
+                       @Param("raterUserId") UUID raterUserId,
+                       @Param("ratedUserId") UUID ratedUserId,
+                       @Param("visibleAt") LocalDateTime visibleAt);
+
+    /**
+     * Stored score of one rating, read from the database rather than a possibly stale managed entity.
+     */
+    @Query("""
+        SELECT mr.ratingScore FROM MemberRatingEntity mr
+        WHERE mr.trip.tripId = :tripId AND mr.raterUserId = :raterUserId AND mr.ratedUserId = :ratedUserId
+    """)
+    Optional<Integer> findRatingScore(@Param("tripId") UUID tripId,
+                                      @Param("raterUserId") UUID raterUserId,
+                                      @Param("ratedUserId") UUID ratedUserId);
+
     boolean existsByTrip_TripIdAndRaterUserIdAndRatedUserId(
             UUID tripId, UUID raterUserId, UUID ratedUserId);
 
@@ -3,7 +3,9 @@ package com.tranzo.tranzo_user_ms.user.repository;
 import com.tranzo.tranzo_user_ms.user.model.TravelPalEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,4 +35,101 @@ public interface TravelPalRepository extends JpaRepository<TravelPalEntity, UUID
         AND t.requestedBy = :userId
     """)
     List<TravelPalEntity> findOutgoingPending(UUID userId);
-}
\ No newline at end of file
+
+    /**
+     * Accepted travel pals per user
+     * Returns: [userId, count]
+     */
+    @Query(value = """
+        SELECT pals.user_id, COUNT(*)
+        FROM (
+            SELECT tp.user_low_id AS user_id FROM travel_pal tp
+            WHERE tp.user_low_id IN (:userIds) AND tp.status = 'ACCEPTED'
+            UNION ALL
+            SELECT tp.user_high_id AS user_id FROM travel_pal tp
+            WHERE tp.user_high_id IN (:userIds) AND tp.status = 'ACCEPTED'
+        ) pals
+        GROUP BY pals.user_id
+        """, nativeQuery = true)
+    List<Object[]> countAcceptedByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * One page of ranked travel pal suggestions, scored in the database:
+     * 3 points per mutual travel pal, 2 per completed trip taken together and 1 per shared destination.
+     * Active users already accepted or pending with the user in either direction are never suggested.
+     * When fewer scored candidates than the page exist, the newest active users fill the rest with score 0;
+     * that fallback reads at most :window rows (offset + limit).
+     * Returns: [userId, score]
+     */
+    @Query(value = """
+        WITH connected AS (
+            SELECT CASE WHEN tp.user_low_id = :userId THEN tp.user_high_id ELSE tp.user_low_id END AS user_id,
+                   tp.status
+            FROM travel_pal tp
+            WHERE (tp.user_low_id = :userId OR tp.user_high_id = :userId)
+              AND tp.status IN ('ACCEPTED', 'PENDING')
+        ),
+        my_trips AS (
+            SELECT t.trip_id, t.trip_status, t.trip_destination
+            FROM trip_members tm
+            JOIN core_trip_details t ON t.trip_id = tm.trip_id
+            WHERE tm.user_id = :userId
+              AND tm.status = 'ACTIVE'
+              AND t.trip_status IN ('PUBLISHED', 'ONGOING', 'COMPLETED')
+        ),
+        signals AS (
+            SELECT tp.user_high_id AS user_id, 3 AS points
+            FROM connected c
+            JOIN travel_pal tp ON tp.user_low_id = c.user_id AND tp.status = 'ACCEPTED'
+            WHERE c.status = 'ACCEPTED'
+            UNION ALL
+            SELECT tp.user_low_id, 3
+            FROM connected c
+            JOIN travel_pal tp ON tp.user_high_id = c.user_id AND tp.status = 'ACCEPTED'
+            WHERE c.status = 'ACCEPTED'
+            UNION ALL
+            SELECT tm.user_id, 2
+            FROM my_trips mt
+            JOIN trip_members tm ON tm.trip_id = mt.trip_id AND tm.status = 'ACTIVE'
+            WHERE mt.trip_status = 'COMPLETED'
+            UNION ALL
+            SELECT shared.user_id, 1
+            FROM (
+                SELECT DISTINCT tm.user_id, t.trip_destination
+                FROM core_trip_details t
+                JOIN trip_members tm ON tm.trip_id = t.trip_id AND tm.status = 'ACTIVE'
+                WHERE t.trip_destination IN (SELECT mt.trip_destination FROM my_trips mt)
+                  AND t.trip_status IN ('PUBLISHED', 'ONGOING', 'COMPLETED')
+            ) shared
+        ),
+        scored AS (
+            SELECT s.user_id, SUM(s.points) AS score, MAX(u.created_at) AS created_at
+            FROM signals s
+            JOIN users u ON u.user_uuid = s.user_id AND u.account_status = 'ACTIVE'
+            WHERE s.user_id <> :userId
+              AND s.user_id NOT IN (SELECT c.user_id FROM connected c)
+            GROUP BY s.user_id
+        )
+        SELECT ranked.user_id, ranked.score
+        FROM (
+            SELECT sc.user_id, sc.score, sc.created_at FROM scored sc
+            UNION ALL
+            (SELECT u.user_uuid, 0, u.created_at
+             FROM users u
+             WHERE u.account_status = 'ACTIVE'
+               AND u.user_uuid <> :userId
+               AND u.user_uuid NOT IN (SELECT c.user_id FROM connected c)
+               AND u.user_uuid NOT IN (SELECT sc.user_id FROM scored sc)
+             ORDER BY u.created_at DESC
+             LIMIT :window)
+        ) ranked
+        ORDER BY ranked.score DESC, ranked.created_at DESC, ranked.user_id
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<Object[]> findSuggestedUserIds(
+            @Param("userId") UUID userId,
+            @Param("limit") int limit,
+            @Param("offset") int offset,
+            @Param("window") int window
+    );
+}
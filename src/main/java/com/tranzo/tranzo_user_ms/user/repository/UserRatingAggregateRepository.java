@@ -0,0 +1,59 @@
+package com.tranzo.tranzo_user_ms.user.repository;
+
+import com.tranzo.tranzo_user_ms.user.dto.RatingAggregate;
+import com.tranzo.tranzo_user_ms.user.model.UserRatingAggregateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserRatingAggregateRepository extends JpaRepository<UserRatingAggregateEntity, UUID> {
+
+    /**
+     * Adds the deltas to the user's row, creating it on first use. A single
+     * INSERT ... ON CONFLICT DO UPDATE, so concurrent raters add to the stored totals
+     * instead of overwriting each other's read-modify-write.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_rating_aggregate
+            (user_id, host_rating_sum, host_rating_count, member_rating_sum, member_rating_count, updated_at)
+        VALUES (:userId, :hostSumDelta, :hostCountDelta, :memberSumDelta, :memberCountDelta, CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id) DO UPDATE SET
+            host_rating_sum = user_rating_aggregate.host_rating_sum + EXCLUDED.host_rating_sum,
+            host_rating_count = user_rating_aggregate.host_rating_count + EXCLUDED.host_rating_count,
+            member_rating_sum = user_rating_aggregate.member_rating_sum + EXCLUDED.member_rating_sum,
+            member_rating_count = user_rating_aggregate.member_rating_count + EXCLUDED.member_rating_count,
+            updated_at = EXCLUDED.updated_at
+    """, nativeQuery = true)
+    int applyDelta(@Param("userId") UUID userId,
+                   @Param("hostSumDelta") long hostSumDelta,
+                   @Param("hostCountDelta") long hostCountDelta,
+                   @Param("memberSumDelta") long memberSumDelta,
+                   @Param("memberCountDelta") long memberCountDelta);
+
+    /**
+     * Scalar projection rather than the entity, so a read after {@link #applyDelta} in the same
+     * transaction sees the database row instead of a stale managed instance.
+     */
+    @Query("""
+        SELECT new com.tranzo.tranzo_user_ms.user.dto.RatingAggregate(
+            a.userId, a.hostRatingSum, a.hostRatingCount, a.memberRatingSum, a.memberRatingCount)
+        FROM UserRatingAggregateEntity a
+        WHERE a.userId = :userId
+    """)
+    Optional<RatingAggregate> findAggregate(@Param("userId") UUID userId);
+
+    @Query("""
+        SELECT new com.tranzo.tranzo_user_ms.user.dto.RatingAggregate(
+            a.userId, a.hostRatingSum, a.hostRatingCount, a.memberRatingSum, a.memberRatingCount)
+        FROM UserRatingAggregateEntity a
+        WHERE a.userId IN :userIds
+    """)
+    List<RatingAggregate> findAggregates(@Param("userIds") Collection<UUID> userIds);
+}
@@ -2,7 +2,11 @@ package com.tranzo.tranzo_user_ms.user.repository;
 
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +16,7 @@ public interface UserRepository extends JpaRepository<UsersEntity, UUID> {
     Optional<UsersEntity> findByEmail(String email);
 
     Optional<UsersEntity> findByMobileNumber(String mobileNumber);
+
+    @Query("SELECT u FROM UsersEntity u LEFT JOIN FETCH u.userProfileEntity WHERE u.userUuid IN :userUuids")
+    List<UsersEntity> findAllWithProfileByUserUuidIn(@Param("userUuids") Collection<UUID> userUuids);
 }
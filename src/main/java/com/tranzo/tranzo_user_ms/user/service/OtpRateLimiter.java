@@ -0,0 +1,148 @@
+package com.tranzo.tranzo_user_ms.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sliding-window limiter for OTP requests, applied per identifier (phone or email) and per client IP.
+ * <p>
+ * Each key keeps the timestamps of its accepted requests inside the window; a request is accepted
+ * while fewer than the limit remain. Check-and-record is one {@code asMap().compute} per key, so
+ * concurrent requests for the same key cannot both take the last slot, and requests for different
+ * keys never contend. The identifier is checked first, so a rejected identifier does not use up
+ * the IP's allowance.
+ */
+@Component
+@Slf4j
+public class OtpRateLimiter {
+
+    private static final String IDENTIFIER_PREFIX = "ID:";
+    private static final String IP_PREFIX = "IP:";
+
+    private final ConcurrentMap<String, long[]> windows;
+    private final int identifierMaxRequests;
+    private final int ipMaxRequests;
+    private final long windowMillis;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejectedByIdentifier = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+
+    public OtpRateLimiter(@Value("${app.otp.rate-limit.identifier-max-requests:3}") int identifierMaxRequests,
+                          @Value("${app.otp.rate-limit.ip-max-requests:30}") int ipMaxRequests,
+                          @Value("${app.otp.rate-limit.window-minutes:10}") long windowMinutes,
+                          @Value("${app.otp.rate-limit.max-keys:200000}") long maxKeys) {
+        this.identifierMaxRequests = identifierMaxRequests;
+        this.ipMaxRequests = ipMaxRequests;
+        this.windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+        // An entry untouched for a whole window holds only stale timestamps, so it can go
+        Cache<String, long[]> cache = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(windowMinutes))
+                .build();
+        this.windows = cache.asMap();
+    }
+
+    public enum Decision {
+        ACCEPTED,
+        REJECTED_IDENTIFIER,
+        REJECTED_IP
+    }
+
+    /**
+     * Records one OTP request. Only an accepted request counts towards the limits.
+     * A null or blank clientIp skips the per-IP check.
+     */
+    public Decision tryAcquire(String identifier, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (!tryAcquire(IDENTIFIER_PREFIX + identifier, identifierMaxRequests, now)) {
+            rejectedByIdentifier.increment();
+            log.warn("OTP rate limit hit | identifier={} | scope=IDENTIFIER", identifier);
+            return Decision.REJECTED_IDENTIFIER;
+        }
+        if (clientIp != null && !clientIp.isBlank() && !tryAcquire(IP_PREFIX + clientIp, ipMaxRequests, now)) {
+            release(IDENTIFIER_PREFIX + identifier, now);
+            rejectedByIp.increment();
+            log.warn("OTP rate limit hit | identifier={} | clientIp={} | scope=IP", identifier, clientIp);
+            return Decision.REJECTED_IP;
+        }
+        accepted.increment();
+        return Decision.ACCEPTED;
+    }
+
+    public LimiterStats stats() {
+        return new LimiterStats(accepted.sum(), rejectedByIdentifier.sum(), rejectedByIp.sum(), windows.size());
+    }
+
+    private boolean tryAcquire(String key, int maxRequests, long now) {
+        boolean[] acquired = new boolean[1];
+        windows.compute(key, (k, hits) -> {
+            long[] live = prune(hits, now);
+            if (live.length >= maxRequests) {
+                return live;
+            }
+            acquired[0] = true;
+            long[] next = Arrays.copyOf(live, live.length + 1);
+            next[live.length] = now;
+            return next;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * Gives back the slot taken at {@code at}, for a request that was then refused on the other key.
+     */
+    private void release(String key, long at) {
+        windows.computeIfPresent(key, (k, hits) -> {
+            for (int i = hits.length - 1; i >= 0; i--) {
+                if (hits[i] == at) {
+                    long[] next = new long[hits.length - 1];
+                    System.arraycopy(hits, 0, next, 0, i);
+                    System.arraycopy(hits, i + 1, next, i, hits.length - i - 1);
+                    return next;
+                }
+            }
+            return hits;
+        });
+    }
+
+    /**
+     * Drops timestamps that have left the window. Arrays are never mutated in place, so a value
+     * read outside compute is always consistent.
+     */
+    private long[] prune(long[] hits, long now) {
+        if (hits == null) {
+            return new long[0];
+        }
+        // Callers read the clock before compute, so timestamps are not strictly ordered; check each
+        long windowStart = now - windowMillis;
+        int live = 0;
+        for (long hit : hits) {
+            if (hit > windowStart) {
+                live++;
+            }
+        }
+        if (live == hits.length) {
+            return hits;
+        }
+        long[] kept = new long[live];
+        int i = 0;
+        for (long hit : hits) {
+            if (hit > windowStart) {
+                kept[i++] = hit;
+            }
+        }
+        return kept;
+    }
+
+    public record LimiterStats(long accepted, long rejectedByIdentifier, long rejectedByIp, int trackedKeys) {
+    }
+}
@@ -1,6 +1,5 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.tranzo.tranzo_user_ms.commons.service.JwtService;
 import com.tranzo.tranzo_user_ms.user.configuration.TwilioConfig;
 import com.tranzo.tranzo_user_ms.user.dto.*;
@@ -33,27 +32,23 @@ public class OtpService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final SessionService sessionService;
-    private final Cache<String, Integer> rateLimitCache;
+    private final OtpRateLimiter otpRateLimiter;
     private final OtpCacheService cacheService;
 //    private final SmsService smsService;
     private final EmailService emailService;
 
     private static final int MAX_ATTEMPTS = 3;
-    private static final int MAX_REQUESTS = 3;
 
     @Value("${spring.profiles.active}")
     private String env;
 
-    public void sendOtp(RequestOtpDto requestOtpDto) throws Exception {
+    public void sendOtp(RequestOtpDto requestOtpDto, String clientIp) throws Exception {
         String identifier = otpUtility.resolveIdentifier(requestOtpDto);
-        String otpRateLimitKey = buildKeyForRateLimiting(identifier);
 
         // Rate Limit logic
-        Integer count = rateLimitCache.getIfPresent(otpRateLimitKey);
-        if (count != null && count >= MAX_REQUESTS) {
+        if (otpRateLimiter.tryAcquire(identifier, clientIp) != OtpRateLimiter.Decision.ACCEPTED) {
             throw new OtpException("Too many OTP requests. Try later.");
         }
-        rateLimitCache.put(otpRateLimitKey, count == null ? 1 : count + 1);
 
         String otpKey = buildKey(identifier);
         OtpData existing = cacheService.get(otpKey);
@@ -160,11 +155,6 @@ public class OtpService {
         return "OTP:" + identifier;
     }
 
-    private String buildKeyForRateLimiting(String identifier)
-    {
-        return "OTPRL:" + identifier;
-    }
-
     private Optional<UsersEntity> findUserByIdentifier(VerifyOtpDto dto) {
         if (dto.getEmailId() != null && !dto.getEmailId().isBlank()) {
             return userRepository.findByEmail(dto.getEmailId().toLowerCase());
@@ -1,22 +1,23 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
 import com.tranzo.tranzo_user_ms.commons.exception.UserProfileNotFoundException;
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
 import com.tranzo.tranzo_user_ms.user.dto.PublicProfileResponseDto;
+import com.tranzo.tranzo_user_ms.user.dto.RatingAggregate;
 import com.tranzo.tranzo_user_ms.user.dto.ReviewItemDto;
-import com.tranzo.tranzo_user_ms.user.model.HostRatingEntity;
-import com.tranzo.tranzo_user_ms.user.model.MemberRatingEntity;
+import com.tranzo.tranzo_user_ms.user.enums.VibeTag;
 import com.tranzo.tranzo_user_ms.user.repository.HostRatingRepository;
-import com.tranzo.tranzo_user_ms.user.repository.MemberRatingRepository;
 import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
 import com.tranzo.tranzo_user_ms.user.repository.UserProfileRepository;
+import com.tranzo.tranzo_user_ms.user.repository.UserRatingAggregateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,41 +26,40 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PublicProfileService {
 
+    static final int MAX_REVIEW_PAGE_SIZE = 50;
+
     private final UserProfileRepository userProfileRepository;
     private final UserService userService;
     private final HostRatingRepository hostRatingRepository;
-    private final MemberRatingRepository memberRatingRepository;
+    private final UserRatingAggregateRepository userRatingAggregateRepository;
 
+    /**
+     * Public profile with one keyset page of reviews ordered by (createdAt DESC, id DESC).
+     * Host and member reviews are merged in the database and one row beyond the page is fetched
+     * to decide whether a next cursor is returned; the total comes from the user's rating totals.
+     */
     @Transactional(readOnly = true)
-    public PublicProfileResponseDto getPublicProfile(UUID userId, int page, int size) {
+    public PublicProfileResponseDto getPublicProfile(UUID userId, String cursor, int size) {
         UserProfileEntity profile = userProfileRepository.findAllUserProfileDetailByUserId(userId)
                 .orElseThrow(() -> new UserProfileNotFoundException("User profile not found for id: " + userId));
 
-        List<ReviewItemDto> allReviews = new ArrayList<>();
-        for (HostRatingEntity r : hostRatingRepository.findByHostUserIdOrderByCreatedAtDesc(userId)) {
-            double avg = (r.getCoordinationRating() + r.getCommunicationRating() + r.getLeadershipRating()) / 3.0;
-            allReviews.add(ReviewItemDto.builder()
-                    .reviewText(r.getReviewText())
-                    .source(ReviewItemDto.ReviewSource.HOST)
-                    .averageRating(avg)
-                    .createdAt(r.getCreatedAt())
-                    .build());
-        }
-        for (MemberRatingEntity r : memberRatingRepository.findByRatedUserIdAndVisibleAtIsNotNullOrderByCreatedAtDesc(userId)) {
-            allReviews.add(ReviewItemDto.builder()
-                    .reviewText(r.getReviewText())
-                    .vibeTag(r.getVibeTag())
-                    .source(ReviewItemDto.ReviewSource.MEMBER)
-                    .averageRating(r.getRatingScore() != null ? r.getRatingScore().doubleValue() : null)
-                    .createdAt(r.getCreatedAt())
-                    .build());
-        }
-        allReviews.sort(Comparator.comparing(ReviewItemDto::getCreatedAt).reversed());
+        int pageSize = Math.min(Math.max(size, 1), MAX_REVIEW_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Object[]> rows = after == null
+                ? hostRatingRepository.findReviewPageByUserId(userId, pageSize + 1)
+                : hostRatingRepository.findReviewPageByUserIdAfter(userId, after.sortKey(), after.id(), pageSize + 1);
 
-        int total = allReviews.size();
-        int from = Math.min(page * size, total);
-        int to = Math.min(from + size, total);
-        List<ReviewItemDto> pagedReviews = from < total ? allReviews.subList(from, to) : List.of();
+        boolean hasMore = rows.size() > pageSize;
+        List<Object[]> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Object[] last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(toLocalDateTime(last[5]), (UUID) last[1]).encode();
+        }
+        List<ReviewItemDto> reviews = pageRows.stream().map(PublicProfileService::toReviewItem).toList();
+        long totalReviewCount = userRatingAggregateRepository.findAggregate(userId)
+                .map(RatingAggregate::reviewCount)
+                .orElse(0L);
 
         String profilePictureUrl = userService.resolveProfilePictureUrl(profile.getProfilePictureUrl());
         return PublicProfileResponseDto.builder()
@@ -70,8 +70,24 @@ public class PublicProfileService {
                 .profilePictureUrl(profilePictureUrl)
                 .bio(profile.getBio())
                 .trustScore(profile.getTrustScore() != null ? profile.getTrustScore() : BigDecimal.ZERO)
-                .reviews(pagedReviews)
-                .totalReviewCount(total)
+                .reviews(reviews)
+                .totalReviewCount(totalReviewCount)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
                 .build();
     }
+
+    private static ReviewItemDto toReviewItem(Object[] row) {
+        return ReviewItemDto.builder()
+                .source(ReviewItemDto.ReviewSource.valueOf((String) row[0]))
+                .reviewText((String) row[2])
+                .vibeTag(row[3] != null ? VibeTag.valueOf((String) row[3]) : null)
+                .averageRating(row[4] != null ? ((Number) row[4]).doubleValue() : null)
+                .createdAt(toLocalDateTime(row[5]))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
 }
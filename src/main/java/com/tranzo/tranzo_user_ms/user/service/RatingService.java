@@ -1,6 +1,7 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
 import com.tranzo.tranzo_user_ms.commons.exception.ForbiddenException;
+import com.tranzo.tranzo_user_ms.user.dto.RatingAggregate;
 import com.tranzo.tranzo_user_ms.user.dto.SubmitHostRatingRequest;
 import com.tranzo.tranzo_user_ms.user.dto.SubmitMemberRatingItem;
 import com.tranzo.tranzo_user_ms.user.dto.SubmitMemberRatingsRequest;
@@ -11,6 +12,7 @@ import com.tranzo.tranzo_user_ms.user.model.TripRatingEntity;
 import com.tranzo.tranzo_user_ms.user.repository.HostRatingRepository;
 import com.tranzo.tranzo_user_ms.user.repository.MemberRatingRepository;
 import com.tranzo.tranzo_user_ms.user.repository.TripRatingRepository;
+import com.tranzo.tranzo_user_ms.user.repository.UserRatingAggregateRepository;
 import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
 import com.tranzo.tranzo_user_ms.trip.enums.TripMemberStatus;
 import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
@@ -24,8 +26,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -42,6 +46,7 @@ public class RatingService {
     private final TripRepository tripRepository;
     private final TripMemberRepository tripMemberRepository;
     private final TrustScoreService trustScoreService;
+    private final UserRatingAggregateRepository userRatingAggregateRepository;
 
     @Transactional
     public void submitTripRating(UUID tripId, UUID raterUserId, SubmitTripRatingRequest request) {
@@ -71,18 +76,22 @@ public class RatingService {
                 .findFirstByTrip_TripIdAndRoleAndStatus(tripId, TripMemberRole.HOST, TripMemberStatus.ACTIVE)
                 .map(TripMemberEntity::getUserId)
                 .orElseThrow(() -> new IllegalStateException("Trip has no host"));
-        HostRatingEntity entity = hostRatingRepository.findByTrip_TripIdAndRaterUserId(tripId, raterUserId)
+        HostRatingEntity entity = hostRatingRepository.findByTripIdAndRaterUserIdForUpdate(tripId, raterUserId)
                 .orElse(HostRatingEntity.builder()
                         .trip(trip)
                         .hostUserId(hostUserId)
                         .raterUserId(raterUserId)
                         .build());
+        boolean isNew = entity.getId() == null;
+        int previousTotal = isNew ? 0 : hostRatingTotal(entity);
         entity.setCoordinationRating(request.getCoordinationRating());
         entity.setCommunicationRating(request.getCommunicationRating());
         entity.setLeadershipRating(request.getLeadershipRating());
         entity.setReviewText(request.getReviewText());
         hostRatingRepository.save(entity);
-        trustScoreService.updateTrustScore(hostUserId);
+        userRatingAggregateRepository.applyDelta(entity.getHostUserId(),
+                hostRatingTotal(entity) - previousTotal, isNew ? 1 : 0, 0, 0);
+        trustScoreService.updateTrustScore(entity.getHostUserId());
         log.debug("Saved host rating for trip {} by user {}", tripId, raterUserId);
     }
 
@@ -104,16 +113,22 @@ public class RatingService {
                 continue;
             }
             MemberRatingEntity entity = memberRatingRepository
-                    .findByTrip_TripIdAndRaterUserIdAndRatedUserId(tripId, raterUserId, item.getRatedUserId())
+                    .findByTripIdAndRaterUserIdAndRatedUserIdForUpdate(tripId, raterUserId, item.getRatedUserId())
                     .orElse(MemberRatingEntity.builder()
                             .trip(trip)
                             .raterUserId(raterUserId)
                             .ratedUserId(item.getRatedUserId())
                             .build());
+            Integer previousScore = entity.getVisibleAt() != null ? entity.getRatingScore() : null;
             entity.setRatingScore(item.getRatingScore());
             entity.setVibeTag(item.getVibeTag());
             entity.setReviewText(item.getReviewText());
             memberRatingRepository.save(entity);
+            // Hidden ratings are counted when revealed; an already visible one only shifts the sum
+            if (previousScore != null && !previousScore.equals(entity.getRatingScore())) {
+                userRatingAggregateRepository.applyDelta(item.getRatedUserId(),
+                        0, 0, entity.getRatingScore() - previousScore, 0);
+            }
             trustScoreService.updateTrustScore(item.getRatedUserId());
             revealMutualRatingsIfBothSubmitted(tripId, raterUserId, item.getRatedUserId(), now);
         }
@@ -129,33 +144,52 @@ public class RatingService {
         if (ratedUserSubmitted.isEmpty()) {
             return;
         }
-        memberRatingRepository.findByTrip_TripIdAndRaterUserIdAndRatedUserId(tripId, raterUserId, ratedUserId)
-                .filter(e -> e.getVisibleAt() == null)
-                .ifPresent(e -> {
-                    e.setVisibleAt(now);
-                    memberRatingRepository.save(e);
-                    trustScoreService.updateTrustScore(ratedUserId);
-                });
-        memberRatingRepository.findByTrip_TripIdAndRaterUserIdAndRatedUserId(tripId, ratedUserId, raterUserId)
-                .filter(e -> e.getVisibleAt() == null)
-                .ifPresent(e -> {
-                    e.setVisibleAt(now);
-                    memberRatingRepository.save(e);
-                    trustScoreService.updateTrustScore(raterUserId);
-                });
+        reveal(tripId, raterUserId, ratedUserId, now);
+        reveal(tripId, ratedUserId, raterUserId, now);
+    }
+
+    /**
+     * Conditional update, so when both sides submit at once only one transaction counts the rating;
+     * the score is read back after the update holds the row lock.
+     */
+    private void reveal(UUID tripId, UUID raterUserId, UUID ratedUserId, LocalDateTime now) {
+        if (memberRatingRepository.revealIfHidden(tripId, raterUserId, ratedUserId, now) == 0) {
+            return;
+        }
+        memberRatingRepository.findRatingScore(tripId, raterUserId, ratedUserId).ifPresent(score -> {
+            userRatingAggregateRepository.applyDelta(ratedUserId, 0, 0, score, 1);
+            trustScoreService.updateTrustScore(ratedUserId);
+        });
     }
 
     /**
      * Gets the average member rating for a user based on all visible member ratings
      */
     public BigDecimal getUserAverageRating(UUID userId) {
-        List<MemberRatingEntity> ratings = memberRatingRepository.findByRatedUserIdAndVisibleAtIsNotNullOrderByCreatedAtDesc(userId);
-        if (ratings.isEmpty()) {
-            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        return userRatingAggregateRepository.findAggregate(userId)
+                .orElseGet(() -> RatingAggregate.empty(userId))
+                .memberAverage();
+    }
+
+    /**
+     * Gets the average member rating for each user from one IN query over the rating totals.
+     * Users without visible ratings map to zero, as in {@link #getUserAverageRating(UUID)}.
+     */
+    public Map<UUID, BigDecimal> getUserAverageRatings(Collection<UUID> userIds) {
+        Map<UUID, BigDecimal> averages = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return averages;
+        }
+        for (UUID userId : userIds) {
+            averages.put(userId, RatingAggregate.empty(userId).memberAverage());
         }
-        BigDecimal sum = ratings.stream()
-                .map(rating -> BigDecimal.valueOf(rating.getRatingScore()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return sum.divide(new BigDecimal(ratings.size()), 2, RoundingMode.HALF_UP);
+        for (RatingAggregate aggregate : userRatingAggregateRepository.findAggregates(userIds)) {
+            averages.put(aggregate.userId(), aggregate.memberAverage());
+        }
+        return averages;
+    }
+
+    private static int hostRatingTotal(HostRatingEntity rating) {
+        return rating.getCoordinationRating() + rating.getCommunicationRating() + rating.getLeadershipRating();
     }
 }
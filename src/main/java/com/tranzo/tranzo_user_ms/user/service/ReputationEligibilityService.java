@@ -1,9 +1,8 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
-import com.tranzo.tranzo_user_ms.trip.enums.TripMemberStatus;
 import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
-import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
 import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import com.tranzo.tranzo_user_ms.trip.service.TripMembershipCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,7 +19,7 @@ import java.util.UUID;
 public class ReputationEligibilityService {
 
     private final TripRepository tripRepository;
-    private final TripMemberRepository tripMemberRepository;
+    private final TripMembershipCache tripMembershipCache;
 
     /**
      * Returns true if the user can submit any rating (trip, host, member) for this trip:
@@ -36,8 +35,7 @@ public class ReputationEligibilityService {
             log.debug("Trip {} is not COMPLETED", tripId);
             return false;
         }
-        boolean activeMember = tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(
-                tripId, userId, TripMemberStatus.ACTIVE);
+        boolean activeMember = tripMembershipCache.get(tripId).isActiveMember(userId);
         if (!activeMember) {
             log.debug("User {} is not an ACTIVE member of trip {}", userId, tripId);
             return false;
@@ -1,5 +1,6 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
+import com.tranzo.tranzo_user_ms.commons.dto.VerifiedToken;
 import com.tranzo.tranzo_user_ms.commons.exception.UnauthorizedException;
 import com.tranzo.tranzo_user_ms.commons.exception.UserNotFoundException;
 import com.tranzo.tranzo_user_ms.commons.service.JwtService;
@@ -71,18 +72,17 @@ public class SessionService {
             HttpServletResponse response
     ) throws AuthException {
         String refreshToken = extractRefreshToken(request);
-        UUID userUuid = UUID.fromString(jwtService.extractSubject(refreshToken));
+        VerifiedToken verified = jwtService.verifyOrThrow(refreshToken);
+        if (!verified.isType(VerifiedToken.REFRESH) || verified.userUuid() == null) {
+            throw new UnauthorizedException("Invalid token type for refresh");
+        }
         RefreshTokenEntity storedToken =
                 refreshTokenRepository
-                        .findByUser_UserUuidAndRevokedFalse(userUuid)
+                        .findByUser_UserUuidAndRevokedFalse(verified.userUuid())
                         .orElseThrow(() -> new AuthException("Session expired"));
         if (!hash(refreshToken).equals(storedToken.getTokenHash())) {
             throw new AuthException("Invalid refresh token");
         }
-        jwtService.validateTokenOrThrow(refreshToken);
-        if (!"REFRESH".equals(jwtService.extractTokenType(refreshToken))) {
-            throw new UnauthorizedException("Invalid token type for refresh");
-        }
         UsersEntity user = storedToken.getUser();
         String newRefreshToken = jwtService.generateRefreshToken(user);
         storedToken.setTokenHash(hash(newRefreshToken));
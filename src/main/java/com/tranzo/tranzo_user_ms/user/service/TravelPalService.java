@@ -1,14 +1,12 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
 import com.tranzo.tranzo_user_ms.user.dto.SuggestedTravelPalDto;
-import com.tranzo.tranzo_user_ms.user.enums.AccountStatus;
 import com.tranzo.tranzo_user_ms.user.enums.TravelPalStatus;
 import com.tranzo.tranzo_user_ms.user.model.TravelPalEntity;
-import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import com.tranzo.tranzo_user_ms.user.repository.TravelPalRepository;
-import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
 import com.tranzo.tranzo_user_ms.user.client.UserProfileClient;
 import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
+import com.tranzo.tranzo_user_ms.commons.exception.BadRequestException;
 import com.tranzo.tranzo_user_ms.commons.exception.ConflictException;
 import com.tranzo.tranzo_user_ms.trip.client.TripStatisticsClient;
 import com.tranzo.tranzo_user_ms.chat.client.ConversationClient;
@@ -18,14 +16,16 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TravelPalService {
+    static final int MAX_SUGGESTION_PAGE_SIZE = 50;
+
     private final TravelPalRepository repository;
-    private final UserRepository userRepository;
     private final UserProfileClient userProfileClient;
     private final TripStatisticsClient tripStatisticsClient;
     private final RatingService ratingService;
@@ -42,12 +42,6 @@ public class TravelPalService {
         }
     }
 
-    /* ================= HELPER METHODS ================= */
-
-    private UUID getConversationIdBetweenUsers(UUID userA, UUID userB) {
-        return conversationClient.getConversationIdBetweenUsers(userA, userB);
-    }
-
     /* ================= SEND REQUEST ================= */
 
     public void sendRequest(UUID requesterId, UUID receiverId) {
@@ -128,120 +122,67 @@ public class TravelPalService {
     }
 
     public List<SuggestedTravelPalDto> getMyTravelPalsWithDetails(UUID userId) {
-        // Get existing travel pal IDs
-        List<UUID> palIds = getMyTravelPals(userId);
-
-        if (palIds.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        // Get user names using UserProfileClient
-        Map<UUID, UserNameDto> userNames = userProfileClient.getNamesByUserIds(palIds);
-
-        // Convert to DTOs using available data from client
-        return palIds.stream()
-                .filter(userNames::containsKey) // Only include users found in client response
-                .map(palId -> {
-                    UserNameDto userName = userNames.get(palId);
-                    return SuggestedTravelPalDto.builder()
-                            .userId(userName.getUserId())
-                            .firstName(userName.getFirstName())
-                            .middleName(userName.getMiddleName())
-                            .lastName(userName.getLastName())
-                            .bio(userName.getBio()) // Not available from UserProfileClient
-                            .location(userName.getLocation()) // Not available from UserProfileClient
-                            .dob(userName.getDob()) // Not available from UserProfileClient
-                            .profilePictureUrl(userName.getProfilePictureUrl())
-                            .travelPalsCount(getMyTravelPals(palId).size())
-                            .completedTripsCount(tripStatisticsClient.getCompletedTripsCount(palId))
-                            .userRating(ratingService.getUserAverageRating(palId))
-                            .conversationId(getConversationIdBetweenUsers(userId, palId))
-                            .build();
-                })
-                .toList();
+        return toTravelPalDetails(userId, getMyTravelPals(userId));
     }
 
     /* ================= INCOMING REQUESTS ================= */
     
     public List<SuggestedTravelPalDto> getIncomingPendingRequestsWithDetails(UUID userId) {
-        List<TravelPalEntity> pendingRequests = repository.findIncomingPending(userId);
-
-        if (pendingRequests.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        // Get user IDs of requesters
-        List<UUID> requesterIds = pendingRequests.stream()
-                .map(entity -> entity.getRequestedBy())
-                .toList();
-
-        // Get user details using UserProfileClient
-        Map<UUID, UserNameDto> userDetails = userProfileClient.getNamesByUserIds(requesterIds);
-
-        // Convert to DTOs using available data from client
-        return requesterIds.stream()
-                .filter(userDetails::containsKey) // Only include users found in client response
-                .map(requesterId -> {
-                    UserNameDto userName = userDetails.get(requesterId);
-                    return SuggestedTravelPalDto.builder()
-                            .userId(userName.getUserId())
-                            .firstName(userName.getFirstName())
-                            .middleName(userName.getMiddleName())
-                            .lastName(userName.getLastName())
-                            .bio(userName.getBio())
-                            .dob(userName.getDob())
-                            .location(userName.getLocation())
-                            .profilePictureUrl(userName.getProfilePictureUrl())
-                            .travelPalsCount(getMyTravelPals(requesterId).size())
-                            .completedTripsCount(tripStatisticsClient.getCompletedTripsCount(requesterId))
-                            .userRating(ratingService.getUserAverageRating(requesterId))
-                            .conversationId(getConversationIdBetweenUsers(userId, requesterId))
-                            .build();
-                })
+        List<UUID> requesterIds = repository.findIncomingPending(userId)
+                .stream()
+                .map(TravelPalEntity::getRequestedBy)
                 .toList();
+        return toTravelPalDetails(userId, requesterIds);
     }
 
-    public List<SuggestedTravelPalDto> getSuggestedTravelPals(UUID currentUserId) {
-        // Get existing travel pals
-        List<UUID> existingPals = getMyTravelPals(currentUserId);
-
-        // Get incoming pending requests
-        List<UUID> incomingPending = repository.findIncomingPending(currentUserId)
+    /* ================= SUGGESTIONS ================= */
+
+    /**
+     * One page of suggested travel pals, best first. Candidates are ranked in the database by mutual
+     * travel pals, completed trips taken together and shared destinations; users already connected or
+     * pending with the current user are left out. A page whose end does not fit in an int is rejected.
+     */
+    public List<SuggestedTravelPalDto> getSuggestedTravelPals(UUID currentUserId, int page, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SUGGESTION_PAGE_SIZE);
+        long window = ((long) Math.max(page, 0) + 1) * limit;
+        if (window > Integer.MAX_VALUE) {
+            throw new BadRequestException("Page is too large");
+        }
+        int offset = (int) window - limit;
+        List<UUID> suggestedUserIds = repository.findSuggestedUserIds(currentUserId, limit, offset, (int) window)
                 .stream()
-                .map(entity -> entity.getUserLowId().equals(currentUserId)
-                        ? entity.getUserHighId()
-                        : entity.getUserLowId())
+                .map(row -> (UUID) row[0])
                 .toList();
+        return toTravelPalDetails(currentUserId, suggestedUserIds);
+    }
 
-        // Get outgoing pending requests
-        List<UUID> outgoingPending = repository.findOutgoingPending(currentUserId)
-                .stream()
-                .map(entity -> entity.getUserLowId().equals(currentUserId)
-                        ? entity.getUserHighId()
-                        : entity.getUserLowId())
-                .toList();
+    /* ================= DETAILS ================= */
+
+    /**
+     * Builds the listing DTOs in the given order. Names come from one profile lookup and every
+     * per-user statistic from one grouped query, whatever the number of users.
+     */
+    private List<SuggestedTravelPalDto> toTravelPalDetails(UUID viewerId, List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        // Combine all excluded user IDs
-        Set<UUID> excludedUserIds = new HashSet<>();
-        excludedUserIds.add(currentUserId);
-        excludedUserIds.addAll(existingPals);
-        excludedUserIds.addAll(incomingPending);
-        excludedUserIds.addAll(outgoingPending);
-        // Get user IDs of all active users except excluded ones
-        List<UUID> suggestedUserIds = userRepository.findAll().stream()
-                .filter(user -> user.getAccountStatus() == AccountStatus.ACTIVE)
-                .filter(user -> !excludedUserIds.contains(user.getUserUuid()))
-                .map(UsersEntity::getUserUuid)
+        Map<UUID, UserNameDto> userNames = userProfileClient.getNamesByUserIds(userIds);
+        List<UUID> foundUserIds = userIds.stream()
+                .filter(userNames::containsKey) // Only include users found in client response
                 .toList();
+        if (foundUserIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        // Get user details using UserProfileClient
-        Map<UUID, UserNameDto> userDetails = userProfileClient.getNamesByUserIds(suggestedUserIds);
+        Map<UUID, Integer> travelPalCounts = countTravelPals(foundUserIds);
+        Map<UUID, Integer> completedTripCounts = tripStatisticsClient.getCompletedTripsCounts(foundUserIds);
+        Map<UUID, BigDecimal> ratings = ratingService.getUserAverageRatings(foundUserIds);
+        Map<UUID, UUID> conversationIds = conversationClient.getConversationIdsWithUsers(viewerId, foundUserIds);
 
-        // Convert to DTOs using available data from client
-        return suggestedUserIds.stream()
-                .filter(userDetails::containsKey) // Only include users found in client response
+        return foundUserIds.stream()
                 .map(userId -> {
-                    UserNameDto userName = userDetails.get(userId);
+                    UserNameDto userName = userNames.get(userId);
                     return SuggestedTravelPalDto.builder()
                             .userId(userName.getUserId())
                             .firstName(userName.getFirstName())
@@ -251,14 +192,22 @@ public class TravelPalService {
                             .dob(userName.getDob())
                             .location(userName.getLocation())
                             .profilePictureUrl(userName.getProfilePictureUrl())
-                            .travelPalsCount(getMyTravelPals(userId).size())
-                            .completedTripsCount(tripStatisticsClient.getCompletedTripsCount(userId))
-                            .userRating(ratingService.getUserAverageRating(userId))
-                            .conversationId(getConversationIdBetweenUsers(currentUserId, userId))
+                            .travelPalsCount(travelPalCounts.getOrDefault(userId, 0))
+                            .completedTripsCount(completedTripCounts.getOrDefault(userId, 0))
+                            .userRating(ratings.get(userId))
+                            .conversationId(conversationIds.get(userId))
                             .build();
                 })
                 .toList();
     }
+
+    private Map<UUID, Integer> countTravelPals(Collection<UUID> userIds) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        for (Object[] row : repository.countAcceptedByUserIds(userIds)) {
+            counts.put((UUID) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
 }
 
 record UserPair(UUID low, UUID high) {}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
+import com.tranzo.tranzo_user_ms.commons.events.UserProfileUpdatedEvent;
 import com.tranzo.tranzo_user_ms.commons.exception.*;
 import com.tranzo.tranzo_user_ms.trip.client.TripStatisticsClient;
 import com.tranzo.tranzo_user_ms.user.dto.SocialHandleDto;
@@ -20,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.tranzo.tranzo_user_ms.user.utility.UserUtility;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,6 +42,7 @@ public class UserService {
     private final TravelPalService travelPalService;
     private final RatingService ratingService;
     private final TripStatisticsClient tripStatisticsClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public void findUserByUserId(UUID userUuid) {
         userRepository.findUserByUserUuid(userUuid)
@@ -276,6 +279,7 @@ public class UserService {
             user.getSocialHandleEntity().addAll(updatedSocialHandles);
         }
 
+        applicationEventPublisher.publishEvent(new UserProfileUpdatedEvent(userId));
         return mapToUserProfileDto(profileEntity);
     }
 
@@ -306,6 +310,7 @@ public class UserService {
 
         // Save the profile entity with the new profile picture URL
         userProfileRepository.save(profileEntity);
+        applicationEventPublisher.publishEvent(new UserProfileUpdatedEvent(userId));
 
         log.info("User profile updated successfully for userId: {}", userId);
         return mapToUserProfileDto(profileEntity);
@@ -332,6 +337,7 @@ public class UserService {
         user.setAccountStatus(AccountStatus.DELETED);
         user.setUserProfileEntity(null);
         user.getSocialHandleEntity().clear();
+        applicationEventPublisher.publishEvent(new UserProfileUpdatedEvent(userId));
 
         // Additional cleanup logic can be added here if needed and after discussion we will implement it.
     }
@@ -359,6 +365,7 @@ public class UserService {
 
         profileEntity.setProfilePictureUrl(profilePictureUrl.getUrl());
         userProfileRepository.save(profileEntity);
+        applicationEventPublisher.publishEvent(new UserProfileUpdatedEvent(userId));
 
         log.info("Profile picture updated for userId: {}", userId);
         return mapToUserProfileDto(profileEntity);
@@ -374,6 +381,7 @@ public class UserService {
 
         profileEntity.setProfilePictureUrl(null);
         userProfileRepository.save(profileEntity);
+        applicationEventPublisher.publishEvent(new UserProfileUpdatedEvent(userId));
         log.info("Profile picture deleted for userId: {}", userId);
         return mapToUserProfileDto(profileEntity);
     }
@@ -0,0 +1,3 @@
+-- Activity feeds page by keyset: ORDER BY created_at DESC, id DESC per group and per acting user.
+CREATE INDEX idx_splitwise_activities_group_created_id ON splitwise_activities(group_id, created_at DESC, id DESC);
+CREATE INDEX idx_splitwise_activities_user_created_id ON splitwise_activities(user_id, created_at DESC, id DESC);
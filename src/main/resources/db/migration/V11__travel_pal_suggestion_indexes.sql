@@ -0,0 +1,6 @@
+-- Travel pal suggestions: pal lookups from either side of the pair, destination matches,
+-- and the newest-active-users fallback that tops up a short ranked page.
+CREATE INDEX idx_travel_pal_low_status ON travel_pal(user_low_id, status);
+CREATE INDEX idx_travel_pal_high_status ON travel_pal(user_high_id, status);
+CREATE INDEX idx_trip_destination ON core_trip_details(trip_destination);
+CREATE INDEX idx_users_status_created ON users(account_status, created_at DESC);
@@ -0,0 +1,29 @@
+-- Running rating totals per user, so trust scores and average ratings read one row instead of
+-- every rating. host_rating_sum adds up all three host sub-ratings; member totals cover visible ratings only.
+CREATE TABLE user_rating_aggregate (
+    user_id             UUID PRIMARY KEY,
+    host_rating_sum     BIGINT NOT NULL DEFAULT 0,
+    host_rating_count   BIGINT NOT NULL DEFAULT 0,
+    member_rating_sum   BIGINT NOT NULL DEFAULT 0,
+    member_rating_count BIGINT NOT NULL DEFAULT 0,
+    updated_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO user_rating_aggregate
+    (user_id, host_rating_sum, host_rating_count, member_rating_sum, member_rating_count, updated_at)
+SELECT user_id, SUM(host_sum), SUM(host_count), SUM(member_sum), SUM(member_count), CURRENT_TIMESTAMP
+FROM (
+    SELECT host_user_id AS user_id,
+           SUM(coordination_rating + communication_rating + leadership_rating) AS host_sum,
+           COUNT(*) AS host_count,
+           0 AS member_sum,
+           0 AS member_count
+    FROM host_rating
+    GROUP BY host_user_id
+    UNION ALL
+    SELECT rated_user_id, 0, 0, SUM(rating_score), COUNT(*)
+    FROM member_rating
+    WHERE visible_at IS NOT NULL
+    GROUP BY rated_user_id
+) totals
+GROUP BY user_id;
@@ -0,0 +1,4 @@
+-- Public profile reviews page by keyset over (created_at DESC, id DESC) across host and visible member ratings.
+CREATE INDEX idx_host_rating_host_created_id ON host_rating(host_user_id, created_at DESC, id DESC);
+CREATE INDEX idx_member_rating_rated_visible_created_id ON member_rating(rated_user_id, created_at DESC, id DESC)
+    WHERE visible_at IS NOT NULL;
@@ -0,0 +1,2 @@
+-- Featured feed keyset pagination: WHERE trip_status IN (...) ORDER BY created_at DESC, trip_id DESC
+CREATE INDEX idx_trip_status_created_at_id ON core_trip_details(trip_status, created_at DESC, trip_id DESC);
@@ -0,0 +1,11 @@
+-- Precomputed discovery scores for PUBLISHED + PUBLIC trips; featured/recommended pages ORDER BY these indexes.
+-- Rows are backfilled by the application on startup when the table is empty and re-scored daily.
+CREATE TABLE trip_discovery_score (
+  trip_id            UUID PRIMARY KEY,
+  featured_score     DOUBLE PRECISION NOT NULL,
+  recommended_score  DOUBLE PRECISION NOT NULL,
+  computed_at        TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_discovery_featured_score ON trip_discovery_score(featured_score DESC, trip_id DESC);
+CREATE INDEX idx_discovery_recommended_score ON trip_discovery_score(recommended_score DESC, trip_id DESC);
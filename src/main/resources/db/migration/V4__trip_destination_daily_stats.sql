@@ -0,0 +1,15 @@
+-- Per-destination, per-day trending counters for PUBLISHED + PUBLIC trips (bucketed by trip created_at).
+-- Backfilled by the application on startup when empty; the last 31 days are rebuilt daily.
+CREATE TABLE trip_destination_daily_stats (
+  stats_id            UUID PRIMARY KEY,
+  destination         VARCHAR(255) NOT NULL,
+  stat_date           DATE NOT NULL,
+  trips_published     INTEGER NOT NULL,
+  total_participants  INTEGER NOT NULL,
+  fill_ratio_sum      DOUBLE PRECISION NOT NULL,
+  full_trips          INTEGER NOT NULL,
+  updated_at          TIMESTAMP NOT NULL,
+  CONSTRAINT uk_destination_daily_stats UNIQUE (destination, stat_date)
+);
+
+CREATE INDEX idx_destination_daily_stats_date ON trip_destination_daily_stats(stat_date);
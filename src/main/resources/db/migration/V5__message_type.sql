@@ -0,0 +1,5 @@
+-- Restore message.type so system messages are identified without matching on content.
+-- Existing rows: NULL sender means a system message.
+ALTER TABLE message ADD COLUMN type VARCHAR(32);
+UPDATE message SET type = CASE WHEN sender_id IS NULL THEN 'SYSTEM' ELSE 'TEXT' END;
+ALTER TABLE message ALTER COLUMN type SET NOT NULL;
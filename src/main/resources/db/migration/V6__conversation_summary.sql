@@ -0,0 +1,29 @@
+-- Chat list summary kept on the conversation and unread counters kept per participant,
+-- replacing the correlated subqueries over message.
+ALTER TABLE conversation ADD COLUMN last_message_id UUID;
+ALTER TABLE conversation ADD COLUMN last_message_at TIMESTAMP;
+ALTER TABLE conversation ADD COLUMN last_message_preview VARCHAR(255);
+
+UPDATE conversation c
+SET last_message_id = latest.message_id,
+    last_message_at = latest.created_at,
+    last_message_preview = LEFT(latest.content, 255)
+FROM (
+    SELECT DISTINCT ON (conversation_id) conversation_id, message_id, created_at, content
+    FROM message
+    ORDER BY conversation_id, created_at DESC, message_id DESC
+) latest
+WHERE latest.conversation_id = c.conversation_id;
+
+ALTER TABLE conversation_participant ADD COLUMN unread_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE conversation_participant cp
+SET unread_count = (
+    SELECT COUNT(*)
+    FROM message m
+    JOIN conversation c ON c.conversation_id = m.conversation_id
+    WHERE m.conversation_id = cp.conversation_id
+      AND m.sender_id <> cp.user_id
+      AND m.created_at > COALESCE(cp.last_read_at, c.created_at)
+)
+WHERE cp.left_at IS NULL;
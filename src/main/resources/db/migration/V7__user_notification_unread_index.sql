@@ -0,0 +1,3 @@
+-- Unread notifications per user: serves getUnreadCount and the bulk mark-all-read UPDATE
+-- without touching the (much larger) read history.
+CREATE INDEX idx_user_notification_unread ON user_notification(user_id) WHERE read_at IS NULL;
@@ -0,0 +1,30 @@
+-- One signed balance row per user pair instead of one row per direction:
+-- (low_user, high_user) with low_user < high_user, positive amount meaning low_user owes high_user.
+-- Writers upsert with ON CONFLICT (group_id, low_user, high_user) DO UPDATE SET amount = amount + delta.
+CREATE TABLE splitwise_pair_balances (
+  id           UUID PRIMARY KEY,
+  group_id     UUID NOT NULL REFERENCES splitwise_groups(id) ON DELETE CASCADE,
+  low_user     UUID NOT NULL,
+  high_user    UUID NOT NULL,
+  amount       NUMERIC(19,2) NOT NULL,
+  last_updated TIMESTAMP NOT NULL,
+  CONSTRAINT uk_splitwise_balances_pair UNIQUE (group_id, low_user, high_user),
+  CONSTRAINT ck_splitwise_balances_pair_order CHECK (low_user < high_user)
+);
+
+INSERT INTO splitwise_pair_balances (id, group_id, low_user, high_user, amount, last_updated)
+SELECT gen_random_uuid(),
+       group_id,
+       LEAST(owed_by, owed_to),
+       GREATEST(owed_by, owed_to),
+       SUM(CASE WHEN owed_by < owed_to THEN amount ELSE -amount END),
+       MAX(last_updated)
+FROM splitwise_balances
+WHERE owed_by <> owed_to
+GROUP BY group_id, LEAST(owed_by, owed_to), GREATEST(owed_by, owed_to);
+
+DROP TABLE splitwise_balances;
+ALTER TABLE splitwise_pair_balances RENAME TO splitwise_balances;
+
+-- Per-user lookups (dashboard, group summary) hit either side of the pair
+CREATE INDEX idx_splitwise_balances_high_user ON splitwise_balances(group_id, high_user);
@@ -0,0 +1,15 @@
+-- Expense and settlement listings page by keyset: ORDER BY expense_date / settled_at DESC, id DESC.
+-- expense_date is always set by the service; backfill legacy NULLs so the keyset comparison never skips rows.
+UPDATE splitwise_expenses SET expense_date = created_at WHERE expense_date IS NULL;
+ALTER TABLE splitwise_expenses ALTER COLUMN expense_date SET NOT NULL;
+
+CREATE INDEX idx_splitwise_expenses_group_date_id ON splitwise_expenses(group_id, expense_date DESC, id DESC);
+CREATE INDEX idx_splitwise_expenses_paid_by_date_id ON splitwise_expenses(paid_by, expense_date DESC, id DESC);
+
+-- Split fetch join per page, and the "user has a split" EXISTS in my-expenses
+CREATE INDEX idx_splitwise_expense_splits_expense ON splitwise_expense_splits(expense_id);
+CREATE INDEX idx_splitwise_expense_splits_user_expense ON splitwise_expense_splits(user_id, expense_id);
+
+CREATE INDEX idx_splitwise_settlements_group_settled_id ON splitwise_settlements(group_id, settled_at DESC, id DESC);
+CREATE INDEX idx_splitwise_settlements_paid_by_settled_id ON splitwise_settlements(paid_by, settled_at DESC, id DESC);
+CREATE INDEX idx_splitwise_settlements_paid_to_settled_id ON splitwise_settlements(paid_to, settled_at DESC, id DESC);
@@ -9,6 +9,8 @@ import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
 import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
 import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
 import com.tranzo.tranzo_user_ms.notification.repository.UserNotificationRepository;
+import com.tranzo.tranzo_user_ms.user.enums.TravelPalStatus;
+import com.tranzo.tranzo_user_ms.user.model.TravelPalEntity;
 import com.tranzo.tranzo_user_ms.user.repository.TravelPalRepository;
 import com.tranzo.tranzo_user_ms.user.repository.UserProfileRepository;
 import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
@@ -19,6 +21,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +40,8 @@ class DataSqlIntegrationTest {
 
     private static final int MIN_ENTRIES = 1;
     private static final UUID USER_WITH_TRUST_SCORE = UUID.fromString("11111111-1111-4111-8111-111111111111");
+    private static final UUID CO_TRAVELLER = UUID.fromString("22222222-2222-4222-8222-222222222222");
+    private static final UUID AUTH_USER = UUID.fromString("99999999-9999-4999-8999-999999999991");
 
     @Autowired
     private UserRepository userRepository;
@@ -97,10 +104,43 @@ class DataSqlIntegrationTest {
         assertTrue(travelPals >= 0, "travel_pal >= 0, got: " + travelPals);
     }
 
+    @Test
+    @DisplayName("Suggested travel pal query ranks a co-traveller first and never returns the user")
+    void suggestedTravelPalQueryRuns() {
+        List<UUID> suggested = travelPalRepository.findSuggestedUserIds(USER_WITH_TRUST_SCORE, 10, 0, 10).stream()
+                .map(row -> (UUID) row[0])
+                .toList();
+        assertFalse(suggested.contains(USER_WITH_TRUST_SCORE));
+        assertEquals(CO_TRAVELLER, suggested.get(0), "shared completed trip should rank first");
+
+        assertEquals(1, travelPalRepository.findSuggestedUserIds(USER_WITH_TRUST_SCORE, 1, 0, 1).size());
+    }
+
+    @Test
+    @DisplayName("Accepted travel pal count query counts both sides of a pair")
+    void countAcceptedTravelPalsQueryRuns() {
+        TravelPalEntity pal = travelPalRepository.save(TravelPalEntity.builder()
+                .userLowId(CO_TRAVELLER)
+                .userHighId(AUTH_USER)
+                .requestedBy(CO_TRAVELLER)
+                .status(TravelPalStatus.ACCEPTED)
+                .build());
+        try {
+            Map<UUID, Long> counts = new HashMap<>();
+            for (Object[] row : travelPalRepository.countAcceptedByUserIds(List.of(CO_TRAVELLER, AUTH_USER))) {
+                counts.put((UUID) row[0], ((Number) row[1]).longValue());
+            }
+            assertEquals(1L, counts.get(CO_TRAVELLER));
+            assertEquals(1L, counts.get(AUTH_USER));
+        } finally {
+            travelPalRepository.delete(pal);
+        }
+    }
+
     @Test
     @DisplayName("Public profile with trust score loads without error")
     void publicProfileWithTrustScoreLoads() {
-        var profile = publicProfileService.getPublicProfile(USER_WITH_TRUST_SCORE, 0, 20);
+        var profile = publicProfileService.getPublicProfile(USER_WITH_TRUST_SCORE, null, 20);
         assertNotNull(profile);
         assertNotNull(profile.getTrustScore(), "User 111... should have trust score from seed");
         assertTrue(profile.getTrustScore().compareTo(java.math.BigDecimal.ZERO) > 0,
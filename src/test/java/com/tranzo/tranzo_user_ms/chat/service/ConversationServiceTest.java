@@ -0,0 +1,129 @@
+package com.tranzo.tranzo_user_ms.chat.service;
+
+import com.tranzo.tranzo_user_ms.chat.dto.ChatListItemDto;
+import com.tranzo.tranzo_user_ms.chat.dto.MessageResponseDto;
+import com.tranzo.tranzo_user_ms.chat.enums.ConversationRole;
+import com.tranzo.tranzo_user_ms.chat.enums.ConversationType;
+import com.tranzo.tranzo_user_ms.chat.enums.MessageType;
+import com.tranzo.tranzo_user_ms.chat.model.ConversationEntity;
+import com.tranzo.tranzo_user_ms.chat.model.ConversationParticipantEntity;
+import com.tranzo.tranzo_user_ms.chat.repository.ConversationParticipantRepository;
+import com.tranzo.tranzo_user_ms.chat.repository.ConversationRepository;
+import com.tranzo.tranzo_user_ms.chat.repository.MessageRepository;
+import com.tranzo.tranzo_user_ms.user.client.UserProfileClient;
+import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversationService Unit Tests")
+class ConversationServiceTest {
+
+    @Mock
+    private ConversationRepository conversationRepository;
+
+    @Mock
+    private ConversationParticipantRepository conversationParticipantRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private UserProfileClient userProfileClient;
+
+    @InjectMocks
+    private ConversationService conversationService;
+
+    private UUID userId;
+    private UUID otherUserId;
+    private UUID conversationId;
+    private ConversationParticipantEntity participant;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        otherUserId = UUID.randomUUID();
+        conversationId = UUID.randomUUID();
+        participant = ConversationParticipantEntity.create(
+                ConversationEntity.createOneToOneChat(userId), userId, ConversationRole.MEMBER);
+    }
+
+    @Test
+    @DisplayName("getMyConversations names one-on-one chats with one participant query and one profile lookup")
+    void testGetMyConversations_batchedNames() {
+        UUID secondConversationId = UUID.randomUUID();
+        UUID thirdUserId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        ChatListItemDto first = new ChatListItemDto(conversationId, ConversationType.ONE_ON_ONE, "hi", null, now, false, 2L, null);
+        ChatListItemDto second = new ChatListItemDto(secondConversationId, ConversationType.ONE_ON_ONE, "", null, now, true, 0L, null);
+        ChatListItemDto group = new ChatListItemDto(UUID.randomUUID(), ConversationType.GROUP_CHAT, "", "Goa trip", now, false, 0L, null);
+        when(conversationRepository.findChatListForUser(userId)).thenReturn(List.of(first, second, group));
+        when(conversationParticipantRepository.findOtherActiveParticipants(List.of(conversationId, secondConversationId), userId))
+                .thenReturn(List.of(new Object[]{conversationId, otherUserId}, new Object[]{secondConversationId, thirdUserId}));
+        when(userProfileClient.getNamesByUserIds(anyList())).thenReturn(Map.of(
+                otherUserId, UserNameDto.builder().firstName("Asha").lastName("Rao").profilePictureUrl("https://pic").build()));
+
+        List<ChatListItemDto> conversations = conversationService.getMyConversations(userId);
+
+        assertEquals("Asha Rao", conversations.get(0).getConversationName());
+        assertEquals("https://pic", conversations.get(0).getProfilePictureUrl());
+        assertEquals("Unknown User", conversations.get(1).getConversationName());
+        assertEquals("Goa trip", conversations.get(2).getConversationName());
+        verify(userProfileClient, times(1)).getNamesByUserIds(anyList());
+    }
+
+    @Test
+    @DisplayName("fetchMessages returns the page oldest-first with joined sender names and system messages by type")
+    void testFetchMessages_singleQueryPage() {
+        when(conversationParticipantRepository.findByConversation_ConversationIdAndUserIdAndLeftAtIsNull(conversationId, userId))
+                .thenReturn(Optional.of(participant));
+        LocalDateTime now = LocalDateTime.now();
+        when(messageRepository.findMessagePageWithSenders(eq(conversationId), any())).thenReturn(List.of(
+                new Object[]{UUID.randomUUID(), otherUserId, "hello", now, MessageType.TEXT, "Asha", null, "Rao"},
+                new Object[]{UUID.randomUUID(), null, "You are now connected", now.minusMinutes(5), MessageType.SYSTEM, null, null, null}));
+
+        List<MessageResponseDto> messages = conversationService.fetchMessages(conversationId, userId, null, null);
+
+        assertEquals(2, messages.size());
+        assertEquals("System", messages.get(0).getFirstName());
+        assertEquals("Asha", messages.get(1).getFirstName());
+        assertEquals("Rao", messages.get(1).getLastName());
+        assertFalse(messages.get(1).getIsSender());
+        assertNotNull(participant.getLastReadAt());
+        verify(conversationParticipantRepository).save(participant);
+        verifyNoInteractions(userProfileClient, conversationRepository);
+    }
+
+    @Test
+    @DisplayName("fetchMessages skips the read-marker write when nothing newer than the marker is shown")
+    void testFetchMessages_readMarkerCoalesced() {
+        when(conversationParticipantRepository.findByConversation_ConversationIdAndUserIdAndLeftAtIsNull(conversationId, userId))
+                .thenReturn(Optional.of(participant));
+        participant.markAsRead();
+        LocalDateTime lastReadAt = participant.getLastReadAt();
+        when(messageRepository.findMessagePageWithSenders(eq(conversationId), any())).thenReturn(List.<Object[]>of(
+                new Object[]{UUID.randomUUID(), userId, "earlier", lastReadAt.minusSeconds(1), MessageType.TEXT, "Me", null, null}));
+        when(messageRepository.findMessagePageWithSendersBefore(eq(conversationId), any(), any())).thenReturn(List.of());
+
+        conversationService.fetchMessages(conversationId, userId, null, 10);
+        conversationService.fetchMessages(conversationId, userId, lastReadAt.minusDays(1), 10);
+
+        assertEquals(lastReadAt, participant.getLastReadAt());
+        verify(conversationParticipantRepository, never()).save(any());
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,9 @@ class CreateAndManageConversationServiceTest {
     @Mock
     private UserProfileClient userProfileClient;
 
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
     @InjectMocks
     private CreateAndManageConversationService service;
 
@@ -136,6 +140,24 @@ class CreateAndManageConversationServiceTest {
         verify(messageRepository, times(1)).save(any(MessageEntity.class));
     }
 
+    @Test
+    @DisplayName("sendMessage records the conversation summary and bumps other participants' unread counters")
+    void testSendMessage_updatesSummaryAndUnreadCounters() {
+        ConversationEntity conv = ConversationEntity.createGroup(userId);
+        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conv));
+        when(conversationParticipantRepository.findByConversation_ConversationIdAndUserIdAndLeftAtIsNull(conversationId, userId))
+                .thenReturn(Optional.of(ConversationParticipantEntity.create(conv, userId, ConversationRole.MEMBER)));
+        when(messageRepository.save(any(MessageEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userProfileClient.getNamesByUserIds(List.of(userId))).thenReturn(Map.of());
+
+        SendMessageRequestDto req = SendMessageRequestDto.builder().content("hi all").build();
+        service.sendMessage(conversationId, userId, req);
+
+        verify(conversationRepository).recordLastMessage(eq(conversationId), any(UUID.class), any(), eq("hi all"));
+        verify(conversationParticipantRepository).incrementUnreadCount(conversationId, userId);
+        verify(messagingTemplate).convertAndSend(eq("/topic/conversations/" + conversationId), any(Object.class));
+    }
+
     @Test
     @DisplayName("sendMessage throws when conversation not found")
     void testSendMessage_conversationNotFound() {
@@ -0,0 +1,77 @@
+package com.tranzo.tranzo_user_ms.commons.service;
+
+import com.tranzo.tranzo_user_ms.commons.dto.VerifiedToken;
+import com.tranzo.tranzo_user_ms.commons.exception.UnauthorizedException;
+import com.tranzo.tranzo_user_ms.user.enums.UserRole;
+import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtServiceImpl Unit Tests")
+class JwtServiceImplTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-signing-min-256-bits-long";
+
+    private JwtServiceImpl jwtService;
+    private UsersEntity user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtServiceImpl(SECRET, 60, 7, 60, "tranzo-auth-test");
+        user = new UsersEntity();
+        user.setUserUuid(UUID.randomUUID());
+        user.setUserRole(UserRole.NORMAL_USER);
+    }
+
+    @Test
+    @DisplayName("Should verify an access token once into an immutable principal")
+    void testVerify_AccessToken() {
+        String token = jwtService.generateAccessToken(user);
+
+        VerifiedToken verified = jwtService.verify(token).orElseThrow();
+
+        assertEquals(user.getUserUuid(), verified.userUuid());
+        assertTrue(verified.isType(VerifiedToken.ACCESS));
+        assertTrue(verified.expiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens and tokens signed for another issuer")
+    void testVerify_RejectsInvalidTokens() {
+        String token = jwtService.generateAccessToken(user);
+        JwtServiceImpl otherIssuer = new JwtServiceImpl(SECRET, 60, 7, 60, "someone-else");
+
+        assertTrue(jwtService.verify(token.substring(0, token.length() - 2) + "xx").isEmpty());
+        assertTrue(jwtService.verify(otherIssuer.generateAccessToken(user)).isEmpty());
+        assertTrue(jwtService.verify("").isEmpty());
+        assertThrows(UnauthorizedException.class, () -> jwtService.verifyOrThrow("not-a-jwt"));
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void testVerify_ExpiredToken() {
+        JwtServiceImpl expiring = new JwtServiceImpl(SECRET, -1, 7, 60, "tranzo-auth-test");
+
+        assertFalse(expiring.validateAccessToken(expiring.generateAccessToken(user)));
+    }
+
+    @Test
+    @DisplayName("Should keep registration subjects and token types apart")
+    void testVerify_RegistrationToken() {
+        JwtServiceImpl registration = new JwtServiceImpl(SECRET, 60, 7, 60, "tranzo-auth-test");
+        String token = registration.generateRegistrationToken("+919999999999");
+
+        VerifiedToken verified = registration.verifyOrThrow(token);
+
+        assertEquals("+919999999999", verified.subject());
+        assertNull(verified.userUuid());
+        assertTrue(verified.isType(VerifiedToken.REGISTRATION));
+        assertFalse(registration.validateAccessToken(token));
+    }
+}
@@ -0,0 +1,38 @@
+package com.tranzo.tranzo_user_ms.commons.utility;
+
+import com.tranzo.tranzo_user_ms.commons.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeysetCursor Unit Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip timestamp and id through the encoded token")
+    void encodeDecode_RoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000), UUID.randomUUID());
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should treat null or blank token as first page")
+    void decode_NullOrBlank_ReturnsNull() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens with BadRequestException")
+    void decode_Malformed_Throws() {
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("%%%"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.tranzo.tranzo_user_ms.commons.utility;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindQueue Unit Tests")
+class WriteBehindQueueTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WriteBehindQueue<String> queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write on the caller thread with the caller's transaction suspended when not running")
+    void testSubmit_NotRunning_CallerRunsOutsideTransaction() {
+        List<List<String>> written = new CopyOnWriteArrayList<>();
+        queue = new WriteBehindQueue<>("test-writer", jdbcTemplate, transactionManager, 10, 1, 10, 0,
+                items -> written.add(List.copyOf(items)));
+
+        assertFalse(queue.submit("a"));
+
+        assertEquals(List.of(List.of("a")), written);
+        assertEquals(1, queue.callerRuns());
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_NOT_SUPPORTED, definition.getValue().getPropagationBehavior());
+    }
+
+    @Test
+    @DisplayName("Should keep draining after the writer throws")
+    void testDrain_WriterFailure_KeepsWorkerAlive() throws InterruptedException {
+        List<String> written = new CopyOnWriteArrayList<>();
+        queue = new WriteBehindQueue<>("test-writer", jdbcTemplate, transactionManager, 10, 1, 1, 50, items -> {
+            if (items.contains("bad")) {
+                throw new IllegalStateException("boom");
+            }
+            written.addAll(items);
+        });
+        queue.start();
+
+        assertTrue(queue.submit("bad"));
+        assertTrue(queue.submit("good"));
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (written.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("good"), written);
+        assertEquals(2, queue.enqueued());
+    }
+}
@@ -0,0 +1,101 @@
+package com.tranzo.tranzo_user_ms.media.service;
+
+import com.tranzo.tranzo_user_ms.media.exception.S3MediaNotConfiguredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3MediaService Unit Tests")
+class S3MediaServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    private S3MediaService s3MediaService;
+
+    @BeforeEach
+    void setUp() {
+        s3MediaService = new S3MediaService(s3Client, s3Presigner, 15, 100);
+        ReflectionTestUtils.setField(s3MediaService, "bucket", "media-bucket");
+    }
+
+    @Test
+    @DisplayName("Should reuse the shared presigner and serve repeated default-expiry URLs from cache")
+    void testGetPresignedUrl_DefaultExpiry_Cached() throws Exception {
+        stubPresigner();
+
+        String first = s3MediaService.getPresignedUrl("uploads/media/u1/a.jpg", null).getUrl();
+        String second = s3MediaService.getPresignedUrl("uploads/media/u1/a.jpg", 15).getUrl();
+
+        assertEquals(first, second);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should sign custom expiries directly without caching them")
+    void testGetPresignedUrl_CustomExpiry_NotCached() throws Exception {
+        stubPresigner();
+
+        s3MediaService.getPresignedUrl("uploads/media/u1/a.jpg", 60);
+        s3MediaService.getPresignedUrl("uploads/media/u1/a.jpg", 60);
+
+        verify(s3Presigner, times(2)).presignGetObject(argThatExpiry(Duration.ofMinutes(60)));
+    }
+
+    @Test
+    @DisplayName("Should presign a batch once per distinct key and only sign keys missing from cache")
+    void testPresignAll_SignsOnlyMissingKeys() throws Exception {
+        stubPresigner();
+        s3MediaService.getPresignedUrl("uploads/a.jpg", null);
+
+        Map<String, String> urls = s3MediaService.presignAll(List.of("uploads/a.jpg", "uploads/b.jpg", "uploads/b.jpg"));
+
+        assertEquals(2, urls.size());
+        assertTrue(urls.get("uploads/b.jpg").contains("uploads/b.jpg"));
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the bucket is not configured")
+    void testPresignAll_NotConfigured() {
+        ReflectionTestUtils.setField(s3MediaService, "bucket", "");
+
+        assertThrows(S3MediaNotConfiguredException.class, () -> s3MediaService.presignAll(List.of("uploads/a.jpg")));
+        verifyNoInteractions(s3Presigner);
+    }
+
+    private void stubPresigner() throws Exception {
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            GetObjectPresignRequest request = invocation.getArgument(0);
+            PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+            when(presigned.url()).thenReturn(
+                    new URL("https://media-bucket.s3.amazonaws.com/" + request.getObjectRequest().key() + "?sig=" + System.nanoTime()));
+            return presigned;
+        });
+    }
+
+    private static GetObjectPresignRequest argThatExpiry(Duration expiry) {
+        return org.mockito.ArgumentMatchers.argThat(request -> expiry.equals(request.signatureDuration()));
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -103,17 +104,34 @@ class NotificationControllerTest {
     }
 
     @Test
-    @DisplayName("Should mark all as read successfully")
+    @DisplayName("Should mark all as read successfully and return the count")
     void testMarkAllAsRead_Success() throws Exception {
-        doNothing().when(notificationService).markAllAsRead(userId);
+        when(notificationService.markAllAsRead(userId)).thenReturn(4);
 
         try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
             securityUtils.when(SecurityUtils::getCurrentUserUuid).thenReturn(userId);
 
-            ResponseEntity<ResponseDto<Void>> response = notificationController.markAllAsRead();
+            ResponseEntity<ResponseDto<Integer>> response = notificationController.markAllAsRead(null);
 
             assertEquals(200, response.getStatusCode().value());
+            assertEquals(4, response.getBody().getData());
             verify(notificationService).markAllAsRead(userId);
         }
     }
+
+    @Test
+    @DisplayName("Should mark as read only up to the given time")
+    void testMarkAllAsRead_UpTo() throws Exception {
+        LocalDateTime upTo = LocalDateTime.of(2026, 1, 1, 12, 0);
+        when(notificationService.markAllAsReadUpTo(userId, upTo)).thenReturn(2);
+
+        try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+            securityUtils.when(SecurityUtils::getCurrentUserUuid).thenReturn(userId);
+
+            ResponseEntity<ResponseDto<Integer>> response = notificationController.markAllAsRead(upTo);
+
+            assertEquals(2, response.getBody().getData());
+            verify(notificationService, never()).markAllAsRead(any());
+        }
+    }
 }
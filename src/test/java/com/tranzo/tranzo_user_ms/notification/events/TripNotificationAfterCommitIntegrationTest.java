@@ -0,0 +1,66 @@
+package com.tranzo.tranzo_user_ms.notification.events;
+
+import com.tranzo.tranzo_user_ms.TranzoUserMsApplication;
+import com.tranzo.tranzo_user_ms.commons.events.TripCancelledEvent;
+import com.tranzo.tranzo_user_ms.config.TestConfig;
+import com.tranzo.tranzo_user_ms.notification.enums.NotificationType;
+import com.tranzo.tranzo_user_ms.notification.model.UserNotificationEntity;
+import com.tranzo.tranzo_user_ms.notification.repository.UserNotificationRepository;
+import com.tranzo.tranzo_user_ms.notification.service.NotificationDispatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the notification fan-out from the real after-commit listener, with the dispatcher stopped
+ * so the rows are written on the publishing thread.
+ */
+@SpringBootTest(classes = TranzoUserMsApplication.class, properties = "spring.profiles.active=test")
+@Import(TestConfig.class)
+@DirtiesContext
+@DisplayName("Trip notification fan-out after commit")
+class TripNotificationAfterCommitIntegrationTest {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+
+    @Test
+    @DisplayName("Caller-runs fan-out from an after-commit listener is committed")
+    void callerRunsFanOutAfterCommitIsCommitted() {
+        notificationDispatcher.stop();
+        UUID tripId = UUID.randomUUID();
+        UUID host = UUID.randomUUID();
+        UUID memberA = UUID.randomUUID();
+        UUID memberB = UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userNotificationRepository.save(UserNotificationEntity.builder()
+                    .userId(host)
+                    .tripId(tripId)
+                    .type(NotificationType.TRIP_BROADCAST)
+                    .title("Cancelling")
+                    .build());
+            applicationEventPublisher.publishEvent(new TripCancelledEvent(tripId, "Test trip", List.of(memberA, memberB)));
+        });
+
+        assertEquals(1, notificationDispatcher.stats().callerRunsJobs());
+        assertEquals(1, userNotificationRepository.countByUserIdAndReadAtIsNull(memberA));
+        assertEquals(1, userNotificationRepository.countByUserIdAndReadAtIsNull(memberB));
+    }
+}
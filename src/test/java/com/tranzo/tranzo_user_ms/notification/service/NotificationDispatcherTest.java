@@ -0,0 +1,126 @@
+package com.tranzo.tranzo_user_ms.notification.service;
+
+import com.tranzo.tranzo_user_ms.notification.enums.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDispatcher Unit Tests")
+class NotificationDispatcherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should batch-insert one row per recipient from a worker thread")
+    void testDispatch_WritesBatchAsynchronously() {
+        dispatcher = new NotificationDispatcher(jdbcTemplate, transactionManager, 10, 1, 500, 50);
+        dispatcher.start();
+        List<UUID> userIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        dispatcher.dispatch(userIds, UUID.randomUUID(), NotificationType.TRIP_CANCELLED, "Trip cancelled", "Cancelled.");
+
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(anyString(), rows.capture(), eq(500),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(3, rows.getValue().size());
+        assertEquals(1, dispatcher.stats().enqueuedJobs());
+    }
+
+    @Test
+    @DisplayName("Should write on the caller thread when the queue is full")
+    void testDispatch_QueueFull_CallerRuns() {
+        dispatcher = new NotificationDispatcher(jdbcTemplate, transactionManager, 1, 1, 500, 0);
+        // Workers not started: the first job fills the queue, the second is written by the caller
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(dispatcher, "writeBehind"), "running", true);
+
+        dispatcher.dispatch(List.of(UUID.randomUUID()), null, NotificationType.TRIP_BROADCAST, "New trip", "Check it out");
+        dispatcher.dispatch(List.of(UUID.randomUUID(), UUID.randomUUID()), null, NotificationType.TRIP_BROADCAST, "New trip", "Check it out");
+
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture(), eq(500),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, rows.getValue().size());
+        NotificationDispatcher.DispatchStats stats = dispatcher.stats();
+        assertEquals(1, stats.queueDepth());
+        assertEquals(1, stats.callerRunsJobs());
+        assertEquals(2, stats.writtenRows());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch per job and drop only the rows that fail again")
+    void testWrite_BatchFailure_IsolatesFailingJob() {
+        dispatcher = new NotificationDispatcher(jdbcTemplate, transactionManager, 10, 1, 500, 50);
+        // Workers not started: both jobs stay queued until stop() flushes them together
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(dispatcher, "writeBehind"), "running", true);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenReturn(new int[0][])
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+
+        dispatcher.dispatch(List.of(UUID.randomUUID(), UUID.randomUUID()), null, NotificationType.TRIP_BROADCAST, "New trip", "Check it out");
+        dispatcher.dispatch(List.of(UUID.randomUUID()), null, NotificationType.TRIP_BROADCAST, "x".repeat(300), "Check it out");
+        dispatcher.stop();
+
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyCollection(), eq(500),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+        NotificationDispatcher.DispatchStats stats = dispatcher.stats();
+        assertEquals(2, stats.writtenRows());
+        assertEquals(1, stats.failedRows());
+    }
+
+    @Test
+    @DisplayName("Should count rows committed before a batch failure as written, not failed")
+    void testWrite_BatchFailure_DuplicateKeyCountsAsWritten() {
+        dispatcher = new NotificationDispatcher(jdbcTemplate, transactionManager, 1, 1, 500, 0);
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(dispatcher, "writeBehind"), "running", true);
+        dispatcher.dispatch(List.of(UUID.randomUUID()), null, NotificationType.TRIP_BROADCAST, "Filler", "Fills the queue");
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), eq(500), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("fk violation"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("already stored"))
+                .thenThrow(new DataIntegrityViolationException("fk violation"));
+
+        dispatcher.dispatch(List.of(UUID.randomUUID(), UUID.randomUUID()), UUID.randomUUID(), NotificationType.TRIP_CANCELLED, "Trip cancelled", "Cancelled.");
+
+        NotificationDispatcher.DispatchStats stats = dispatcher.stats();
+        assertEquals(1, stats.callerRunsJobs());
+        assertEquals(1, stats.writtenRows());
+        assertEquals(1, stats.failedRows());
+    }
+}
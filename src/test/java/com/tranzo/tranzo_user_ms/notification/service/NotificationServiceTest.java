@@ -31,6 +31,9 @@ class NotificationServiceTest {
     @Mock
     private UserNotificationRepository userNotificationRepository;
 
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -65,16 +68,15 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("Should create notifications for multiple users")
+    @DisplayName("Should hand notifications for multiple users to the batch dispatcher")
     void testCreateNotificationsForUsers_Success() {
         List<UUID> userIds = List.of(UUID.randomUUID(), UUID.randomUUID());
-        when(userNotificationRepository.save(any(UserNotificationEntity.class)))
-            .thenAnswer(inv -> inv.getArgument(0));
 
         notificationService.createNotificationsForUsers(
             userIds, tripId, NotificationType.MEMBER_JOINED_TRIP, "New member", "Someone joined.");
 
-        verify(userNotificationRepository, times(2)).save(any(UserNotificationEntity.class));
+        verify(notificationDispatcher).dispatch(userIds, tripId, NotificationType.MEMBER_JOINED_TRIP, "New member", "Someone joined.");
+        verify(userNotificationRepository, never()).save(any(UserNotificationEntity.class));
     }
 
     @Test
@@ -157,21 +159,24 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("Should mark all as read for user")
+    @DisplayName("Should mark all as read for user with a single bulk update")
     void testMarkAllAsRead_Success() {
-        UserNotificationEntity unread = UserNotificationEntity.builder()
-            .notificationId(notificationId)
-            .userId(userId)
-            .readAt(null)
-            .build();
-        Page<UserNotificationEntity> page = mock(Page.class);
-        when(page.getContent()).thenReturn(List.of(unread));
-        when(userNotificationRepository.findByUserIdOrderByCreatedAtDesc(eq(userId), any(Pageable.class)))
-            .thenReturn(page);
-        when(userNotificationRepository.save(any(UserNotificationEntity.class))).thenReturn(unread);
+        when(userNotificationRepository.markAllAsReadUpTo(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(3);
+
+        assertEquals(3, notificationService.markAllAsRead(userId));
 
-        notificationService.markAllAsRead(userId);
+        verify(userNotificationRepository).markAllAsReadUpTo(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(userNotificationRepository, never()).findByUserIdOrderByCreatedAtDesc(any(), any());
+        verify(userNotificationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should return the number of notifications marked up to the given time")
+    void testMarkAllAsReadUpTo_ReturnsCount() {
+        LocalDateTime upTo = LocalDateTime.now().minusMinutes(5);
+        when(userNotificationRepository.markAllAsReadUpTo(eq(userId), eq(upTo), any(LocalDateTime.class))).thenReturn(7);
 
-        verify(userNotificationRepository).save(unread);
+        assertEquals(7, notificationService.markAllAsReadUpTo(userId, upTo));
     }
 }
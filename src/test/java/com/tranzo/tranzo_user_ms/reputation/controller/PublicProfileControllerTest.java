@@ -49,23 +49,23 @@ class PublicProfileControllerTest {
     @Test
     @DisplayName("Should return public profile with default pagination")
     void getPublicProfile_Success() {
-        when(publicProfileService.getPublicProfile(userId, 0, 20)).thenReturn(profileDto);
+        when(publicProfileService.getPublicProfile(userId, null, 20)).thenReturn(profileDto);
 
-        ResponseEntity<?> res = controller.getPublicProfile(userId, 0, 20);
+        ResponseEntity<?> res = controller.getPublicProfile(userId, null, 20);
 
         assertEquals(HttpStatus.OK, res.getStatusCode());
         assertNotNull(res.getBody());
-        verify(publicProfileService).getPublicProfile(userId, 0, 20);
+        verify(publicProfileService).getPublicProfile(userId, null, 20);
     }
 
     @Test
-    @DisplayName("Should use custom page and size")
+    @DisplayName("Should pass cursor and size through")
     void getPublicProfile_CustomPagination() {
-        when(publicProfileService.getPublicProfile(userId, 2, 10)).thenReturn(profileDto);
+        when(publicProfileService.getPublicProfile(userId, "cursor-token", 10)).thenReturn(profileDto);
 
-        ResponseEntity<?> res = controller.getPublicProfile(userId, 2, 10);
+        ResponseEntity<?> res = controller.getPublicProfile(userId, "cursor-token", 10);
 
         assertEquals(HttpStatus.OK, res.getStatusCode());
-        verify(publicProfileService).getPublicProfile(userId, 2, 10);
+        verify(publicProfileService).getPublicProfile(userId, "cursor-token", 10);
     }
 }
@@ -1,15 +1,16 @@
 package com.tranzo.tranzo_user_ms.reputation.service;
 
 import com.tranzo.tranzo_user_ms.commons.exception.UserProfileNotFoundException;
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
 import com.tranzo.tranzo_user_ms.user.dto.PublicProfileResponseDto;
+import com.tranzo.tranzo_user_ms.user.dto.RatingAggregate;
 import com.tranzo.tranzo_user_ms.user.dto.ReviewItemDto;
-import com.tranzo.tranzo_user_ms.user.model.HostRatingEntity;
-import com.tranzo.tranzo_user_ms.user.model.MemberRatingEntity;
+import com.tranzo.tranzo_user_ms.user.enums.VibeTag;
 import com.tranzo.tranzo_user_ms.user.repository.HostRatingRepository;
-import com.tranzo.tranzo_user_ms.user.repository.MemberRatingRepository;
 import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import com.tranzo.tranzo_user_ms.user.repository.UserProfileRepository;
+import com.tranzo.tranzo_user_ms.user.repository.UserRatingAggregateRepository;
 import com.tranzo.tranzo_user_ms.user.service.PublicProfileService;
 import com.tranzo.tranzo_user_ms.user.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,7 +42,7 @@ class PublicProfileServiceTest {
     private HostRatingRepository hostRatingRepository;
 
     @Mock
-    private MemberRatingRepository memberRatingRepository;
+    private UserRatingAggregateRepository userRatingAggregateRepository;
 
     @Mock
     private UserService userService;
@@ -70,19 +72,18 @@ class PublicProfileServiceTest {
         when(userProfileRepository.findAllUserProfileDetailByUserId(userId)).thenReturn(Optional.empty());
 
         assertThrows(UserProfileNotFoundException.class, () ->
-                publicProfileService.getPublicProfile(userId, 0, 20));
+                publicProfileService.getPublicProfile(userId, null, 20));
     }
 
     @Test
     @DisplayName("Should return profile with trust score and empty reviews")
     void getPublicProfile_NoReviews() {
         when(userProfileRepository.findAllUserProfileDetailByUserId(userId)).thenReturn(Optional.of(profile));
-        when(hostRatingRepository.findByHostUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of());
-        when(memberRatingRepository.findByRatedUserIdAndVisibleAtIsNotNullOrderByCreatedAtDesc(userId))
-                .thenReturn(List.of());
+        when(hostRatingRepository.findReviewPageByUserId(userId, 21)).thenReturn(List.of());
+        when(userRatingAggregateRepository.findAggregate(userId)).thenReturn(Optional.empty());
         when(userService.resolveProfilePictureUrl(any())).thenAnswer(inv -> inv.getArgument(0));
 
-        PublicProfileResponseDto result = publicProfileService.getPublicProfile(userId, 0, 20);
+        PublicProfileResponseDto result = publicProfileService.getPublicProfile(userId, null, 20);
 
         assertNotNull(result);
         assertEquals("Jane", result.getFirstName());
@@ -90,62 +91,73 @@ class PublicProfileServiceTest {
         assertEquals(new BigDecimal("4.50"), result.getTrustScore());
         assertTrue(result.getReviews().isEmpty());
         assertEquals(0, result.getTotalReviewCount());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    @DisplayName("Should return profile with host and member reviews")
+    @DisplayName("Should map merged host and member review rows")
     void getPublicProfile_WithReviews() {
         when(userProfileRepository.findAllUserProfileDetailByUserId(userId)).thenReturn(Optional.of(profile));
         when(userService.resolveProfilePictureUrl(any())).thenAnswer(inv -> inv.getArgument(0));
-        HostRatingEntity hostRating = new HostRatingEntity();
-        hostRating.setCoordinationRating(5);
-        hostRating.setCommunicationRating(4);
-        hostRating.setLeadershipRating(5);
-        hostRating.setReviewText("Great host");
-        hostRating.setCreatedAt(LocalDateTime.now());
-        when(hostRatingRepository.findByHostUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of(hostRating));
-        MemberRatingEntity memberRating = new MemberRatingEntity();
-        memberRating.setRatingScore(5);
-        memberRating.setReviewText("Fun to travel with");
-        memberRating.setVisibleAt(LocalDateTime.now());
-        memberRating.setCreatedAt(LocalDateTime.now());
-        when(memberRatingRepository.findByRatedUserIdAndVisibleAtIsNotNullOrderByCreatedAtDesc(userId))
-                .thenReturn(List.of(memberRating));
-
-        PublicProfileResponseDto result = publicProfileService.getPublicProfile(userId, 0, 20);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(reviewRow("MEMBER", UUID.randomUUID(), "Fun to travel with", "RELIABLE", 5.0, now));
+        rows.add(reviewRow("HOST", UUID.randomUUID(), "Great host", null, 14 / 3.0, now.minusDays(1)));
+        when(hostRatingRepository.findReviewPageByUserId(userId, 21)).thenReturn(rows);
+        when(userRatingAggregateRepository.findAggregate(userId))
+                .thenReturn(Optional.of(new RatingAggregate(userId, 14, 1, 5, 1)));
+
+        PublicProfileResponseDto result = publicProfileService.getPublicProfile(userId, null, 20);
 
-        assertNotNull(result);
         assertEquals(2, result.getReviews().size());
         assertEquals(2, result.getTotalReviewCount());
-        assertTrue(result.getReviews().stream().anyMatch(r -> r.getSource() == ReviewItemDto.ReviewSource.HOST));
-        assertTrue(result.getReviews().stream().anyMatch(r -> r.getSource() == ReviewItemDto.ReviewSource.MEMBER));
+        ReviewItemDto member = result.getReviews().get(0);
+        assertEquals(ReviewItemDto.ReviewSource.MEMBER, member.getSource());
+        assertEquals(VibeTag.RELIABLE, member.getVibeTag());
+        assertEquals(5.0, member.getAverageRating());
+        ReviewItemDto host = result.getReviews().get(1);
+        assertEquals(ReviewItemDto.ReviewSource.HOST, host.getSource());
+        assertEquals("Great host", host.getReviewText());
+        assertNull(host.getVibeTag());
+        assertFalse(result.isHasMore());
     }
 
     @Test
-    @DisplayName("Should paginate reviews")
-    void getPublicProfile_Pagination() {
+    @DisplayName("Should return a next cursor from the last row and continue after it")
+    void getPublicProfile_KeysetPagination() {
         when(userProfileRepository.findAllUserProfileDetailByUserId(userId)).thenReturn(Optional.of(profile));
         when(userService.resolveProfilePictureUrl(any())).thenAnswer(inv -> inv.getArgument(0));
-        HostRatingEntity r1 = new HostRatingEntity();
-        r1.setCoordinationRating(4);
-        r1.setCommunicationRating(4);
-        r1.setLeadershipRating(4);
-        r1.setCreatedAt(LocalDateTime.now().minusDays(2));
-        HostRatingEntity r2 = new HostRatingEntity();
-        r2.setCoordinationRating(5);
-        r2.setCommunicationRating(5);
-        r2.setLeadershipRating(5);
-        r2.setCreatedAt(LocalDateTime.now().minusDays(1));
-        when(hostRatingRepository.findByHostUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of(r1, r2));
-        when(memberRatingRepository.findByRatedUserIdAndVisibleAtIsNotNullOrderByCreatedAtDesc(userId))
-                .thenReturn(List.of());
-
-        PublicProfileResponseDto page0 = publicProfileService.getPublicProfile(userId, 0, 1);
-        PublicProfileResponseDto page1 = publicProfileService.getPublicProfile(userId, 1, 1);
+        when(userRatingAggregateRepository.findAggregate(userId))
+                .thenReturn(Optional.of(new RatingAggregate(userId, 27, 2, 0, 0)));
+        UUID newerId = UUID.randomUUID();
+        UUID olderId = UUID.randomUUID();
+        LocalDateTime newerAt = LocalDateTime.now().minusDays(1);
+        LocalDateTime olderAt = LocalDateTime.now().minusDays(2);
+        List<Object[]> firstRows = new ArrayList<>();
+        firstRows.add(reviewRow("HOST", newerId, null, null, 5.0, newerAt));
+        firstRows.add(reviewRow("HOST", olderId, null, null, 4.0, olderAt));
+        when(hostRatingRepository.findReviewPageByUserId(userId, 2)).thenReturn(firstRows);
+        List<Object[]> secondRows = new ArrayList<>();
+        secondRows.add(reviewRow("HOST", olderId, null, null, 4.0, olderAt));
+        when(hostRatingRepository.findReviewPageByUserIdAfter(userId, newerAt, newerId, 2)).thenReturn(secondRows);
+
+        PublicProfileResponseDto page0 = publicProfileService.getPublicProfile(userId, null, 1);
+        PublicProfileResponseDto page1 = publicProfileService.getPublicProfile(userId, page0.getNextCursor(), 1);
 
         assertEquals(1, page0.getReviews().size());
+        assertTrue(page0.isHasMore());
+        assertEquals(new KeysetCursor(newerAt, newerId).encode(), page0.getNextCursor());
         assertEquals(1, page1.getReviews().size());
+        assertEquals(olderAt, page1.getReviews().get(0).getCreatedAt());
+        assertFalse(page1.isHasMore());
+        assertNull(page1.getNextCursor());
         assertEquals(2, page0.getTotalReviewCount());
         assertEquals(2, page1.getTotalReviewCount());
     }
+
+    private static Object[] reviewRow(String source, UUID id, String reviewText, String vibeTag,
+                                      double averageRating, LocalDateTime createdAt) {
+        return new Object[]{source, id, reviewText, vibeTag, averageRating, createdAt};
+    }
 }
@@ -11,6 +11,7 @@ import com.tranzo.tranzo_user_ms.user.model.TripRatingEntity;
 import com.tranzo.tranzo_user_ms.user.repository.HostRatingRepository;
 import com.tranzo.tranzo_user_ms.user.repository.MemberRatingRepository;
 import com.tranzo.tranzo_user_ms.user.repository.TripRatingRepository;
+import com.tranzo.tranzo_user_ms.user.repository.UserRatingAggregateRepository;
 import com.tranzo.tranzo_user_ms.user.enums.VibeTag;
 import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
 import com.tranzo.tranzo_user_ms.trip.enums.TripMemberStatus;
@@ -63,6 +64,9 @@ class RatingServiceTest {
     @Mock
     private TrustScoreService trustScoreService;
 
+    @Mock
+    private UserRatingAggregateRepository userRatingAggregateRepository;
+
     @InjectMocks
     private RatingService ratingService;
 
@@ -144,7 +148,7 @@ class RatingServiceTest {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
         when(tripMemberRepository.findFirstByTrip_TripIdAndRoleAndStatus(tripId, TripMemberRole.HOST, TripMemberStatus.ACTIVE))
                 .thenReturn(Optional.of(hostMember));
-        when(hostRatingRepository.findByTrip_TripIdAndRaterUserId(tripId, raterUserId)).thenReturn(Optional.empty());
+        when(hostRatingRepository.findByTripIdAndRaterUserIdForUpdate(tripId, raterUserId)).thenReturn(Optional.empty());
         when(hostRatingRepository.save(any(HostRatingEntity.class))).thenAnswer(i -> i.getArgument(0));
 
         SubmitHostRatingRequest request = SubmitHostRatingRequest.builder()
@@ -156,6 +160,27 @@ class RatingServiceTest {
         ratingService.submitHostRating(tripId, raterUserId, request);
 
         verify(hostRatingRepository).save(any(HostRatingEntity.class));
+        verify(userRatingAggregateRepository).applyDelta(hostUserId, 14, 1, 0, 0);
+        verify(trustScoreService).updateTrustScore(hostUserId);
+    }
+
+    @Test
+    @DisplayName("Should add only the score difference when a host rating is edited")
+    void submitHostRating_UpdateExisting() {
+        when(eligibilityService.canSubmitRatingForTrip(raterUserId, tripId)).thenReturn(true);
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
+        when(tripMemberRepository.findFirstByTrip_TripIdAndRoleAndStatus(tripId, TripMemberRole.HOST, TripMemberStatus.ACTIVE))
+                .thenReturn(Optional.of(hostMember));
+        HostRatingEntity existing = HostRatingEntity.builder()
+                .id(UUID.randomUUID()).trip(trip).hostUserId(hostUserId).raterUserId(raterUserId)
+                .coordinationRating(3).communicationRating(3).leadershipRating(3)
+                .build();
+        when(hostRatingRepository.findByTripIdAndRaterUserIdForUpdate(tripId, raterUserId)).thenReturn(Optional.of(existing));
+
+        ratingService.submitHostRating(tripId, raterUserId, SubmitHostRatingRequest.builder()
+                .coordinationRating(5).communicationRating(4).leadershipRating(5).build());
+
+        verify(userRatingAggregateRepository).applyDelta(hostUserId, 5, 0, 0, 0);
         verify(trustScoreService).updateTrustScore(hostUserId);
     }
 
@@ -181,7 +206,7 @@ class RatingServiceTest {
         otherMember.setUserId(ratedUserId);
         when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
                 .thenReturn(List.of(raterMember, otherMember));
-        when(memberRatingRepository.findByTrip_TripIdAndRaterUserIdAndRatedUserId(any(), any(), any())).thenReturn(Optional.empty());
+        when(memberRatingRepository.findByTripIdAndRaterUserIdAndRatedUserIdForUpdate(any(), any(), any())).thenReturn(Optional.empty());
         when(memberRatingRepository.findByTripIdAndRaterUserId(tripId, ratedUserId)).thenReturn(List.of());
         when(memberRatingRepository.save(any(MemberRatingEntity.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -200,6 +225,65 @@ class RatingServiceTest {
                 e.getRaterUserId().equals(raterUserId) && e.getRatedUserId().equals(ratedUserId)
                         && e.getRatingScore() == 5 && e.getVibeTag() == VibeTag.RELIABLE));
         verify(trustScoreService).updateTrustScore(ratedUserId);
+        // Still blind: nothing counts towards the aggregates until revealed
+        verify(userRatingAggregateRepository, never()).applyDelta(any(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should count both ratings in the aggregates when they are revealed")
+    void submitMemberRatings_RevealAddsToAggregates() {
+        when(eligibilityService.canSubmitRatingForTrip(raterUserId, tripId)).thenReturn(true);
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
+        TripMemberEntity raterMember = new TripMemberEntity();
+        raterMember.setUserId(raterUserId);
+        TripMemberEntity otherMember = new TripMemberEntity();
+        otherMember.setUserId(ratedUserId);
+        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
+                .thenReturn(List.of(raterMember, otherMember));
+        MemberRatingEntity theirs = MemberRatingEntity.builder()
+                .trip(trip).raterUserId(ratedUserId).ratedUserId(raterUserId).ratingScore(4).build();
+        when(memberRatingRepository.findByTripIdAndRaterUserIdAndRatedUserIdForUpdate(tripId, raterUserId, ratedUserId))
+                .thenReturn(Optional.empty());
+        when(memberRatingRepository.findByTripIdAndRaterUserId(tripId, ratedUserId)).thenReturn(List.of(theirs));
+        when(memberRatingRepository.revealIfHidden(eq(tripId), any(), any(), any())).thenReturn(1);
+        when(memberRatingRepository.findRatingScore(tripId, raterUserId, ratedUserId)).thenReturn(Optional.of(5));
+        when(memberRatingRepository.findRatingScore(tripId, ratedUserId, raterUserId)).thenReturn(Optional.of(4));
+
+        ratingService.submitMemberRatings(tripId, raterUserId, SubmitMemberRatingsRequest.builder()
+                .ratings(List.of(SubmitMemberRatingItem.builder().ratedUserId(ratedUserId).ratingScore(5).build()))
+                .build());
+
+        verify(memberRatingRepository).revealIfHidden(eq(tripId), eq(raterUserId), eq(ratedUserId), any());
+        verify(memberRatingRepository).revealIfHidden(eq(tripId), eq(ratedUserId), eq(raterUserId), any());
+        verify(userRatingAggregateRepository).applyDelta(ratedUserId, 0, 0, 5, 1);
+        verify(userRatingAggregateRepository).applyDelta(raterUserId, 0, 0, 4, 1);
+        verify(trustScoreService).updateTrustScore(raterUserId);
+    }
+
+    @Test
+    @DisplayName("Should not count ratings again when a concurrent submission already revealed them")
+    void submitMemberRatings_AlreadyRevealed_NoDoubleCount() {
+        when(eligibilityService.canSubmitRatingForTrip(raterUserId, tripId)).thenReturn(true);
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
+        TripMemberEntity raterMember = new TripMemberEntity();
+        raterMember.setUserId(raterUserId);
+        TripMemberEntity otherMember = new TripMemberEntity();
+        otherMember.setUserId(ratedUserId);
+        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
+                .thenReturn(List.of(raterMember, otherMember));
+        MemberRatingEntity theirs = MemberRatingEntity.builder()
+                .trip(trip).raterUserId(ratedUserId).ratedUserId(raterUserId).ratingScore(4).build();
+        when(memberRatingRepository.findByTripIdAndRaterUserIdAndRatedUserIdForUpdate(tripId, raterUserId, ratedUserId))
+                .thenReturn(Optional.empty());
+        when(memberRatingRepository.findByTripIdAndRaterUserId(tripId, ratedUserId)).thenReturn(List.of(theirs));
+        when(memberRatingRepository.revealIfHidden(eq(tripId), any(), any(), any())).thenReturn(0);
+
+        ratingService.submitMemberRatings(tripId, raterUserId, SubmitMemberRatingsRequest.builder()
+                .ratings(List.of(SubmitMemberRatingItem.builder().ratedUserId(ratedUserId).ratingScore(5).build()))
+                .build());
+
+        verify(memberRatingRepository, never()).findRatingScore(any(), any(), any());
+        verify(userRatingAggregateRepository, never()).applyDelta(any(), anyLong(), anyLong(), anyLong(), anyLong());
     }
 
     @Test
@@ -1,10 +1,10 @@
 package com.tranzo.tranzo_user_ms.reputation.service;
 
-import com.tranzo.tranzo_user_ms.trip.enums.TripMemberStatus;
+import com.tranzo.tranzo_user_ms.trip.dto.TripMembershipSnapshot;
 import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
 import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
-import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
 import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import com.tranzo.tranzo_user_ms.trip.service.TripMembershipCache;
 import com.tranzo.tranzo_user_ms.user.service.ReputationEligibilityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,7 +29,7 @@ class ReputationEligibilityServiceTest {
     private TripRepository tripRepository;
 
     @Mock
-    private TripMemberRepository tripMemberRepository;
+    private TripMembershipCache tripMembershipCache;
 
     @InjectMocks
     private ReputationEligibilityService eligibilityService;
@@ -51,12 +52,11 @@ class ReputationEligibilityServiceTest {
     void canSubmitRatingForTrip_Success() {
         when(tripRepository.findByTripIdAndTripStatus(tripId, TripStatus.COMPLETED))
                 .thenReturn(Optional.of(completedTrip));
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-                .thenReturn(true);
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(userId));
 
         assertTrue(eligibilityService.canSubmitRatingForTrip(userId, tripId));
         verify(tripRepository).findByTripIdAndTripStatus(tripId, TripStatus.COMPLETED);
-        verify(tripMemberRepository).existsByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE);
+        verify(tripMembershipCache).get(tripId);
     }
 
     @Test
@@ -66,7 +66,7 @@ class ReputationEligibilityServiceTest {
                 .thenReturn(Optional.empty());
 
         assertFalse(eligibilityService.canSubmitRatingForTrip(userId, tripId));
-        verify(tripMemberRepository, never()).existsByTrip_TripIdAndUserIdAndStatus(any(), any(), any());
+        verify(tripMembershipCache, never()).get(any());
     }
 
     @Test
@@ -74,8 +74,7 @@ class ReputationEligibilityServiceTest {
     void canSubmitRatingForTrip_UserNotActiveMember() {
         when(tripRepository.findByTripIdAndTripStatus(tripId, TripStatus.COMPLETED))
                 .thenReturn(Optional.of(completedTrip));
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-                .thenReturn(false);
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(UUID.randomUUID()));
 
         assertFalse(eligibilityService.canSubmitRatingForTrip(userId, tripId));
     }
@@ -93,4 +92,8 @@ class ReputationEligibilityServiceTest {
         assertFalse(eligibilityService.canSubmitRatingForTrip(userId, null));
         verify(tripRepository, never()).findByTripIdAndTripStatus(any(), any());
     }
+
+    private TripMembershipSnapshot membership(UUID hostUserId) {
+        return new TripMembershipSnapshot(tripId, 0L, hostUserId, Set.of(), Set.of(hostUserId));
+    }
 }
@@ -1,12 +1,10 @@
 package com.tranzo.tranzo_user_ms.reputation.service;
 
-import com.tranzo.tranzo_user_ms.user.model.HostRatingEntity;
-import com.tranzo.tranzo_user_ms.user.model.MemberRatingEntity;
-import com.tranzo.tranzo_user_ms.user.repository.HostRatingRepository;
-import com.tranzo.tranzo_user_ms.user.repository.MemberRatingRepository;
+import com.tranzo.tranzo_user_ms.user.dto.RatingAggregate;
 import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
 import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
 import com.tranzo.tranzo_user_ms.user.repository.UserProfileRepository;
+import com.tranzo.tranzo_user_ms.user.repository.UserRatingAggregateRepository;
 import com.tranzo.tranzo_user_ms.user.service.TrustScoreService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +15,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,10 +26,7 @@ import static org.mockito.Mockito.*;
 class TrustScoreServiceTest {
 
     @Mock
-    private HostRatingRepository hostRatingRepository;
-
-    @Mock
-    private MemberRatingRepository memberRatingRepository;
+    private UserRatingAggregateRepository userRatingAggregateRepository;
 
     @Mock
     private UserProfileRepository userProfileRepository;
@@ -62,7 +55,7 @@ class TrustScoreServiceTest {
         trustScoreService.updateTrustScore(userId);
 
         verify(userProfileRepository).findAllUserProfileDetailByUserId(userId);
-        verify(hostRatingRepository, never()).findByHostUserIdOrderByCreatedAtDesc(any());
+        verify(userRatingAggregateRepository, never()).findAggregate(any());
         verify(userProfileRepository, never()).save(any());
     }
 
@@ -70,22 +63,14 @@ class TrustScoreServiceTest {
     @DisplayName("Should set trust score from host and member ratings")
     void updateTrustScore_WithRatings() {
         when(userProfileRepository.findAllUserProfileDetailByUserId(userId)).thenReturn(Optional.of(profile));
-        HostRatingEntity hostRating = new HostRatingEntity();
-        hostRating.setCoordinationRating(4);
-        hostRating.setCommunicationRating(5);
-        hostRating.setLeadershipRating(4);
-        when(hostRatingRepository.findByHostUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of(hostRating));
-        MemberRatingEntity memberRating = new MemberRatingEntity();
-        memberRating.setRatingScore(5);
-        memberRating.setVisibleAt(LocalDateTime.now());
-        when(memberRatingRepository.findByRatedUserIdAndVisibleAtIsNotNullOrderByCreatedAtDesc(userId))
-                .thenReturn(List.of(memberRating));
+        // One host rating of 4/5/4 and one visible member rating of 5
+        when(userRatingAggregateRepository.findAggregate(userId))
+                .thenReturn(Optional.of(new RatingAggregate(userId, 13, 1, 5, 1)));
 
         trustScoreService.updateTrustScore(userId);
 
         verify(userProfileRepository).save(profile);
-        assertNotNull(profile.getTrustScore());
-        assertTrue(profile.getTrustScore().compareTo(BigDecimal.ZERO) > 0);
+        assertEquals(new BigDecimal("4.67"), profile.getTrustScore());
         assertNotNull(profile.getTrustScoreUpdatedAt());
     }
 
@@ -93,9 +78,7 @@ class TrustScoreServiceTest {
     @DisplayName("Should set zero trust score when no ratings")
     void updateTrustScore_NoRatings() {
         when(userProfileRepository.findAllUserProfileDetailByUserId(userId)).thenReturn(Optional.of(profile));
-        when(hostRatingRepository.findByHostUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of());
-        when(memberRatingRepository.findByRatedUserIdAndVisibleAtIsNotNullOrderByCreatedAtDesc(userId))
-                .thenReturn(List.of());
+        when(userRatingAggregateRepository.findAggregate(userId)).thenReturn(Optional.empty());
 
         trustScoreService.updateTrustScore(userId);
 
@@ -0,0 +1,131 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.splitwise.entity.Activity;
+import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
+import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
+import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogWriter Unit Tests")
+class ActivityLogWriterTest {
+
+    private static final UUID GROUP_ID = UUID.randomUUID();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ActivityLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should batch-insert queued entries from the worker thread")
+    void testEnqueue_WritesBatchAsynchronously() {
+        writer = new ActivityLogWriter(jdbcTemplate, transactionManager, userRepository, 10, 200, 50);
+        writer.start();
+
+        writer.enqueue(entry(Activity.ActivityType.EXPENSE_ADDED, "Added expense 'Dinner' for ₹90.00", null));
+
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(anyString(), rows.capture(), eq(200),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1, rows.getValue().size());
+        assertEquals(1, writer.stats().enqueuedEntries());
+        verifyNoInteractions(userRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should resolve member names once per batch and flush queued entries on stop")
+    void testStop_FlushesQueueWithResolvedNames() throws Exception {
+        writer = new ActivityLogWriter(jdbcTemplate, transactionManager, userRepository, 10, 200, 50);
+        // Worker not started: entries stay queued until stop() flushes them
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(writer, "writeBehind"), "running", true);
+        UUID member = UUID.randomUUID();
+        UsersEntity user = new UsersEntity();
+        user.setUserUuid(member);
+        UserProfileEntity profile = new UserProfileEntity();
+        profile.setFirstName("Asha");
+        profile.setLastName("Rao");
+        user.setUserProfileEntity(profile);
+        when(userRepository.findAllWithProfileByUserUuidIn(anyCollection())).thenReturn(List.of(user));
+
+        writer.enqueue(entry(Activity.ActivityType.MEMBER_ADDED, "Added %s to group", member));
+        writer.enqueue(entry(Activity.ActivityType.MEMBER_REMOVED, "Removed %s from group", member));
+        assertEquals(2, writer.stats().queueDepth());
+        writer.stop();
+
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter> setter = ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(200), setter.capture());
+        assertEquals(2, rows.getValue().size());
+        verify(userRepository, times(1)).findAllWithProfileByUserUuidIn(anyCollection());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, rows.getValue().iterator().next());
+        verify(ps).setString(5, "Added Asha Rao to group");
+        assertEquals(2, writer.stats().writtenRows());
+        assertEquals(0, writer.stats().queueDepth());
+    }
+
+    @Test
+    @DisplayName("Should fall back to per-entry inserts and drop only the failing entry")
+    void testWrite_BatchFailure_RetriesPerEntry() {
+        writer = new ActivityLogWriter(jdbcTemplate, transactionManager, userRepository, 10, 200, 50);
+        ReflectionTestUtils.setField(ReflectionTestUtils.getField(writer, "writeBehind"), "running", true);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), eq(200), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DuplicateKeyException("already stored"))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+
+        writer.enqueue(entry(Activity.ActivityType.EXPENSE_ADDED, "Added expense 'Dinner' for ₹90.00", null));
+        writer.enqueue(entry(Activity.ActivityType.EXPENSE_ADDED, "Added expense 'Taxi' for ₹20.00", null));
+        writer.enqueue(entry(Activity.ActivityType.EXPENSE_ADDED, "x".repeat(2000), null));
+        writer.stop();
+
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+        assertEquals(2, writer.stats().writtenRows());
+        assertEquals(1, writer.stats().failedRows());
+    }
+
+    private static ActivityLogWriter.ActivityEntry entry(Activity.ActivityType type, String description, UUID describedUserId) {
+        return new ActivityLogWriter.ActivityEntry(GROUP_ID, UUID.randomUUID(), type, description,
+                describedUserId, describedUserId != null ? "USER" : "EXPENSE", describedUserId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,224 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.commons.events.SplitwiseBalancesChangedEvent;
+import com.tranzo.tranzo_user_ms.splitwise.dto.BalanceDelta;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.UserDashboardResponse;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Balance;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
+import com.tranzo.tranzo_user_ms.splitwise.entity.ExpenseSplit;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Settlement;
+import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
+import com.tranzo.tranzo_user_ms.splitwise.exception.InsufficientBalanceException;
+import com.tranzo.tranzo_user_ms.splitwise.exception.UserNotAdminException;
+import com.tranzo.tranzo_user_ms.splitwise.repository.BalanceRepository;
+import com.tranzo.tranzo_user_ms.splitwise.repository.ExpenseRepository;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SettlementRepository;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
+import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
+import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
+import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
+import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceService Unit Tests")
+class BalanceServiceTest {
+
+    private static final UUID GROUP_ID = UUID.randomUUID();
+    private static final UUID USER_A = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID USER_B = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID PAYER = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Mock
+    private BalanceRepository balanceRepository;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    @Mock
+    private SettlementOptimizationService settlementOptimizationService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SplitwiseGroupRepository splitwiseGroupRepository;
+
+    @Mock
+    private SplitwiseResponseAssembler responseAssembler;
+
+    @Mock
+    private UserDashboardCache userDashboardCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BalanceService balanceService;
+
+    @Test
+    @DisplayName("Should upsert only the pair whose share changed when an expense is edited")
+    void testApplyExpenseDelta_OnlyChangedPairUpserted() {
+        balanceService.applyExpenseDelta(GROUP_ID,
+                PAYER, Map.of(USER_A, new BigDecimal("50.00"), USER_B, new BigDecimal("50.00"), PAYER, new BigDecimal("50.00")),
+                PAYER, Map.of(USER_A, new BigDecimal("50.00"), USER_B, new BigDecimal("20.00"), PAYER, new BigDecimal("80.00")));
+
+        List<BalanceDelta> deltas = captureDeltas();
+        assertEquals(1, deltas.size());
+        assertDelta(deltas.get(0), USER_B, PAYER, "-30.00");
+        verify(balanceRepository, never()).findPair(any(), any(), any());
+        verify(balanceRepository, never()).deleteByGroupId(any());
+        verify(eventPublisher).publishEvent(any(SplitwiseBalancesChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should order pairs by unsigned UUID bytes, as PostgreSQL does")
+    void testUpdateBalancesForExpense_CanonicalPairOrder() {
+        UUID highBitPayer = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+        Expense expense = Expense.builder().paidBy(highBitPayer).groupId(GROUP_ID).amount(new BigDecimal("40.00")).build();
+        expense.addSplit(ExpenseSplit.builder().userId(USER_A).amount(new BigDecimal("40.00")).build());
+
+        balanceService.updateBalancesForExpense(expense);
+
+        assertDelta(captureDeltas().get(0), USER_A, highBitPayer, "40.00");
+    }
+
+    @Test
+    @DisplayName("Should apply a settlement as one upsert where the payee owes the payer")
+    void testUpdateBalancesForSettlement_SingleUpsert() {
+        Settlement settlement = Settlement.builder()
+                .group(SplitwiseGroup.builder().id(GROUP_ID).build())
+                .paidBy(USER_B).paidTo(PAYER).amount(new BigDecimal("25.00")).build();
+
+        balanceService.updateBalancesForSettlement(settlement);
+
+        assertDelta(captureDeltas().get(0), USER_B, PAYER, "-25.00");
+    }
+
+    @Test
+    @DisplayName("Should validate a settlement against the debt in the payer's direction only")
+    void testValidateSettlementAmount_UsesPairDirection() {
+        Balance payerOwesA = Balance.builder().lowUser(USER_A).highUser(PAYER).amount(new BigDecimal("-40.00")).build();
+        when(balanceRepository.findPair(GROUP_ID, USER_A, PAYER)).thenReturn(Optional.of(payerOwesA));
+
+        assertDoesNotThrow(() -> balanceService.validateSettlementAmount(GROUP_ID, PAYER, USER_A, new BigDecimal("40.00")));
+        assertThrows(InsufficientBalanceException.class,
+                () -> balanceService.validateSettlementAmount(GROUP_ID, PAYER, USER_A, new BigDecimal("40.01")));
+        assertThrows(InsufficientBalanceException.class,
+                () -> balanceService.validateSettlementAmount(GROUP_ID, USER_A, PAYER, new BigDecimal("1.00")));
+    }
+
+    @Test
+    @DisplayName("Should rebuild group balances from expenses and settlements in one upsert for a group admin")
+    void testReconcileGroupBalances_RebuildsFromExpensesAndSettlements() {
+        SplitwiseGroup group = SplitwiseGroup.builder().id(GROUP_ID).build();
+        Expense expense = Expense.builder().paidBy(PAYER).groupId(GROUP_ID).amount(new BigDecimal("90.00")).build();
+        expense.addSplit(ExpenseSplit.builder().userId(USER_A).amount(new BigDecimal("30.00")).build());
+        expense.addSplit(ExpenseSplit.builder().userId(USER_B).amount(new BigDecimal("30.00")).build());
+        expense.addSplit(ExpenseSplit.builder().userId(PAYER).amount(new BigDecimal("30.00")).build());
+        Settlement settlement = Settlement.builder().group(group).paidBy(USER_A).paidTo(PAYER).amount(new BigDecimal("30.00")).build();
+        when(splitwiseGroupRepository.isUserAdminOfGroup(GROUP_ID, PAYER)).thenReturn(true);
+        when(splitwiseGroupRepository.findByIdForUpdate(GROUP_ID)).thenReturn(Optional.of(group));
+        when(expenseRepository.findByGroupId(GROUP_ID)).thenReturn(List.of(expense));
+        when(settlementRepository.findByGroupId(GROUP_ID)).thenReturn(List.of(settlement));
+        when(balanceRepository.applyDeltas(eq(GROUP_ID), anyCollection())).thenReturn(1);
+
+        int written = balanceService.reconcileGroupBalances(GROUP_ID, PAYER);
+
+        assertEquals(1, written);
+        InOrder inOrder = inOrder(splitwiseGroupRepository, expenseRepository, balanceRepository);
+        inOrder.verify(splitwiseGroupRepository).findByIdForUpdate(GROUP_ID);
+        inOrder.verify(expenseRepository).findByGroupId(GROUP_ID);
+        inOrder.verify(balanceRepository).deleteByGroupId(GROUP_ID);
+        List<BalanceDelta> deltas = captureDeltas();
+        assertEquals(1, deltas.size());
+        assertDelta(deltas.get(0), USER_B, PAYER, "30.00");
+    }
+
+    @Test
+    @DisplayName("Should reject reconciliation by a non-admin")
+    void testReconcileGroupBalances_NonAdmin_Throws() {
+        when(splitwiseGroupRepository.isUserAdminOfGroup(GROUP_ID, USER_A)).thenReturn(false);
+
+        assertThrows(UserNotAdminException.class, () -> balanceService.reconcileGroupBalances(GROUP_ID, USER_A));
+        verifyNoInteractions(balanceRepository);
+    }
+
+    @Test
+    @DisplayName("Should build the dashboard from one grouped query and one batched user lookup")
+    void testGetUserDashboard_SingleQueryAndBatchedNames() {
+        UUID tripGroupId = UUID.randomUUID();
+        UUID manualGroupId = UUID.randomUUID();
+        UUID tripId = UUID.randomUUID();
+        LocalDate startDate = LocalDate.now().plusDays(3);
+        when(userDashboardCache.get(eq(PAYER), any())).thenAnswer(invocation ->
+                invocation.<Function<UUID, UserDashboardResponse>>getArgument(1).apply(PAYER));
+        when(balanceRepository.findDashboardRowsForUser(eq(PAYER), anyCollection())).thenReturn(List.of(
+                new Object[]{tripGroupId, USER_A, new BigDecimal("-40.00"), tripId, "Goa", startDate, "Goa", TripStatus.ONGOING},
+                new Object[]{tripGroupId, USER_B, new BigDecimal("15.00"), tripId, "Goa", startDate, "Goa", TripStatus.ONGOING},
+                new Object[]{manualGroupId, USER_A, new BigDecimal("-5.00"), null, null, null, null, null}));
+        UsersEntity userA = new UsersEntity();
+        userA.setUserUuid(USER_A);
+        userA.setEmail("a@example.com");
+        UserProfileEntity profileA = new UserProfileEntity();
+        profileA.setFirstName("Asha");
+        profileA.setLastName("Rao");
+        userA.setUserProfileEntity(profileA);
+        when(userRepository.findAllWithProfileByUserUuidIn(anyCollection())).thenReturn(List.of(userA));
+
+        UserDashboardResponse dashboard = balanceService.getUserDashboard(PAYER);
+
+        assertEquals(0, new BigDecimal("15.00").compareTo(dashboard.getTotalAmountUserOwes()));
+        assertEquals(0, new BigDecimal("45.00").compareTo(dashboard.getTotalAmountOwedToUser()));
+        assertEquals(0, new BigDecimal("30.00").compareTo(dashboard.getTotalOutstandingBalance()));
+        assertEquals(2, dashboard.getIndividualBalanceSummary().getOwedToUserList().size());
+        assertEquals("Asha Rao", dashboard.getIndividualBalanceSummary().getOwedToUserList().get(0).getUserName());
+        assertEquals("", dashboard.getIndividualBalanceSummary().getUserOwesList().get(0).getUserName());
+        assertEquals(1, dashboard.getExpenseSummary().size());
+        UserDashboardResponse.ExpenseSummary summary = dashboard.getExpenseSummary().get(0);
+        assertEquals(tripId, summary.getTripId());
+        assertEquals(0, new BigDecimal("15.00").compareTo(summary.getOweAmount()));
+        assertEquals(0, new BigDecimal("40.00").compareTo(summary.getOwedAmount()));
+        assertEquals("ONGOING", summary.getTripStatus());
+        verify(userRepository, times(1)).findAllWithProfileByUserUuidIn(anyCollection());
+        verify(userRepository, never()).findUserByUserUuid(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BalanceDelta> captureDeltas() {
+        ArgumentCaptor<Collection<BalanceDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(balanceRepository).applyDeltas(eq(GROUP_ID), captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    private void assertDelta(BalanceDelta delta, UUID lowUser, UUID highUser, String amount) {
+        assertEquals(lowUser, delta.lowUser());
+        assertEquals(highUser, delta.highUser());
+        assertEquals(0, new BigDecimal(amount).compareTo(delta.amount()));
+    }
+}
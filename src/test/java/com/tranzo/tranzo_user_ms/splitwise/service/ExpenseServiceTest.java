@@ -0,0 +1,147 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
+import com.tranzo.tranzo_user_ms.splitwise.dto.request.CreateExpenseRequest;
+import com.tranzo.tranzo_user_ms.splitwise.dto.request.ExpenseSplitRequest;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.CursorPageResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseResponse;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
+import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
+import com.tranzo.tranzo_user_ms.splitwise.exception.InvalidSplitException;
+import com.tranzo.tranzo_user_ms.splitwise.exception.UserNotMemberException;
+import com.tranzo.tranzo_user_ms.splitwise.repository.ExpenseRepository;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpenseService Unit Tests")
+class ExpenseServiceTest {
+
+    private static final UUID GROUP_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private SplitwiseGroupRepository splitwiseGroupRepository;
+
+    @Mock
+    private BalanceService balanceService;
+
+    @Mock
+    private ActivityService activityService;
+
+    @Mock
+    private SplitwiseResponseAssembler responseAssembler;
+
+    @Mock
+    private GroupMembershipCache groupMembershipCache;
+
+    @InjectMocks
+    private ExpenseService expenseService;
+
+    @Test
+    @DisplayName("Should load one page with splits fetch-joined, keep keyset order and return a cursor to the last item")
+    void testGetGroupExpenses_FirstPageWithCursor() {
+        Expense newest = createExpense(LocalDateTime.now());
+        Expense older = createExpense(LocalDateTime.now().minusDays(1));
+        UUID beyondPage = UUID.randomUUID();
+        when(splitwiseGroupRepository.isUserMemberOfGroup(GROUP_ID, USER_ID)).thenReturn(true);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(expenseRepository.findPageIdsByGroupId(eq(GROUP_ID), pageable.capture()))
+                .thenReturn(List.of(newest.getId(), older.getId(), beyondPage));
+        when(expenseRepository.findAllWithSplitsByIdIn(List.of(newest.getId(), older.getId())))
+                .thenReturn(List.of(older, newest));
+        when(responseAssembler.toExpenseResponses(List.of(newest, older)))
+                .thenReturn(List.of(new ExpenseResponse(), new ExpenseResponse()));
+
+        CursorPageResponse<ExpenseResponse> page = expenseService.getGroupExpenses(GROUP_ID, USER_ID, null, 2);
+
+        assertEquals(3, pageable.getValue().getPageSize());
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(older.getExpenseDate(), next.sortKey());
+        assertEquals(older.getId(), next.id());
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor and report the last page without a next cursor")
+    void testGetUserExpenses_LastPage() {
+        Expense expense = createExpense(LocalDateTime.now().minusDays(3));
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now().minusDays(2), UUID.randomUUID());
+        when(expenseRepository.findPageIdsInvolvingUserAfter(eq(USER_ID), eq(cursor.sortKey()), eq(cursor.id()), any()))
+                .thenReturn(List.of(expense.getId()));
+        when(expenseRepository.findAllWithSplitsByIdIn(List.of(expense.getId()))).thenReturn(List.of(expense));
+        when(responseAssembler.toExpenseResponses(List.of(expense))).thenReturn(List.of(new ExpenseResponse()));
+
+        CursorPageResponse<ExpenseResponse> page = expenseService.getUserExpenses(USER_ID, cursor.encode(), 20);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        verify(expenseRepository, never()).findPageIdsInvolvingUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject listing a group's expenses for a non-member")
+    void testGetGroupExpenses_NonMember_Throws() {
+        when(splitwiseGroupRepository.isUserMemberOfGroup(GROUP_ID, USER_ID)).thenReturn(false);
+
+        assertThrows(UserNotMemberException.class, () -> expenseService.getGroupExpenses(GROUP_ID, USER_ID, null, 20));
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    @DisplayName("Should validate every split user against one cached member set")
+    void testCreateExpense_SplitUserNotMember_UsesMemberSet() {
+        UUID outsider = UUID.randomUUID();
+        when(splitwiseGroupRepository.findById(GROUP_ID)).thenReturn(Optional.of(SplitwiseGroup.builder().id(GROUP_ID).build()));
+        when(groupMembershipCache.getMemberIds(GROUP_ID)).thenReturn(Set.of(USER_ID));
+        CreateExpenseRequest request = CreateExpenseRequest.builder()
+                .name("Dinner")
+                .amount(new BigDecimal("40.00"))
+                .groupId(GROUP_ID)
+                .paidById(USER_ID)
+                .splitType(Expense.SplitType.UNEQUAL)
+                .splits(List.of(
+                        ExpenseSplitRequest.builder().userId(USER_ID).amount(new BigDecimal("20.00")).build(),
+                        ExpenseSplitRequest.builder().userId(outsider).amount(new BigDecimal("20.00")).build()))
+                .build();
+
+        InvalidSplitException ex = assertThrows(InvalidSplitException.class, () -> expenseService.createExpense(request, USER_ID));
+
+        assertTrue(ex.getMessage().contains(outsider.toString()));
+        verify(groupMembershipCache, times(1)).getMemberIds(GROUP_ID);
+        verify(splitwiseGroupRepository, never()).isUserMemberOfGroup(any(), any());
+        verifyNoInteractions(expenseRepository);
+    }
+
+    private Expense createExpense(LocalDateTime expenseDate) {
+        return Expense.builder()
+                .id(UUID.randomUUID())
+                .groupId(GROUP_ID)
+                .paidBy(USER_ID)
+                .expenseDate(expenseDate)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.splitwise.dto.SettlementProposal;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for {@link SettlementOptimizationService} over random zero-sum balance vectors.
+ * Exact mode only runs up to its cap, so for larger groups the exact numbers measure the greedy fallback.
+ * Not a unit test; run from the IDE or with
+ * {@code java -cp target/test-classes:<test classpath> com.tranzo.tranzo_user_ms.splitwise.service.SettlementOptimizationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettlementOptimizationBenchmark {
+
+    @Param({"5", "10", "16", "50", "200"})
+    private int members;
+
+    private SettlementOptimizationService service;
+    private Map<UUID, BigDecimal> netBalances;
+
+    @Setup
+    public void setUp() {
+        service = new SettlementOptimizationService(userIds -> Collections.emptyMap(), 16);
+        Random random = new Random(42L);
+        netBalances = new LinkedHashMap<>();
+        long total = 0;
+        for (int i = 0; i < members - 1; i++) {
+            long paise = (random.nextInt(2_000_00) - 1_000_00);
+            total += paise;
+            netBalances.put(UUID.randomUUID(), BigDecimal.valueOf(paise, 2));
+        }
+        netBalances.put(UUID.randomUUID(), BigDecimal.valueOf(-total, 2));
+    }
+
+    @Benchmark
+    public List<SettlementProposal> greedy() {
+        return service.optimizeSettlements(netBalances, false);
+    }
+
+    @Benchmark
+    public List<SettlementProposal> exact() {
+        return service.optimizeSettlements(netBalances, true);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SettlementOptimizationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.splitwise.dto.SettlementProposal;
+import com.tranzo.tranzo_user_ms.user.client.UserProfileClient;
+import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementOptimizationService Unit Tests")
+class SettlementOptimizationServiceTest {
+
+    @Mock
+    private UserProfileClient userProfileClient;
+
+    private SettlementOptimizationService optimizationService;
+
+    private final Map<UUID, String> names = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        optimizationService = new SettlementOptimizationService(userProfileClient, 16);
+    }
+
+    @Test
+    @DisplayName("Should settle every balance greedily and resolve all names in a single lookup")
+    void testOptimizeSettlements_GreedyResolvesNamesOnce() {
+        Map<UUID, BigDecimal> balances = balances("Asha", "-6.00", "Ravi", "-4.00", "Meera", "3.00", "Kabir", "3.00", "Dev", "4.00");
+        stubNames();
+
+        List<SettlementProposal> proposals = optimizationService.optimizeSettlements(balances);
+
+        assertEquals(4, proposals.size());
+        assertEquals(new SettlementProposal("Asha", "Dev", new BigDecimal("4.00")), proposals.get(0));
+        assertSettlesAll(balances, proposals);
+        verify(userProfileClient, times(1)).getNamesByUserIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should find the minimum number of transfers in exact mode")
+    void testOptimizeSettlements_ExactFindsMinimum() {
+        Map<UUID, BigDecimal> balances = balances("Asha", "-6.00", "Ravi", "-4.00", "Meera", "3.00", "Kabir", "3.00", "Dev", "4.00");
+        stubNames();
+
+        List<SettlementProposal> proposals = optimizationService.optimizeSettlements(balances, true);
+
+        assertEquals(3, proposals.size());
+        assertTrue(proposals.contains(new SettlementProposal("Ravi", "Dev", new BigDecimal("4.00"))));
+        assertSettlesAll(balances, proposals);
+    }
+
+    @Test
+    @DisplayName("Should fall back to greedy when the group exceeds the exact-mode cap")
+    void testOptimizeSettlements_ExactFallsBackAboveCap() {
+        optimizationService = new SettlementOptimizationService(userProfileClient, 4);
+        Map<UUID, BigDecimal> balances = balances("Asha", "-6.00", "Ravi", "-4.00", "Meera", "3.00", "Kabir", "3.00", "Dev", "4.00");
+        stubNames();
+
+        assertEquals(4, optimizationService.optimizeSettlements(balances, true).size());
+    }
+
+    @Test
+    @DisplayName("Should return no proposals without calling the profile client when everyone is settled")
+    void testOptimizeSettlements_AllSettled() {
+        Map<UUID, BigDecimal> balances = balances("Asha", "0.00", "Ravi", "0.004");
+
+        assertTrue(optimizationService.optimizeSettlements(balances, true).isEmpty());
+        assertTrue(optimizationService.optimizeSettlements(null).isEmpty());
+        verifyNoInteractions(userProfileClient);
+    }
+
+    private Map<UUID, BigDecimal> balances(String... nameAmountPairs) {
+        Map<UUID, BigDecimal> balances = new LinkedHashMap<>();
+        for (int i = 0; i < nameAmountPairs.length; i += 2) {
+            UUID userId = UUID.randomUUID();
+            names.put(userId, nameAmountPairs[i]);
+            balances.put(userId, new BigDecimal(nameAmountPairs[i + 1]));
+        }
+        return balances;
+    }
+
+    private void stubNames() {
+        when(userProfileClient.getNamesByUserIds(anyList())).thenAnswer(invocation -> {
+            Map<UUID, UserNameDto> result = new HashMap<>();
+            for (UUID userId : invocation.<List<UUID>>getArgument(0)) {
+                result.put(userId, UserNameDto.builder().userId(userId).firstName(names.get(userId)).build());
+            }
+            return result;
+        });
+    }
+
+    private void assertSettlesAll(Map<UUID, BigDecimal> balances, List<SettlementProposal> proposals) {
+        Map<String, BigDecimal> net = new HashMap<>();
+        balances.forEach((userId, amount) -> net.put(names.get(userId), amount));
+        for (SettlementProposal proposal : proposals) {
+            net.merge(proposal.getFrom(), proposal.getAmount(), BigDecimal::add);
+            net.merge(proposal.getTo(), proposal.getAmount().negate(), BigDecimal::add);
+        }
+        net.values().forEach(amount -> assertEquals(0, amount.signum()));
+    }
+}
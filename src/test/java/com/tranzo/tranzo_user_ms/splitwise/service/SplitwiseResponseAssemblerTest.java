@@ -0,0 +1,120 @@
+package com.tranzo.tranzo_user_ms.splitwise.service;
+
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.ExpenseResponse;
+import com.tranzo.tranzo_user_ms.splitwise.dto.response.SettlementResponse;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Expense;
+import com.tranzo.tranzo_user_ms.splitwise.entity.ExpenseSplit;
+import com.tranzo.tranzo_user_ms.splitwise.entity.Settlement;
+import com.tranzo.tranzo_user_ms.splitwise.entity.SplitwiseGroup;
+import com.tranzo.tranzo_user_ms.splitwise.repository.SplitwiseGroupRepository;
+import com.tranzo.tranzo_user_ms.user.model.UserProfileEntity;
+import com.tranzo.tranzo_user_ms.user.model.UsersEntity;
+import com.tranzo.tranzo_user_ms.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SplitwiseResponseAssembler Unit Tests")
+class SplitwiseResponseAssemblerTest {
+
+    private static final UUID TRIP_GROUP_ID = UUID.randomUUID();
+    private static final UUID MANUAL_GROUP_ID = UUID.randomUUID();
+    private static final UUID USER_A = UUID.randomUUID();
+    private static final UUID USER_B = UUID.randomUUID();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SplitwiseGroupRepository splitwiseGroupRepository;
+
+    @InjectMocks
+    private SplitwiseResponseAssembler responseAssembler;
+
+    @Test
+    @DisplayName("Should resolve payers, split users and groups with one IN query each for a list of expenses")
+    void testToExpenseResponses_BatchesUsersAndGroups() {
+        Expense tripExpense = createExpense(TRIP_GROUP_ID, USER_A, USER_B);
+        Expense manualExpense = createExpense(MANUAL_GROUP_ID, USER_B, USER_A);
+        UUID tripId = UUID.randomUUID();
+        when(userRepository.findAllWithProfileByUserUuidIn(anyCollection())).thenReturn(List.of(createUser(USER_A, "Asha", "Rao")));
+        when(splitwiseGroupRepository.findWithTripTitleByIdIn(anyCollection())).thenReturn(List.of(
+                new Object[]{SplitwiseGroup.builder().id(TRIP_GROUP_ID).tripId(tripId).description("Trip group").build(), "Goa"},
+                new Object[]{SplitwiseGroup.builder().id(MANUAL_GROUP_ID).description("Flatmates").build(), null}));
+
+        List<ExpenseResponse> responses = responseAssembler.toExpenseResponses(List.of(tripExpense, manualExpense));
+
+        assertEquals(2, responses.size());
+        assertEquals("Asha Rao", responses.get(0).getPaidBy().getName());
+        assertEquals("Goa", responses.get(0).getGroup().getName());
+        assertEquals(tripId, responses.get(0).getGroup().getTripId());
+        assertEquals(USER_B, responses.get(0).getSplits().get(0).getUser().getUserUuid());
+        assertNull(responses.get(0).getSplits().get(0).getUser().getName());
+        assertEquals("Flatmates", responses.get(1).getGroup().getName());
+        assertEquals("Asha Rao", responses.get(1).getSplits().get(0).getUser().getName());
+        verify(userRepository, times(1)).findAllWithProfileByUserUuidIn(anyCollection());
+        verify(userRepository, never()).findUserByUserUuid(any());
+        verify(splitwiseGroupRepository, times(1)).findWithTripTitleByIdIn(anyCollection());
+        verify(splitwiseGroupRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should resolve both settlement parties and the group in one batch")
+    void testToSettlementResponses_BatchesParties() {
+        SplitwiseGroup group = SplitwiseGroup.builder().id(MANUAL_GROUP_ID).description("Flatmates").build();
+        Settlement settlement = Settlement.builder()
+                .group(group).paidBy(USER_A).paidTo(USER_B).amount(new BigDecimal("25.00")).build();
+        when(userRepository.findAllWithProfileByUserUuidIn(anyCollection()))
+                .thenReturn(List.of(createUser(USER_A, "Asha", "Rao"), createUser(USER_B, "Ravi", null)));
+        when(splitwiseGroupRepository.findWithTripTitleByIdIn(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{group, null}));
+
+        SettlementResponse response = responseAssembler.toSettlementResponse(settlement);
+
+        assertEquals("Asha Rao", response.getPaidBy().getName());
+        assertEquals("Ravi", response.getPaidTo().getName());
+        assertEquals("Flatmates", response.getGroup().getName());
+        assertTrue(response.getSettledExpenses().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not query anything for an empty list")
+    void testToExpenseResponses_EmptyList() {
+        assertTrue(responseAssembler.toExpenseResponses(List.of()).isEmpty());
+        verifyNoInteractions(userRepository, splitwiseGroupRepository);
+    }
+
+    private Expense createExpense(UUID groupId, UUID paidBy, UUID splitUser) {
+        Expense expense = Expense.builder()
+                .id(UUID.randomUUID())
+                .groupId(groupId)
+                .paidBy(paidBy)
+                .name("Dinner")
+                .amount(new BigDecimal("40.00"))
+                .build();
+        expense.addSplit(ExpenseSplit.builder().userId(splitUser).amount(new BigDecimal("40.00")).build());
+        return expense;
+    }
+
+    private UsersEntity createUser(UUID userId, String firstName, String lastName) {
+        UsersEntity user = new UsersEntity();
+        user.setUserUuid(userId);
+        UserProfileEntity profile = new UserProfileEntity();
+        profile.setFirstName(firstName);
+        profile.setLastName(lastName);
+        user.setUserProfileEntity(profile);
+        return user;
+    }
+}
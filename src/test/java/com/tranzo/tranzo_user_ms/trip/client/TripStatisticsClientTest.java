@@ -0,0 +1,71 @@
+package com.tranzo.tranzo_user_ms.trip.client;
+
+import com.tranzo.tranzo_user_ms.commons.events.TripCompletedEvent;
+import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
+import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripStatisticsClient Unit Tests")
+class TripStatisticsClientTest {
+
+    private static final List<TripStatus> COMPLETED = List.of(TripStatus.COMPLETED);
+
+    @Mock
+    private TripMemberRepository tripMemberRepository;
+
+    private TripStatisticsClient client;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        client = new TripStatisticsClient(tripMemberRepository, 100, 10);
+    }
+
+    @Test
+    @DisplayName("Should count once and reload after the user's trip is completed")
+    void testGetCompletedTripsCount_CachesUntilTripCompleted() {
+        when(tripMemberRepository.countTripsByUserIdAndStatusIn(userId, COMPLETED)).thenReturn(2L, 3L);
+
+        assertEquals(2, client.getCompletedTripsCount(userId));
+        assertEquals(2, client.getCompletedTripsCount(userId));
+        client.onTripCompleted(new TripCompletedEvent(UUID.randomUUID(), "Goa", List.of(userId)));
+        assertEquals(3, client.getCompletedTripsCount(userId));
+
+        verify(tripMemberRepository, times(2)).countTripsByUserIdAndStatusIn(userId, COMPLETED);
+        verify(tripMemberRepository, never()).findTripsByUserIdAndStatusIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should load only uncached users in one grouped query and map users without trips to zero")
+    void testGetCompletedTripsCounts_LoadsMissesInOneQuery() {
+        UUID cachedUser = UUID.randomUUID();
+        UUID noTripsUser = UUID.randomUUID();
+        when(tripMemberRepository.countTripsByUserIdAndStatusIn(cachedUser, COMPLETED)).thenReturn(1L);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{userId, 4L});
+        when(tripMemberRepository.countTripsByUserIdsAndStatusIn(anyCollection(), eq(COMPLETED))).thenReturn(rows);
+
+        client.getCompletedTripsCount(cachedUser);
+        Map<UUID, Integer> counts = client.getCompletedTripsCounts(List.of(cachedUser, userId, noTripsUser));
+
+        assertEquals(Map.of(cachedUser, 1, userId, 4, noTripsUser, 0), counts);
+        verify(tripMemberRepository).countTripsByUserIdsAndStatusIn(
+                argThat(ids -> ids.size() == 2 && !ids.contains(cachedUser)), eq(COMPLETED));
+    }
+}
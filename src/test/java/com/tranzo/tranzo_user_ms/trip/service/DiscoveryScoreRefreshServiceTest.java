@@ -0,0 +1,118 @@
+package com.tranzo.tranzo_user_ms.trip.service;
+
+import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
+import com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus;
+import com.tranzo.tranzo_user_ms.trip.model.TripDiscoveryScoreEntity;
+import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryScoreRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscoveryScoreRefreshService Unit Tests")
+class DiscoveryScoreRefreshServiceTest {
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @Mock
+    private TripDiscoveryRepository tripDiscoveryRepository;
+
+    @Mock
+    private TripDiscoveryScoreRepository tripDiscoveryScoreRepository;
+
+    @Mock
+    private DiscoveryScoringService scoringService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private DiscoveryScoreRefreshService discoveryScoreRefreshService;
+
+    @Test
+    @DisplayName("Should upsert the score row for a discoverable trip")
+    void testRefreshTrip_PublishedTrip_UpsertsScores() {
+        TripEntity trip = createTrip(TripStatus.PUBLISHED);
+        when(tripRepository.findById(trip.getTripId())).thenReturn(Optional.of(trip));
+        when(scoringService.computeFeaturedScore(trip)).thenReturn(0.8);
+        when(scoringService.computeRecommendedScore(trip)).thenReturn(0.6);
+
+        discoveryScoreRefreshService.refreshTrip(trip.getTripId());
+
+        verify(tripDiscoveryScoreRepository).upsertScore(eq(trip.getTripId()), eq(0.8), eq(0.6), notNull());
+        verify(tripDiscoveryScoreRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should delete the score row once a trip is no longer discoverable")
+    void testRefreshTrip_CancelledTrip_DeletesScores() {
+        TripEntity trip = createTrip(TripStatus.CANCELLED);
+        when(tripRepository.findById(trip.getTripId())).thenReturn(Optional.of(trip));
+
+        discoveryScoreRefreshService.refreshTrip(trip.getTripId());
+
+        verify(tripDiscoveryScoreRepository).deleteById(trip.getTripId());
+        verify(tripDiscoveryScoreRepository, never()).upsertScore(any(), anyDouble(), anyDouble(), any());
+        verifyNoInteractions(scoringService);
+    }
+
+    @Test
+    @DisplayName("Should prune stale rows and re-score discoverable trips, updating existing rows in place")
+    void testRefreshAll_RescoresAndPrunes() {
+        TripEntity scoredTrip = createTrip(TripStatus.PUBLISHED);
+        TripEntity newTrip = createTrip(TripStatus.PUBLISHED);
+        TripDiscoveryScoreEntity existing = TripDiscoveryScoreEntity.builder()
+                .tripId(scoredTrip.getTripId())
+                .featuredScore(0.9)
+                .recommendedScore(0.9)
+                .build();
+        when(tripDiscoveryScoreRepository.deleteNonDiscoverable()).thenReturn(2);
+        when(tripDiscoveryRepository.findDiscoverableTrips(any())).thenReturn(List.of(scoredTrip, newTrip));
+        when(tripDiscoveryScoreRepository.findAllById(anyList())).thenReturn(List.of(existing));
+        when(scoringService.computeFeaturedScore(any())).thenReturn(0.5);
+        when(scoringService.computeRecommendedScore(any())).thenReturn(0.4);
+
+        int refreshed = discoveryScoreRefreshService.refreshAll();
+
+        assertEquals(2, refreshed);
+        assertEquals(0.5, existing.getFeaturedScore());
+        assertEquals(0.4, existing.getRecommendedScore());
+        verify(tripDiscoveryRepository, times(1)).findDiscoverableTrips(any());
+        ArgumentCaptor<List<TripDiscoveryScoreEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tripDiscoveryScoreRepository).saveAll(captor.capture());
+        List<TripDiscoveryScoreEntity> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertSame(existing, saved.get(0));
+        assertEquals(newTrip.getTripId(), saved.get(1).getTripId());
+        InOrder inOrder = inOrder(tripDiscoveryScoreRepository, entityManager);
+        inOrder.verify(tripDiscoveryScoreRepository).saveAll(anyList());
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+    }
+
+    private TripEntity createTrip(TripStatus status) {
+        TripEntity trip = new TripEntity();
+        trip.setTripId(UUID.randomUUID());
+        trip.setTripStatus(status);
+        trip.setVisibilityStatus(VisibilityStatus.PUBLIC);
+        return trip;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tranzo.tranzo_user_ms.trip.service;
+
+import com.tranzo.tranzo_user_ms.trip.dto.DestinationWindowStats;
+import com.tranzo.tranzo_user_ms.trip.dto.TrendingDestinationDto;
+import com.tranzo.tranzo_user_ms.trip.dto.TrendingDestinationsResponse;
+import com.tranzo.tranzo_user_ms.trip.repository.TripDiscoveryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrendingDestinationService Unit Tests")
+class TrendingDestinationServiceTest {
+
+    @Mock
+    private TripDiscoveryRepository tripDiscoveryRepository;
+
+    @Mock
+    private TrendingRollupService trendingRollupService;
+
+    @Spy
+    private DiscoveryScoringService scoringService;
+
+    @InjectMocks
+    private TrendingDestinationService trendingDestinationService;
+
+    @Test
+    @DisplayName("Should rank destinations from rollup totals and attach sample trips for the returned ones only")
+    void testComputeTrendingDestinations_RanksFromRollup() {
+        UUID goaTripId = UUID.randomUUID();
+        when(trendingRollupService.findWindowStats(LocalDate.now().minusDays(7), LocalDate.now())).thenReturn(List.of(
+                new DestinationWindowStats("Manali", 2, 4, 0.5, 0),
+                new DestinationWindowStats("Goa", 8, 40, 6.0, 2),
+                new DestinationWindowStats("Pune", 1, 1, 0.1, 0)));
+        when(tripDiscoveryRepository.findSampleTripsByDestinations(eq(List.of("Goa", "Manali")), any(), any(), eq(3)))
+                .thenReturn(Collections.singletonList(new Object[]{
+                        goaTripId, "Beach week", "Sun and sand", "Goa",
+                        java.sql.Date.valueOf(LocalDate.now().plusDays(20)), LocalDate.now().plusDays(27),
+                        15000.0, 10, 6, false}));
+
+        TrendingDestinationsResponse response = trendingDestinationService.computeTrendingDestinations(2, "7d");
+
+        List<TrendingDestinationDto> destinations = response.getTrendingDestinations();
+        assertEquals(2, destinations.size());
+        TrendingDestinationDto goa = destinations.get(0);
+        assertEquals("Goa", goa.getDestination());
+        assertEquals(1, goa.getRank());
+        assertEquals(8, goa.getMomentum().getTripsCreatedInWindow());
+        assertEquals(5.0, goa.getParticipation().getAvgParticipants());
+        assertEquals(6, goa.getParticipation().getAvailableTrips());
+        assertEquals(1, goa.getSampleTrips().size());
+        assertEquals(goaTripId, goa.getSampleTrips().get(0).getTripId());
+        assertEquals(LocalDate.now().plusDays(20), goa.getSampleTrips().get(0).getTripStartDate());
+        assertEquals("Manali", destinations.get(1).getDestination());
+        assertTrue(destinations.get(1).getSampleTrips().isEmpty());
+        assertEquals("7d", response.getMetadata().getTrendingWindow());
+        assertEquals(response.getMetadata().getComputedAt().plusHours(6), response.getMetadata().getCacheExpiresAt());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated (window, limit) requests from cache, sharing the 7d entry for unknown windows")
+    void testComputeTrendingDestinations_CachedPerWindowAndLimit() {
+        when(trendingRollupService.findWindowStats(any(), any())).thenReturn(Collections.emptyList());
+
+        TrendingDestinationsResponse first = trendingDestinationService.computeTrendingDestinations(10, "7d");
+        TrendingDestinationsResponse second = trendingDestinationService.computeTrendingDestinations(10, "unknown");
+        trendingDestinationService.computeTrendingDestinations(10, "30d");
+
+        assertSame(first, second);
+        assertTrue(first.getTrendingDestinations().isEmpty());
+        verify(trendingRollupService, times(2)).findWindowStats(any(), any());
+        verifyNoInteractions(tripDiscoveryRepository);
+    }
+}
@@ -1,13 +1,11 @@
 package com.tranzo.tranzo_user_ms.trip.service;
 
 import com.tranzo.tranzo_user_ms.commons.exception.BadRequestException;
-import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
-import com.tranzo.tranzo_user_ms.trip.enums.TripMemberStatus;
+import com.tranzo.tranzo_user_ms.trip.dto.TripMembershipSnapshot;
 import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
 import com.tranzo.tranzo_user_ms.trip.enums.VisibilityStatus;
 import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
 import com.tranzo.tranzo_user_ms.trip.repository.TripInviteRepository;
-import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
 import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
 import com.tranzo.tranzo_user_ms.user.service.TravelPalService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +20,7 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,7 +39,7 @@ class TripInviteServiceTest {
     private TripRepository tripRepository;
 
     @Mock
-    private TripMemberRepository tripMemberRepository;
+    private TripMembershipCache tripMembershipCache;
 
     @Mock
     private TravelPalService travelPalService;
@@ -79,12 +78,9 @@ class TripInviteServiceTest {
     @DisplayName("Should invite travel pal successfully")
     void inviteTravelPal_success() {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(
-                eq(tripId), eq(hostUserId), eq(TripMemberRole.HOST), eq(TripMemberStatus.ACTIVE)))
-                .thenReturn(true);
+        when(tripMembershipCache.get(tripId))
+                .thenReturn(new TripMembershipSnapshot(tripId, 0L, hostUserId, Set.of(), Set.of(hostUserId)));
         when(travelPalService.getMyTravelPals(hostUserId)).thenReturn(List.of(travelPalUserId));
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(
-                eq(tripId), eq(travelPalUserId), eq(TripMemberStatus.ACTIVE))).thenReturn(false);
         when(tripInviteRepository.existsByTrip_TripIdAndInvitedUserId(tripId, travelPalUserId)).thenReturn(false);
         when(tripInviteRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
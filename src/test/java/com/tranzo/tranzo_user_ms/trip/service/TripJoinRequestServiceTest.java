@@ -4,6 +4,7 @@ import com.tranzo.tranzo_user_ms.commons.exception.*;
 import com.tranzo.tranzo_user_ms.trip.dto.RemoveParticipantRequestDto;
 import com.tranzo.tranzo_user_ms.trip.dto.TripJoinRequestDto;
 import com.tranzo.tranzo_user_ms.trip.dto.TripJoinRequestResponseDto;
+import com.tranzo.tranzo_user_ms.trip.dto.TripMembershipSnapshot;
 import com.tranzo.tranzo_user_ms.trip.enums.*;
 import com.tranzo.tranzo_user_ms.trip.events.TripEventPublisher;
 import com.tranzo.tranzo_user_ms.trip.exception.TripException;
@@ -56,6 +57,9 @@ class TripJoinRequestServiceTest {
     @Mock
     private UserProfileClient userProfileClient;
 
+    @Mock
+    private TripMembershipCache tripMembershipCache;
+
     @InjectMocks
     private TripJoinRequestService tripJoinRequestService;
 
@@ -85,8 +89,7 @@ class TripJoinRequestServiceTest {
         tripEntity.setMaxParticipants(10);
 
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.empty());
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(UUID.randomUUID()));
         when(tripJoinRequestRepository.existsByTrip_TripIdAndUserIdAndStatusIn(eq(tripId), eq(userId), anySet()))
             .thenReturn(false);
         when(tripJoinRequestRepository.save(any(TripJoinRequestEntity.class))).thenReturn(joinRequestEntity);
@@ -116,8 +119,7 @@ class TripJoinRequestServiceTest {
         tripEntity.setJoinPolicy(JoinPolicy.APPROVAL_REQUIRED);
 
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.empty());
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(UUID.randomUUID()));
         when(tripJoinRequestRepository.existsByTrip_TripIdAndUserIdAndStatusIn(eq(tripId), eq(userId), anySet()))
             .thenReturn(false);
         when(tripJoinRequestRepository.save(any(TripJoinRequestEntity.class))).thenReturn(joinRequestEntity);
@@ -186,8 +188,7 @@ class TripJoinRequestServiceTest {
         hostMember.setUserId(userId);
 
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.of(hostMember));
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(userId));
 
         // When & Then
         assertThrows(TripJoinRequestException.class, () ->
@@ -205,13 +206,14 @@ class TripJoinRequestServiceTest {
         member.setUserId(userId);
 
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.of(member));
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(UUID.randomUUID(), userId));
 
         // When & Then
         assertThrows(TripJoinRequestException.class, () ->
             tripJoinRequestService.createJoinRequest(joinRequestDto, tripId, userId)
         );
+        // Checked against the database under the trip lock, never a cached snapshot
+        verify(tripMembershipCache, never()).get(any());
     }
 
     @Test
@@ -219,8 +221,7 @@ class TripJoinRequestServiceTest {
     void testCreateJoinRequest_ActiveRequestExists() {
         // Given
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.empty());
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(UUID.randomUUID()));
         when(tripJoinRequestRepository.existsByTrip_TripIdAndUserIdAndStatusIn(eq(tripId), eq(userId), anySet()))
             .thenReturn(true);
 
@@ -239,8 +240,7 @@ class TripJoinRequestServiceTest {
         tripEntity.setMaxParticipants(10);
 
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.empty());
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(UUID.randomUUID()));
         when(tripJoinRequestRepository.existsByTrip_TripIdAndUserIdAndStatusIn(eq(tripId), eq(userId), anySet()))
             .thenReturn(false);
 
@@ -260,13 +260,10 @@ class TripJoinRequestServiceTest {
         hostMember.setStatus(TripMemberStatus.ACTIVE);
 
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.empty());
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(hostMember.getUserId()));
         when(tripJoinRequestRepository.existsByTrip_TripIdAndUserIdAndStatusIn(eq(tripId), eq(userId), anySet()))
             .thenReturn(false);
         when(tripJoinRequestRepository.save(any(TripJoinRequestEntity.class))).thenReturn(joinRequestEntity);
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(Collections.singletonList(hostMember));
         when(userProfileClient.getNamesByUserIds(List.of(userId)))
             .thenReturn(Map.of(userId, UserNameDto.builder()
                 .userId(userId)
@@ -291,14 +288,11 @@ class TripJoinRequestServiceTest {
         existingMember.setUserId(UUID.randomUUID());
 
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, userId, TripMemberStatus.ACTIVE))
-            .thenReturn(Optional.empty());
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(existingMember.getUserId()));
         when(tripJoinRequestRepository.existsByTrip_TripIdAndUserIdAndStatusIn(eq(tripId), eq(userId), anySet()))
             .thenReturn(false);
         when(tripJoinRequestRepository.save(any(TripJoinRequestEntity.class))).thenReturn(joinRequestEntity);
         when(tripMemberRepository.save(any(TripMemberEntity.class))).thenReturn(new TripMemberEntity());
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(Collections.singletonList(existingMember));
         when(userProfileClient.getNamesByUserIds(List.of(userId)))
             .thenReturn(Map.of(userId, UserNameDto.builder()
                 .userId(userId)
@@ -331,15 +325,10 @@ class TripJoinRequestServiceTest {
 
         when(tripJoinRequestRepository.findById(joinRequestId)).thenReturn(Optional.of(joinRequest));
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE))
-            .thenReturn(true);
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndStatus(tripId, requestorUserId, TripMemberStatus.ACTIVE))
-            .thenReturn(false);
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(hostMember.getUserId()));
         TripMemberEntity newMember = new TripMemberEntity();
         newMember.setUserId(requestorUserId);
         when(tripMemberRepository.save(any(TripMemberEntity.class))).thenReturn(newMember);
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(java.util.List.of(hostMember, newMember));
         when(userProfileClient.getNamesByUserIds(List.of(requestorUserId)))
             .thenReturn(Map.of(requestorUserId, UserNameDto.builder()
                 .userId(requestorUserId)
@@ -368,8 +357,7 @@ class TripJoinRequestServiceTest {
 
         when(tripJoinRequestRepository.findById(joinRequestId)).thenReturn(Optional.of(joinRequest));
         when(tripRepository.findById(joinRequest.getTrip().getTripId())).thenReturn(Optional.of(tripEntity));
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE))
-            .thenReturn(true);
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(userId));
         when(tripJoinRequestRepository.save(any(TripJoinRequestEntity.class))).thenReturn(joinRequest);
         when(userProfileClient.getNamesByUserIds(List.of(requestorUserId)))
             .thenReturn(Map.of(requestorUserId, UserNameDto.builder()
@@ -402,10 +390,7 @@ class TripJoinRequestServiceTest {
         when(tripRepository.findByIdForUpdate(tripId)).thenReturn(Optional.of(trip));
         when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, removalUserId, TripMemberStatus.ACTIVE))
             .thenReturn(Optional.of(toRemove));
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(java.util.List.of(hostMember, toRemove));
-        when(tripMemberRepository.existsByTrip_TripIdAndUserIdAndRoleAndStatus(tripId, userId, TripMemberRole.HOST, TripMemberStatus.ACTIVE))
-            .thenReturn(true);
+        when(tripMembershipCache.load(tripId)).thenReturn(membership(hostMember.getUserId(), removalUserId));
         when(tripMemberRepository.save(any(TripMemberEntity.class))).thenReturn(toRemove);
         when(tripRepository.save(any(TripEntity.class))).thenReturn(trip);
 
@@ -413,10 +398,18 @@ class TripJoinRequestServiceTest {
         tripJoinRequestService.removeOrLeaveTrip(tripId, removalUserId, userId, dto);
 
         verify(applicationEventPublisher).publishEvent(any(com.tranzo.tranzo_user_ms.commons.events.MemberLeftOrRemovedTripEvent.class));
+        verify(applicationEventPublisher).publishEvent(any(com.tranzo.tranzo_user_ms.commons.events.TripMembershipChangedEvent.class));
     }
 
     // ============== HELPER METHODS ==============
 
+    private TripMembershipSnapshot membership(UUID hostUserId, UUID... otherMemberUserIds) {
+        List<UUID> members = new ArrayList<>();
+        members.add(hostUserId);
+        members.addAll(Arrays.asList(otherMemberUserIds));
+        return new TripMembershipSnapshot(tripId, 0L, hostUserId, Set.of(), new LinkedHashSet<>(members));
+    }
+
     private TripEntity createSampleTripEntity() {
         TripEntity trip = new TripEntity();
         trip.setTripId(tripId);
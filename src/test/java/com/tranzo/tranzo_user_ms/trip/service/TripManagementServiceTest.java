@@ -1,6 +1,8 @@
 package com.tranzo.tranzo_user_ms.trip.service;
 
 import com.tranzo.tranzo_user_ms.commons.exception.*;
+import com.tranzo.tranzo_user_ms.commons.utility.KeysetCursor;
+import com.tranzo.tranzo_user_ms.media.service.S3MediaService;
 import com.tranzo.tranzo_user_ms.trip.dto.*;
 import com.tranzo.tranzo_user_ms.trip.enums.*;
 import com.tranzo.tranzo_user_ms.trip.exception.*;
@@ -14,15 +16,18 @@ import com.tranzo.tranzo_user_ms.user.service.TravelPalService;
 import com.tranzo.tranzo_user_ms.trip.validation.TripPublishEligibilityValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,7 +77,15 @@ class TripManagementServiceTest {
     @Mock
     private ImageFetchService imageFetchService;
 
-    @InjectMocks
+    @Mock
+    private S3MediaService s3MediaService;
+
+    @Mock
+    private TripImageRepository tripImageRepository;
+
+    @Mock
+    private TripMembershipCache tripMembershipCache;
+
     private TripManagementService tripManagementService;
 
     private UUID userId;
@@ -82,6 +95,14 @@ class TripManagementServiceTest {
 
     @BeforeEach
     void setUp() {
+        TripViewAssembler tripViewAssembler = new TripViewAssembler(
+                tripMemberRepository, tripRepository, tripItineraryRepository, userProfileClient, s3MediaService);
+        tripManagementService = new TripManagementService(tripMemberRepository, tripRepository, tagRepository,
+                tripItineraryRepository, tripQueryRepository, tripReportRepository, tripPublishEligibilityValidator,
+                tripEventPublisher, userUtil, applicationEventPublisher, travelPalService, userProfileClient,
+                imageFetchService, s3MediaService, tripImageRepository, tripViewAssembler, tripMembershipCache);
+        lenient().when(tripMembershipCache.get(any(UUID.class))).thenAnswer(invocation ->
+                new TripMembershipSnapshot(invocation.getArgument(0), 0L, null, Set.of(), Set.of()));
         userId = UUID.randomUUID();
         tripId = UUID.randomUUID();
         tripEntity = createSampleTripEntity();
@@ -433,8 +454,6 @@ class TripManagementServiceTest {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(publishedTrip));
         doNothing().when(userUtil).validateUserIsHost(tripId, userId);
         when(tripRepository.save(any(TripEntity.class))).thenReturn(publishedTrip);
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(Collections.emptyList());
 
         // When
         tripManagementService.cancelTrip(tripId, userId);
@@ -589,7 +608,7 @@ class TripManagementServiceTest {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(publishedTrip));
         doNothing().when(userUtil).validateUserIsHost(tripId, userId);
         when(tripRepository.save(any(TripEntity.class))).thenReturn(publishedTrip);
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE)).thenReturn(members);
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(null, members));
 
         TripResponseDto response = tripManagementService.updateTrip(tripDto, tripId, userId, null);
 
@@ -655,12 +674,14 @@ class TripManagementServiceTest {
         when(tripMemberRepository.findByTrip_TripIdAndUserIdAndStatus(tripId, participantUserId, TripMemberStatus.ACTIVE))
             .thenReturn(Optional.of(member));
         when(tripMemberRepository.save(any(TripMemberEntity.class))).thenReturn(member);
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(Arrays.asList(hostMember, member));
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(userId, Arrays.asList(hostMember, member)));
 
         tripManagementService.promoteToCoHost(userId, tripId, participantUserId);
 
         assertEquals(TripMemberRole.CO_HOST, member.getRole());
+        InOrder inOrder = inOrder(tripMembershipCache, tripMemberRepository);
+        inOrder.verify(tripMembershipCache).get(tripId);
+        inOrder.verify(tripMemberRepository).save(member);
         verify(applicationEventPublisher).publishEvent(any(com.tranzo.tranzo_user_ms.commons.events.MemberPromotedToCoHostEvent.class));
     }
 
@@ -723,8 +744,7 @@ class TripManagementServiceTest {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
         doNothing().when(userUtil).validateUserIsHost(tripId, userId);
         when(tripRepository.save(any(TripEntity.class))).thenReturn(trip);
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(Arrays.asList(host, other));
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(userId, Arrays.asList(host, other)));
 
         tripManagementService.markTripFull(userId, tripId);
 
@@ -747,8 +767,7 @@ class TripManagementServiceTest {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
         doNothing().when(userUtil).validateUserIsHost(tripId, userId);
         when(tripRepository.save(any(TripEntity.class))).thenReturn(trip);
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(Arrays.asList(host, other));
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(userId, Arrays.asList(host, other)));
 
         // Initially full
         assertTrue(trip.getIsFull());
@@ -783,8 +802,7 @@ class TripManagementServiceTest {
 
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(trip));
         when(tripQueryRepository.save(any(TripQueryEntity.class))).thenReturn(new TripQueryEntity());
-        when(tripMemberRepository.findByTrip_TripIdAndStatus(tripId, TripMemberStatus.ACTIVE))
-            .thenReturn(Collections.singletonList(member));
+        when(tripMembershipCache.get(tripId)).thenReturn(membership(null, Collections.singletonList(member)));
 
         tripManagementService.addTripQnA(userId, qnaDto, tripId);
 
@@ -873,6 +891,61 @@ class TripManagementServiceTest {
             tripManagementService.answerTripQnA(userId, tripId, qnaId, answerDto));
     }
 
+    // ============== FEATURED TRIPS TESTS ==============
+
+    @Test
+    @DisplayName("Should page featured trips in the database for a signed-in user")
+    void testFetchFeaturedTrips_UsesPageable() {
+        TripEntity trip = createSampleTripEntity();
+        trip.setTripStatus(TripStatus.PUBLISHED);
+        when(tripMemberRepository.findTripsUserIsNotPartOf(eq(userId), eq(List.of(TripStatus.PUBLISHED)), any(Pageable.class)))
+            .thenReturn(List.of(trip));
+
+        List<TripViewDto> result = tripManagementService.fetchFeaturedTrips(2, 10, userId);
+
+        assertEquals(1, result.size());
+        assertFalse(result.get(0).getIsTripHost());
+        verify(tripMemberRepository).findTripsUserIsNotPartOf(userId, List.of(TripStatus.PUBLISHED), PageRequest.of(2, 10));
+        verify(tripRepository, never()).findByTripStatus(any());
+    }
+
+    @Test
+    @DisplayName("Should return next cursor when more featured trips exist")
+    void testFetchFeaturedTripsPage_FirstPage_HasMore() {
+        TripEntity first = createSampleTripEntity();
+        first.setTripId(UUID.randomUUID());
+        first.setCreatedAt(LocalDateTime.of(2026, 5, 2, 10, 0));
+        TripEntity second = createSampleTripEntity();
+        second.setTripId(UUID.randomUUID());
+        second.setCreatedAt(LocalDateTime.of(2026, 5, 1, 10, 0));
+        when(tripRepository.findByTripStatusInNewestFirst(List.of(TripStatus.PUBLISHED), PageRequest.of(0, 2)))
+            .thenReturn(List.of(first, second));
+
+        FeaturedTripsPageDto result = tripManagementService.fetchFeaturedTripsPage(null, 1, null);
+
+        assertEquals(1, result.getTrips().size());
+        assertEquals(first.getTripId(), result.getTrips().get(0).getTripId());
+        assertTrue(result.isHasMore());
+        assertEquals(new KeysetCursor(first.getCreatedAt(), first.getTripId()), KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor and stop when the last page is reached")
+    void testFetchFeaturedTripsPage_WithCursor_LastPage() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 5, 2, 10, 0), UUID.randomUUID());
+        TripEntity trip = createSampleTripEntity();
+        trip.setCreatedAt(LocalDateTime.of(2026, 5, 1, 10, 0));
+        when(tripMemberRepository.findTripsUserIsNotPartOfAfter(userId, List.of(TripStatus.PUBLISHED),
+                cursor.sortKey(), cursor.id(), PageRequest.of(0, 21)))
+            .thenReturn(List.of(trip));
+
+        FeaturedTripsPageDto result = tripManagementService.fetchFeaturedTripsPage(cursor.encode(), 20, userId);
+
+        assertEquals(1, result.getTrips().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
     // ============== MUTUAL TRIPS TESTS ==============
 
     @Test
@@ -983,6 +1056,12 @@ class TripManagementServiceTest {
 
     // ============== HELPER METHODS ==============
 
+    private TripMembershipSnapshot membership(UUID hostUserId, List<TripMemberEntity> members) {
+        Set<UUID> memberUserIds = new LinkedHashSet<>();
+        members.forEach(member -> memberUserIds.add(member.getUserId()));
+        return new TripMembershipSnapshot(tripId, 0L, hostUserId, Set.of(), memberUserIds);
+    }
+
     private TripEntity createSampleTripEntity() {
         TripEntity trip = new TripEntity();
         trip.setTripId(tripId);
@@ -0,0 +1,162 @@
+package com.tranzo.tranzo_user_ms.trip.service;
+
+import com.tranzo.tranzo_user_ms.media.service.S3MediaService;
+import com.tranzo.tranzo_user_ms.trip.dto.TripViewDto;
+import com.tranzo.tranzo_user_ms.trip.enums.TripMemberRole;
+import com.tranzo.tranzo_user_ms.trip.enums.TripStatus;
+import com.tranzo.tranzo_user_ms.trip.model.TagEntity;
+import com.tranzo.tranzo_user_ms.trip.model.TripEntity;
+import com.tranzo.tranzo_user_ms.trip.model.TripImageEntity;
+import com.tranzo.tranzo_user_ms.trip.model.TripItineraryEntity;
+import com.tranzo.tranzo_user_ms.trip.repository.TripItineraryRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripMemberRepository;
+import com.tranzo.tranzo_user_ms.trip.repository.TripRepository;
+import com.tranzo.tranzo_user_ms.user.client.UserProfileClient;
+import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripViewAssembler Unit Tests")
+class TripViewAssemblerTest {
+
+    @Mock
+    private TripMemberRepository tripMemberRepository;
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @Mock
+    private TripItineraryRepository tripItineraryRepository;
+
+    @Mock
+    private UserProfileClient userProfileClient;
+
+    @Mock
+    private S3MediaService s3MediaService;
+
+    @InjectMocks
+    private TripViewAssembler tripViewAssembler;
+
+    @Test
+    @DisplayName("Should resolve counts, host flags, tags, itineraries and images with one grouped query each")
+    void testAssemble_UsesGroupedQueries() {
+        UUID viewerId = UUID.randomUUID();
+        UUID otherHostId = UUID.randomUUID();
+        TripEntity hostedTrip = createTrip("Hosted Trip", "Host Name");
+        TripEntity otherTrip = createTrip("Other Trip", "Other Host");
+        List<TripEntity> trips = List.of(hostedTrip, otherTrip);
+
+        TagEntity tag = new TagEntity();
+        tag.setTagId(UUID.randomUUID());
+        tag.setTagName("beach");
+        TripItineraryEntity dayTwo = createItinerary(2);
+        TripItineraryEntity dayOne = createItinerary(1);
+        TripImageEntity image = TripImageEntity.builder().imageUrl("https://images.example.com/goa.jpg").build();
+
+        when(tripMemberRepository.countActiveMembersByTripIds(anyCollection())).thenReturn(List.of(
+                new Object[]{hostedTrip.getTripId(), 3L},
+                new Object[]{otherTrip.getTripId(), 5L}));
+        when(tripMemberRepository.findActiveUserIdsByTripIdsAndRole(anyCollection(), eq(TripMemberRole.HOST))).thenReturn(List.of(
+                new Object[]{hostedTrip.getTripId(), viewerId},
+                new Object[]{otherTrip.getTripId(), otherHostId}));
+        when(tripRepository.findTagsByTripIds(anyCollection())).thenReturn(
+                Collections.singletonList(new Object[]{hostedTrip.getTripId(), tag}));
+        when(tripItineraryRepository.findByTripIds(anyCollection())).thenReturn(List.of(
+                new Object[]{hostedTrip.getTripId(), dayTwo},
+                new Object[]{hostedTrip.getTripId(), dayOne}));
+        when(tripRepository.findImagesByTripIds(anyCollection())).thenReturn(
+                Collections.singletonList(new Object[]{otherTrip.getTripId(), image}));
+
+        List<TripViewDto> result = tripViewAssembler.assemble(trips, viewerId);
+
+        assertEquals(2, result.size());
+        TripViewDto hosted = result.get(0);
+        TripViewDto other = result.get(1);
+        assertEquals(hostedTrip.getTripId(), hosted.getTripId());
+        assertTrue(hosted.getIsTripHost());
+        assertFalse(other.getIsTripHost());
+        assertEquals(3, hosted.getCurrentParticipants());
+        assertEquals(5, other.getCurrentParticipants());
+        assertEquals("beach", hosted.getTripTags().get(0).getTagName());
+        assertTrue(other.getTripTags().isEmpty());
+        assertEquals(List.of(1, 2), hosted.getTripItineraries().stream().map(i -> i.getDayNumber()).toList());
+        assertEquals(List.of("https://images.example.com/goa.jpg"), other.getImageUrls());
+        assertTrue(hosted.getImageUrls().isEmpty());
+
+        verify(tripMemberRepository, times(1)).countActiveMembersByTripIds(anyCollection());
+        verify(tripMemberRepository, times(1)).findActiveUserIdsByTripIdsAndRole(anyCollection(), eq(TripMemberRole.HOST));
+        verify(tripMemberRepository, never()).countByTrip_TripIdAndStatus(any(), any());
+        verify(tripMemberRepository, never()).existsByTrip_TripIdAndUserIdAndRoleAndStatus(any(), any(), any(), any());
+        verifyNoInteractions(userProfileClient, s3MediaService);
+    }
+
+    @Test
+    @DisplayName("Should resolve missing host names in a single profile lookup")
+    void testAssemble_MissingHostNames_SingleLookup() {
+        UUID hostA = UUID.randomUUID();
+        UUID hostB = UUID.randomUUID();
+        TripEntity tripA = createTrip("Trip A", null);
+        TripEntity tripB = createTrip("Trip B", null);
+
+        when(tripMemberRepository.findActiveUserIdsByTripIdsAndRole(anyCollection(), eq(TripMemberRole.HOST))).thenReturn(List.of(
+                new Object[]{tripA.getTripId(), hostA},
+                new Object[]{tripB.getTripId(), hostB}));
+        when(userProfileClient.getNamesByUserIds(List.of(hostA, hostB))).thenReturn(Map.of(
+                hostA, UserNameDto.builder().userId(hostA).firstName("Asha").lastName("Rao").build(),
+                hostB, UserNameDto.builder().userId(hostB).firstName("Ben").build()));
+
+        List<TripViewDto> result = tripViewAssembler.assembleWithHostFlag(List.of(tripA, tripB), false);
+
+        assertEquals("Asha  Rao", result.get(0).getHostName());
+        assertEquals("Ben", result.get(1).getHostName());
+        assertFalse(result.get(0).getIsTripHost());
+        verify(userProfileClient, times(1)).getNamesByUserIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should leave host flag unset when there is no viewer")
+    void testAssemble_NoViewer_HostFlagNull() {
+        TripEntity trip = createTrip("Trip", "Host");
+
+        List<TripViewDto> result = tripViewAssembler.assemble(List.of(trip), null);
+
+        assertNull(result.get(0).getIsTripHost());
+        assertEquals(0, result.get(0).getCurrentParticipants());
+    }
+
+    @Test
+    @DisplayName("Should return empty list without querying when there are no trips")
+    void testAssemble_EmptyInput() {
+        assertTrue(tripViewAssembler.assemble(Collections.emptyList(), UUID.randomUUID()).isEmpty());
+        verifyNoInteractions(tripMemberRepository, tripRepository, tripItineraryRepository);
+    }
+
+    private TripEntity createTrip(String title, String hostName) {
+        TripEntity trip = new TripEntity();
+        trip.setTripId(UUID.randomUUID());
+        trip.setTripTitle(title);
+        trip.setTripDestination("Goa");
+        trip.setTripStatus(TripStatus.PUBLISHED);
+        trip.setTripHostName(hostName);
+        return trip;
+    }
+
+    private TripItineraryEntity createItinerary(int dayNumber) {
+        TripItineraryEntity itinerary = new TripItineraryEntity();
+        itinerary.setItineraryId(UUID.randomUUID());
+        itinerary.setDayNumber(dayNumber);
+        itinerary.setTitle("Day " + dayNumber);
+        return itinerary;
+    }
+}
@@ -0,0 +1,103 @@
+package com.tranzo.tranzo_user_ms.user.client;
+
+import com.tranzo.tranzo_user_ms.commons.events.UserProfileUpdatedEvent;
+import com.tranzo.tranzo_user_ms.media.service.S3MediaService;
+import com.tranzo.tranzo_user_ms.user.dto.UserNameDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserProfileClient Unit Tests")
+class CachingUserProfileClientTest {
+
+    @Mock
+    private UserProfileClientLocalImpl delegate;
+
+    @Mock
+    private S3MediaService s3MediaService;
+
+    private CachingUserProfileClient client;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        client = new CachingUserProfileClient(delegate, s3MediaService, 100, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should load name data once and presign the picture key on every read")
+    void testGetNamesByUserIds_CachesNamesAndPresignsPerRead() {
+        when(delegate.getNamesByUserIds(List.of(userId))).thenReturn(Map.of(userId, storedProfile("uploads/a.jpg")));
+        when(s3MediaService.presignAll(List.of("uploads/a.jpg")))
+                .thenReturn(Map.of("uploads/a.jpg", "https://signed/1"))
+                .thenReturn(Map.of("uploads/a.jpg", "https://signed/2"));
+
+        UserNameDto first = client.getNamesByUserIds(List.of(userId)).get(userId);
+        UserNameDto second = client.getNamesByUserIds(List.of(userId)).get(userId);
+
+        assertEquals("Asha", first.getFirstName());
+        assertEquals("https://signed/1", first.getProfilePictureUrl());
+        assertEquals("https://signed/2", second.getProfilePictureUrl());
+        verify(delegate, times(1)).getNamesByUserIds(anyList());
+        verify(s3MediaService, times(2)).presignAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reload a user after a profile update event")
+    void testOnUserProfileUpdated_EvictsCachedEntry() {
+        when(delegate.getNamesByUserIds(List.of(userId)))
+                .thenReturn(Map.of(userId, storedProfile(null)))
+                .thenReturn(Map.of(userId, storedProfile(null).toBuilder().firstName("Asha R").build()));
+
+        client.getNamesByUserIds(List.of(userId));
+        client.onUserProfileUpdated(new UserProfileUpdatedEvent(userId));
+        UserNameDto reloaded = client.getNamesByUserIds(List.of(userId)).get(userId);
+
+        assertEquals("Asha R", reloaded.getFirstName());
+        verify(delegate, times(2)).getNamesByUserIds(anyList());
+        verifyNoInteractions(s3MediaService);
+    }
+
+    @Test
+    @DisplayName("Should memoize missing profiles within one request")
+    void testGetNamesByUserIds_RequestMemoCoversMisses() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(delegate.getNamesByUserIds(List.of(userId))).thenReturn(Map.of());
+
+        assertTrue(client.getNamesByUserIds(List.of(userId)).isEmpty());
+        assertTrue(client.getNamesByUserIds(List.of(userId, userId)).isEmpty());
+
+        verify(delegate, times(1)).getNamesByUserIds(anyList());
+    }
+
+    private UserNameDto storedProfile(String pictureKey) {
+        return UserNameDto.builder()
+                .userId(userId)
+                .firstName("Asha")
+                .lastName("Rao")
+                .profilePictureUrl(pictureKey)
+                .build();
+    }
+}
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +28,9 @@ class OtpControllerTest {
     @Mock
     private OtpService otpService;
 
+    @Mock
+    private HttpServletRequest request;
+
     @Mock
     private HttpServletResponse response;
 
@@ -38,13 +42,14 @@ class OtpControllerTest {
     void requestOtp_Success() throws Exception {
         RequestOtpDto dto = new RequestOtpDto();
         dto.setEmailId("u@test.com");
-        doNothing().when(otpService).sendOtp(any(RequestOtpDto.class));
+        doNothing().when(otpService).sendOtp(any(RequestOtpDto.class), anyString());
+        when(request.getRemoteAddr()).thenReturn("203.0.113.7");
 
-        ResponseEntity<ResponseDto<Void>> res = controller.requestOtp(dto);
+        ResponseEntity<ResponseDto<Void>> res = controller.requestOtp(dto, request);
 
         assertEquals(HttpStatus.OK, res.getStatusCode());
         assertEquals("OTP sent successfully", res.getBody().getStatusMessage());
-        verify(otpService).sendOtp(dto);
+        verify(otpService).sendOtp(dto, "203.0.113.7");
     }
 
     @Test
@@ -68,10 +73,10 @@ class OtpControllerTest {
     void requestOtp_Exception() throws Exception {
         RequestOtpDto dto = new RequestOtpDto();
         dto.setEmailId("u@test.com");
-        doThrow(new RuntimeException("Service unavailable")).when(otpService).sendOtp(any(RequestOtpDto.class));
+        doThrow(new RuntimeException("Service unavailable")).when(otpService).sendOtp(any(RequestOtpDto.class), any());
 
-        assertThrows(Exception.class, () -> controller.requestOtp(dto));
-        verify(otpService).sendOtp(dto);
+        assertThrows(Exception.class, () -> controller.requestOtp(dto, request));
+        verify(otpService).sendOtp(dto, null);
     }
 
     @Test
@@ -0,0 +1,84 @@
+package com.tranzo.tranzo_user_ms.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OtpRateLimiter Unit Tests")
+class OtpRateLimiterTest {
+
+    @Test
+    @DisplayName("Should accept up to the identifier limit and count rejections")
+    void testTryAcquire_IdentifierLimit() {
+        OtpRateLimiter limiter = new OtpRateLimiter(3, 30, 10, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("+919999999999", "203.0.113.7"));
+        }
+        assertEquals(OtpRateLimiter.Decision.REJECTED_IDENTIFIER, limiter.tryAcquire("+919999999999", "203.0.113.7"));
+        assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("+918888888888", "203.0.113.7"));
+
+        OtpRateLimiter.LimiterStats stats = limiter.stats();
+        assertEquals(4, stats.accepted());
+        assertEquals(1, stats.rejectedByIdentifier());
+        assertEquals(0, stats.rejectedByIp());
+    }
+
+    @Test
+    @DisplayName("Should cap one IP across many identifiers without spending their allowance")
+    void testTryAcquire_IpLimit() {
+        OtpRateLimiter limiter = new OtpRateLimiter(1, 2, 10, 1000);
+
+        assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("a@test.com", "203.0.113.7"));
+        assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("b@test.com", "203.0.113.7"));
+        assertEquals(OtpRateLimiter.Decision.REJECTED_IP, limiter.tryAcquire("c@test.com", "203.0.113.7"));
+        // c's slot was handed back when the IP refused it
+        assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("c@test.com", "198.51.100.1"));
+        assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("d@test.com", null));
+        assertEquals(1, limiter.stats().rejectedByIp());
+    }
+
+    @Test
+    @DisplayName("Should free slots once they slide out of the window")
+    void testTryAcquire_SlidingWindow() {
+        OtpRateLimiter limiter = new OtpRateLimiter(1, 30, 0, 1000);
+
+        assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("u@test.com", null));
+        assertEquals(OtpRateLimiter.Decision.ACCEPTED, limiter.tryAcquire("u@test.com", null));
+    }
+
+    @Test
+    @DisplayName("Should never accept more than the limit under concurrent requests for one identifier")
+    void testTryAcquire_Concurrent() throws Exception {
+        OtpRateLimiter limiter = new OtpRateLimiter(3, 1000, 10, 1000);
+        int threads = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<OtpRateLimiter.Decision>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return limiter.tryAcquire("+919999999999", "203.0.113.7");
+                }));
+            }
+            start.countDown();
+            long accepted = 0;
+            for (Future<OtpRateLimiter.Decision> result : results) {
+                if (result.get() == OtpRateLimiter.Decision.ACCEPTED) {
+                    accepted++;
+                }
+            }
+            assertEquals(3, accepted);
+        }
+        assertEquals(3, limiter.stats().accepted());
+        assertEquals(threads - 3, limiter.stats().rejectedByIdentifier());
+    }
+}
@@ -1,6 +1,7 @@
 package com.tranzo.tranzo_user_ms.user.service;
 
 import com.tranzo.tranzo_user_ms.chat.client.ConversationClient;
+import com.tranzo.tranzo_user_ms.commons.exception.BadRequestException;
 import com.tranzo.tranzo_user_ms.trip.client.TripStatisticsClient;
 import com.tranzo.tranzo_user_ms.user.client.UserProfileClient;
 import org.springframework.context.ApplicationEventPublisher;
@@ -17,6 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -124,10 +126,7 @@ class TravelPalServiceTest {
     @DisplayName("Should get incoming pending requests")
     void getIncomingPendingRequests_Success() {
         when(repository.findIncomingPending(userB)).thenReturn(List.of(pendingEntity));
-        when(repository.findAcceptedByUser(userA)).thenReturn(List.of());
-        when(tripStatisticsClient.getCompletedTripsCount(userA)).thenReturn(0);
-        when(ratingService.getUserAverageRating(userA)).thenReturn(null);
-        when(conversationClient.getConversationIdBetweenUsers(any(), any())).thenReturn(UUID.randomUUID());
+        when(tripStatisticsClient.getCompletedTripsCounts(List.of(userA))).thenReturn(Map.of(userA, 2));
 
         UserNameDto userNameDto = UserNameDto.builder()
                 .userId(userA)
@@ -142,5 +141,52 @@ class TravelPalServiceTest {
 
         assertNotNull(pending);
         assertEquals(1, pending.size());
+        assertEquals(2, pending.get(0).getCompletedTripsCount());
+        assertEquals(0, pending.get(0).getTravelPalsCount());
+        verify(conversationClient).getConversationIdsWithUsers(userB, List.of(userA));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should build a ranked suggestion page with batched stats")
+    void getSuggestedTravelPals_RankedPageWithBatchedStats() {
+        UUID userC = UUID.randomUUID();
+        UUID conversationId = UUID.randomUUID();
+        when(repository.findSuggestedUserIds(userA, 20, 20, 40))
+                .thenReturn(List.of(new Object[]{userC, 5L}, new Object[]{userB, 3L}));
+        when(userProfileClient.getNamesByUserIds(List.of(userC, userB))).thenReturn(Map.of(
+                userB, UserNameDto.builder().userId(userB).firstName("B").build(),
+                userC, UserNameDto.builder().userId(userC).firstName("C").build()));
+        when(repository.countAcceptedByUserIds(List.of(userC, userB))).thenReturn(List.<Object[]>of(new Object[]{userC, 4L}));
+        when(ratingService.getUserAverageRatings(List.of(userC, userB)))
+                .thenReturn(Map.of(userC, new BigDecimal("4.50"), userB, new BigDecimal("0.00")));
+        when(conversationClient.getConversationIdsWithUsers(userA, List.of(userC, userB))).thenReturn(Map.of(userB, conversationId));
+
+        List<SuggestedTravelPalDto> suggested = service.getSuggestedTravelPals(userA, 1, 20);
+
+        assertEquals(List.of(userC, userB), suggested.stream().map(SuggestedTravelPalDto::getUserId).toList());
+        assertEquals(4, suggested.get(0).getTravelPalsCount());
+        assertEquals(new BigDecimal("4.50"), suggested.get(0).getUserRating());
+        assertNull(suggested.get(0).getConversationId());
+        assertEquals(conversationId, suggested.get(1).getConversationId());
+        verify(tripStatisticsClient, never()).getCompletedTripsCount(any());
+        verify(ratingService, never()).getUserAverageRating(any());
+    }
+
+    @Test
+    @DisplayName("Should cap the suggestion page size and skip lookups for an empty page")
+    void getSuggestedTravelPals_CapsPageSize() {
+        when(repository.findSuggestedUserIds(userA, TravelPalService.MAX_SUGGESTION_PAGE_SIZE, 0,
+                TravelPalService.MAX_SUGGESTION_PAGE_SIZE)).thenReturn(List.of());
+
+        assertTrue(service.getSuggestedTravelPals(userA, 0, 500).isEmpty());
+        verifyNoInteractions(userProfileClient, tripStatisticsClient, ratingService, conversationClient);
+    }
+
+    @Test
+    @DisplayName("Should reject a suggestion page whose offset would overflow")
+    void getSuggestedTravelPals_RejectsPageBeyondIntRange() {
+        assertThrows(BadRequestException.class,
+                () -> service.getSuggestedTravelPals(userA, Integer.MAX_VALUE, 20));
+        verifyNoInteractions(repository);
+    }
+}
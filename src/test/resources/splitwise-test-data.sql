@@ -51,14 +51,14 @@ MERGE INTO splitwise_group_members (id, group_id, user_id, role, joined_at) KEY
 VALUES ('11111111-1111-1111-1111-111111111111', 'bbbbbbbb-bbbb-4bbb-8bbb-bbbbbbbbbbbb', '22222222-2222-4222-8222-222222222222', 'MEMBER', CURRENT_TIMESTAMP);
 
 -- Insert expenses
-MERGE INTO splitwise_expenses (id, group_id, name, description, amount, paid_by, split_type, created_at, updated_at) KEY (id)
-VALUES ('aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', 'Hotel booking', 'Hotel booking for 3 nights', 1500.00, '11111111-1111-4111-8111-111111111111', 'EQUAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+MERGE INTO splitwise_expenses (id, group_id, name, description, amount, paid_by, split_type, expense_date, created_at, updated_at) KEY (id)
+VALUES ('aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', 'Hotel booking', 'Hotel booking for 3 nights', 1500.00, '11111111-1111-4111-8111-111111111111', 'EQUAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-MERGE INTO splitwise_expenses (id, group_id, name, description, amount, paid_by, split_type, created_at, updated_at) KEY (id)
-VALUES ('bbbbbbbb-bbbb-4bbb-8bbb-bbbbbbbbbbbb', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', 'Dinner at restaurant', 'Dinner at local restaurant', 800.00, '22222222-2222-4222-8222-222222222222', 'EQUAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+MERGE INTO splitwise_expenses (id, group_id, name, description, amount, paid_by, split_type, expense_date, created_at, updated_at) KEY (id)
+VALUES ('bbbbbbbb-bbbb-4bbb-8bbb-bbbbbbbbbbbb', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', 'Dinner at restaurant', 'Dinner at local restaurant', 800.00, '22222222-2222-4222-8222-222222222222', 'EQUAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-MERGE INTO splitwise_expenses (id, group_id, name, description, amount, paid_by, split_type, created_at, updated_at) KEY (id)
-VALUES ('cccccccc-cccc-4ccc-8ccc-cccccccccccc', 'bbbbbbbb-bbbb-4bbb-8bbb-bbbbbbbbbbbb', 'Taxi fare', 'Airport to hotel taxi', 500.00, '11111111-1111-4111-8111-111111111111', 'EQUAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+MERGE INTO splitwise_expenses (id, group_id, name, description, amount, paid_by, split_type, expense_date, created_at, updated_at) KEY (id)
+VALUES ('cccccccc-cccc-4ccc-8ccc-cccccccccccc', 'bbbbbbbb-bbbb-4bbb-8bbb-bbbbbbbbbbbb', 'Taxi fare', 'Airport to hotel taxi', 500.00, '11111111-1111-4111-8111-111111111111', 'EQUAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert expense splits
 MERGE INTO splitwise_expense_splits (id, expense_id, user_id, amount, created_at) KEY (id)
@@ -85,12 +85,12 @@ VALUES ('44444444-4444-4444-4444-444444444444', 'cccccccc-cccc-4ccc-8ccc-ccccccc
 MERGE INTO splitwise_expense_splits (id, expense_id, user_id, amount, created_at) KEY (id)
 VALUES ('55555555-5555-5555-5555-555555555555', 'cccccccc-cccc-4ccc-8ccc-cccccccccccc', '22222222-2222-4222-8222-222222222222', 250.00, CURRENT_TIMESTAMP);
 
--- Insert balances (calculated based on expenses and splits)
-MERGE INTO splitwise_balances (id, group_id, owed_by, owed_to, amount, last_updated) KEY (id)
-VALUES ('66666666-6666-6666-6666-666666666666', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', '22222222-2222-4222-8222-222222222222', '11111111-1111-4111-8111-111111111111', 233.33, CURRENT_TIMESTAMP);
+-- Insert balances (calculated based on expenses and splits); one signed row per pair, negative = high_user owes low_user
+MERGE INTO splitwise_balances (id, group_id, low_user, high_user, amount, last_updated) KEY (id)
+VALUES ('66666666-6666-6666-6666-666666666666', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', '11111111-1111-4111-8111-111111111111', '22222222-2222-4222-8222-222222222222', -233.33, CURRENT_TIMESTAMP);
 
-MERGE INTO splitwise_balances (id, group_id, owed_by, owed_to, amount, last_updated) KEY (id)
-VALUES ('77777777-7777-7777-7777-777777777777', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', '33333333-3333-4333-8333-333333333333', '11111111-1111-4111-8111-111111111111', 233.33, CURRENT_TIMESTAMP);
+MERGE INTO splitwise_balances (id, group_id, low_user, high_user, amount, last_updated) KEY (id)
+VALUES ('77777777-7777-7777-7777-777777777777', 'aaaaaaaa-aaaa-4aaa-8aaa-aaaaaaaaaaaa', '11111111-1111-4111-8111-111111111111', '33333333-3333-4333-8333-333333333333', -233.33, CURRENT_TIMESTAMP);
 
-MERGE INTO splitwise_balances (id, group_id, owed_by, owed_to, amount, last_updated) KEY (id)
-VALUES ('88888888-8888-8888-8888-888888888888', 'bbbbbbbb-bbbb-4bbb-8bbb-bbbbbbbbbbbb', '22222222-2222-4222-8222-222222222222', '11111111-1111-4111-8111-111111111111', 250.00, CURRENT_TIMESTAMP);
+MERGE INTO splitwise_balances (id, group_id, low_user, high_user, amount, last_updated) KEY (id)
+VALUES ('88888888-8888-8888-8888-888888888888', 'bbbbbbbb-bbbb-4bbb-8bbb-bbbbbbbbbbbb', '11111111-1111-4111-8111-111111111111', '22222222-2222-4222-8222-222222222222', -250.00, CURRENT_TIMESTAMP);